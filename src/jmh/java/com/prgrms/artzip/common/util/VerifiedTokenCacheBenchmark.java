@@ -0,0 +1,53 @@
+package com.prgrms.artzip.common.util;
+
+import com.prgrms.artzip.common.jwt.Jwt;
+import com.prgrms.artzip.common.jwt.claims.AccessClaim;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 같은 access token 으로 반복 요청할 때 매번 서명 검증하는 경우와 VerifiedTokenCache 에 적중하는 경우의 비용 비교
+ * - 요청마다 한 번씩 호출되는 경로이므로 한 스레드에서 호출 1회당 평균 시간(ns)을 잰다.
+ * - 캐시 적중에는 키로 쓰는 SHA-256 digest 계산이 포함된다.
+ * - ./gradlew jmh -PjmhIncludes=VerifiedTokenCacheBenchmark 로 실행
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VerifiedTokenCacheBenchmark {
+
+    private final Jwt jwt = new Jwt("backfro", "benchmark-secret", 1800);
+
+    private String token;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Setup
+    public void setUp() {
+        token = jwt.sign(new AccessClaim(1L, "test@example.com", new String[]{"USER"}));
+        verifiedTokenCache = new VerifiedTokenCache();
+        verifiedTokenCache.get(token, () -> jwt.verifyAccessToken(token));
+    }
+
+    @Benchmark
+    public AccessClaim verify() {
+        return jwt.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public AccessClaim cacheHit() {
+        return verifiedTokenCache.get(token, () -> jwt.verifyAccessToken(token));
+    }
+}
@@ -0,0 +1,173 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * LIKE '%검색어%' 조회와 n-gram 인덱스 + id 조회의 응답 시간 비교
+ * - JPA 를 띄우지 않고 findExhibitionsByQuery 와 같은 조건(이름/장소/주소 LIKE, 종료일, 삭제 여부)의 SQL 을 H2(MySQL 모드)에 직접 보낸다.
+ * - 인덱스 경로는 ExhibitionSearchService 처럼 후보를 거른 뒤 요청한 페이지만 id 로 조회한다.
+ * - ./gradlew jmh -PjmhIncludes=ExhibitionSearchBenchmark 로 실행
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExhibitionSearchBenchmark {
+
+    private static final int EXHIBITION_COUNT = 5_000;
+    private static final int PAGE_SIZE = 10;
+    private static final String[] WORDS = {"고흐", "모네", "피카소", "사진", "조각", "미디어", "현대", "특별", "기획", "회고"};
+    private static final String LIKE_CONDITION = "(name LIKE ? OR place LIKE ? OR address LIKE ?) "
+            + "AND end_date >= ? AND is_deleted = false";
+
+    @Param({"고흐", "모네 사진", "현대", "미디어 기획", "회고전"})
+    private String query;
+
+    private Connection connection;
+    private ExhibitionSearchIndex exhibitionSearchIndex;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark;MODE=MYSQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE exhibition (exhibition_id BIGINT PRIMARY KEY, name VARCHAR(70), "
+                    + "place VARCHAR(50), address VARCHAR(100), start_date DATE, end_date DATE, "
+                    + "is_deleted BOOLEAN NOT NULL)");
+        }
+
+        List<ExhibitionSearchForSimpleQuery> exhibitions = new ArrayList<>();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO exhibition VALUES (?, ?, ?, ?, ?, ?, false)")) {
+            for (int i = 0; i < EXHIBITION_COUNT; i++) {
+                ExhibitionSearchForSimpleQuery exhibition = exhibition(i);
+                exhibitions.add(exhibition);
+                insert.setLong(1, exhibition.getId());
+                insert.setString(2, exhibition.getName());
+                insert.setString(3, exhibition.getPlace());
+                insert.setString(4, exhibition.getAddress());
+                insert.setDate(5, Date.valueOf(exhibition.getStartDate()));
+                insert.setDate(6, Date.valueOf(exhibition.getEndDate()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        ExhibitionRepository exhibitionRepository = mock(ExhibitionRepository.class);
+        when(exhibitionRepository.findExhibitionsForSearchIndex()).thenReturn(exhibitions);
+        exhibitionSearchIndex = new ExhibitionSearchIndex(exhibitionRepository);
+        exhibitionSearchIndex.rebuild();
+
+        long likeTotal = like();
+        long indexTotal = index();
+        if (likeTotal != indexTotal) {
+            throw new IllegalStateException("검색 결과 수가 다릅니다. LIKE: " + likeTotal + ", 인덱스: " + indexTotal);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long like() throws SQLException {
+        String pattern = "%" + query + "%";
+        Date today = Date.valueOf(LocalDate.now());
+        long total;
+        try (PreparedStatement count = connection.prepareStatement(
+                "SELECT COUNT(*) FROM exhibition WHERE " + LIKE_CONDITION)) {
+            bindLike(count, pattern, today);
+            try (ResultSet resultSet = count.executeQuery()) {
+                resultSet.next();
+                total = resultSet.getLong(1);
+            }
+        }
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT exhibition_id, name, place, address, start_date, end_date FROM exhibition WHERE "
+                        + LIKE_CONDITION + " ORDER BY exhibition_id LIMIT " + PAGE_SIZE)) {
+            bindLike(page, pattern, today);
+            consume(page);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long index() throws SQLException {
+        LocalDate today = LocalDate.now();
+        List<ExhibitionSearchForSimpleQuery> candidates = exhibitionSearchIndex.search(query,
+                exhibition -> !exhibition.getEndDate().isBefore(today)).orElseThrow();
+        List<Long> pageIds = candidates.stream()
+                .limit(PAGE_SIZE)
+                .map(ExhibitionSearchForSimpleQuery::getId)
+                .collect(Collectors.toList());
+        if (!pageIds.isEmpty()) {
+            try (PreparedStatement page = connection.prepareStatement(
+                    "SELECT exhibition_id, name, place, address, start_date, end_date FROM exhibition "
+                            + "WHERE exhibition_id IN (" + String.join(", ", Collections.nCopies(pageIds.size(), "?")) + ")")) {
+                for (int i = 0; i < pageIds.size(); i++) {
+                    page.setLong(i + 1, pageIds.get(i));
+                }
+                consume(page);
+            }
+        }
+        return candidates.size();
+    }
+
+    private void bindLike(PreparedStatement statement, String pattern, Date today) throws SQLException {
+        statement.setString(1, pattern);
+        statement.setString(2, pattern);
+        statement.setString(3, pattern);
+        statement.setDate(4, today);
+    }
+
+    private void consume(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getLong(1);
+            }
+        }
+    }
+
+    private ExhibitionSearchForSimpleQuery exhibition(int i) {
+        return ExhibitionSearchForSimpleQuery.builder()
+                .id((long) i + 1)
+                .name(WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " 전 " + i)
+                .place("미술관 " + (i % 100))
+                .address("서울 종로구 " + i)
+                .startDate(LocalDate.now().minusDays(i % 30))
+                .endDate(LocalDate.now().plusDays(i % 60 - 10))
+                .build();
+    }
+}
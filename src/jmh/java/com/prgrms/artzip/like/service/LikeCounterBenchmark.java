@@ -0,0 +1,102 @@
+package com.prgrms.artzip.like.service;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
+import static org.mockito.Mockito.mock;
+
+/*
+ * 64개 스레드가 같은 전시회를 동시에 토글할 때 좋아요 수 카운터의 처리량 비교
+ * - synchronized 카운터, AtomicLong(CAS 한 칸), LikeCounterRegistry(LongAdder 셀 분산)
+ * - Redis 발행은 비워둔 RedisService 로 대체해 카운터 자체의 경합만 측정
+ * - ./gradlew jmh -PjmhIncludes=LikeCounterBenchmark 로 실행
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LikeCounterBenchmark {
+
+    private static final long SEED = 1_000;
+    private static final LikeToggle LIKED = new LikeToggle(true, 0);
+    private static final LikeToggle UNLIKED = new LikeToggle(false, 0);
+
+    private final Object lock = new Object();
+    private long synchronizedCount;
+    private AtomicLong atomicCount;
+    private LikeCounterRegistry likeCounterRegistry;
+
+    @Setup
+    public void setUp() {
+        synchronizedCount = SEED;
+        atomicCount = new AtomicLong(SEED);
+        likeCounterRegistry = new LikeCounterRegistry(new NoOpRedisService(),
+                mock(RedisMessageListenerContainer.class), Duration.ofHours(1).toMillis(), 1);
+        likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> SEED - 1);
+    }
+
+    /*
+     * 스레드마다 좋아요와 취소를 번갈아 토글한다.
+     */
+    @State(Scope.Thread)
+    public static class Toggler {
+
+        private boolean liked;
+
+        private long nextDelta() {
+            liked = !liked;
+            return liked ? 1 : -1;
+        }
+    }
+
+    @Benchmark
+    public long synchronizedCounter(Toggler toggler) {
+        long delta = toggler.nextDelta();
+        synchronized (lock) {
+            synchronizedCount += delta;
+            return synchronizedCount;
+        }
+    }
+
+    @Benchmark
+    public long atomicLong(Toggler toggler) {
+        return atomicCount.addAndGet(toggler.nextDelta());
+    }
+
+    @Benchmark
+    public long likeCounterRegistry(Toggler toggler) {
+        LikeToggle likeToggle = toggler.nextDelta() > 0 ? LIKED : UNLIKED;
+        return likeCounterRegistry.applyToggle(EXHIBITION, 1L, likeToggle, () -> SEED);
+    }
+
+    private static class NoOpRedisService extends RedisService {
+
+        private NoOpRedisService() {
+            super(null);
+        }
+
+        @Override
+        public void publish(String channel, String message) {
+        }
+    }
+}
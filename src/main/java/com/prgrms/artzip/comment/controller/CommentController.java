@@ -9,7 +9,7 @@ import com.prgrms.artzip.comment.service.CommentService;
 import com.prgrms.artzip.common.ApiResponse;
 import com.prgrms.artzip.common.PageResponse;
 import com.prgrms.artzip.common.entity.CurrentUser;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -42,7 +42,7 @@ public class CommentController {
           sort = {"createdAt"},
           direction = Sort.Direction.DESC
       ) Pageable pageable,
-      @CurrentUser User user
+      @CurrentUser UserPrincipal user
   ) {
     PageResponse<CommentInfo> children =
         new PageResponse<CommentInfo>(commentService.getChildren(commentId, user, pageable));
@@ -57,7 +57,7 @@ public class CommentController {
   public ResponseEntity<ApiResponse<CommentResponse>> updateComment(
       @PathVariable Long commentId,
       @RequestBody CommentUpdateRequest request,
-      @CurrentUser User currentUser
+      @CurrentUser UserPrincipal currentUser
   ) {
     CommentResponse comment = commentService.updateComment(request, commentId, currentUser);
     ApiResponse<CommentResponse> response =
@@ -70,7 +70,7 @@ public class CommentController {
   @DeleteMapping("/{commentId}")
   public ResponseEntity<ApiResponse<CommentResponse>> deleteComment(
       @PathVariable Long commentId,
-      @CurrentUser User currentUser
+      @CurrentUser UserPrincipal currentUser
   ) {
     CommentResponse comment = commentService.deleteComment(commentId, currentUser);
     ApiResponse<CommentResponse> response =
@@ -83,7 +83,7 @@ public class CommentController {
   @PatchMapping("/{commentId}/like")
   public ResponseEntity<ApiResponse<CommentLikeResponse>> toggleCommentLike(
       @PathVariable Long commentId,
-      @CurrentUser User currentUser
+      @CurrentUser UserPrincipal currentUser
   ) {
     CommentLikeResponse response = commentService.toggleCommentLike(commentId, currentUser);
     ApiResponse<CommentLikeResponse> apiResponse = ApiResponse.<CommentLikeResponse>builder()
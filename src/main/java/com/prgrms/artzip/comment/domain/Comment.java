@@ -23,10 +23,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.DynamicUpdate;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
 @Getter
 @Table(name = "comment")
 public class Comment extends BaseEntity {
@@ -57,8 +58,9 @@ public class Comment extends BaseEntity {
   @OneToMany(mappedBy = "comment")
   private List<CommentLike> commentLikes = new ArrayList<>();
 
-  @Formula("(select count(*) from comment_like where comment_like.comment_id=comment_id)")
-  private Long likeCount;
+  // 좋아요 수는 엔티티를 통하지 않고 LikeFlusher 의 원자적 UPDATE 로만 변경된다.
+  @Column(name = "like_count", nullable = false)
+  private Long likeCount = 0L;
 
   @Builder
   public Comment(String content, User user, Comment parent, Review review) {
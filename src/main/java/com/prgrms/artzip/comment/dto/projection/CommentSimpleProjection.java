@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class CommentSimpleProjection {
   private Long commentId;
+  private Long parentId;
   private String content;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
@@ -21,10 +22,11 @@ public class CommentSimpleProjection {
   private Boolean isLiked;
 
   @Builder
-  public CommentSimpleProjection(Long commentId, String content, LocalDateTime createdAt,
-      LocalDateTime updatedAt, Boolean isDeleted, User user, Long likeCount,
-      Long childCount, Boolean isLiked) {
+  public CommentSimpleProjection(Long commentId, Long parentId, String content,
+      LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isDeleted, User user,
+      Long likeCount, Long childCount, Boolean isLiked) {
     this.commentId = commentId;
+    this.parentId = parentId;
     this.content = content;
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
@@ -1,9 +1,7 @@
 package com.prgrms.artzip.comment.dto.response;
 
-import com.prgrms.artzip.comment.domain.Comment;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
 import java.time.LocalDateTime;
-import java.util.Objects;
 import lombok.Getter;
 
 @Getter
@@ -18,20 +16,15 @@ public class CommentInfo {
   private final Integer likeCount;
   private final Boolean isLiked;
 
-  public CommentInfo(Comment entity, User user) {
-    this.isDeleted = entity.getIsDeleted();
-    this.content = isDeleted ? null : entity.getContent();
-    this.updatedAt = isDeleted ? null : entity.getUpdatedAt();
-    this.isEdited = isDeleted ? null : !entity.getCreatedAt().isEqual(entity.getUpdatedAt());
-    this.user = isDeleted ? null : new CommentUser(entity.getUser());
-    this.commentId = entity.getId();
-    this.createdAt = entity.getCreatedAt();
-    this.likeCount = entity.getCommentLikes().size();
-    if (Objects.nonNull(user)) {
-      this.isLiked = entity.getCommentLikes().stream().anyMatch(cl -> Objects.equals(
-          cl.getUser().getId(), user.getId()));
-    } else{
-      this.isLiked = false;
-    }
+  public CommentInfo(CommentSimpleProjection projection) {
+    this.isDeleted = projection.getIsDeleted();
+    this.content = isDeleted ? null : projection.getContent();
+    this.updatedAt = isDeleted ? null : projection.getUpdatedAt();
+    this.isEdited = isDeleted ? null : !projection.getCreatedAt().isEqual(projection.getUpdatedAt());
+    this.user = isDeleted ? null : new CommentUser(projection.getUser());
+    this.commentId = projection.getCommentId();
+    this.createdAt = projection.getCreatedAt();
+    this.likeCount = projection.getLikeCount().intValue();
+    this.isLiked = projection.getIsLiked();
   }
 }
@@ -3,9 +3,7 @@ package com.prgrms.artzip.comment.dto.response;
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.prgrms.artzip.comment.domain.Comment;
 import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
-import com.prgrms.artzip.user.domain.User;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Getter;
@@ -24,8 +22,16 @@ public class CommentResponseQ {
   private final Long likeCount;
   private final Boolean isLiked;
   private final Long childrenCount;
+  private final List<CommentInfo> children;
 
   public CommentResponseQ(CommentSimpleProjection projection) {
+    this(projection, null);
+  }
+
+  /**
+   * @param children 먼저 보여줄 자식 댓글 일부, null 이면 응답에서 빠진다.
+   */
+  public CommentResponseQ(CommentSimpleProjection projection, List<CommentInfo> children) {
     this.commentId = projection.getCommentId();
     this.content = projection.getContent();
     this.createdAt = projection.getCreatedAt();
@@ -36,5 +42,6 @@ public class CommentResponseQ {
     this.likeCount = projection.getLikeCount();
     this.isLiked = projection.getIsLiked();
     this.childrenCount = projection.getChildCount();
+    this.children = children;
   }
 }
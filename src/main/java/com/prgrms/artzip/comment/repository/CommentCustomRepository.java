@@ -1,10 +1,22 @@
 package com.prgrms.artzip.comment.repository;
 
 import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
+import com.prgrms.artzip.common.util.Cursor;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface CommentCustomRepository {
 
   Page<CommentSimpleProjection> getCommentsByReviewIdQ(Long reviewId, Long userId, Pageable pageable);
+
+  Slice<CommentSimpleProjection> getCommentsByReviewIdByCursor(Long reviewId, Long userId, Cursor cursor, int size);
+
+  Optional<CommentSimpleProjection> getCommentByIdQ(Long commentId, Long userId);
+
+  Page<CommentSimpleProjection> getChildrenQ(Long parentId, Long userId, Pageable pageable);
+
+  List<CommentSimpleProjection> getChildPreviewsOfParents(List<Long> parentIds, Long userId, int size);
 }
@@ -1,7 +1,6 @@
 package com.prgrms.artzip.comment.repository;
 
 import static com.prgrms.artzip.comment.domain.QComment.comment;
-import static com.prgrms.artzip.comment.domain.QCommentLike.commentLike;
 import static com.prgrms.artzip.common.util.QueryDslCustomUtils.alwaysFalse;
 import static com.prgrms.artzip.common.util.QueryDslCustomUtils.nullSafeBooleanBuilder;
 import static com.prgrms.artzip.user.domain.QUser.user;
@@ -9,6 +8,7 @@ import static com.prgrms.artzip.user.domain.QUser.user;
 import com.prgrms.artzip.comment.domain.QComment;
 import com.prgrms.artzip.comment.domain.QCommentLike;
 import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
+import com.prgrms.artzip.common.util.Cursor;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
@@ -16,19 +16,36 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.support.PageableExecutionUtils;
 
 @RequiredArgsConstructor
 public class CommentCustomRepositoryImpl implements CommentCustomRepository {
 
+  /*
+   * 부모별로 (createdAt, id) 내림차순 순번을 매겨 앞의 size 개 자식 댓글 id 만 고른다.
+   * 부모 수와 무관하게 자식 댓글을 한 번씩만 읽는다.
+   */
+  private static final String CHILD_PREVIEW_IDS_QUERY = "SELECT ranked.comment_id FROM ("
+      + "SELECT c.comment_id, ROW_NUMBER() OVER (PARTITION BY c.parent_id "
+      + "ORDER BY c.created_at DESC, c.comment_id DESC) AS preview_rank "
+      + "FROM comment c WHERE c.parent_id IN (:parentIds)"
+      + ") ranked WHERE ranked.preview_rank <= :size";
+
   private final JPAQueryFactory queryFactory;
 
+  private final EntityManager entityManager;
+
   private final QCommentLike commentLikeToGetIsLiked = new QCommentLike("commentLikeToGetIsLiked");
 
   private final QComment commentToGetChildren = new QComment("commentToGetChildren");
@@ -36,15 +53,104 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
   @Override
   public Page<CommentSimpleProjection> getCommentsByReviewIdQ(Long reviewId, Long userId,
       Pageable pageable) {
-    List<CommentSimpleProjection> comments = queryFactory.select(
+    List<CommentSimpleProjection> comments = selectComments(userId)
+        .where(comment.review.id.eq(reviewId).and(comment.parent.isNull()))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .groupBy(comment.id)
+        .orderBy(getAllOrderSpecifiers(pageable).toArray(OrderSpecifier[]::new))
+        .fetch();
+
+    JPAQuery<Long> countQuery = queryFactory
+        .select(comment.count())
+        .from(comment)
+        .where(comment.review.id.eq(reviewId).and(comment.parent.isNull()));
+
+    return PageableExecutionUtils.getPage(comments, pageable, countQuery::fetchOne);
+  }
+
+  @Override
+  public Slice<CommentSimpleProjection> getCommentsByReviewIdByCursor(Long reviewId, Long userId,
+      Cursor cursor, int size) {
+    List<CommentSimpleProjection> comments = selectComments(userId)
+        .where(comment.review.id.eq(reviewId).and(comment.parent.isNull()),
+            commentCreatedAtCursorLt(cursor))
+        .limit(size + 1L)
+        .groupBy(comment.id)
+        .orderBy(comment.createdAt.desc(), comment.id.desc())
+        .fetch();
+
+    return Cursor.toSlice(comments, size);
+  }
+
+  @Override
+  public Optional<CommentSimpleProjection> getCommentByIdQ(Long commentId, Long userId) {
+    return Optional.ofNullable(selectComments(userId)
+        .where(comment.id.eq(commentId))
+        .groupBy(comment.id)
+        .fetchOne());
+  }
+
+  @Override
+  public Page<CommentSimpleProjection> getChildrenQ(Long parentId, Long userId,
+      Pageable pageable) {
+    List<CommentSimpleProjection> children = selectComments(userId)
+        .where(comment.parent.id.eq(parentId))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .groupBy(comment.id)
+        .orderBy(getAllOrderSpecifiers(pageable).toArray(OrderSpecifier[]::new))
+        .fetch();
+
+    JPAQuery<Long> countQuery = queryFactory
+        .select(comment.count())
+        .from(comment)
+        .where(comment.parent.id.eq(parentId));
+
+    return PageableExecutionUtils.getPage(children, pageable, countQuery::fetchOne);
+  }
+
+  /*
+   * 부모마다 최신 자식 댓글 size 개를 한 번에 조회한다.
+   * 윈도 함수로 미리보기에 들어갈 id 를 고른 뒤 다른 조회와 같은 projection 으로 읽어, 부모 수와 무관하게 쿼리 두 번으로 끝난다.
+   */
+  @Override
+  public List<CommentSimpleProjection> getChildPreviewsOfParents(List<Long> parentIds, Long userId,
+      int size) {
+    if (parentIds.isEmpty() || size <= 0) {
+      return Collections.emptyList();
+    }
+    List<Long> previewIds = findChildPreviewIds(parentIds, size);
+    if (previewIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return selectComments(userId)
+        .where(comment.id.in(previewIds))
+        .groupBy(comment.id)
+        .orderBy(comment.createdAt.desc(), comment.id.desc())
+        .fetch();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Long> findChildPreviewIds(List<Long> parentIds, int size) {
+    List<Number> ids = entityManager.createNativeQuery(CHILD_PREVIEW_IDS_QUERY)
+        .setParameter("parentIds", parentIds)
+        .setParameter("size", size)
+        .getResultList();
+    return ids.stream().map(Number::longValue).collect(Collectors.toList());
+  }
+
+  private JPAQuery<CommentSimpleProjection> selectComments(Long userId) {
+    return queryFactory.select(
             Projections.fields(CommentSimpleProjection.class,
                 comment.id.as("commentId"),
+                comment.parent.id.as("parentId"),
                 comment.content,
                 comment.createdAt,
                 comment.updatedAt,
                 comment.isDeleted,
                 comment.user,
-                commentLike.id.countDistinct().as("likeCount"),
+                comment.likeCount,
                 commentToGetChildren.id.countDistinct().as("childCount"),
                 new CaseBuilder()
                     .when(alwaysFalse().or(commentLikeEqToUserId(userId)))
@@ -53,28 +159,26 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
                     .as("isLiked"))
         ).from(comment)
         .leftJoin(comment.user, user)
-        .leftJoin(commentLike).on(commentLike.comment.id.eq(comment.id))
         .leftJoin(commentToGetChildren).on(commentToGetChildren.parent.id.eq(comment.id)
             .and(commentToGetChildren.isDeleted.isFalse()))
         .leftJoin(commentLikeToGetIsLiked)
         .on(commentLikeToGetIsLiked.comment.id.eq(comment.id),
-            alwaysFalse().or(commentLikeEqToUserId(userId)))
-        .where(comment.review.id.eq(reviewId).and(comment.parent.isNull()))
-        .offset(pageable.getOffset())
-        .limit(pageable.getPageSize())
-        .groupBy(comment.id)
-        .orderBy(getAllOrderSpecifiers(pageable).toArray(OrderSpecifier[]::new))
-        .fetch();
+            alwaysFalse().or(commentLikeEqToUserId(userId)));
+  }
 
-    JPAQuery<Long> countQuery = queryFactory
-        .select(comment.count())
-        .from(comment)
-        .where(comment.review.id.eq(reviewId).and(comment.parent.isNull()));
+  // (createdAt, id) < (cursor.createdAt, cursor.commentId)
+  private BooleanBuilder commentCreatedAtCursorLt(Cursor cursor) {
+    if (Objects.isNull(cursor)) {
+      return new BooleanBuilder();
+    }
+    LocalDateTime createdAt = cursor.getLocalDateTime(0);
+    Long commentId = cursor.getLong(1);
 
-    return PageableExecutionUtils.getPage(comments, pageable, countQuery::fetchOne);
+    return new BooleanBuilder()
+        .or(comment.createdAt.lt(createdAt))
+        .or(comment.createdAt.eq(createdAt).and(comment.id.lt(commentId)));
   }
 
-
   private BooleanBuilder commentLikeEqToUserId(Long userId) {
     return nullSafeBooleanBuilder(() -> commentLikeToGetIsLiked.user.id.eq(userId));
   }
@@ -1,7 +1,6 @@
 package com.prgrms.artzip.comment.repository;
 
 import static com.prgrms.artzip.comment.domain.QComment.comment;
-import static com.prgrms.artzip.comment.domain.QCommentLike.commentLike;
 
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
@@ -15,7 +14,7 @@ import lombok.RequiredArgsConstructor;
 public enum CommentSortType {
   CREATED_AT("createdAt", comment.createdAt),
   COMMENT_ID("id", comment.id),
-  LIKE_COUNT("likeCount", commentLike.id.countDistinct());
+  LIKE_COUNT("likeCount", comment.likeCount);
 
   private final String property;
   private final Expression target;
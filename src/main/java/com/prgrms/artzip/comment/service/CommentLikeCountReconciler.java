@@ -0,0 +1,38 @@
+package com.prgrms.artzip.comment.service;
+
+import com.prgrms.artzip.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * CommentLikeCountReconciler
+ * - 댓글의 like_count 컬럼을 실제 comment_like 행 수와 비교하여 보정
+ * - 애플리케이션 기동 시(기존 데이터 백필) 및 매일 정해진 시각에 실행
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCountReconciler {
+
+  private final CommentRepository commentRepository;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${artzip.comment.like-count-reconcile-cron:0 10 4 * * *}")
+  @Transactional
+  public void reconcile() {
+    reconcileLikeCounts();
+  }
+
+  int reconcileLikeCounts() {
+    int repairedCount = commentRepository.reconcileLikeCounts();
+    if (repairedCount > 0) {
+      log.warn("댓글 좋아요 수 불일치 보정: {}건", repairedCount);
+    }
+    return repairedCount;
+  }
+}
@@ -1,7 +1,8 @@
 package com.prgrms.artzip.comment.service;
 
+import static com.prgrms.artzip.like.domain.LikeTarget.COMMENT;
+
 import com.prgrms.artzip.comment.domain.Comment;
-import com.prgrms.artzip.comment.domain.CommentLike;
 import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
 import com.prgrms.artzip.comment.dto.request.CommentCreateRequest;
 import com.prgrms.artzip.comment.dto.request.CommentUpdateRequest;
@@ -12,22 +13,28 @@ import com.prgrms.artzip.comment.dto.response.CommentResponseQ;
 import com.prgrms.artzip.comment.dto.response.CommentsResponse;
 import com.prgrms.artzip.comment.repository.CommentLikeRepository;
 import com.prgrms.artzip.comment.repository.CommentRepository;
+import com.prgrms.artzip.common.CursorResponse;
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.PageResponse;
 import com.prgrms.artzip.common.error.exception.AuthErrorException;
 import com.prgrms.artzip.common.error.exception.DuplicateRequestException;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.util.Cursor;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.repository.ReviewRepository;
 import com.prgrms.artzip.user.domain.User;
-import java.util.ArrayList;
-import java.util.List;
+import com.prgrms.artzip.user.domain.UserPrincipal;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import com.prgrms.artzip.user.service.UserUtilService;
 import java.util.Objects;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,15 +46,30 @@ public class CommentService {
   private final ReviewRepository reviewRepository;
   private final CommentUtilService commentUtilService;
   private final CommentLikeRepository commentLikeRepository;
+  private final UserStatsRepository userStatsRepository;
+  private final LikeWriteBuffer likeWriteBuffer;
+  private final LikeCounterRegistry likeCounterRegistry;
+  private final CommentThreadLoader commentThreadLoader;
+  private final UserUtilService userUtilService;
+
+  @Transactional(readOnly = true)
+  public CommentsResponse getCommentsByReviewId(Long reviewId, UserPrincipal user, Pageable pageable) {
+    Page<CommentResponseQ> comments = commentThreadLoader.loadThreads(reviewId, Objects.nonNull(user) ? user.getId() : null, pageable);
+    Integer commentCount = reviewRepository.findCommentCountById(reviewId).map(Long::intValue).orElse(0);
+    return new CommentsResponse(new PageResponse<>(comments), commentCount);
+  }
 
   @Transactional(readOnly = true)
-  public CommentsResponse getCommentsByReviewId(Long reviewId, User user, Pageable pageable) {
-    Page<CommentSimpleProjection> comments = commentRepository.getCommentsByReviewIdQ(reviewId, Objects.nonNull(user) ? user.getId() : null, pageable);
-    return new CommentsResponse(new PageResponse<>(comments.map(CommentResponseQ::new)), commentRepository.getCommentCountByReviewId(reviewId));
+  public CursorResponse<CommentResponseQ> getCommentsByReviewIdByCursor(Long reviewId, UserPrincipal user, String cursor, int size) {
+    Cursor.validateSize(size);
+    Slice<CommentResponseQ> comments = commentThreadLoader.loadThreadsByCursor(reviewId, Objects.nonNull(user) ? user.getId() : null, Cursor.decode(cursor), size);
+    String nextCursor = Cursor.nextCursorOf(comments, c -> Cursor.encode(c.getCreatedAt(), c.getCommentId()));
+    return new CursorResponse<>(comments, nextCursor);
   }
 
-  public CommentResponse createComment(CommentCreateRequest request, Long reviewId, User user) {
+  public CommentResponse createComment(CommentCreateRequest request, Long reviewId, UserPrincipal user) {
     checkLogin(user);
+    User author = userUtilService.getUserById(user.getId());
     Review review = getReview(reviewId);
     Comment parent = null;
     if (Objects.nonNull(request.parentId())) {
@@ -56,39 +78,51 @@ public class CommentService {
     }
     Comment comment = commentRepository.save(Comment.builder()
         .content(request.content())
-        .user(user)
+        .user(author)
         .review(review)
         .parent(parent)
         .build()
     );
-    return new CommentResponse(comment, user, new ArrayList<>());
+    userStatsRepository.updateCommentCount(user.getId(), 1);
+    reviewRepository.updateCommentCount(reviewId, 1);
+    return new CommentResponse(CommentSimpleProjection.builder()
+        .commentId(comment.getId())
+        .parentId(Objects.nonNull(parent) ? parent.getId() : null)
+        .content(comment.getContent())
+        .createdAt(comment.getCreatedAt())
+        .updatedAt(comment.getUpdatedAt())
+        .isDeleted(comment.getIsDeleted())
+        .user(author)
+        .likeCount(0L)
+        .childCount(0L)
+        .isLiked(false)
+        .build());
   }
 
-  public CommentResponse updateComment(CommentUpdateRequest request, Long commentId, User user) {
+  public CommentResponse updateComment(CommentUpdateRequest request, Long commentId, UserPrincipal user) {
     checkLogin(user);
     Comment comment = commentUtilService.getComment(commentId);
     if (comment.getIsDeleted()) throw new DuplicateRequestException(ErrorCode.COMMENT_ALREADY_DELETED);
     checkOwner(comment, user);
     comment.setContent(request.content());
-    List<Comment> children = commentRepository.getCommentsOfParents(List.of(commentId));
-    return new CommentResponse(comment, user, children);
+    return commentThreadLoader.loadComment(commentId, user.getId());
   }
 
-  public CommentResponse deleteComment(Long commentId, User user) {
+  public CommentResponse deleteComment(Long commentId, UserPrincipal user) {
     checkLogin(user);
     Comment comment = commentUtilService.getComment(commentId);
     checkOwner(comment, user);
     comment.softDelete();
-    List<Comment> children = commentRepository.getCommentsOfParents(List.of(commentId));
-    return new CommentResponse(comment, user, children);
+    userStatsRepository.updateCommentCount(user.getId(), -1);
+    reviewRepository.updateCommentCount(comment.getReview().getId(), -1);
+    return commentThreadLoader.loadComment(commentId, user.getId());
   }
 
   @Transactional(readOnly = true)
-  public Page<CommentInfo> getChildren(Long commentId, User user, Pageable pageable) {
+  public Page<CommentInfo> getChildren(Long commentId, UserPrincipal user, Pageable pageable) {
     Comment parent = commentUtilService.getComment(commentId);
     checkChild(parent);
-    Page<Comment> children = commentRepository.getCommentsOfParent(commentId, pageable);
-    return children.map(child -> new CommentInfo(child, user));
+    return commentThreadLoader.loadChildren(commentId, Objects.nonNull(user) ? user.getId() : null, pageable);
   }
 
   @Transactional(readOnly = true)
@@ -96,23 +130,19 @@ public class CommentService {
     return commentRepository.countByUserId(userId);
   }
 
-  public CommentLikeResponse toggleCommentLike(Long commentId, User user) {
+  @Transactional(readOnly = true)
+  public CommentLikeResponse toggleCommentLike(Long commentId, UserPrincipal user) {
     checkLogin(user);
     Comment comment = commentUtilService.getComment(commentId);
-    Optional<CommentLike> commentLike = commentLikeRepository
-        .getCommentLikeByCommentIdAndUserId(commentId, user.getId());
-    boolean isLiked;
-    if (commentLike.isPresent()) {
-      commentLikeRepository.deleteCommentLikeByCommentIdAndUserId(commentId, user.getId());
-      isLiked = false;
-    } else {
-      commentLikeRepository.save(CommentLike.builder().comment(comment).user(user).build());
-      isLiked = true;
-    }
+    boolean isLiked = likeWriteBuffer.isLiked(COMMENT, commentId, user.getId(),
+        () -> commentLikeRepository.getCommentLikeByCommentIdAndUserId(commentId, user.getId())
+            .isPresent());
+    LikeToggle likeToggle = likeWriteBuffer.toggle(COMMENT, commentId, user.getId(), isLiked);
     return CommentLikeResponse.builder()
         .commentId(commentId)
-        .isLiked(isLiked)
-        .likeCount(commentLikeRepository.countCommentLikeByCommentId(commentId))
+        .isLiked(likeToggle.isLiked())
+        .likeCount(likeCounterRegistry.applyToggle(COMMENT, commentId, likeToggle,
+            comment::getLikeCount))
         .build();
   }
 
@@ -127,13 +157,13 @@ public class CommentService {
         .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
   }
 
-  private void checkOwner(Comment comment, User user) {
+  private void checkOwner(Comment comment, UserPrincipal user) {
     if (!Objects.equals(comment.getUser().getId(), user.getId())) {
       throw new AuthErrorException(ErrorCode.RESOURCE_PERMISSION_DENIED);
     }
   }
 
-  private void checkLogin(User user) {
+  private void checkLogin(UserPrincipal user) {
     if (Objects.isNull(user)) {
       throw new NotFoundException(ErrorCode.USER_NOT_FOUND);
     }
@@ -0,0 +1,74 @@
+package com.prgrms.artzip.comment.service;
+
+import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
+import com.prgrms.artzip.comment.dto.response.CommentInfo;
+import com.prgrms.artzip.comment.dto.response.CommentResponse;
+import com.prgrms.artzip.comment.dto.response.CommentResponseQ;
+import com.prgrms.artzip.comment.repository.CommentRepository;
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.util.Cursor;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/*
+ * CommentThreadLoader
+ * - 댓글 응답에 필요한 좋아요 수, 좋아요 여부, 자식 댓글 수를 엔티티의 연관 컬렉션을 따라가지 않고 projection 조회로 함께 가져온다.
+ * - 루트 댓글 한 페이지와 각 댓글의 최신 자식 댓글 일부는 페이지 크기와 무관하게 정해진 수의 쿼리로 조회된다.
+ *   (루트 댓글 1 + count 1 + 자식 댓글 미리보기 IN 조회 1)
+ * */
+@RequiredArgsConstructor
+@Service
+public class CommentThreadLoader {
+
+  static final int CHILD_PREVIEW_SIZE = 3;
+
+  private final CommentRepository commentRepository;
+
+  public Page<CommentResponseQ> loadThreads(Long reviewId, Long userId, Pageable pageable) {
+    Page<CommentSimpleProjection> roots =
+        commentRepository.getCommentsByReviewIdQ(reviewId, userId, pageable);
+    Map<Long, List<CommentInfo>> previews = loadChildPreviews(roots.getContent(), userId);
+    return roots.map(root -> toThread(root, previews));
+  }
+
+  public Slice<CommentResponseQ> loadThreadsByCursor(Long reviewId, Long userId, Cursor cursor,
+      int size) {
+    Slice<CommentSimpleProjection> roots =
+        commentRepository.getCommentsByReviewIdByCursor(reviewId, userId, cursor, size);
+    Map<Long, List<CommentInfo>> previews = loadChildPreviews(roots.getContent(), userId);
+    return roots.map(root -> toThread(root, previews));
+  }
+
+  public Page<CommentInfo> loadChildren(Long parentId, Long userId, Pageable pageable) {
+    return commentRepository.getChildrenQ(parentId, userId, pageable).map(CommentInfo::new);
+  }
+
+  public CommentResponse loadComment(Long commentId, Long userId) {
+    return commentRepository.getCommentByIdQ(commentId, userId)
+        .map(CommentResponse::new)
+        .orElseThrow(() -> new NotFoundException(ErrorCode.COMMENT_NOT_FOUND));
+  }
+
+  private Map<Long, List<CommentInfo>> loadChildPreviews(List<CommentSimpleProjection> roots,
+      Long userId) {
+    List<Long> parentIds = roots.stream().map(CommentSimpleProjection::getCommentId).toList();
+    return commentRepository.getChildPreviewsOfParents(parentIds, userId, CHILD_PREVIEW_SIZE)
+        .stream()
+        .collect(Collectors.groupingBy(CommentSimpleProjection::getParentId,
+            Collectors.mapping(CommentInfo::new, Collectors.toList())));
+  }
+
+  private CommentResponseQ toThread(CommentSimpleProjection root,
+      Map<Long, List<CommentInfo>> previews) {
+    return new CommentResponseQ(root,
+        previews.getOrDefault(root.getCommentId(), Collections.emptyList()));
+  }
+}
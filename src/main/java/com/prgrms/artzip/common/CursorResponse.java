@@ -0,0 +1,24 @@
+package com.prgrms.artzip.common;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+public class CursorResponse<T> {
+  private List<T> content;
+  private int numberOfElements;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor;
+
+  @Builder
+  public CursorResponse(Slice<T> slice, String nextCursor) {
+    this.content = slice.getContent();
+    this.numberOfElements = slice.getNumberOfElements();
+    this.size = slice.getSize();
+    this.hasNext = slice.hasNext();
+    this.nextCursor = slice.hasNext() ? nextCursor : null;
+  }
+}
@@ -12,6 +12,8 @@ public enum ErrorCode {
   // Server Error
   INTERNAL_SERVER_ERROR(500, "S000", "서버에 문제가 생겼습니다."),
   AMAZON_S3_ERROR(500, "S001", "AWS S3와의 연동에 문제가 생겼습니다."),
+  COMPOSITE_READ_TIMEOUT(503, "S002", "조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+  PASSWORD_HASH_BUSY(503, "S003", "요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
 
   // Client Error
   METHOD_NOT_ALLOWED(405, "C000", "적절하지 않은 HTTP 메소드입니다."),
@@ -26,6 +28,8 @@ public enum ErrorCode {
   RESOURCE_PERMISSION_DENIED(400, "C009", "해당 리소스에 대한 작업 권한이 없습니다."),
   ACCESS_DENIED(403, "C010", "요청 권한이 없습니다."),
   UNAUTHENTICATED_USER(401, "C011", "인증되지 않은 사용자입니다."),
+  INVALID_CURSOR(400, "C012", "유효하지 않은 커서입니다."),
+  INVALID_CURSOR_SIZE(400, "C013", "조회 개수는 1 이상 100 이하여야 합니다."),
 
   /**
    * User Domain
@@ -74,6 +78,9 @@ public enum ErrorCode {
   INVALID_COORDINATE(400, "EX019", "옳지 않은 위도 경도 정보입니다.(-90 <= 위도 <= 90, -180 <= 경도 <= 180)"),
   INVALID_DISTANCE(400, "EX020", "거리는 0 이상이어야 합니다."),
   INVALID_EXHB_SORT_TYPE(400, "EX021", "유효하지 않은 전시회 정렬 조건입니다."),
+  INVALID_ZOOM(400, "EX022", "줌 레벨은 0 이상 21 이하여야 합니다."),
+  INVALID_CLUSTER_TOP(400, "EX023", "클러스터별 전시회 개수는 1 이상 10 이하여야 합니다."),
+  INVALID_BOUNDS(400, "EX024", "남서쪽 위도는 북동쪽 위도보다 클 수 없습니다."),
 
   /**
    * Comment Domain
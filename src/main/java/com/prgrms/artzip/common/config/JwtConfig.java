@@ -4,6 +4,7 @@ import com.prgrms.artzip.common.jwt.Jwt;
 import com.prgrms.artzip.common.jwt.JwtAuthenticationFilter;
 import com.prgrms.artzip.common.jwt.JwtAuthenticationProvider;
 import com.prgrms.artzip.common.util.JwtService;
+import com.prgrms.artzip.user.service.UserPrincipalCache;
 import com.prgrms.artzip.user.service.UserService;
 import com.prgrms.artzip.user.service.UserUtilService;
 import lombok.Getter;
@@ -62,8 +63,8 @@ public class JwtConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(JwtService jwtService,
-        UserUtilService userUtilService) {
+        UserUtilService userUtilService, UserPrincipalCache userPrincipalCache) {
         return new JwtAuthenticationFilter(this.accessToken.header, jwtService,
-            userUtilService);
+            userUtilService, userPrincipalCache);
     }
 }
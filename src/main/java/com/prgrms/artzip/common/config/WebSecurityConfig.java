@@ -22,8 +22,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
@@ -49,11 +47,6 @@ public class WebSecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
@@ -108,6 +101,8 @@ public class WebSecurityConfig {
                 .hasAnyAuthority(USER.name(), ADMIN.name())
                 .antMatchers(HttpMethod.PATCH, "/api/v1/reviews/**", "/api/v1/reviews/**/like", "/api/v1/comments/**")
                 .hasAnyAuthority(USER.name(), ADMIN.name())
+                .antMatchers(HttpMethod.PUT, "/api/v1/reviews/**/like")
+                .hasAnyAuthority(USER.name(), ADMIN.name())
                 .antMatchers(HttpMethod.DELETE, "/api/v1/reviews/**", "/api/v1/comments/**")
                 .hasAnyAuthority(USER.name(), ADMIN.name())
                 .anyRequest().permitAll()
@@ -8,6 +8,7 @@ import com.prgrms.artzip.common.error.exception.DuplicateRequestException;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.common.error.exception.PermissionDeniedException;
+import com.prgrms.artzip.common.error.exception.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -132,6 +133,15 @@ public class GlobalExceptionHandler {
     return handleException(e, e.getErrorCode());
   }
 
+  /**
+   * 503: Service Unavailable
+   */
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+      ServiceUnavailableException e) {
+    return handleException(e, e.getErrorCode());
+  }
+
   private ResponseEntity<ErrorResponse> handleException(Exception e, ErrorCode errorCode) {
     log.warn(e.getMessage(), e);
     ErrorResponse errorResponse = ErrorResponse.of(errorCode);
@@ -0,0 +1,15 @@
+package com.prgrms.artzip.common.error.exception;
+
+import com.prgrms.artzip.common.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+  private final ErrorCode errorCode;
+
+  public ServiceUnavailableException(ErrorCode errorCode) {
+    super(errorCode.getMessage());
+    this.errorCode = errorCode;
+  }
+}
@@ -7,7 +7,8 @@ import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.prgrms.artzip.common.error.exception.AuthErrorException;
 import com.prgrms.artzip.common.jwt.claims.AccessClaim;
 import com.prgrms.artzip.common.util.JwtService;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
+import com.prgrms.artzip.user.service.UserPrincipalCache;
 import com.prgrms.artzip.user.service.UserUtilService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -41,6 +42,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final UserUtilService userUtilService;
 
+  private final UserPrincipalCache userPrincipalCache;
+
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
       FilterChain chain) throws ServletException, IOException {
@@ -51,7 +54,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
           AccessClaim claims = jwtService.verifyAccessToken(token);
           Long userId = claims.getUserId();
           List<GrantedAuthority> authorities = getAuthorities(claims);
-          User currentUser = userUtilService.getUserById(userId);
+          UserPrincipal currentUser = userPrincipalCache.get(userId,
+              () -> UserPrincipal.from(userUtilService.getUserById(userId)));
           if (!isNull(userId) && authorities.size() > 0) {
             JwtAuthenticationToken authentication = new JwtAuthenticationToken(new JwtPrincipal(token, currentUser), null, authorities);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -3,6 +3,7 @@ package com.prgrms.artzip.common.jwt;
 import com.prgrms.artzip.common.util.JwtService;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import com.prgrms.artzip.user.service.UserService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -48,7 +49,7 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
               .map(role -> new SimpleGrantedAuthority(role.getAuthority().name())).collect(Collectors.toList());
       String accessToken = jwtService.createAccessToken(user.getId(), user.getEmail(), authorities);
       String refreshToken = jwtService.createRefreshToken(user.getEmail());
-      JwtAuthenticationToken authenticated = new JwtAuthenticationToken(new JwtPrincipal(accessToken, user), null, authorities);
+      JwtAuthenticationToken authenticated = new JwtAuthenticationToken(new JwtPrincipal(accessToken, UserPrincipal.from(user)), null, authorities);
       authenticated.setDetails(refreshToken);
       return authenticated;
     } catch (IllegalArgumentException e) {
@@ -1,7 +1,7 @@
 package com.prgrms.artzip.common.jwt;
 
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import lombok.Getter;
 
 import static com.prgrms.artzip.common.ErrorCode.*;
@@ -13,9 +13,9 @@ public class JwtPrincipal {
 
   private final String accessToken;
 
-  private final User user;
+  private final UserPrincipal user;
 
-  JwtPrincipal(String accessToken, User user) {
+  JwtPrincipal(String accessToken, UserPrincipal user) {
     if(!hasText(accessToken)) throw new InvalidRequestException(EMAIL_REQUIRED);
     if(isNull(user)) throw new InvalidRequestException(USER_PARAM_REQUIRED);
 
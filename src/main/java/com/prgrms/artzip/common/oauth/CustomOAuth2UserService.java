@@ -1,6 +1,7 @@
 package com.prgrms.artzip.common.oauth;
 
 import static com.prgrms.artzip.common.ErrorCode.ROLE_NOT_FOUND;
+import static com.prgrms.artzip.common.ErrorCode.USER_ALREADY_EXISTS;
 import static org.springframework.util.StringUtils.*;
 
 import com.prgrms.artzip.common.Authority;
@@ -13,14 +14,21 @@ import com.prgrms.artzip.user.domain.OAuthUser;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.repository.RoleRepository;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import com.prgrms.artzip.user.event.UserChangedEvent;
+import com.prgrms.artzip.user.event.UserIdentifierAddedEvent;
+import com.prgrms.artzip.user.service.UserUtilService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @RequiredArgsConstructor
 @Service
@@ -29,6 +37,14 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
   private final RoleRepository roleRepository;
 
+  private final UserUtilService userUtilService;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final UserStatsRepository userStatsRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
   @Override
   public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) throws OAuth2AuthenticationException {
     OAuth2User oAuth2User = super.loadUser(oAuth2UserRequest);
@@ -53,18 +69,36 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     return new OAuthUserPrincipal(oAuthUser, oAuth2User.getAttributes());
   }
 
+  /*
+   * 소셜 로그인 가입
+   * - 소셜 로그인 유저는 provider id 로 구분하므로 이메일이 다른 계정과 같아도 별도 계정으로 가입한다. (이메일 유니크 제약은 로컬 가입 유저만 대상)
+   * - 소셜 서비스의 닉네임이 이미 쓰이고 있으면 숫자를 붙여 겹치지 않게 한다.
+   * */
   private OAuthUser oauthSignUp(OAuth2UserRequest oAuth2UserRequest, OAuth2UserInfo oAuth2UserInfo) {
     Role userRole = roleRepository.findByAuthority(Authority.USER)
         .orElseThrow(() -> new NotFoundException(ROLE_NOT_FOUND));
     OAuthUser oAuthUser = OAuthUser.builder()
         .email(oAuth2UserInfo.getEmail())
-        .nickname(oAuth2UserInfo.getNickName())
+        .nickname(userUtilService.issueUniqueNickname(oAuth2UserInfo.getNickName()))
         .provider(AuthProvider.valueOf(oAuth2UserRequest.getClientRegistration().getRegistrationId().toLowerCase()))
         .providerId(oAuth2UserInfo.getId())
         .roles(List.of(userRole))
         .build();
     if(hasText(oAuth2UserInfo.getImageUrl())) oAuthUser.setProfileImage(oAuth2UserInfo.getImageUrl());
-    return userRepository.save(oAuthUser);
+    return transactionTemplate.execute(status -> {
+      OAuthUser savedUser;
+      try {
+        savedUser = userRepository.save(oAuthUser);
+      } catch (DataIntegrityViolationException e) {
+        // 확인 이후 같은 닉네임으로 먼저 가입한 경우
+        throw new AuthErrorException(USER_ALREADY_EXISTS);
+      }
+      userStatsRepository.insertUserStats(savedUser.getId());
+      // 이메일 중복 확인은 로컬 가입 유저만 대상이므로 닉네임만 알린다.
+      eventPublisher.publishEvent(new UserIdentifierAddedEvent(null, savedUser.getNickname()));
+      eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
+      return savedUser;
+    });
   }
 
 }
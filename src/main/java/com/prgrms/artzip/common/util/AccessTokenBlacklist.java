@@ -0,0 +1,187 @@
+package com.prgrms.artzip.common.util;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.prgrms.artzip.common.config.JwtConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * AccessTokenBlacklist
+ * - 로그아웃된 access token 목록(Redis)을 서버마다 블룸 필터로 들고 있어, 요청마다 Redis 를 조회하지 않도록 한다.
+ *   블룸 필터에 없으면 블랙리스트가 아니고, 있을 때만 Redis 로 확인한다.
+ * - 블랙리스트 토큰은 늦어도 access token 유효 시간 안에 만료되므로, 그 시간 단위로 필터를 나누어 현재/이전 두 개만 유지하며 교체한다.
+ * - 다른 서버의 로그아웃은 Redis pub/sub 으로 받고, 기동 시와 주기적으로 Redis 의 블랙리스트 키를 훑어 놓친 토큰을 채운다.
+ *   처음 채우기 전까지는 모든 토큰을 Redis 로 확인한다.
+ * */
+@Slf4j
+@Component
+public class AccessTokenBlacklist implements MessageListener {
+
+  static final String BLACKLIST_CHANNEL = "AccessToken_Blacklist";
+  static final String LOOKUP_METRIC = "artzip.jwt.blacklist.lookup";
+  static final int EXPECTED_TOKENS_PER_WINDOW = 100_000;
+  static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private final RedisService redisService;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final String keyPrefix;
+  private final long windowMillis;
+  private final LongSupplier currentTimeMillis;
+  private final Counter skipped;
+  private final Counter falsePositive;
+  private final Counter blacklisted;
+  private volatile Buckets buckets;
+  private volatile boolean synced;
+
+  @Autowired
+  public AccessTokenBlacklist(RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry,
+      JwtConfig jwtConfig) {
+    this(redisService, redisMessageListenerContainer, meterRegistry, jwtConfig.getBlackListPrefix(),
+        TimeUnit.SECONDS.toMillis(jwtConfig.getAccessToken().getExpirySeconds()),
+        System::currentTimeMillis);
+  }
+
+  AccessTokenBlacklist(RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry,
+      String keyPrefix, long windowMillis, LongSupplier currentTimeMillis) {
+    this.redisService = redisService;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.keyPrefix = keyPrefix;
+    this.windowMillis = windowMillis;
+    this.currentTimeMillis = currentTimeMillis;
+    this.skipped = lookupCounter(meterRegistry, "skipped");
+    this.falsePositive = lookupCounter(meterRegistry, "false_positive");
+    this.blacklisted = lookupCounter(meterRegistry, "blacklisted");
+    this.buckets = new Buckets(currentWindow(), newFilter(), newFilter());
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+  }
+
+  /**
+   * Redis 의 블랙리스트 키를 모두 훑어 필터에 채운다. 구독 이후에 실행되므로 그 사이의 로그아웃도 놓치지 않는다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${artzip.jwt.blacklist-resync-millis:60000}")
+  public void sync() {
+    try {
+      Set<String> keys = redisService.scanKeys(keyPrefix + "*");
+      keys.forEach(key -> addLocally(key.substring(keyPrefix.length())));
+      synced = true;
+    } catch (DataAccessException e) {
+      log.warn("access token 블랙리스트 동기화 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 토큰을 남은 유효 시간 동안 블랙리스트에 올리고 다른 서버에도 알린다.
+   */
+  public void add(String token, String email, Duration ttl) {
+    redisService.setValues(keyPrefix + token, email, ttl);
+    addLocally(token);
+    try {
+      redisService.publish(BLACKLIST_CHANNEL, token);
+    } catch (DataAccessException e) {
+      log.warn("access token 블랙리스트 발행 실패, 다음 동기화 때 반영됩니다: {}", e.getMessage());
+    }
+  }
+
+  public boolean isBlacklisted(String token) {
+    if (synced && !mightContain(token)) {
+      skipped.increment();
+      return false;
+    }
+    boolean isBlacklisted = redisService.hasKey(keyPrefix + token);
+    if (synced) {
+      (isBlacklisted ? blacklisted : falsePositive).increment();
+    }
+    return isBlacklisted;
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    addLocally(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  private void addLocally(String token) {
+    currentBuckets().current.put(token);
+  }
+
+  private boolean mightContain(String token) {
+    Buckets current = currentBuckets();
+    return current.current.mightContain(token) || current.previous.mightContain(token);
+  }
+
+  /*
+   * 시간 구간이 바뀌면 현재 필터를 이전 필터로 밀어내고 새 필터를 만든다.
+   * 이전 구간에 올라간 토큰은 다음 구간이 끝나기 전에 만료되므로 두 구간 이상 지난 필터는 버린다.
+   */
+  private Buckets currentBuckets() {
+    long window = currentWindow();
+    Buckets current = buckets;
+    if (current.window == window) {
+      return current;
+    }
+    synchronized (this) {
+      current = buckets;
+      if (current.window != window) {
+        BloomFilter<CharSequence> previous =
+            current.window == window - 1 ? current.current : newFilter();
+        current = new Buckets(window, newFilter(), previous);
+        buckets = current;
+      }
+      return current;
+    }
+  }
+
+  private long currentWindow() {
+    return currentTimeMillis.getAsLong() / windowMillis;
+  }
+
+  private static BloomFilter<CharSequence> newFilter() {
+    return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), EXPECTED_TOKENS_PER_WINDOW,
+        FALSE_POSITIVE_RATE);
+  }
+
+  private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(LOOKUP_METRIC)
+        .description("access token 블랙리스트 확인 결과, skipped 는 Redis 조회를 생략한 수, false_positive 는 필터 오탐 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static class Buckets {
+
+    private final long window;
+    private final BloomFilter<CharSequence> current;
+    private final BloomFilter<CharSequence> previous;
+
+    private Buckets(long window, BloomFilter<CharSequence> current,
+        BloomFilter<CharSequence> previous) {
+      this.window = window;
+      this.current = current;
+      this.previous = previous;
+    }
+  }
+}
@@ -2,81 +2,105 @@ package com.prgrms.artzip.common.util;
 
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import java.io.File;
-import java.io.FileOutputStream;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Objects;
-import java.util.Optional;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import javax.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+/*
+ * AmazonS3Uploader
+ * - MultipartFile 의 InputStream 을 크기와 함께 S3로 바로 흘려보낸다. 로컬 파일로 옮기거나 파일 전체를 힙에 올리지 않는다.
+ * - 임계값보다 큰 파일은 TransferManager 가 part 단위로 스트림을 읽어 multipart upload 로 올린다.
+ * - S3 key 는 디렉터리 + UUID + 확장자라 동시에 올려도 겹치지 않는다.
+ * */
 @Component
 public class AmazonS3Uploader {
-  private final AmazonS3Client amazonS3Client;
+
+  static final long MULTIPART_THRESHOLD_BYTES = 16L * 1024 * 1024;
+  static final long PART_SIZE_BYTES = 5L * 1024 * 1024;
+  private static final Pattern EXTENSION = Pattern.compile("[A-Za-z0-9]{1,10}");
 
   private final Logger log = LoggerFactory.getLogger(getClass());
 
-  public AmazonS3Uploader(AmazonS3Client amazonS3Client) {
-    this.amazonS3Client = amazonS3Client;
-  }
+  private final AmazonS3Client amazonS3Client;
 
-  @Value("${cloud.aws.s3.bucket}")
-  private String bucket;
+  private final TransferManager transferManager;
 
-  private String defaultProfileImage = "";
+  private final String bucket;
 
-  public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-    File uploadFile = convert(multipartFile).orElseThrow(
-        () -> new IllegalArgumentException("error: MultipartFile -> File convert fail"));
-    return upload(uploadFile, dirName);
-  }
+  private String defaultProfileImage = "";
 
-  // S3로 파일 업로드하기
-  private String upload(File uploadFile, String dirName) {
-    String fileName = dirName + "/" + UUID.randomUUID() + uploadFile.getName();   // S3에 저장된 파일 이름
-    String uploadImageUrl = putS3(uploadFile, fileName); // s3로 업로드
-    removeNewFile(uploadFile);
-    return uploadImageUrl;
+  @Autowired
+  public AmazonS3Uploader(AmazonS3Client amazonS3Client,
+      @Value("${cloud.aws.s3.bucket}") String bucket) {
+    this(amazonS3Client, bucket, MULTIPART_THRESHOLD_BYTES, PART_SIZE_BYTES);
   }
 
-  // S3로 업로드
-  private String putS3(File uploadFile, String fileName) {
-    amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile).withCannedAcl(
-        CannedAccessControlList.PublicRead));
-    return amazonS3Client.getUrl(bucket, fileName).toString();
+  AmazonS3Uploader(AmazonS3Client amazonS3Client, String bucket, long multipartThresholdBytes,
+      long partSizeBytes) {
+    this.amazonS3Client = amazonS3Client;
+    this.bucket = bucket;
+    this.transferManager = TransferManagerBuilder.standard()
+        .withS3Client(amazonS3Client)
+        .withMultipartUploadThreshold(multipartThresholdBytes)
+        .withMinimumUploadPartSize(partSizeBytes)
+        .build();
   }
 
-  // 로컬에 저장된 이미지 지우기
-  private void removeNewFile(File targetFile) {
-    if (targetFile.delete()) {
-      log.info("File delete success");
-      return;
+  /**
+   * @return 업로드된 파일의 URL
+   */
+  public String upload(MultipartFile multipartFile, String dirName) throws IOException {
+    String key = dirName + "/" + UUID.randomUUID() + getExtension(multipartFile);
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentLength(multipartFile.getSize());
+    if (StringUtils.hasText(multipartFile.getContentType())) {
+      metadata.setContentType(multipartFile.getContentType());
     }
-    log.info("File delete fail");
-  }
 
-  // 로컬에 파일 업로드 하기
-  private Optional<File> convert(MultipartFile file) throws IOException {
-    String originalFilename = Objects.requireNonNull(file.getOriginalFilename()).isBlank() ? UUID.randomUUID().toString() : new SimpleDateFormat("yyyyMMddHmsS").format(new Date());
-    File convertFile = new File(System.getProperty("user.dir") + "/" + originalFilename);
-    if (convertFile.createNewFile()) { // 바로 위에서 지정한 경로에 File이 생성됨 (경로가 잘못되었다면 생성 불가능)
-      try (FileOutputStream fos = new FileOutputStream(
-          convertFile)) { // FileOutputStream 데이터를 파일에 바이트 스트림으로 저장하기 위함
-        fos.write(file.getBytes());
-      }
-      return Optional.of(convertFile);
+    try (InputStream inputStream = multipartFile.getInputStream()) {
+      transferManager.upload(new PutObjectRequest(bucket, key, inputStream, metadata)
+              .withCannedAcl(CannedAccessControlList.PublicRead))
+          .waitForUploadResult();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("S3 업로드 중 인터럽트: " + key);
     }
-    return Optional.empty();
+    log.info("S3 업로드 완료: {} ({} bytes)", key, multipartFile.getSize());
+    return amazonS3Client.getUrl(bucket, key).toString();
   }
 
   public String getDefaultProfileImage() {
     return defaultProfileImage;
   }
+
+  /**
+   * S3 client 는 다른 빈과 함께 쓰므로 닫지 않고 TransferManager 의 스레드만 정리합니다.
+   */
+  @PreDestroy
+  public void shutdown() {
+    transferManager.shutdownNow(false);
+  }
+
+  private String getExtension(MultipartFile multipartFile) {
+    String extension = StringUtils.getFilenameExtension(multipartFile.getOriginalFilename());
+    if (extension == null || !EXTENSION.matcher(extension).matches()) {
+      return "";
+    }
+    return "." + extension.toLowerCase(Locale.ROOT);
+  }
 }
@@ -0,0 +1,228 @@
+package com.prgrms.artzip.common.util;
+
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 서로 독립적인 조회 여러 개를 제한된 스레드 풀에서 동시에 실행합니다.
+ * 각 조회(branch)는 별도의 읽기 전용 트랜잭션(커넥션)에서 실행되며, 시작 시점부터 제한 시간 안에 끝나지 않으면 503으로 응답합니다.
+ * branch 마다 커넥션을 하나씩 쓰므로 풀 크기는 Hikari 최대 커넥션 수보다 작게 두고, 풀과 대기열이 모두 차면 기다리지 않고 503으로 응답합니다.
+ * branch 별 소요 시간은 복합 조회 이름(read)과 branch 이름(branch)을 태그로 Timer 에 남깁니다.
+ */
+@Slf4j
+@Component
+public class CompositeReadExecutor {
+
+  static final String BRANCH_METRIC = "artzip.composite-read.branch";
+  static final int DEFAULT_POOL_SIZE = 4;
+  private static final int QUEUE_CAPACITY = 128;
+  private static final Duration DEFAULT_BRANCH_TIMEOUT = Duration.ofSeconds(2);
+
+  private final ThreadPoolExecutor executor;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Duration branchTimeout;
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public CompositeReadExecutor(PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${artzip.composite-read.pool-size:" + DEFAULT_POOL_SIZE + "}") int poolSize,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConnections) {
+    this(transactionManager, meterRegistry, resolvePoolSize(poolSize, maxConnections),
+        QUEUE_CAPACITY, DEFAULT_BRANCH_TIMEOUT);
+  }
+
+  CompositeReadExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      Duration branchTimeout) {
+    this(transactionManager, meterRegistry, DEFAULT_POOL_SIZE, QUEUE_CAPACITY, branchTimeout);
+  }
+
+  CompositeReadExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      int poolSize, int queueCapacity, Duration branchTimeout) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("composite-read-");
+    threadFactory.setDaemon(true);
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.branchTimeout = branchTimeout;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /*
+   * 요청 스레드와 다른 트랜잭션이 쓸 커넥션이 남도록 최대 커넥션 수보다 하나 이상 작게 둔다.
+   */
+  static int resolvePoolSize(int poolSize, int maxConnections) {
+    int limit = Math.max(1, maxConnections - 1);
+    if (poolSize > limit) {
+      log.warn("복합 조회 풀 크기({})가 최대 커넥션 수({}) 이상이므로 {}로 줄입니다.", poolSize, maxConnections, limit);
+      return limit;
+    }
+    return Math.max(1, poolSize);
+  }
+
+  public CompositeRead begin(String name) {
+    return new CompositeRead(name, executor, readOnlyTransaction, branchTimeout, meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * 하나의 복합 조회. try-with-resources 로 사용하며, 닫힐 때 남은 branch 를 정리하고 branch 별 소요 시간을 남깁니다.
+   */
+  public static class CompositeRead implements AutoCloseable {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration branchTimeout;
+    private final MeterRegistry meterRegistry;
+    private final long startedAt = System.nanoTime();
+    private final List<Branch<?>> branches = new ArrayList<>();
+
+    private CompositeRead(String name, ThreadPoolExecutor executor,
+        TransactionTemplate readOnlyTransaction, Duration branchTimeout,
+        MeterRegistry meterRegistry) {
+      this.name = name;
+      this.executor = executor;
+      this.readOnlyTransaction = readOnlyTransaction;
+      this.branchTimeout = branchTimeout;
+      this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Branch<T> fork(String branchName, Supplier<T> reader) {
+      Branch<T> branch = new Branch<>(branchName, System.nanoTime() + branchTimeout.toNanos());
+      Timer branchTimer = Timer.builder(BRANCH_METRIC)
+          .description("복합 조회의 branch 별 소요 시간")
+          .tag("read", name)
+          .tag("branch", branchName)
+          .register(meterRegistry);
+      try {
+        branch.future = executor.submit(() -> {
+          long start = System.nanoTime();
+          try {
+            return readOnlyTransaction.execute(status -> reader.get());
+          } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            branchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            branch.elapsedMillis = toMillis(elapsedNanos);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        log.warn("{} 조회의 {} 구간을 실행할 스레드와 대기열이 모두 찼습니다.", name, branchName);
+        throw new ServiceUnavailableException(ErrorCode.COMPOSITE_READ_TIMEOUT);
+      }
+      branches.add(branch);
+      return branch;
+    }
+
+    /**
+     * branch 에서 발생한 RuntimeException 은 그대로 다시 던집니다.
+     */
+    public <T> T join(Branch<T> branch) {
+      try {
+        return branch.future.get(branch.remainingNanos(), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        branch.future.cancel(true);
+        log.warn("{} 조회의 {} 구간이 제한 시간({}ms)을 초과했습니다.", name, branch.name,
+            branchTimeout.toMillis());
+        throw new ServiceUnavailableException(ErrorCode.COMPOSITE_READ_TIMEOUT);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServiceUnavailableException(ErrorCode.COMPOSITE_READ_TIMEOUT);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        if (e.getCause() instanceof Error error) {
+          throw error;
+        }
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+
+    /**
+     * @return fork 한 순서대로 branch 이름 -> 소요 시간(ms), 끝나지 않은 branch 는 -1
+     */
+    public Map<String, Long> getLatencies() {
+      Map<String, Long> latencies = new LinkedHashMap<>();
+      branches.forEach(branch -> latencies.put(branch.name, branch.elapsedMillis));
+      return latencies;
+    }
+
+    /**
+     * 실패로 중간에 빠져나온 경우에도 남은 branch 가 끝날 때까지(최대 제한 시간) 기다린 뒤 넘긴 것은 취소합니다.
+     */
+    @Override
+    public void close() {
+      branches.forEach(Branch::awaitOrCancel);
+      log.debug("{} 조회 구간별 소요 시간(ms): {}, 전체: {}", name, getLatencies(),
+          toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static long toMillis(long nanos) {
+      return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+  }
+
+  public static class Branch<T> {
+
+    private static final long NOT_FINISHED = -1;
+
+    private final String name;
+    private final long deadline;
+    private Future<T> future;
+    private volatile long elapsedMillis = NOT_FINISHED;
+
+    private Branch(String name, long deadline) {
+      this.name = name;
+      this.deadline = deadline;
+    }
+
+    private long remainingNanos() {
+      return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private void awaitOrCancel() {
+      try {
+        future.get(remainingNanos(), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        future.cancel(true);
+      } catch (InterruptedException e) {
+        future.cancel(true);
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException | CancellationException e) {
+        // 실패한 결과는 join 에서 다룬다.
+      }
+    }
+  }
+}
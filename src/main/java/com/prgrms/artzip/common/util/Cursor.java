@@ -0,0 +1,100 @@
+package com.prgrms.artzip.common.util;
+
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 커서입니다.
+ * 마지막으로 조회한 행의 정렬 키들을 '|'로 이어 붙인 뒤 Base64(URL-safe)로 인코딩합니다.
+ */
+public class Cursor {
+
+  public static final int MAX_SIZE = 100;
+
+  private static final String DELIMITER = "|";
+
+  private final List<String> keys;
+
+  private Cursor(List<String> keys) {
+    this.keys = keys;
+  }
+
+  public static String encode(Object... keys) {
+    String joined = Arrays.stream(keys)
+        .map(String::valueOf)
+        .collect(Collectors.joining(DELIMITER));
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param cursor 클라이언트가 전달한 커서, 첫 페이지 조회 시 null
+   * @return 디코딩된 커서, 첫 페이지 조회라면 null
+   */
+  public static Cursor decode(String cursor) {
+    if (Objects.isNull(cursor) || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return new Cursor(Arrays.asList(decoded.split("\\" + DELIMITER, -1)));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  public static void validateSize(int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new InvalidRequestException(ErrorCode.INVALID_CURSOR_SIZE);
+    }
+  }
+
+  /**
+   * size + 1 개를 조회한 결과를 Slice 로 변환합니다.
+   */
+  public static <T> Slice<T> toSlice(List<T> content, int size) {
+    boolean hasNext = content.size() > size;
+    List<T> sliced = hasNext ? content.subList(0, size) : content;
+    return new SliceImpl<>(sliced, PageRequest.of(0, size), hasNext);
+  }
+
+  public static <T> String nextCursorOf(Slice<T> slice, Function<T, String> encoder) {
+    if (!slice.hasNext() || slice.getContent().isEmpty()) {
+      return null;
+    }
+    List<T> content = slice.getContent();
+    return encoder.apply(content.get(content.size() - 1));
+  }
+
+  public Long getLong(int index) {
+    return parse(index, Long::valueOf);
+  }
+
+  public LocalDate getLocalDate(int index) {
+    return parse(index, LocalDate::parse);
+  }
+
+  public LocalDateTime getLocalDateTime(int index) {
+    return parse(index, LocalDateTime::parse);
+  }
+
+  private <T> T parse(int index, Function<String, T> parser) {
+    try {
+      return parser.apply(keys.get(index));
+    } catch (RuntimeException e) {
+      throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
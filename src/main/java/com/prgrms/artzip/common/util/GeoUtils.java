@@ -0,0 +1,41 @@
+package com.prgrms.artzip.common.util;
+
+public class GeoUtils {
+
+  public static final double EARTH_RADIUS_KM = 6371d;
+  public static final double KM_PER_LATITUDE_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+  private GeoUtils() {
+  }
+
+  /**
+   * 두 좌표 사이의 대원 거리(km)를 haversine 공식으로 계산합니다.
+   */
+  public static double haversineDistance(double latitude1, double longitude1,
+      double latitude2, double longitude2) {
+    double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+    double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+    double a = Math.pow(Math.sin(latitudeDelta / 2), 2)
+        + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+        * Math.pow(Math.sin(longitudeDelta / 2), 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  /**
+   * 중심 좌표에서 distance(km) 이내의 점을 모두 포함하는 위도 차이(degree)
+   */
+  public static double latitudeDelta(double distance) {
+    return distance / KM_PER_LATITUDE_DEGREE;
+  }
+
+  /**
+   * 중심 좌표에서 distance(km) 이내의 점을 모두 포함하는 경도 차이(degree), 극점 부근에서는 180
+   */
+  public static double longitudeDelta(double latitude, double distance) {
+    double cos = Math.cos(Math.toRadians(Math.min(90, Math.abs(latitude) + latitudeDelta(distance))));
+    if (cos <= 0) {
+      return 180;
+    }
+    return Math.min(180, distance / (KM_PER_LATITUDE_DEGREE * cos));
+  }
+}
@@ -33,12 +33,19 @@ public class JwtService {
 
   private final RedisService redisService;
 
+  private final AccessTokenBlacklist accessTokenBlacklist;
+
+  private final VerifiedTokenCache verifiedTokenCache;
+
   public JwtService(@Qualifier("accessJwt") Jwt accessJwt, @Qualifier("refreshJwt") Jwt refreshJwt, JwtConfig jwtConfig,
-                    RedisService redisService) {
+                    RedisService redisService, AccessTokenBlacklist accessTokenBlacklist,
+                    VerifiedTokenCache verifiedTokenCache) {
     this.accessJwt = accessJwt;
     this.refreshJwt = refreshJwt;
     this.jwtConfig = jwtConfig;
     this.redisService = redisService;
+    this.accessTokenBlacklist = accessTokenBlacklist;
+    this.verifiedTokenCache = verifiedTokenCache;
   }
 
   public int getRefreshExpiry() {
@@ -93,13 +100,13 @@ public class JwtService {
   public void logout(String token) {
     AccessClaim claim = accessJwt.verifyAccessToken(token);
     long expiredAccessTokenTime = claim.getExp().getTime() - new Date().getTime();
-    redisService.setValues(jwtConfig.getBlackListPrefix() + token, claim.getEmail(), Duration.ofMillis(expiredAccessTokenTime));
+    accessTokenBlacklist.add(token, claim.getEmail(), Duration.ofMillis(expiredAccessTokenTime));
+    verifiedTokenCache.evict(token);
     redisService.deleteValues(claim.getEmail());
   }
 
   public AccessClaim verifyAccessToken(String token) {
-    String expiredAt = redisService.getValues(jwtConfig.getBlackListPrefix() + token);
-    if (expiredAt != null) throw new AuthErrorException(BLACKLIST_TOKEN_REQUEST);
-    return accessJwt.verifyAccessToken(token);
+    if (accessTokenBlacklist.isBlacklisted(token)) throw new AuthErrorException(BLACKLIST_TOKEN_REQUEST);
+    return verifiedTokenCache.get(token, () -> accessJwt.verifyAccessToken(token));
   }
 }
@@ -1,13 +1,43 @@
 package com.prgrms.artzip.common.util;
 
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class RedisService {
+  private static final RedisScript<Long> INCREMENT_SCORE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+      "local updated = 0 "
+          + "for _, key in ipairs(KEYS) do "
+          + "  if redis.call('ZSCORE', key, ARGV[1]) then "
+          + "    redis.call('ZINCRBY', key, ARGV[2], ARGV[1]) "
+          + "    updated = updated + 1 "
+          + "  end "
+          + "end "
+          + "return updated", Long.class);
+  private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+          + "  return redis.call('DEL', KEYS[1]) "
+          + "end "
+          + "return 0", Long.class);
+
   private final RedisTemplate<String, String> redisTemplate;
 
   public RedisService(
@@ -33,4 +63,127 @@ public class RedisService {
   public void deleteValues(String key) {
     redisTemplate.delete(key);
   }
+
+  /**
+   * 키가 없을 때만 저장한다. 여러 서버 중 하나만 작업하도록 하는 잠금으로 사용한다.
+   */
+  public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+    return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, data, duration));
+  }
+
+  /**
+   * 키가 없을 때만 만료 없이 저장한다. 여러 서버가 처음 저장된 값 하나를 함께 쓰도록 할 때 사용한다.
+   */
+  public boolean setValuesIfAbsent(String key, String data) {
+    return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, data));
+  }
+
+  /**
+   * 값이 일치할 때만 삭제한다. 잠금이 만료되어 다른 서버가 잡은 잠금을 지우지 않기 위해 사용한다.
+   */
+  public boolean deleteValuesIfEquals(String key, String data) {
+    Long deleted = redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), data);
+    return Objects.nonNull(deleted) && deleted > 0;
+  }
+
+  public void publish(String channel, String message) {
+    redisTemplate.convertAndSend(channel, message);
+  }
+
+  public boolean hasKey(String key) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+  }
+
+  /**
+   * KEYS 대신 SCAN 으로 패턴에 맞는 키를 나누어 읽어, 키가 많아도 Redis 를 오래 막지 않는다.
+   */
+  public Set<String> scanKeys(String pattern) {
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1_000).build();
+    Set<String> keys = new HashSet<>();
+    redisTemplate.execute((RedisCallback<Void>) connection -> {
+      try (Cursor<byte[]> cursor = connection.scan(options)) {
+        cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+      }
+      return null;
+    });
+    return keys;
+  }
+
+  public void addToSortedSet(String key, String member, double score) {
+    redisTemplate.opsForZSet().add(key, member, score);
+  }
+
+  public void addToSortedSetIfAbsent(String key, String member, double score) {
+    redisTemplate.opsForZSet().addIfAbsent(key, member, score);
+  }
+
+  public void removeFromSortedSet(String key, Object... members) {
+    if (members.length > 0) {
+      redisTemplate.opsForZSet().remove(key, members);
+    }
+  }
+
+  public long incrementScoreIfPresent(List<String> keys, String member, double delta) {
+    Long updated = redisTemplate.execute(INCREMENT_SCORE_IF_PRESENT_SCRIPT, keys, member,
+        String.valueOf(delta));
+    return Objects.isNull(updated) ? 0 : updated;
+  }
+
+  public long getSortedSetSize(String key) {
+    Long size = redisTemplate.opsForZSet().zCard(key);
+    return Objects.isNull(size) ? 0 : size;
+  }
+
+  public Set<String> reverseRangeOfSortedSet(String key, long start, long end) {
+    Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, end);
+    return Objects.isNull(members) ? Collections.emptySet() : members;
+  }
+
+  public Set<String> rangeByScoreOfSortedSet(String key, double min, double max) {
+    Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, min, max);
+    return Objects.isNull(members) ? Collections.emptySet() : members;
+  }
+
+  public String getHashValue(String key, String field) {
+    HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+    return hash.get(key, field);
+  }
+
+  /**
+   * @return fields 와 같은 순서의 값, 없는 field 는 null
+   */
+  public List<String> getHashValues(String key, List<String> fields) {
+    HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+    return hash.multiGet(key, fields);
+  }
+
+  public Map<String, String> getHashEntries(String key) {
+    HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+    return hash.entries(key);
+  }
+
+  public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+    return redisTemplate.execute(script, keys, (Object[]) args);
+  }
+
+  public Set<TypedTuple<String>> rangeWithScoresOfSortedSet(String key) {
+    Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
+    return Objects.isNull(tuples) ? Collections.emptySet() : tuples;
+  }
+
+  /**
+   * 임시 키에 sorted set을 만든 뒤 RENAME으로 교체하여,
+   * 재구성 중에도 조회 측이 비어있는 sorted set을 보지 않도록 한다.
+   */
+  public void replaceSortedSet(String key, Set<TypedTuple<String>> tuples) {
+    if (tuples.isEmpty()) {
+      redisTemplate.delete(key);
+      return;
+    }
+    String temporaryKey = key + "_rebuild";
+    ZSetOperations<String, String> sortedSet = redisTemplate.opsForZSet();
+    redisTemplate.delete(temporaryKey);
+    sortedSet.add(temporaryKey, tuples);
+    redisTemplate.rename(temporaryKey, key);
+  }
 }
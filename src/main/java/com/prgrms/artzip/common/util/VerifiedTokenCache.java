@@ -0,0 +1,112 @@
+package com.prgrms.artzip.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.prgrms.artzip.common.jwt.claims.AccessClaim;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/*
+ * VerifiedTokenCache
+ * - 한 번 서명 검증과 claim 파싱을 마친 access token 의 AccessClaim 을 토큰 만료 시각까지 들고 있어,
+ *   같은 토큰으로 반복되는 요청은 HMAC 검증과 JSON 디코딩을 건너뛴다.
+ * - 키는 토큰 원문 대신 SHA-256 digest 를 쓰고 최대 개수를 두어 메모리 사용량을 제한한다.
+ *   (항목 하나에 digest 와 AccessClaim 을 합쳐 약 0.5KB, MAX_SIZE 기준 약 10MB)
+ * - 항목마다 토큰의 exp 에 만료되도록 Caffeine 의 expireAfter 를 쓰고, 가득 차면 자주 쓰이지 않는 항목부터 내보낸다.
+ * - 블랙리스트 확인은 캐시와 무관하게 매 요청 먼저 하므로, 로그아웃된 토큰이 캐시에 남아 있어도 통과하지 않는다.
+ * - 캐시된 AccessClaim 은 여러 요청이 함께 읽으므로 변경하지 않는다.
+ * */
+@Component
+public class VerifiedTokenCache {
+
+  static final int MAX_SIZE = 20_000;
+
+  private final Cache<String, AccessClaim> claims;
+
+  @Autowired
+  public VerifiedTokenCache() {
+    this(MAX_SIZE, System::currentTimeMillis);
+  }
+
+  /**
+   * @param currentTimeMillis 토큰의 exp 와 비교할 현재 시각, 캐시의 시계로도 쓴다.
+   */
+  VerifiedTokenCache(int maxSize, LongSupplier currentTimeMillis) {
+    this.claims = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .ticker(() -> TimeUnit.MILLISECONDS.toNanos(currentTimeMillis.getAsLong()))
+        .expireAfter(new ExpireAtTokenExp())
+        .build();
+  }
+
+  /**
+   * 검증된 claim 을 반환하고, 없거나 만료 시각이 지났다면 verifier 로 검증해 채운다.
+   *
+   * @param verifier 서명과 만료를 검증한다. 만료된 토큰은 verifier 가 던지는 예외가 그대로 전달된다.
+   */
+  public AccessClaim get(String token, Supplier<AccessClaim> verifier) {
+    String key = digest(token);
+    AccessClaim cached = claims.getIfPresent(key);
+    if (Objects.nonNull(cached)) {
+      return cached;
+    }
+
+    AccessClaim claim = verifier.get();
+    // 만료 시각이 없는 토큰은 저장하지 않는다.
+    if (Objects.nonNull(claim.getExp())) {
+      claims.put(key, claim);
+    }
+    return claim;
+  }
+
+  public void evict(String token) {
+    claims.invalidate(digest(token));
+  }
+
+  long size() {
+    claims.cleanUp();
+    return claims.estimatedSize();
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /*
+   * 캐시의 시계가 밀리초 단위 현재 시각이므로 exp 까지 남은 시간을 나노초로 돌려준다.
+   * 다시 조회하거나 덮어써도 만료 시각은 exp 그대로다.
+   */
+  private static class ExpireAtTokenExp implements Expiry<String, AccessClaim> {
+
+    @Override
+    public long expireAfterCreate(String key, AccessClaim claim, long currentTime) {
+      return Math.max(0, TimeUnit.MILLISECONDS.toNanos(claim.getExp().getTime()) - currentTime);
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, AccessClaim claim, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, claim, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, AccessClaim claim, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
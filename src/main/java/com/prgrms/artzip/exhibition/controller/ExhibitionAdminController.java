@@ -6,7 +6,9 @@ import com.prgrms.artzip.exhibition.dto.request.ExhibitionCreateOrUpdateRequest;
 import com.prgrms.artzip.exhibition.dto.request.ExhibitionSemiUpdateRequest;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionDetailInfoResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionRankingLagResponse;
 import com.prgrms.artzip.exhibition.service.ExhibitionAdminService;
+import com.prgrms.artzip.exhibition.service.ExhibitionRankingService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import java.net.URI;
@@ -38,6 +40,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class ExhibitionAdminController {
 
   private final ExhibitionAdminService exhibitionAdminService;
+  private final ExhibitionRankingService exhibitionRankingService;
 
   @ApiOperation(value = "관리자 전시회 다건 조회", notes = "삭제가 안된 모든 전시회를 조회합니다.")
   @GetMapping
@@ -121,4 +124,27 @@ public class ExhibitionAdminController {
     headers.setLocation(URI.create("/api/v1/admin/exhibitions"));
     return new ResponseEntity<>(headers, HttpStatus.SEE_OTHER);
   }
+
+  @ApiOperation(value = "관리자 전시회 랭킹 재구성", notes = "DB 기준으로 좋아요 순 전시회 랭킹을 재구성합니다.")
+  @PostMapping("/ranking/rebuild")
+  public ResponseEntity<ApiResponse<ExhibitionRankingLagResponse>> rebuildRanking() {
+    exhibitionRankingService.rebuild();
+    return ResponseEntity.ok(ApiResponse
+        .<ExhibitionRankingLagResponse>builder()
+        .message("전시회 랭킹 재구성 완료")
+        .status(HttpStatus.OK.value())
+        .data(exhibitionRankingService.getRankingLag())
+        .build());
+  }
+
+  @ApiOperation(value = "관리자 전시회 랭킹 지연 조회", notes = "좋아요 순 전시회 랭킹이 DB와 얼마나 차이나는지 조회합니다.")
+  @GetMapping("/ranking/lag")
+  public ResponseEntity<ApiResponse<ExhibitionRankingLagResponse>> getRankingLag() {
+    return ResponseEntity.ok(ApiResponse
+        .<ExhibitionRankingLagResponse>builder()
+        .message("전시회 랭킹 지연 조회 완료")
+        .status(HttpStatus.OK.value())
+        .data(exhibitionRankingService.getRankingLag())
+        .build());
+  }
 }
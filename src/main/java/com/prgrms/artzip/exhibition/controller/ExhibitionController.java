@@ -1,9 +1,12 @@
 package com.prgrms.artzip.exhibition.controller;
 
 import com.prgrms.artzip.common.ApiResponse;
+import com.prgrms.artzip.common.CursorResponse;
 import com.prgrms.artzip.common.PageResponse;
 import com.prgrms.artzip.common.entity.CurrentUser;
 import com.prgrms.artzip.exhibition.dto.request.ExhibitionCustomConditionRequest;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionClustersResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionCustomPageResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionDetailInfoResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionLikeResponse;
@@ -11,7 +14,7 @@ import com.prgrms.artzip.exhibition.dto.response.ExhibitionsAroundMeResponse;
 import com.prgrms.artzip.exhibition.service.ExhibitionLikeService;
 import com.prgrms.artzip.exhibition.service.ExhibitionSearchService;
 import com.prgrms.artzip.exhibition.service.ExhibitionService;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -37,7 +40,7 @@ public class ExhibitionController {
 
     @ApiOperation(value = "다가오는 전시회 조회", notes = "다가오는 전시회를 조회합니다.")
     @GetMapping("/upcoming")
-    public ResponseEntity<ApiResponse<PageResponse<ExhibitionInfoResponse>>> getUpcomingExhibitions(@CurrentUser User user, @PageableDefault(page = 0, size = 8) Pageable pageable) {
+    public ResponseEntity<ApiResponse<PageResponse<ExhibitionInfoResponse>>> getUpcomingExhibitions(@CurrentUser UserPrincipal user, @PageableDefault(page = 0, size = 8) Pageable pageable) {
         ApiResponse apiResponse = ApiResponse.builder()
                 .message("다가오는 전시회 조회 성공")
                 .status(HttpStatus.OK.value())
@@ -49,10 +52,28 @@ public class ExhibitionController {
                 .body(apiResponse);
     }
 
+    @ApiOperation(value = "다가오는 전시회 커서 조회", notes = "다가오는 전시회를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/upcoming/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ExhibitionInfoResponse>>> getUpcomingExhibitionsByCursor(
+            @CurrentUser UserPrincipal user,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "8") int size
+    ) {
+        ApiResponse apiResponse = ApiResponse.builder()
+                .message("다가오는 전시회 조회 성공")
+                .status(HttpStatus.OK.value())
+                .data(exhibitionService.getUpcomingExhibitionsByCursor(isNull(user) ? null : user.getId(), cursor, size))
+                .build();
+
+        return ResponseEntity
+                .ok()
+                .body(apiResponse);
+    }
+
     @ApiOperation(value = "인기 많은 전시회 조회", notes = "인기 많은 전시회를 조회합니다.")
     @GetMapping("/mostlike")
     public ResponseEntity<ApiResponse<PageResponse<ExhibitionInfoResponse>>> getMostLikeExhibitions(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @RequestParam(value = "include-end", required = false, defaultValue = "true") boolean includeEnd,
             @PageableDefault(page = 0, size = 8) Pageable pageable
     ) {
@@ -67,9 +88,28 @@ public class ExhibitionController {
                 .body(apiResponse);
     }
 
+    @ApiOperation(value = "인기 많은 전시회 커서 조회", notes = "인기 많은 전시회를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/mostlike/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ExhibitionInfoResponse>>> getMostLikeExhibitionsByCursor(
+            @CurrentUser UserPrincipal user,
+            @RequestParam(value = "include-end", required = false, defaultValue = "true") boolean includeEnd,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "8") int size
+    ) {
+        ApiResponse apiResponse = ApiResponse.builder()
+                .message("인기 많은 전시회 조회 성공")
+                .status(HttpStatus.OK.value())
+                .data(exhibitionService.getMostLikeExhibitionsByCursor(isNull(user) ? null : user.getId(), includeEnd, cursor, size))
+                .build();
+
+        return ResponseEntity
+                .ok()
+                .body(apiResponse);
+    }
+
     @ApiOperation(value = "전시회 상세 조회", notes = "전시회를 조회합니다.")
     @GetMapping("/{exhibitionId}")
-    public ResponseEntity<ApiResponse<ExhibitionDetailInfoResponse>> getExhibition(@CurrentUser User user, @PathVariable Long exhibitionId) {
+    public ResponseEntity<ApiResponse<ExhibitionDetailInfoResponse>> getExhibition(@CurrentUser UserPrincipal user, @PathVariable Long exhibitionId) {
         ApiResponse apiResponse = ApiResponse.builder()
                 .message("전시회 조회 성공")
                 .status(HttpStatus.OK.value())
@@ -83,7 +123,7 @@ public class ExhibitionController {
 
     @ApiOperation(value = "전시회 좋아요 수정", notes = "전시회에 대한 좋아요를 추가 또는 삭제합니다.")
     @PatchMapping("/{exhibitionId}/likes")
-    public ResponseEntity<ApiResponse<ExhibitionLikeResponse>> updateExhibitionLike(@CurrentUser User user, @PathVariable Long exhibitionId) {
+    public ResponseEntity<ApiResponse<ExhibitionLikeResponse>> updateExhibitionLike(@CurrentUser UserPrincipal user, @PathVariable Long exhibitionId) {
         ApiResponse apiResponse = ApiResponse.builder()
                 .message("전시회 좋아요 수정 성공")
                 .status(HttpStatus.OK.value())
@@ -95,10 +135,38 @@ public class ExhibitionController {
                 .body(apiResponse);
     }
 
+    @ApiOperation(value = "전시회 좋아요 등록", notes = "전시회에 좋아요를 등록합니다. 이미 좋아요한 전시회라면 그대로 둡니다.")
+    @PutMapping("/{exhibitionId}/likes")
+    public ResponseEntity<ApiResponse<ExhibitionLikeResponse>> likeExhibition(@CurrentUser UserPrincipal user, @PathVariable Long exhibitionId) {
+        ApiResponse apiResponse = ApiResponse.builder()
+                .message("전시회 좋아요 등록 성공")
+                .status(HttpStatus.OK.value())
+                .data(exhibitionLikeService.setExhibitionLike(user, exhibitionId, true))
+                .build();
+
+        return ResponseEntity
+                .ok()
+                .body(apiResponse);
+    }
+
+    @ApiOperation(value = "전시회 좋아요 해제", notes = "전시회 좋아요를 해제합니다. 좋아요하지 않은 전시회라면 그대로 둡니다.")
+    @DeleteMapping("/{exhibitionId}/likes")
+    public ResponseEntity<ApiResponse<ExhibitionLikeResponse>> unlikeExhibition(@CurrentUser UserPrincipal user, @PathVariable Long exhibitionId) {
+        ApiResponse apiResponse = ApiResponse.builder()
+                .message("전시회 좋아요 해제 성공")
+                .status(HttpStatus.OK.value())
+                .data(exhibitionLikeService.setExhibitionLike(user, exhibitionId, false))
+                .build();
+
+        return ResponseEntity
+                .ok()
+                .body(apiResponse);
+    }
+
     @ApiOperation(value = "전시회 검색", notes = "전시회를 이름으로 검색합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<ExhibitionInfoResponse>>> getExhibitionByQuery(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             String query,
             @RequestParam(value = "include-end", required = false, defaultValue = "true") boolean includeEnd,
             @PageableDefault(page = 0, size = 8) Pageable pageable
@@ -114,10 +182,10 @@ public class ExhibitionController {
                 .body(apiResponse);
     }
 
-    @ApiOperation(value = "맞춤 전시회 조회", notes = "위치와 시기에 맞는 전시회들을 조회합니다.")
+    @ApiOperation(value = "맞춤 전시회 조회", notes = "위치와 시기에 맞는 전시회들과 지역/시기/장르별 전시회 수를 조회합니다.")
     @GetMapping("/custom")
-    public ResponseEntity<ApiResponse<PageResponse<ExhibitionInfoResponse>>> getExhibitionsByCustomCondition(
-            @CurrentUser User user,
+    public ResponseEntity<ApiResponse<ExhibitionCustomPageResponse>> getExhibitionsByCustomCondition(
+            @CurrentUser UserPrincipal user,
             @ModelAttribute @Valid ExhibitionCustomConditionRequest exhibitionCustomConditionRequest,
             @RequestParam(value = "include-end", required = false, defaultValue = "true") boolean includeEnd,
             @PageableDefault(page = 0, size = 8) Pageable pageable
@@ -125,7 +193,7 @@ public class ExhibitionController {
         ApiResponse apiResponse = ApiResponse.builder()
                 .message("맞춤 전시회 조회 성공")
                 .status(HttpStatus.OK.value())
-                .data(new PageResponse(exhibitionSearchService.getExhibitionsByCustomCondition(isNull(user) ? null : user.getId(), exhibitionCustomConditionRequest, includeEnd, pageable)))
+                .data(exhibitionSearchService.getExhibitionsByCustomCondition(isNull(user) ? null : user.getId(), exhibitionCustomConditionRequest, includeEnd, pageable))
                 .build();
 
         return ResponseEntity
@@ -136,7 +204,7 @@ public class ExhibitionController {
     @ApiOperation(value = "내 주변 전시회 조회", notes = "내 주변에 있는 전시회를 조회합니다.")
     @GetMapping("/aroundme")
     public ResponseEntity<ApiResponse<ExhibitionsAroundMeResponse>> getExhibitionsAroundMe(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @RequestParam(value = "lat", required = false, defaultValue = "37.492001") double latitude,
             @RequestParam(value = "lng", required = false, defaultValue = "127.029704") double longitude,
             @RequestParam(value = "dist", required = false, defaultValue = "3") double distance
@@ -151,4 +219,26 @@ public class ExhibitionController {
                 .ok()
                 .body(apiResponse);
     }
+
+    @ApiOperation(value = "지도 영역 전시회 클러스터 조회", notes = "지도 영역(남서/북동 좌표)과 줌 레벨로 전시회 클러스터를 조회합니다. 줌 레벨이 15를 넘으면 클러스터 대신 영역 안의 전시회를 반환합니다.")
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<ExhibitionClustersResponse>> getExhibitionClusters(
+            @CurrentUser UserPrincipal user,
+            @RequestParam(value = "sw-lat") double swLatitude,
+            @RequestParam(value = "sw-lng") double swLongitude,
+            @RequestParam(value = "ne-lat") double neLatitude,
+            @RequestParam(value = "ne-lng") double neLongitude,
+            @RequestParam(value = "zoom") int zoom,
+            @RequestParam(value = "top", required = false, defaultValue = "3") int top
+    ) {
+        ApiResponse apiResponse = ApiResponse.builder()
+                .message("전시회 클러스터 조회 성공")
+                .status(HttpStatus.OK.value())
+                .data(exhibitionService.getExhibitionClusters(isNull(user) ? null : user.getId(), swLatitude, swLongitude, neLatitude, neLongitude, zoom, top))
+                .build();
+
+        return ResponseEntity
+                .ok()
+                .body(apiResponse);
+    }
 }
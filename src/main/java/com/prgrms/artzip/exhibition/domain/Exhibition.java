@@ -14,6 +14,7 @@ import com.prgrms.artzip.review.domain.Review;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -32,6 +33,7 @@ import static org.springframework.util.StringUtils.hasText;
 
 @Entity
 @Table(name = "exhibition")
+@DynamicUpdate
 @NoArgsConstructor(access = PROTECTED)
 @Getter
 public class Exhibition extends BaseEntity {
@@ -84,6 +86,13 @@ public class Exhibition extends BaseEntity {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted;
 
+    // 좋아요/공개 후기 수는 엔티티를 통하지 않고 ExhibitionRepository의 원자적 UPDATE로만 변경된다.
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "public_review_count", nullable = false)
+    private Long publicReviewCount;
+
     @Builder
     public Exhibition(Integer seq, String name, LocalDate startDate, LocalDate endDate, Genre genre, String description, Double latitude, Double longitude, Area area, String place, String address, String inquiry, String fee, String thumbnail, String url, String placeUrl) {
         this.seq = seq;
@@ -98,6 +107,8 @@ public class Exhibition extends BaseEntity {
         setUrl(url);
         setPlaceUrl(placeUrl);
         this.isDeleted = false;
+        this.likeCount = 0L;
+        this.publicReviewCount = 0L;
     }
 
     public void update(ExhibitionCreateOrUpdateRequest updateRequest) {
@@ -0,0 +1,25 @@
+package com.prgrms.artzip.exhibition.dto;
+
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionDetailForSimpleQuery;
+import com.prgrms.artzip.review.dto.response.ReviewsResponseForExhibitionDetail;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * 전시회 상세 캐시 값
+ * - 사용자와 무관한 전시회 정보와 좋아요 많은 공개 후기 4개, isLiked 는 조회 시 사용자별로 덧씌운다.
+ * - 좋아요가 바뀌어도 무효화하지 않으므로 전시회의 likeCount 는 쓰지 않고 조회 시 LikeCounterRegistry 값으로 덧씌운다.
+ * - Redis 에 JSON 으로 저장하므로 기본 생성자가 필요
+ * */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExhibitionDetailSnapshot {
+
+    private ExhibitionDetailForSimpleQuery exhibition;
+
+    private List<ReviewsResponseForExhibitionDetail> reviews;
+}
@@ -0,0 +1,12 @@
+package com.prgrms.artzip.exhibition.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ExhibitionDistance {
+
+    private final Long exhibitionId;
+    private final double distance; // km
+}
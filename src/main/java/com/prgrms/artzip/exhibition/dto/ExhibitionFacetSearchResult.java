@@ -0,0 +1,22 @@
+package com.prgrms.artzip.exhibition.dto;
+
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionFacetsResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/*
+ * 맞춤 조건 인덱스 조회 결과
+ * - exhibitionIds : 요청한 페이지의 전시회 id, 시작일 오름차순, id 오름차순
+ * */
+@Getter
+@RequiredArgsConstructor
+public class ExhibitionFacetSearchResult {
+
+    private final List<Long> exhibitionIds;
+
+    private final long total;
+
+    private final ExhibitionFacetsResponse facets;
+}
@@ -0,0 +1,21 @@
+package com.prgrms.artzip.exhibition.dto.projection;
+
+import com.prgrms.artzip.exhibition.domain.enumType.Area;
+import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExhibitionFacetForSimpleQuery {
+
+  private Long id;
+  private Area area;
+  private Genre genre;
+  private LocalDate startDate;
+  private LocalDate endDate;
+
+}
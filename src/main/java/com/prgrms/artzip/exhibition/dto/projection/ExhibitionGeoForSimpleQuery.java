@@ -0,0 +1,19 @@
+package com.prgrms.artzip.exhibition.dto.projection;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExhibitionGeoForSimpleQuery {
+
+  private Long id;
+  private double latitude;
+  private double longitude;
+  private LocalDate endDate;
+  private long likeCount;
+
+}
@@ -0,0 +1,15 @@
+package com.prgrms.artzip.exhibition.dto.projection;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ExhibitionRankingForSimpleQuery {
+
+  private Long id;
+  private long likeCount;
+  private LocalDate endDate;
+
+}
@@ -0,0 +1,19 @@
+package com.prgrms.artzip.exhibition.dto.projection;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Getter
+@NoArgsConstructor
+@SuperBuilder
+public class ExhibitionSearchForSimpleQuery extends ExhibitionBasicForSimpleQuery {
+
+  private String place;
+  private String address;
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private long likeCount;
+
+}
@@ -1,28 +1,24 @@
 package com.prgrms.artzip.exhibition.dto.response;
 
-import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionWithLocationForSimpleQuery;
 import lombok.Getter;
 
+import static java.util.Objects.isNull;
+
 @Getter
 public class ExhibitionAroundMeInfoResponse extends ExhibitionInfoResponse {
     private String placeAddr;
     private Double lat;
     private Double lng;
+    private Double distance; // km
 
-    public ExhibitionAroundMeInfoResponse(ExhibitionWithLocationForSimpleQuery exhibitionWithLocationForSimpleQuery) {
-        super(ExhibitionForSimpleQuery.builder()
-                .id(exhibitionWithLocationForSimpleQuery.getId())
-                .name(exhibitionWithLocationForSimpleQuery.getName())
-                .thumbnail(exhibitionWithLocationForSimpleQuery.getThumbnail())
-                .isLiked(exhibitionWithLocationForSimpleQuery.getIsLiked())
-                .period(exhibitionWithLocationForSimpleQuery.getPeriod())
-                .likeCount(exhibitionWithLocationForSimpleQuery.getLikeCount())
-                .reviewCount(exhibitionWithLocationForSimpleQuery.getReviewCount())
-                .build());
+    public ExhibitionAroundMeInfoResponse(ExhibitionWithLocationForSimpleQuery exhibitionWithLocationForSimpleQuery, Double distance,
+                                          boolean isLiked, long likeCount) {
+        super(exhibitionWithLocationForSimpleQuery, isLiked, likeCount);
 
         this.placeAddr = exhibitionWithLocationForSimpleQuery.getLocation().getAddress();
         this.lat = exhibitionWithLocationForSimpleQuery.getLocation().getLatitude();
         this.lng = exhibitionWithLocationForSimpleQuery.getLocation().getLongitude();
+        this.distance = isNull(distance) ? null : Math.round(distance * 1000) / 1000d;
     }
 }
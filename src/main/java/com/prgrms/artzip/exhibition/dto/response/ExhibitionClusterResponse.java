@@ -0,0 +1,22 @@
+package com.prgrms.artzip.exhibition.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ExhibitionClusterResponse {
+    private Double lat;
+    private Double lng;
+    private long count;
+    private List<Long> exhibitionIds; // 좋아요 수 상위 전시회 ID
+
+    @Builder
+    public ExhibitionClusterResponse(Double lat, Double lng, long count, List<Long> exhibitionIds) {
+        this.lat = lat;
+        this.lng = lng;
+        this.count = count;
+        this.exhibitionIds = exhibitionIds;
+    }
+}
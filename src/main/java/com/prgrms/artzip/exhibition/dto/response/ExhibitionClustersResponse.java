@@ -0,0 +1,27 @@
+package com.prgrms.artzip.exhibition.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Getter
+@JsonInclude(NON_NULL)
+public class ExhibitionClustersResponse {
+    private int zoom;
+    private Boolean isLeaf;
+    private List<ExhibitionClusterResponse> clusters; // isLeaf == false 인 경우
+    private List<ExhibitionAroundMeInfoResponse> exhibitions; // isLeaf == true 인 경우
+
+    @Builder
+    public ExhibitionClustersResponse(int zoom, Boolean isLeaf, List<ExhibitionClusterResponse> clusters,
+                                      List<ExhibitionAroundMeInfoResponse> exhibitions) {
+        this.zoom = zoom;
+        this.isLeaf = isLeaf;
+        this.clusters = clusters;
+        this.exhibitions = exhibitions;
+    }
+}
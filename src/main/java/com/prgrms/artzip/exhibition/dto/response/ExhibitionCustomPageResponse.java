@@ -0,0 +1,19 @@
+package com.prgrms.artzip.exhibition.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.prgrms.artzip.common.PageResponse;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Getter
+@JsonInclude(NON_NULL)
+public class ExhibitionCustomPageResponse extends PageResponse<ExhibitionInfoResponse> {
+    private ExhibitionFacetsResponse facets; // 맞춤 조건 인덱스가 준비되지 않은 경우 null
+
+    public ExhibitionCustomPageResponse(Page<ExhibitionInfoResponse> page, ExhibitionFacetsResponse facets) {
+        super(page);
+        this.facets = facets;
+    }
+}
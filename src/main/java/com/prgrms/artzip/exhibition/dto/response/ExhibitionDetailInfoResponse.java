@@ -27,7 +27,11 @@ public class ExhibitionDetailInfoResponse extends ExhibitionBasicInfoResponse {
     private Boolean isLiked;
     private List<ReviewsResponseForExhibitionDetail> reviews;
 
-    public ExhibitionDetailInfoResponse(ExhibitionDetailForSimpleQuery exhibitionDetailForSimpleQuery, List<ReviewsResponseForExhibitionDetail> reviews) {
+    public ExhibitionDetailInfoResponse(ExhibitionDetailForSimpleQuery exhibitionDetailForSimpleQuery, boolean isLiked, List<ReviewsResponseForExhibitionDetail> reviews) {
+        this(exhibitionDetailForSimpleQuery, isLiked, exhibitionDetailForSimpleQuery.getLikeCount(), reviews);
+    }
+
+    public ExhibitionDetailInfoResponse(ExhibitionDetailForSimpleQuery exhibitionDetailForSimpleQuery, boolean isLiked, long likeCount, List<ReviewsResponseForExhibitionDetail> reviews) {
         super(exhibitionDetailForSimpleQuery.getId(), exhibitionDetailForSimpleQuery.getName(), exhibitionDetailForSimpleQuery.getThumbnail());
         this.startDate = exhibitionDetailForSimpleQuery.getPeriod().getStartDate();
         this.endDate = exhibitionDetailForSimpleQuery.getPeriod().getEndDate();
@@ -37,12 +41,12 @@ public class ExhibitionDetailInfoResponse extends ExhibitionBasicInfoResponse {
         this.inquiry = exhibitionDetailForSimpleQuery.getInquiry();
         this.genre = exhibitionDetailForSimpleQuery.getGenre();
         this.description = exhibitionDetailForSimpleQuery.getDescription();
-        this.likeCount = exhibitionDetailForSimpleQuery.getLikeCount();
+        this.likeCount = likeCount;
         this.reviewCount = exhibitionDetailForSimpleQuery.getReviewCount();
         this.placeAddress = exhibitionDetailForSimpleQuery.getLocation().getAddress();
         this.lat = exhibitionDetailForSimpleQuery.getLocation().getLatitude();
         this.lng = exhibitionDetailForSimpleQuery.getLocation().getLongitude();
-        this.isLiked = exhibitionDetailForSimpleQuery.getIsLiked();
+        this.isLiked = isLiked;
         this.reviews = reviews;
     }
 }
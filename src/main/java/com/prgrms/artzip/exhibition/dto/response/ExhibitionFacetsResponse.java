@@ -0,0 +1,27 @@
+package com.prgrms.artzip.exhibition.dto.response;
+
+import com.prgrms.artzip.exhibition.domain.enumType.Area;
+import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.exhibition.domain.enumType.Month;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/*
+ * 맞춤 전시회 조회의 조건별 전시회 수
+ * - 각 항목의 수는 나머지 두 조건을 그대로 둔 채 해당 값만 선택했을 때의 전시회 수
+ * */
+@Getter
+public class ExhibitionFacetsResponse {
+    private Map<Area, Long> areas;
+    private Map<Month, Long> months;
+    private Map<Genre, Long> genres;
+
+    @Builder
+    public ExhibitionFacetsResponse(Map<Area, Long> areas, Map<Month, Long> months, Map<Genre, Long> genres) {
+        this.areas = areas;
+        this.months = months;
+        this.genres = genres;
+    }
+}
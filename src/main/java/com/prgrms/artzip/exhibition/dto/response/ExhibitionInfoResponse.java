@@ -13,12 +13,16 @@ public class ExhibitionInfoResponse extends ExhibitionBasicInfoResponse {
     private long likeCount;
     private long reviewCount;
 
-    public ExhibitionInfoResponse(ExhibitionForSimpleQuery exhibitionForSimpleQuery) {
+    public ExhibitionInfoResponse(ExhibitionForSimpleQuery exhibitionForSimpleQuery, boolean isLiked) {
+        this(exhibitionForSimpleQuery, isLiked, exhibitionForSimpleQuery.getLikeCount());
+    }
+
+    public ExhibitionInfoResponse(ExhibitionForSimpleQuery exhibitionForSimpleQuery, boolean isLiked, long likeCount) {
         super(exhibitionForSimpleQuery.getId(), exhibitionForSimpleQuery.getName(), exhibitionForSimpleQuery.getThumbnail());
         this.startDate = exhibitionForSimpleQuery.getPeriod().getStartDate();
         this.endDate = exhibitionForSimpleQuery.getPeriod().getEndDate();
-        this.isLiked = exhibitionForSimpleQuery.getIsLiked();
-        this.likeCount = exhibitionForSimpleQuery.getLikeCount();
+        this.isLiked = isLiked;
+        this.likeCount = likeCount;
         this.reviewCount = exhibitionForSimpleQuery.getReviewCount();
     }
 }
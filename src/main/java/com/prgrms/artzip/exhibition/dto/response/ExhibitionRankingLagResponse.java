@@ -0,0 +1,28 @@
+package com.prgrms.artzip.exhibition.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class ExhibitionRankingLagResponse {
+    private long expectedCount;
+    private long rankedCount;
+    private long missingCount;
+    private long mismatchedCount;
+    private long maxLikeCountDiff;
+    private Long secondsSinceRebuild;
+
+    @Builder
+    public ExhibitionRankingLagResponse(long expectedCount, long rankedCount, long missingCount, long mismatchedCount, long maxLikeCountDiff, Long secondsSinceRebuild) {
+        this.expectedCount = expectedCount;
+        this.rankedCount = rankedCount;
+        this.missingCount = missingCount;
+        this.mismatchedCount = mismatchedCount;
+        this.maxLikeCountDiff = maxLikeCountDiff;
+        this.secondsSinceRebuild = secondsSinceRebuild;
+    }
+
+    public boolean isLagging() {
+        return missingCount > 0 || mismatchedCount > 0 || rankedCount != expectedCount;
+    }
+}
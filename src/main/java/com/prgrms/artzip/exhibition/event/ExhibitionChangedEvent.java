@@ -0,0 +1,16 @@
+package com.prgrms.artzip.exhibition.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * ExhibitionChangedEvent
+ * - 관리자에 의해 전시회가 생성/수정/삭제되었을 때 발행
+ * - 전시회 기반의 인메모리 인덱스, 랭킹 등은 커밋 이후 이 이벤트를 받아 갱신
+ * */
+@Getter
+@RequiredArgsConstructor
+public class ExhibitionChangedEvent {
+
+    private final Long exhibitionId;
+}
@@ -0,0 +1,23 @@
+package com.prgrms.artzip.exhibition.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * ExhibitionLikeChangedEvent
+ * - 전시회 좋아요가 추가/취소되었을 때 발행
+ * */
+@Getter
+@RequiredArgsConstructor
+public class ExhibitionLikeChangedEvent {
+
+    private final Long exhibitionId;
+
+    private final Long userId;
+
+    private final boolean isLiked;
+
+    public long getLikeCountDelta() {
+        return isLiked ? 1 : -1;
+    }
+}
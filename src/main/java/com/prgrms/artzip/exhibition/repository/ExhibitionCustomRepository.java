@@ -1,40 +1,63 @@
 package com.prgrms.artzip.exhibition.repository;
 
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.exhibition.dto.ExhibitionCustomCondition;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionBasicForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionDetailForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionFacetForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionGeoForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionRankingForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionWithLocationForSimpleQuery;
 import com.prgrms.artzip.review.dto.projection.ReviewExhibitionInfo;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ExhibitionCustomRepository {
 
-  Page<ExhibitionForSimpleQuery> findUpcomingExhibitions(Long userId, Pageable pageable);
+  Page<ExhibitionForSimpleQuery> findUpcomingExhibitions(Pageable pageable);
 
-  Page<ExhibitionForSimpleQuery> findMostLikeExhibitions(Long userId, boolean includeEnd,
-      Pageable pageable);
+  Slice<ExhibitionForSimpleQuery> findUpcomingExhibitionsByCursor(Cursor cursor, int size);
+
+  Page<ExhibitionForSimpleQuery> findMostLikeExhibitions(boolean includeEnd, Pageable pageable);
+
+  Slice<ExhibitionForSimpleQuery> findMostLikeExhibitionsByCursor(boolean includeEnd,
+      Cursor cursor, int size);
 
-  Optional<ExhibitionDetailForSimpleQuery> findExhibition(Long userId, Long exhibitionId);
+  Optional<ExhibitionDetailForSimpleQuery> findExhibition(Long exhibitionId);
 
-  Page<ExhibitionForSimpleQuery> findExhibitionsByQuery(Long userId, String query,
-      boolean includeEnd, Pageable pageable);
+  Page<ExhibitionForSimpleQuery> findExhibitionsByQuery(String query, boolean includeEnd,
+      Pageable pageable);
 
   List<ExhibitionBasicForSimpleQuery> findExhibitionsForReview(String query);
 
-  Page<ExhibitionForSimpleQuery> findUserLikeExhibitions(Long userId,
-      Long exhibitionLikeUserId, Pageable pageable);
+  Page<ExhibitionForSimpleQuery> findUserLikeExhibitions(Long exhibitionLikeUserId,
+      Pageable pageable);
 
-  Page<ExhibitionForSimpleQuery> findExhibitionsByCustomCondition(Long userId,
+  Page<ExhibitionForSimpleQuery> findExhibitionsByCustomCondition(
       ExhibitionCustomCondition exhibitionCustomCondition, Pageable pageable);
 
-  List<ExhibitionWithLocationForSimpleQuery> findExhibitionsAroundMe(Long userId, double latitude,
+  List<ExhibitionWithLocationForSimpleQuery> findExhibitionsAroundMe(double latitude,
       double longitude, double distance);
 
+  List<ExhibitionWithLocationForSimpleQuery> findExhibitionsWithLocationByIds(
+      List<Long> exhibitionIds);
+
+  List<ExhibitionGeoForSimpleQuery> findExhibitionsForGeoIndex();
+
+  List<ExhibitionSearchForSimpleQuery> findExhibitionsForSearchIndex();
+
+  List<ExhibitionFacetForSimpleQuery> findExhibitionsForFacetIndex();
+
   Optional<ReviewExhibitionInfo> findExhibitionForReview(Long userId, Long exhibitionId);
 
   Page<ExhibitionForSimpleQuery> findExhibitionsByAdmin(Pageable pageable);
+
+  List<ExhibitionForSimpleQuery> findExhibitionsByIds(List<Long> exhibitionIds);
+
+  List<ExhibitionRankingForSimpleQuery> findExhibitionsForRanking();
 }
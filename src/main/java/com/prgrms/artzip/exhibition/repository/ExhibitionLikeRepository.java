@@ -5,7 +5,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
 
 public interface ExhibitionLikeRepository extends JpaRepository<ExhibitionLike, Long> {
 
@@ -18,4 +24,18 @@ public interface ExhibitionLikeRepository extends JpaRepository<ExhibitionLike,
     @Query("SELECT EL from ExhibitionLike EL WHERE EL.user.id = :userId and EL.exhibition.id = :exhibitionId")
     Optional<ExhibitionLike> findByUserIdAndExhibitionId(@Param("userId") Long userId,
                                                          @Param("exhibitionId") Long exhibitionId);
+
+    @Query("SELECT EL.exhibition.id from ExhibitionLike EL WHERE EL.user.id = :userId and EL.exhibition.id in :exhibitionIds")
+    List<Long> findExhibitionIdsByUserIdAndExhibitionIds(@Param("userId") Long userId,
+                                                         @Param("exhibitionIds") Collection<Long> exhibitionIds);
+
+    /**
+     * 전시회 목록에 덧씌울 isLiked 조회. 비로그인 사용자이거나 목록이 비어있다면 조회하지 않는다.
+     */
+    default Set<Long> findLikedExhibitionIds(Long userId, Collection<Long> exhibitionIds) {
+        if (isNull(userId) || exhibitionIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(findExhibitionIdsByUserIdAndExhibitionIds(userId, exhibitionIds));
+    }
 }
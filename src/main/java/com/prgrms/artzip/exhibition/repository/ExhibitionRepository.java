@@ -1,9 +1,32 @@
 package com.prgrms.artzip.exhibition.repository;
 
 import com.prgrms.artzip.exhibition.domain.Exhibition;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ExhibitionRepository extends JpaRepository<Exhibition, Long>,
     ExhibitionCustomRepository {
 
+    @Query("SELECT e.likeCount FROM Exhibition e WHERE e.id = :exhibitionId AND e.isDeleted = false")
+    Optional<Long> findActiveLikeCountById(@Param("exhibitionId") Long exhibitionId);
+
+    @Modifying
+    @Query("UPDATE Exhibition e SET e.likeCount = e.likeCount + :delta WHERE e.id = :exhibitionId")
+    int updateLikeCount(@Param("exhibitionId") Long exhibitionId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Exhibition e SET e.publicReviewCount = e.publicReviewCount + :delta WHERE e.id = :exhibitionId")
+    int updatePublicReviewCount(@Param("exhibitionId") Long exhibitionId, @Param("delta") long delta);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE exhibition e "
+            + "SET like_count = (SELECT COUNT(*) FROM exhibition_like el WHERE el.exhibition_id = e.exhibition_id), "
+            + "public_review_count = (SELECT COUNT(*) FROM review r WHERE r.exhibition_id = e.exhibition_id AND r.is_deleted = false AND r.is_public = true) "
+            + "WHERE e.like_count <> (SELECT COUNT(*) FROM exhibition_like el WHERE el.exhibition_id = e.exhibition_id) "
+            + "OR e.public_review_count <> (SELECT COUNT(*) FROM review r WHERE r.exhibition_id = e.exhibition_id AND r.is_deleted = false AND r.is_public = true)",
+            nativeQuery = true)
+    int reconcileLikeAndReviewCounts();
 }
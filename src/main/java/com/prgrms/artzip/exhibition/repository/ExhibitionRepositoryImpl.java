@@ -1,5 +1,6 @@
 package com.prgrms.artzip.exhibition.repository;
 
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.exhibition.domain.QExhibitionLike;
 import com.prgrms.artzip.exhibition.domain.enumType.Area;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
@@ -7,7 +8,11 @@ import com.prgrms.artzip.exhibition.domain.enumType.Month;
 import com.prgrms.artzip.exhibition.dto.ExhibitionCustomCondition;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionBasicForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionDetailForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionFacetForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionGeoForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionRankingForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionWithLocationForSimpleQuery;
 import com.prgrms.artzip.review.dto.projection.ReviewExhibitionInfo;
 import com.querydsl.core.BooleanBuilder;
@@ -24,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDate;
@@ -34,9 +40,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.prgrms.artzip.exhibition.domain.QExhibition.exhibition;
-import static com.prgrms.artzip.exhibition.domain.QExhibitionLike.exhibitionLike;
 import static com.prgrms.artzip.exhibition.repository.ExhibitionSortType.*;
-import static com.prgrms.artzip.review.domain.QReview.review;
 import static com.querydsl.core.types.dsl.MathExpressions.*;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -48,33 +52,50 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
 
     private final JPAQueryFactory queryFactory;
     private final QExhibitionLike exhibitionLikeForIsLiked = new QExhibitionLike("exhibitionLikeForIsLiked");
-    private final QExhibitionLike exhibitionLikeForLikeCount = new QExhibitionLike("exhibitionLikeForLikeCount");
     private final QExhibitionLike exhibitionLikeForExhibitionLikeUser = new QExhibitionLike("exhibitionLikeForExhibitionLikeUser");
 
     @Override
-    public Page<ExhibitionForSimpleQuery> findUpcomingExhibitions(Long userId, Pageable pageable) {
+    public Page<ExhibitionForSimpleQuery> findUpcomingExhibitions(Pageable pageable) {
         BooleanBuilder upcomingCondition = getUpcomingCondition();
         List<OrderSpecifier> orders = List.of(START_DATE.getOrderSpecifier(Order.ASC), END_DATE.getOrderSpecifier(Order.ASC), EXHIBITION_ID.getOrderSpecifier(Order.ASC));
 
-        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(userId, upcomingCondition, orders, pageable);
+        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(upcomingCondition, orders, pageable);
         JPAQuery<Long> countQuery = getExhibitionCountQuery(upcomingCondition);
 
         return PageableExecutionUtils.getPage(exhibitions, pageable, countQuery::fetchOne);
     }
 
     @Override
-    public Page<ExhibitionForSimpleQuery> findMostLikeExhibitions(Long userId, boolean includeEnd, Pageable pageable) {
+    public Slice<ExhibitionForSimpleQuery> findUpcomingExhibitionsByCursor(Cursor cursor, int size) {
+        BooleanBuilder upcomingCondition = getUpcomingCondition()
+                .and(upcomingCursorCondition(cursor));
+        List<OrderSpecifier> orders = List.of(START_DATE.getOrderSpecifier(Order.ASC), END_DATE.getOrderSpecifier(Order.ASC), EXHIBITION_ID.getOrderSpecifier(Order.ASC));
+
+        return Cursor.toSlice(findExhibitions(upcomingCondition, orders, size), size);
+    }
+
+    @Override
+    public Page<ExhibitionForSimpleQuery> findMostLikeExhibitions(boolean includeEnd, Pageable pageable) {
         BooleanBuilder mostLikeCondition = getMostLikeCondition(includeEnd);
         List<OrderSpecifier> orders = List.of(LIKE_COUNT.getOrderSpecifier(Order.DESC), EXHIBITION_ID.getOrderSpecifier(Order.ASC));
 
-        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(userId, mostLikeCondition, orders, pageable);
+        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(mostLikeCondition, orders, pageable);
         JPAQuery<Long> countQuery = getExhibitionCountQuery(mostLikeCondition);
 
         return PageableExecutionUtils.getPage(exhibitions, pageable, countQuery::fetchOne);
     }
 
     @Override
-    public Optional<ExhibitionDetailForSimpleQuery> findExhibition(Long userId, Long exhibitionId) {
+    public Slice<ExhibitionForSimpleQuery> findMostLikeExhibitionsByCursor(boolean includeEnd, Cursor cursor, int size) {
+        BooleanBuilder mostLikeCondition = getMostLikeCondition(includeEnd)
+                .and(mostLikeCursorCondition(cursor));
+        List<OrderSpecifier> orders = List.of(LIKE_COUNT.getOrderSpecifier(Order.DESC), EXHIBITION_ID.getOrderSpecifier(Order.ASC));
+
+        return Cursor.toSlice(findExhibitions(mostLikeCondition, orders, size), size);
+    }
+
+    @Override
+    public Optional<ExhibitionDetailForSimpleQuery> findExhibition(Long exhibitionId) {
         return Optional.ofNullable(queryFactory
                 .select(Projections.fields(ExhibitionDetailForSimpleQuery.class,
                                 exhibition.id,
@@ -89,38 +110,24 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
                                 exhibition.thumbnail,
                                 exhibition.url,
                                 exhibition.placeUrl,
-                                new CaseBuilder()
-                                        .when(exhibitionLikeForIsLikedUserIdEq(userId))
-                                        .then(true)
-                                        .otherwise(false).as("isLiked"),
-                                exhibitionLikeForLikeCount.id.countDistinct().as("likeCount"),
-                                review.id.countDistinct().as("reviewCount")
+                                exhibition.likeCount,
+                                exhibition.publicReviewCount.as("reviewCount")
                         )
                 )
                 .from(exhibition)
-                .leftJoin(exhibitionLikeForIsLiked)
-                .on(exhibitionLikeForIsLiked.exhibition.eq(exhibition),
-                        exhibitionLikeForIsLikedUserIdEq(userId))
-                .leftJoin(exhibitionLikeForLikeCount)
-                .on(exhibitionLikeForLikeCount.exhibition.eq(exhibition))
-                .leftJoin(review)
-                .on(review.exhibition.eq(exhibition),
-                        review.isDeleted.isFalse(),
-                        review.isPublic.isTrue())
                 .where(
                         exhibition.id.eq(exhibitionId),
                         exhibitionIsDeletedIsFalse()
                 )
-                .groupBy(exhibition.id)
                 .fetchOne());
     }
 
     @Override
-    public Page<ExhibitionForSimpleQuery> findExhibitionsByQuery(Long userId, String query, boolean includeEnd, Pageable pageable) {
+    public Page<ExhibitionForSimpleQuery> findExhibitionsByQuery(String query, boolean includeEnd, Pageable pageable) {
         BooleanBuilder exhibitionsByQueryCondition = getExhibitionsByQueryCondition(query, includeEnd);
         List<OrderSpecifier> orders = List.of(EXHIBITION_ID.getOrderSpecifier(Order.ASC));
 
-        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(userId, exhibitionsByQueryCondition, orders, pageable);
+        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(exhibitionsByQueryCondition, orders, pageable);
         JPAQuery<Long> countQuery = getExhibitionCountQuery(exhibitionsByQueryCondition);
 
         return PageableExecutionUtils.getPage(exhibitions, pageable, countQuery::fetchOne);
@@ -144,42 +151,16 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
     }
 
     @Override
-    public Page<ExhibitionForSimpleQuery> findUserLikeExhibitions(Long userId, Long exhibitionLikeUserId, Pageable pageable) {
-        // userId : 로그인 유저
+    public Page<ExhibitionForSimpleQuery> findUserLikeExhibitions(Long exhibitionLikeUserId, Pageable pageable) {
         // exhibitionLikeUserId : 조회 대상
-        List<ExhibitionForSimpleQuery> exhibitions = queryFactory
-                .select(Projections.fields(ExhibitionForSimpleQuery.class,
-                                exhibition.id,
-                                exhibition.name,
-                                exhibition.thumbnail,
-                                new CaseBuilder()
-                                        .when(exhibitionLikeForIsLikedUserIdEq(userId))
-                                        .then(true)
-                                        .otherwise(false).as("isLiked"),
-                                exhibition.period,
-                                exhibitionLikeForLikeCount.id.countDistinct().as("likeCount"),
-                                review.id.countDistinct().as("reviewCount")
-                        )
-                )
-                .from(exhibition)
-                .leftJoin(exhibitionLikeForIsLiked)
-                .on(exhibitionLikeForIsLiked.exhibition.eq(exhibition),
-                        exhibitionLikeForIsLikedUserIdEq(userId))
+        List<ExhibitionForSimpleQuery> exhibitions = selectExhibitions()
                 .join(exhibition.exhibitionLikes, exhibitionLikeForExhibitionLikeUser)
-                .leftJoin(exhibitionLikeForLikeCount)
-                .on(exhibitionLikeForLikeCount.exhibition.eq(exhibition))
-                .leftJoin(review)
-                .on(
-                        review.exhibition.eq(exhibition),
-                        review.isDeleted.isFalse(),
-                        review.isPublic.isTrue())
                 .where(
                         exhibitionLikeForExhibitionLikeUser.user.id.eq(exhibitionLikeUserId),
                         exhibitionIsDeletedIsFalse()
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .groupBy(exhibition.id, exhibitionLikeForExhibitionLikeUser.createdAt)
                 .orderBy(
                         exhibitionLikeForExhibitionLikeUser.createdAt.desc(),
                         exhibition.id.asc()
@@ -199,47 +180,100 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
     }
 
     @Override
-    public Page<ExhibitionForSimpleQuery> findExhibitionsByCustomCondition(Long userId, ExhibitionCustomCondition exhibitionCustomCondition, Pageable pageable) {
+    public Page<ExhibitionForSimpleQuery> findExhibitionsByCustomCondition(ExhibitionCustomCondition exhibitionCustomCondition, Pageable pageable) {
         BooleanBuilder customCondition = getCustomCondition(exhibitionCustomCondition);
         List<OrderSpecifier> orders = List.of(START_DATE.getOrderSpecifier(Order.ASC), EXHIBITION_ID.getOrderSpecifier(Order.ASC));
 
-        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(userId, customCondition, orders, pageable);
+        List<ExhibitionForSimpleQuery> exhibitions = findExhibitions(customCondition, orders, pageable);
         JPAQuery<Long> countQuery = getExhibitionCountQuery(customCondition);
 
         return PageableExecutionUtils.getPage(exhibitions, pageable, countQuery::fetchOne);
     }
 
     @Override
-    public List<ExhibitionWithLocationForSimpleQuery> findExhibitionsAroundMe(Long userId, double latitude, double longitude, double distance) {
+    public List<ExhibitionWithLocationForSimpleQuery> findExhibitionsAroundMe(double latitude, double longitude, double distance) {
         BooleanBuilder aroundMeCondition = getAroundMeCondition(latitude, longitude, distance);
 
+        return selectExhibitionsWithLocation()
+                .where(aroundMeCondition)
+                .fetch();
+    }
+
+    @Override
+    public List<ExhibitionWithLocationForSimpleQuery> findExhibitionsWithLocationByIds(List<Long> exhibitionIds) {
+        if (exhibitionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return selectExhibitionsWithLocation()
+                .where(exhibition.id.in(exhibitionIds), exhibitionIsDeletedIsFalse())
+                .fetch();
+    }
+
+    @Override
+    public List<ExhibitionGeoForSimpleQuery> findExhibitionsForGeoIndex() {
+        return queryFactory
+                .select(Projections.fields(ExhibitionGeoForSimpleQuery.class,
+                                exhibition.id,
+                                exhibition.location.latitude.as("latitude"),
+                                exhibition.location.longitude.as("longitude"),
+                                exhibition.period.endDate.as("endDate"),
+                                exhibition.likeCount
+                        )
+                )
+                .from(exhibition)
+                .where(exhibitionIsDeletedIsFalse())
+                .fetch();
+    }
+
+    @Override
+    public List<ExhibitionSearchForSimpleQuery> findExhibitionsForSearchIndex() {
+        return queryFactory
+                .select(Projections.fields(ExhibitionSearchForSimpleQuery.class,
+                                exhibition.id,
+                                exhibition.name,
+                                exhibition.thumbnail,
+                                exhibition.location.place.as("place"),
+                                exhibition.location.address.as("address"),
+                                exhibition.period.startDate.as("startDate"),
+                                exhibition.period.endDate.as("endDate"),
+                                exhibition.likeCount
+                        )
+                )
+                .from(exhibition)
+                .where(exhibitionIsDeletedIsFalse())
+                .fetch();
+    }
+
+    // 사용자와 무관한 컬럼만 조회하고, 좋아요 여부와 좋아요 수는 서비스에서 덧씌운다.
+    private JPAQuery<ExhibitionWithLocationForSimpleQuery> selectExhibitionsWithLocation() {
         return queryFactory
                 .select(Projections.fields(ExhibitionWithLocationForSimpleQuery.class,
                                 exhibition.id,
                                 exhibition.name,
                                 exhibition.thumbnail,
-                                new CaseBuilder()
-                                        .when(exhibitionLikeForIsLikedUserIdEq(userId))
-                                        .then(true)
-                                        .otherwise(false).as("isLiked"),
                                 exhibition.period,
-                                exhibitionLikeForLikeCount.id.countDistinct().as("likeCount"),
-                                review.id.countDistinct().as("reviewCount"),
+                                exhibition.likeCount,
+                                exhibition.publicReviewCount.as("reviewCount"),
                                 exhibition.location
                         )
                 )
+                .from(exhibition);
+    }
+
+    @Override
+    public List<ExhibitionFacetForSimpleQuery> findExhibitionsForFacetIndex() {
+        return queryFactory
+                .select(Projections.fields(ExhibitionFacetForSimpleQuery.class,
+                                exhibition.id,
+                                exhibition.location.area.as("area"),
+                                exhibition.genre,
+                                exhibition.period.startDate.as("startDate"),
+                                exhibition.period.endDate.as("endDate")
+                        )
+                )
                 .from(exhibition)
-                .where(aroundMeCondition)
-                .leftJoin(exhibitionLikeForIsLiked)
-                .on(exhibitionLikeForIsLiked.exhibition.eq(exhibition),
-                        exhibitionLikeForIsLikedUserIdEq(userId))
-                .leftJoin(exhibitionLikeForLikeCount)
-                .on(exhibitionLikeForLikeCount.exhibition.eq(exhibition))
-                .leftJoin(review)
-                .on(review.exhibition.eq(exhibition),
-                        review.isDeleted.isFalse(),
-                        review.isPublic.isTrue())
-                .groupBy(exhibition.id)
+                .where(exhibitionIsDeletedIsFalse())
                 .fetch();
     }
 
@@ -257,25 +291,18 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
                                         .when(exhibitionLikeForIsLikedUserIdEq(userId))
                                         .then(true)
                                         .otherwise(false).as("isLiked"),
-                                exhibitionLike.id.countDistinct().as("likeCount"),
-                                review.id.countDistinct().as("reviewCount")
+                                exhibition.likeCount,
+                                exhibition.publicReviewCount.as("reviewCount")
                         )
                 )
                 .from(exhibition)
                 .leftJoin(exhibitionLikeForIsLiked)
                 .on(exhibitionLikeForIsLiked.exhibition.eq(exhibition),
                         exhibitionLikeForIsLikedUserIdEq(userId))
-                .leftJoin(exhibitionLike)
-                .on(exhibition.id.eq(exhibitionLike.exhibition.id))
-                .leftJoin(review)
-                .on(review.exhibition.eq(exhibition),
-                        review.isDeleted.isFalse(),
-                        review.isPublic.isTrue())
                 .where(
                         exhibition.id.eq(exhibitionId),
                         exhibitionIsDeletedIsFalse()
                 )
-                .groupBy(exhibition.id)
                 .fetchOne();
 
         return Optional.ofNullable(data);
@@ -283,35 +310,10 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
 
     @Override
     public Page<ExhibitionForSimpleQuery> findExhibitionsByAdmin(Pageable pageable) {
-        List<ExhibitionForSimpleQuery> exhibitions = queryFactory
-                .select(Projections.fields(ExhibitionForSimpleQuery.class,
-                                exhibition.id,
-                                exhibition.name,
-                                exhibition.thumbnail,
-                                new CaseBuilder()
-                                        .when(exhibitionLikeForIsLikedUserIdEq(null))
-                                        .then(true)
-                                        .otherwise(false).as("isLiked"),
-                                exhibition.period,
-                                exhibitionLikeForLikeCount.id.countDistinct().as("likeCount"),
-                                review.id.countDistinct().as("reviewCount")
-                        )
-                )
-                .from(exhibition)
-                .leftJoin(exhibitionLikeForIsLiked)
-                .on(exhibitionLikeForIsLiked.exhibition.eq(exhibition),
-                        exhibitionLikeForIsLikedUserIdEq(null))
-                .leftJoin(exhibitionLikeForLikeCount)
-                .on(exhibitionLikeForLikeCount.exhibition.eq(exhibition))
-                .leftJoin(review)
-                .on(
-                        review.exhibition.eq(exhibition),
-                        review.isDeleted.isFalse(),
-                        review.isPublic.isTrue())
+        List<ExhibitionForSimpleQuery> exhibitions = selectExhibitions()
                 .where(exhibitionIsDeletedIsFalse())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .groupBy(exhibition.id)
                 .orderBy(getAllOrderSpecifiers(pageable).toArray(OrderSpecifier[]::new))
                 .fetch();
 
@@ -321,39 +323,67 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
         return PageableExecutionUtils.getPage(exhibitions, pageable, countQuery::fetchOne);
     }
 
-    private List<ExhibitionForSimpleQuery> findExhibitions(Long userId, BooleanBuilder condition, List<OrderSpecifier> orders, Pageable pageable) {
+    @Override
+    public List<ExhibitionForSimpleQuery> findExhibitionsByIds(List<Long> exhibitionIds) {
+        if (exhibitionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return selectExhibitions()
+                .where(
+                        exhibition.id.in(exhibitionIds),
+                        exhibitionIsDeletedIsFalse()
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<ExhibitionRankingForSimpleQuery> findExhibitionsForRanking() {
         return queryFactory
-                .select(Projections.fields(ExhibitionForSimpleQuery.class,
+                .select(Projections.fields(ExhibitionRankingForSimpleQuery.class,
                                 exhibition.id,
-                                exhibition.name,
-                                exhibition.thumbnail,
-                                new CaseBuilder()
-                                        .when(exhibitionLikeForIsLikedUserIdEq(userId))
-                                        .then(true)
-                                        .otherwise(false).as("isLiked"),
-                                exhibition.period,
-                                exhibitionLikeForLikeCount.id.countDistinct().as("likeCount"),
-                                review.id.countDistinct().as("reviewCount")
+                                exhibition.likeCount,
+                                exhibition.period.endDate.as("endDate")
                         )
                 )
                 .from(exhibition)
-                .leftJoin(exhibitionLikeForIsLiked)
-                .on(exhibitionLikeForIsLiked.exhibition.eq(exhibition),
-                        exhibitionLikeForIsLikedUserIdEq(userId))
-                .leftJoin(exhibitionLikeForLikeCount)
-                .on(exhibitionLikeForLikeCount.exhibition.eq(exhibition))
-                .leftJoin(review)
-                .on(review.exhibition.eq(exhibition),
-                        review.isDeleted.isFalse(),
-                        review.isPublic.isTrue())
+                .where(exhibitionIsDeletedIsFalse())
+                .fetch();
+    }
+
+    private List<ExhibitionForSimpleQuery> findExhibitions(BooleanBuilder condition, List<OrderSpecifier> orders, Pageable pageable) {
+        return selectExhibitions()
                 .where(condition)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .groupBy(exhibition.id)
                 .orderBy(orders.toArray(OrderSpecifier[]::new))
                 .fetch();
     }
 
+    // 커서 조회 시 다음 페이지 존재 여부를 알기 위해 size + 1 개를 조회한다.
+    private List<ExhibitionForSimpleQuery> findExhibitions(BooleanBuilder condition, List<OrderSpecifier> orders, int size) {
+        return selectExhibitions()
+                .where(condition)
+                .limit(size + 1L)
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .fetch();
+    }
+
+    // 사용자와 무관한 전시회 카드, isLiked 는 서비스에서 사용자별로 덧씌운다.
+    private JPAQuery<ExhibitionForSimpleQuery> selectExhibitions() {
+        return queryFactory
+                .select(Projections.fields(ExhibitionForSimpleQuery.class,
+                                exhibition.id,
+                                exhibition.name,
+                                exhibition.thumbnail,
+                                exhibition.period,
+                                exhibition.likeCount,
+                                exhibition.publicReviewCount.as("reviewCount")
+                        )
+                )
+                .from(exhibition);
+    }
+
     private JPAQuery<Long> getExhibitionCountQuery(BooleanBuilder condition) {
         return queryFactory
                 .select(exhibition.count())
@@ -382,11 +412,43 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
         return mostLikeCondition;
     }
 
+    // (startDate, endDate, id) > (cursor.startDate, cursor.endDate, cursor.id)
+    private BooleanBuilder upcomingCursorCondition(Cursor cursor) {
+        if (isNull(cursor)) {
+            return new BooleanBuilder();
+        }
+        LocalDate startDate = cursor.getLocalDate(0);
+        LocalDate endDate = cursor.getLocalDate(1);
+        Long id = cursor.getLong(2);
+
+        return new BooleanBuilder()
+                .or(exhibition.period.startDate.gt(startDate))
+                .or(exhibition.period.startDate.eq(startDate)
+                        .and(exhibition.period.endDate.gt(endDate)))
+                .or(exhibition.period.startDate.eq(startDate)
+                        .and(exhibition.period.endDate.eq(endDate))
+                        .and(exhibition.id.gt(id)));
+    }
+
+    // likeCount 내림차순, id 오름차순
+    private BooleanBuilder mostLikeCursorCondition(Cursor cursor) {
+        if (isNull(cursor)) {
+            return new BooleanBuilder();
+        }
+        Long likeCount = cursor.getLong(0);
+        Long id = cursor.getLong(1);
+
+        return new BooleanBuilder()
+                .or(exhibition.likeCount.lt(likeCount))
+                .or(exhibition.likeCount.eq(likeCount)
+                        .and(exhibition.id.gt(id)));
+    }
+
     private BooleanBuilder getExhibitionsByQueryCondition(String query, boolean includeEnd) {
         BooleanBuilder exhibitionsByQueryCondition = new BooleanBuilder();
 
         exhibitionsByQueryCondition
-                .and(exhibitionNameContains(query))
+                .and(exhibitionNameOrLocationContains(query))
                 .and(!includeEnd ? exhibitionEndDateGoe() : null)
                 .and(exhibitionIsDeletedIsFalse());
 
@@ -486,6 +548,12 @@ public class ExhibitionRepositoryImpl implements ExhibitionCustomRepository {
         return name == null ? null : exhibition.name.contains(name);
     }
 
+    private BooleanExpression exhibitionNameOrLocationContains(String query) {
+        return query == null ? null : exhibition.name.contains(query)
+                .or(exhibition.location.place.contains(query))
+                .or(exhibition.location.address.contains(query));
+    }
+
     private List<OrderSpecifier> getAllOrderSpecifiers(Pageable pageable) {
         if (pageable.getSort().isEmpty()) {
             return Collections.emptyList();
@@ -3,7 +3,6 @@ package com.prgrms.artzip.exhibition.repository;
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.exhibition.domain.QExhibition;
-import com.prgrms.artzip.exhibition.domain.QExhibitionLike;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
@@ -15,8 +14,7 @@ import java.util.Arrays;
 public enum ExhibitionSortType {
     CREATED_AT("createdAt", QExhibition.exhibition.createdAt),
     EXHIBITION_ID("id", QExhibition.exhibition.id),
-    LIKE_COUNT("likeCount", new QExhibitionLike(
-            "exhibitionLikeForLikeCount").id.countDistinct()),
+    LIKE_COUNT("likeCount", QExhibition.exhibition.likeCount),
     START_DATE("startDate", QExhibition.exhibition.period.startDate),
     END_DATE("endDate", QExhibition.exhibition.period.endDate);
 
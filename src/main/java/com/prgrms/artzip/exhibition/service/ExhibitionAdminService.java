@@ -12,8 +12,10 @@ import com.prgrms.artzip.exhibition.dto.request.ExhibitionCreateOrUpdateRequest;
 import com.prgrms.artzip.exhibition.dto.request.ExhibitionSemiUpdateRequest;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionDetailInfoResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class ExhibitionAdminService {
     private final ExhibitionRepository exhibitionRepository;
     private final AmazonS3Uploader amazonS3Uploader;
     private final AmazonS3Remover amazonS3Remover;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final String s3DirName = "exhibition";
 
@@ -57,6 +60,7 @@ public class ExhibitionAdminService {
                     .placeUrl(request.getPlaceUrl())
                     .place(request.getPlace())
                     .build());
+            eventPublisher.publishEvent(new ExhibitionChangedEvent(exhibition.getId()));
             return exhibition.getId();
         } catch (IOException ex) {
             throw new AWSException(AMAZON_S3_ERROR);
@@ -66,15 +70,15 @@ public class ExhibitionAdminService {
     public Page<ExhibitionInfoResponse> getExhibitions(Pageable pageable) {
         Page<ExhibitionForSimpleQuery> exhibitions = exhibitionRepository.findExhibitionsByAdmin(
                 pageable);
-        return exhibitions.map(ExhibitionInfoResponse::new);
+        return exhibitions.map(exhibition -> new ExhibitionInfoResponse(exhibition, false));
     }
 
     public ExhibitionDetailInfoResponse getExhibitionDetail(Long exhibitionId) {
         ExhibitionDetailForSimpleQuery exhibition = exhibitionRepository
-                .findExhibition(null, exhibitionId)
+                .findExhibition(exhibitionId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.EXHB_NOT_FOUND));
 
-        return new ExhibitionDetailInfoResponse(exhibition, new ArrayList<>());
+        return new ExhibitionDetailInfoResponse(exhibition, false, new ArrayList<>());
     }
 
     public void updateExhibition(Long exhibitionId, ExhibitionCreateOrUpdateRequest request, MultipartFile thumbnail) {
@@ -90,16 +94,19 @@ public class ExhibitionAdminService {
                 throw new AWSException(AMAZON_S3_ERROR);
             }
         }
+        eventPublisher.publishEvent(new ExhibitionChangedEvent(exhibitionId));
     }
 
     public void semiUpdateExhibition(Long exhibitionId, ExhibitionSemiUpdateRequest request) {
         Exhibition exhibition = getExhibition(exhibitionId);
         exhibition.updateGenreAndDescription(request);
+        eventPublisher.publishEvent(new ExhibitionChangedEvent(exhibitionId));
     }
 
     public void deleteExhibition(Long exhibitionId) {
         Exhibition exhibition = getExhibition(exhibitionId);
         exhibition.deleteExhibition();
+        eventPublisher.publishEvent(new ExhibitionChangedEvent(exhibitionId));
     }
 
     private Exhibition getExhibition(Long exhibitionId) {
@@ -0,0 +1,378 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/*
+ * ExhibitionAutocompleteIndex
+ * - 리뷰 작성 시 전시회 선택 자동완성용 인덱스
+ * - 전시회 이름과 이름의 초성 문자열에 대한 접미사 배열을 메모리에 보관하여 접두/중간 일치, 초성 검색("ㄱㄹㅎㄷ" -> "국립현대미술관")을 지원
+ * - 시작한 전시회만 좋아요 순으로 반환하며, 좋아요 수는 좋아요 이벤트로 즉시 반영
+ * - 관리자의 전시회 변경은 해당 전시회의 접미사만 제거/병합하여 반영하고, 주기적으로 전체 재구성
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionAutocompleteIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private final ExhibitionRepository exhibitionRepository;
+
+    private volatile AutocompleteSnapshot snapshot;
+    private volatile Map<Long, Long> likeCounts = new ConcurrentHashMap<>();
+
+    /**
+     * @return 검색어를 포함하거나 초성이 일치하는, 시작한 전시회 최대 limit 건. 좋아요 많은 순, id 오름차순.
+     * 인덱스가 아직 준비되지 않았다면 empty
+     */
+    public Optional<List<ExhibitionSearchForSimpleQuery>> complete(String query, int limit) {
+        AutocompleteSnapshot current = snapshot;
+        if (isNull(current)) {
+            return Optional.empty();
+        }
+
+        String normalized = ExhibitionSearchIndex.normalize(query.strip());
+        if (normalized.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, Long> currentLikeCounts = likeCounts;
+        List<ExhibitionSearchForSimpleQuery> result = current.match(normalized).stream()
+                .map(current.entries::get)
+                .filter(entry -> !entry.exhibition.getStartDate().isAfter(today))
+                .sorted(Comparator.<AutocompleteEntry>comparingLong(entry -> -currentLikeCounts.getOrDefault(entry.getId(), 0L))
+                        .thenComparingLong(AutocompleteEntry::getId))
+                .limit(limit)
+                .map(entry -> entry.exhibition)
+                .collect(Collectors.toList());
+        return Optional.of(result);
+    }
+
+    public int size() {
+        AutocompleteSnapshot current = snapshot;
+        return isNull(current) ? 0 : current.entries.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${artzip.exhibition.autocomplete-index-refresh-millis:300000}", initialDelayString = "${artzip.exhibition.autocomplete-index-refresh-millis:300000}")
+    public synchronized void rebuild() {
+        try {
+            List<ExhibitionSearchForSimpleQuery> exhibitions = exhibitionRepository.findExhibitionsForSearchIndex();
+            Map<Long, Long> rebuiltLikeCounts = new ConcurrentHashMap<>();
+            exhibitions.forEach(exhibition -> rebuiltLikeCounts.put(exhibition.getId(), exhibition.getLikeCount()));
+
+            AutocompleteSnapshot rebuilt = new AutocompleteSnapshot(exhibitions.stream()
+                    .map(AutocompleteEntry::new)
+                    .collect(Collectors.toList()));
+            likeCounts = rebuiltLikeCounts;
+            snapshot = rebuilt;
+            log.info("전시회 자동완성 인덱스 재구성 완료: {}건, 접미사 {}개", rebuilt.entries.size(), rebuilt.names.size());
+        } catch (DataAccessException e) {
+            log.warn("전시회 자동완성 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onExhibitionChanged(ExhibitionChangedEvent event) {
+        AutocompleteSnapshot current = snapshot;
+        if (isNull(current)) {
+            return;
+        }
+        try {
+            AutocompleteEntry changed = exhibitionRepository.findById(event.getExhibitionId())
+                    .filter(exhibition -> !exhibition.getIsDeleted())
+                    .map(ExhibitionSearchIndex::toSearch)
+                    .map(AutocompleteEntry::new)
+                    .orElse(null);
+            if (isNull(changed)) {
+                likeCounts.remove(event.getExhibitionId());
+            } else {
+                likeCounts.put(changed.getId(), changed.exhibition.getLikeCount());
+            }
+            snapshot = current.replace(event.getExhibitionId(), changed);
+        } catch (DataAccessException e) {
+            log.warn("전시회 자동완성 인덱스 갱신 실패 exhibitionId: {}, {}", event.getExhibitionId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExhibitionLikeChanged(ExhibitionLikeChangedEvent event) {
+        likeCounts.computeIfPresent(event.getExhibitionId(), (id, likeCount) -> Math.max(0, likeCount + event.getLikeCountDelta()));
+    }
+
+    /**
+     * 완성형 한글 음절은 초성 자모로, 나머지 문자는 그대로 변환. 변환 전후 길이가 같으므로 위치가 그대로 대응
+     */
+    static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            chosung.append(toChosung(text.charAt(i)));
+        }
+        return chosung.toString();
+    }
+
+    private static char toChosung(char c) {
+        if (c < HANGUL_BEGIN || c > HANGUL_END) {
+            return c;
+        }
+        return CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsChosung(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (isChosung(query.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 검색어의 초성 자모는 같은 초성의 음절과, 나머지 문자는 같은 문자와 일치
+     */
+    private static boolean matchesAt(String name, int offset, String query) {
+        if (offset + query.length() > name.length()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char c = name.charAt(offset + i);
+            if (q != c && !(isChosung(q) && toChosung(c) == q)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class AutocompleteEntry {
+
+        private final ExhibitionSearchForSimpleQuery exhibition;
+        private final String name;
+        private final String chosung;
+
+        private AutocompleteEntry(ExhibitionSearchForSimpleQuery exhibition) {
+            this.exhibition = exhibition;
+            this.name = ExhibitionSearchIndex.normalize(exhibition.getName());
+            this.chosung = toChosung(name);
+        }
+
+        private long getId() {
+            return exhibition.getId();
+        }
+    }
+
+    private static class AutocompleteSnapshot {
+
+        private final Map<Long, AutocompleteEntry> entries;
+        private final SuffixArray names;
+        private final SuffixArray chosungs;
+
+        private AutocompleteSnapshot(Collection<AutocompleteEntry> entries) {
+            this.entries = new HashMap<>();
+            entries.forEach(entry -> this.entries.put(entry.getId(), entry));
+            this.names = SuffixArray.of(entries, entry -> entry.name);
+            this.chosungs = SuffixArray.of(entries, entry -> entry.chosung);
+        }
+
+        private AutocompleteSnapshot(Map<Long, AutocompleteEntry> entries, SuffixArray names, SuffixArray chosungs) {
+            this.entries = entries;
+            this.names = names;
+            this.chosungs = chosungs;
+        }
+
+        private AutocompleteSnapshot replace(Long exhibitionId, AutocompleteEntry changed) {
+            Map<Long, AutocompleteEntry> replaced = new HashMap<>(entries);
+            replaced.remove(exhibitionId);
+            if (!isNull(changed)) {
+                replaced.put(changed.getId(), changed);
+            }
+            return new AutocompleteSnapshot(replaced,
+                    names.replace(replaced, exhibitionId, changed),
+                    chosungs.replace(replaced, exhibitionId, changed));
+        }
+
+        /**
+         * @return 검색어가 일치하는 전시회 id, 중복 없음
+         */
+        private Set<Long> match(String query) {
+            if (!containsChosung(query)) {
+                return names.startingWith(entries, query, (id, offset) -> true);
+            }
+            // 초성 문자열에서 후보를 찾고, 완성형 음절이 섞인 검색어라면 원래 이름과 위치별로 다시 확인
+            return chosungs.startingWith(entries, toChosung(query),
+                    (id, offset) -> matchesAt(entries.get(id).name, offset, query));
+        }
+    }
+
+    @FunctionalInterface
+    private interface SuffixFilter {
+        boolean test(long id, int offset);
+    }
+
+    /*
+     * (전시회 id, 시작 위치) 쌍을 접미사 사전순으로 정렬한 배열
+     * - 검색어로 시작하는 접미사는 연속된 구간에 모이므로 이분 탐색으로 구간의 시작을 찾음
+     * */
+    private static class SuffixArray {
+
+        private final Function<AutocompleteEntry, String> key;
+        private final long[] ids;
+        private final int[] offsets;
+
+        private SuffixArray(Function<AutocompleteEntry, String> key, long[] ids, int[] offsets) {
+            this.key = key;
+            this.ids = ids;
+            this.offsets = offsets;
+        }
+
+        private static SuffixArray of(Collection<AutocompleteEntry> entries, Function<AutocompleteEntry, String> key) {
+            List<Suffix> suffixes = new ArrayList<>();
+            entries.forEach(entry -> suffixes.addAll(suffixesOf(entry, key)));
+            suffixes.sort(Suffix::compareTo);
+            return new SuffixArray(key,
+                    suffixes.stream().mapToLong(suffix -> suffix.id).toArray(),
+                    suffixes.stream().mapToInt(suffix -> suffix.offset).toArray());
+        }
+
+        private static List<Suffix> suffixesOf(AutocompleteEntry entry, Function<AutocompleteEntry, String> key) {
+            String text = key.apply(entry);
+            List<Suffix> suffixes = new ArrayList<>(text.length());
+            for (int offset = 0; offset < text.length(); offset++) {
+                suffixes.add(new Suffix(entry.getId(), text, offset));
+            }
+            suffixes.sort(Suffix::compareTo);
+            return suffixes;
+        }
+
+        private int size() {
+            return ids.length;
+        }
+
+        /**
+         * 기존 전시회의 접미사를 제외하고, 변경된 전시회의 접미사를 정렬된 순서를 유지하며 병합
+         */
+        private SuffixArray replace(Map<Long, AutocompleteEntry> entries, long exhibitionId, AutocompleteEntry changed) {
+            List<Suffix> added = isNull(changed) ? List.of() : suffixesOf(changed, key);
+            int capacity = ids.length + added.size();
+            long[] mergedIds = new long[capacity];
+            int[] mergedOffsets = new int[capacity];
+
+            int size = 0;
+            int j = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == exhibitionId) {
+                    continue;
+                }
+                String text = key.apply(entries.get(ids[i]));
+                while (j < added.size() && compare(added.get(j).text, added.get(j).offset, text, offsets[i]) <= 0) {
+                    mergedIds[size] = added.get(j).id;
+                    mergedOffsets[size++] = added.get(j++).offset;
+                }
+                mergedIds[size] = ids[i];
+                mergedOffsets[size++] = offsets[i];
+            }
+            for (; j < added.size(); j++) {
+                mergedIds[size] = added.get(j).id;
+                mergedOffsets[size++] = added.get(j).offset;
+            }
+            return new SuffixArray(key, Arrays.copyOf(mergedIds, size), Arrays.copyOf(mergedOffsets, size));
+        }
+
+        private Set<Long> startingWith(Map<Long, AutocompleteEntry> entries, String query, SuffixFilter filter) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(key.apply(entries.get(ids[mid])), offsets[mid], query, 0) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            Set<Long> matched = new LinkedHashSet<>();
+            for (int i = low; i < ids.length; i++) {
+                if (!key.apply(entries.get(ids[i])).startsWith(query, offsets[i])) {
+                    break;
+                }
+                if (filter.test(ids[i], offsets[i])) {
+                    matched.add(ids[i]);
+                }
+            }
+            return matched;
+        }
+
+        private static int compare(String text, int offset, String other, int otherOffset) {
+            int length = Math.min(text.length() - offset, other.length() - otherOffset);
+            for (int i = 0; i < length; i++) {
+                int diff = text.charAt(offset + i) - other.charAt(otherOffset + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return (text.length() - offset) - (other.length() - otherOffset);
+        }
+    }
+
+    private static class Suffix implements Comparable<Suffix> {
+
+        private final long id;
+        private final String text;
+        private final int offset;
+
+        private Suffix(long id, String text, int offset) {
+            this.id = id;
+            this.text = text;
+            this.offset = offset;
+        }
+
+        @Override
+        public int compareTo(Suffix other) {
+            return SuffixArray.compare(text, offset, other.text, other.offset);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/*
+ * ExhibitionCardCache
+ * - 사용자와 무관한 전시회 카드(isLiked 제외)를 짧은 시간 동안 캐싱
+ * - 목록 캐시 : (조회 종류, 조건, 페이지) -> 조회 결과
+ * - 카드 캐시 : 전시회 id -> 카드, 랭킹/검색 인덱스 결과를 채울 때 사용
+ * - 전시회가 변경되면 목록 캐시 전체와 해당 카드를, 좋아요가 변경되면 해당 카드를 제거. 목록의 좋아요 수는 최대 TTL 만큼 늦게 반영
+ * - 같은 목록을 동시에 조회하면 한 요청만 DB를 조회하고 나머지는 그 결과를 기다린다.
+ * */
+@Component
+public class ExhibitionCardCache {
+
+    static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_LISTS = 1_000;
+    private static final int MAX_CARDS = 10_000;
+
+    private final Cache<String, Object> lists = Caffeine.newBuilder()
+            .expireAfterWrite(TTL)
+            .maximumSize(MAX_LISTS)
+            .build();
+    private final Cache<Long, ExhibitionForSimpleQuery> cards = Caffeine.newBuilder()
+            .expireAfterWrite(TTL)
+            .maximumSize(MAX_CARDS)
+            .build();
+
+    /**
+     * @param loader 다른 목록을 다시 getList 로 조회하면 안 된다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getList(String key, Supplier<T> loader) {
+        return (T) lists.get(key, ignored -> loader.get());
+    }
+
+    /**
+     * @return exhibitionIds 순서대로 정렬된 카드, 삭제되어 조회되지 않은 전시회는 제외
+     */
+    public List<ExhibitionForSimpleQuery> getCards(List<Long> exhibitionIds, Function<List<Long>, List<ExhibitionForSimpleQuery>> loader) {
+        Map<Long, ExhibitionForSimpleQuery> found = new LinkedHashMap<>();
+        List<Long> missed = new ArrayList<>();
+        exhibitionIds.forEach(exhibitionId -> {
+            ExhibitionForSimpleQuery card = cards.getIfPresent(exhibitionId);
+            if (isNull(card)) {
+                missed.add(exhibitionId);
+            } else {
+                found.put(exhibitionId, card);
+            }
+        });
+
+        if (!missed.isEmpty()) {
+            loader.apply(missed).forEach(card -> {
+                cards.put(card.getId(), card);
+                found.put(card.getId(), card);
+            });
+        }
+
+        return exhibitionIds.stream()
+                .map(found::get)
+                .filter(card -> !isNull(card))
+                .collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExhibitionChanged(ExhibitionChangedEvent event) {
+        lists.invalidateAll();
+        cards.invalidate(event.getExhibitionId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExhibitionLikeChanged(ExhibitionLikeChangedEvent event) {
+        cards.invalidate(event.getExhibitionId());
+    }
+}
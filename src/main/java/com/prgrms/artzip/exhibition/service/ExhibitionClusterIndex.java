@@ -0,0 +1,279 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionGeoForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionClusterResponse;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/*
+ * ExhibitionClusterIndex
+ * - 진행 중인 전시회 좌표로 줌 레벨(0 ~ MAX_CLUSTER_ZOOM)별 격자 클러스터를 미리 계산
+ * - 줌 z의 격자 크기는 360 / (2^z * CELLS_PER_TILE) 도 이므로, 줌 z+1의 격자 (i, j)는 줌 z의 격자 (i / 2, j / 2)에 포함된다.
+ * - 각 클러스터는 전시회 목록(좋아요 수 내림차순)과 좌표 합을 가지고 있어 중심 좌표와 상위 N개 전시회를 바로 응답
+ * - 관리자 변경 시 변경된 전시회가 속한 격자만 레벨별로 다시 계산하고, 좋아요 수와 종료 여부는 주기적인 재구성으로 반영
+ * - 계층은 한 번 공개하면 바꾸지 않고, 변경 시 복사본을 고쳐 통째로 교체하므로 조회는 락 없이 수행
+ * - 구성은 시작 시점과 주기적인 재구성에서만 하고, 그 전에 들어온 조회는 빈 결과를 반환
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionClusterIndex {
+
+    public static final int MAX_CLUSTER_ZOOM = 15;
+    public static final int MAX_TOP = 10;
+    static final int CELLS_PER_TILE = 4;
+
+    private static final Comparator<ExhibitionGeoForSimpleQuery> LIKE_COUNT_DESC =
+            Comparator.comparingLong(ExhibitionGeoForSimpleQuery::getLikeCount).reversed()
+                    .thenComparing(ExhibitionGeoForSimpleQuery::getId);
+
+    private final ExhibitionRepository exhibitionRepository;
+
+    private volatile ClusterHierarchy hierarchy;
+
+    /**
+     * @param zoom 0 ~ MAX_CLUSTER_ZOOM
+     * @return 영역과 겹치는 격자의 클러스터, 전시회 수 내림차순. 인덱스가 아직 준비되지 않았다면 빈 목록
+     */
+    public List<ExhibitionClusterResponse> findClusters(double swLatitude, double swLongitude,
+                                                        double neLatitude, double neLongitude, int zoom, int top) {
+        List<ExhibitionClusterResponse> clusters = new ArrayList<>();
+        Optional.ofNullable(hierarchy).ifPresent(current -> current.forEachCell(zoom, swLatitude, swLongitude, neLatitude, neLongitude,
+                cell -> clusters.add(cell.toResponse(top))));
+        clusters.sort(Comparator.comparingLong(ExhibitionClusterResponse::getCount).reversed());
+        return clusters;
+    }
+
+    /**
+     * @return 영역 안의 전시회 ID, 좋아요 수 내림차순으로 최대 limit 개. 인덱스가 아직 준비되지 않았다면 빈 목록
+     */
+    public List<Long> findExhibitionIds(double swLatitude, double swLongitude,
+                                        double neLatitude, double neLongitude, int limit) {
+        List<ExhibitionGeoForSimpleQuery> exhibitions = new ArrayList<>();
+        Optional.ofNullable(hierarchy).ifPresent(current -> current.forEachCell(MAX_CLUSTER_ZOOM, swLatitude, swLongitude, neLatitude, neLongitude,
+                cell -> cell.exhibitions.stream()
+                        .filter(e -> contains(e, swLatitude, swLongitude, neLatitude, neLongitude))
+                        .forEach(exhibitions::add)));
+        return exhibitions.stream()
+                .sorted(LIKE_COUNT_DESC)
+                .limit(limit)
+                .map(ExhibitionGeoForSimpleQuery::getId)
+                .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${artzip.exhibition.cluster-index-refresh-millis:300000}", initialDelayString = "${artzip.exhibition.cluster-index-refresh-millis:300000}")
+    public synchronized void rebuild() {
+        try {
+            LocalDate today = LocalDate.now();
+            ClusterHierarchy rebuilt = new ClusterHierarchy(exhibitionRepository.findExhibitionsForGeoIndex().stream()
+                    .filter(exhibition -> !exhibition.getEndDate().isBefore(today))
+                    .collect(Collectors.toList()));
+            hierarchy = rebuilt;
+            log.info("전시회 클러스터 인덱스 재구성 완료: {}건", rebuilt.exhibitions.size());
+        } catch (DataAccessException e) {
+            log.warn("전시회 클러스터 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onExhibitionChanged(ExhibitionChangedEvent event) {
+        ClusterHierarchy current = hierarchy;
+        if (isNull(current)) {
+            return;
+        }
+        try {
+            Optional<ExhibitionGeoForSimpleQuery> changed = exhibitionRepository.findById(event.getExhibitionId())
+                    .filter(exhibition -> !exhibition.getIsDeleted())
+                    .filter(exhibition -> !exhibition.getPeriod().getEndDate().isBefore(LocalDate.now()))
+                    .map(this::toGeo);
+            ClusterHierarchy updated = new ClusterHierarchy(current);
+            updated.remove(event.getExhibitionId());
+            changed.ifPresent(updated::add);
+            hierarchy = updated;
+        } catch (DataAccessException e) {
+            log.warn("전시회 클러스터 인덱스 갱신 실패 exhibitionId: {}, {}", event.getExhibitionId(), e.getMessage());
+        }
+    }
+
+    static double cellDegree(int zoom) {
+        return 360d / ((1L << zoom) * CELLS_PER_TILE);
+    }
+
+    private ExhibitionGeoForSimpleQuery toGeo(Exhibition exhibition) {
+        return new ExhibitionGeoForSimpleQuery(exhibition.getId(), exhibition.getLocation().getLatitude(),
+                exhibition.getLocation().getLongitude(), exhibition.getPeriod().getEndDate(), exhibition.getLikeCount());
+    }
+
+    private static boolean contains(ExhibitionGeoForSimpleQuery exhibition, double swLatitude, double swLongitude,
+                                    double neLatitude, double neLongitude) {
+        boolean latitudeIn = exhibition.getLatitude() >= swLatitude && exhibition.getLatitude() <= neLatitude;
+        boolean longitudeIn = swLongitude <= neLongitude
+                ? exhibition.getLongitude() >= swLongitude && exhibition.getLongitude() <= neLongitude
+                : exhibition.getLongitude() >= swLongitude || exhibition.getLongitude() <= neLongitude;
+        return latitudeIn && longitudeIn;
+    }
+
+    private static class ClusterHierarchy {
+
+        private final Map<Long, ExhibitionGeoForSimpleQuery> exhibitions = new HashMap<>();
+        private final List<Map<Long, ClusterCell>> levels = new ArrayList<>();
+
+        private ClusterHierarchy(List<ExhibitionGeoForSimpleQuery> exhibitions) {
+            List<ExhibitionGeoForSimpleQuery> sorted = exhibitions.stream()
+                    .sorted(LIKE_COUNT_DESC)
+                    .collect(Collectors.toList());
+            sorted.forEach(exhibition -> this.exhibitions.put(exhibition.getId(), exhibition));
+            for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+                int level = zoom;
+                Map<Long, ClusterCell> cells = new HashMap<>();
+                sorted.stream()
+                        .collect(Collectors.groupingBy(e -> cellKey(level, e.getLatitude(), e.getLongitude())))
+                        .forEach((key, cellExhibitions) -> cells.put(key, new ClusterCell(cellExhibitions)));
+                levels.add(cells);
+            }
+        }
+
+        // 격자는 바꾸지 않는 값이므로 맵만 복사한다.
+        private ClusterHierarchy(ClusterHierarchy source) {
+            exhibitions.putAll(source.exhibitions);
+            source.levels.forEach(level -> levels.add(new HashMap<>(level)));
+        }
+
+        private void add(ExhibitionGeoForSimpleQuery exhibition) {
+            exhibitions.put(exhibition.getId(), exhibition);
+            for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+                levels.get(zoom).compute(cellKey(zoom, exhibition.getLatitude(), exhibition.getLongitude()),
+                        (key, cell) -> isNull(cell) ? new ClusterCell(List.of(exhibition)) : cell.with(exhibition));
+            }
+        }
+
+        private void remove(Long exhibitionId) {
+            ExhibitionGeoForSimpleQuery exhibition = exhibitions.remove(exhibitionId);
+            if (isNull(exhibition)) {
+                return;
+            }
+            for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+                levels.get(zoom).computeIfPresent(cellKey(zoom, exhibition.getLatitude(), exhibition.getLongitude()),
+                        (key, cell) -> cell.without(exhibitionId));
+            }
+        }
+
+        private void forEachCell(int zoom, double swLatitude, double swLongitude, double neLatitude, double neLongitude,
+                                 Consumer<ClusterCell> consumer) {
+            Map<Long, ClusterCell> level = levels.get(zoom);
+            int minLatitudeIndex = latitudeIndex(zoom, swLatitude);
+            int maxLatitudeIndex = latitudeIndex(zoom, neLatitude);
+            List<int[]> longitudeRanges = swLongitude <= neLongitude
+                    ? List.of(new int[]{longitudeIndex(zoom, swLongitude), longitudeIndex(zoom, neLongitude)})
+                    : List.of(new int[]{longitudeIndex(zoom, swLongitude), longitudeIndex(zoom, 180)},
+                    new int[]{longitudeIndex(zoom, -180), longitudeIndex(zoom, neLongitude)});
+
+            long boxCellCount = (long) (maxLatitudeIndex - minLatitudeIndex + 1) * longitudeRanges.stream()
+                    .mapToLong(range -> range[1] - range[0] + 1)
+                    .sum();
+            // 영역이 넓어 훑어야 할 격자가 실제 격자 수보다 많다면 전체 격자를 확인한다.
+            if (boxCellCount > level.size()) {
+                level.forEach((key, cell) -> {
+                    int latitudeIndex = (int) (key >> 32);
+                    int longitudeIndex = (int) (long) key;
+                    boolean longitudeIn = longitudeRanges.stream()
+                            .anyMatch(range -> longitudeIndex >= range[0] && longitudeIndex <= range[1]);
+                    if (latitudeIndex >= minLatitudeIndex && latitudeIndex <= maxLatitudeIndex && longitudeIn) {
+                        consumer.accept(cell);
+                    }
+                });
+                return;
+            }
+            for (int i = minLatitudeIndex; i <= maxLatitudeIndex; i++) {
+                for (int[] range : longitudeRanges) {
+                    for (int j = range[0]; j <= range[1]; j++) {
+                        ClusterCell cell = level.get(cellKey(i, j));
+                        if (nonNull(cell)) {
+                            consumer.accept(cell);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static long cellKey(int zoom, double latitude, double longitude) {
+            return cellKey(latitudeIndex(zoom, latitude), longitudeIndex(zoom, longitude));
+        }
+
+        private static long cellKey(int latitudeIndex, int longitudeIndex) {
+            return ((long) latitudeIndex << 32) | (longitudeIndex & 0xffffffffL);
+        }
+
+        private static int latitudeIndex(int zoom, double latitude) {
+            return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / cellDegree(zoom));
+        }
+
+        private static int longitudeIndex(int zoom, double longitude) {
+            return (int) Math.floor((Math.max(-180, Math.min(180, longitude)) + 180) / cellDegree(zoom));
+        }
+    }
+
+    private static class ClusterCell {
+
+        private final List<ExhibitionGeoForSimpleQuery> exhibitions; // 좋아요 수 내림차순
+        private final double latitudeSum;
+        private final double longitudeSum;
+
+        private ClusterCell(List<ExhibitionGeoForSimpleQuery> exhibitions) {
+            this.exhibitions = exhibitions;
+            this.latitudeSum = exhibitions.stream().mapToDouble(ExhibitionGeoForSimpleQuery::getLatitude).sum();
+            this.longitudeSum = exhibitions.stream().mapToDouble(ExhibitionGeoForSimpleQuery::getLongitude).sum();
+        }
+
+        private ClusterCell with(ExhibitionGeoForSimpleQuery exhibition) {
+            List<ExhibitionGeoForSimpleQuery> added = new ArrayList<>(exhibitions);
+            int index = Collections.binarySearch(added, exhibition, LIKE_COUNT_DESC);
+            added.add(index < 0 ? -(index + 1) : index, exhibition);
+            return new ClusterCell(added);
+        }
+
+        // 마지막 전시회가 제거되면 null을 반환하여 격자를 삭제한다.
+        private ClusterCell without(Long exhibitionId) {
+            List<ExhibitionGeoForSimpleQuery> removed = exhibitions.stream()
+                    .filter(exhibition -> !exhibition.getId().equals(exhibitionId))
+                    .collect(Collectors.toList());
+            return removed.isEmpty() ? null : new ClusterCell(removed);
+        }
+
+        private ExhibitionClusterResponse toResponse(int top) {
+            return ExhibitionClusterResponse.builder()
+                    .lat(latitudeSum / exhibitions.size())
+                    .lng(longitudeSum / exhibitions.size())
+                    .count(exhibitions.size())
+                    .exhibitionIds(exhibitions.stream()
+                            .limit(top)
+                            .map(ExhibitionGeoForSimpleQuery::getId)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * ExhibitionCountReconciler
+ * - 전시회의 like_count, public_review_count 컬럼을 실제 좋아요/공개 후기 수와 비교하여 보정
+ * - 애플리케이션 기동 시(기존 데이터 백필) 및 매일 정해진 시각에 실행
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionCountReconciler {
+
+    private final ExhibitionRepository exhibitionRepository;
+
+    // @EventListener 메서드가 값을 반환하면 그 값을 다시 이벤트로 발행하므로 진입점은 void 로 두고 보정 건수는 reconcileCounts() 가 반환한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${artzip.exhibition.count-reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        reconcileCounts();
+    }
+
+    int reconcileCounts() {
+        int repairedCount = exhibitionRepository.reconcileLikeAndReviewCounts();
+        if (repairedCount > 0) {
+            log.warn("전시회 좋아요/후기 수 불일치 보정: {}건", repairedCount);
+        }
+        return repairedCount;
+    }
+}
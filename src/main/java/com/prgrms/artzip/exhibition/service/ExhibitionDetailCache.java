@@ -0,0 +1,170 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.exhibition.dto.ExhibitionDetailSnapshot;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.review.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * ExhibitionDetailCache
+ * - 사용자와 무관한 전시회 상세(전시회 정보 + 좋아요 많은 후기 4개)를 로컬 캐시 -> Redis -> DB 순서로 조회하는 2단계 캐시
+ * - 로컬 캐시는 서버마다 짧은 TTL로 두고, Redis 캐시는 모든 서버가 공유
+ * - 전시회/후기가 변경되면 Redis 키를 지우고 무효화 채널에 전시회 id를 발행, 모든 서버가 구독하여 로컬 캐시에서 제거
+ * - 좋아요 수는 캐시 값에 기대지 않고 조회 시 덧씌우므로 좋아요 변경으로는 무효화하지 않는다.
+ * - DB에서 읽는 동안 무효화가 있었다면 읽은 값을 캐시에 남기지 않는다.
+ * - Redis 장애 시에는 로컬 캐시와 DB만으로 동작
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionDetailCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "ExhibitionDetail_Invalidation";
+    static final String KEY_PREFIX = "ExhibitionDetail_";
+    static final Duration REDIS_TTL = Duration.ofMinutes(5);
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(10);
+    private static final int LOCAL_MAX_SIZE = 1_000;
+
+    private final Cache<Long, ExhibitionDetailSnapshot> localCache = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_TTL)
+            .maximumSize(LOCAL_MAX_SIZE)
+            .build();
+    private final AtomicLong evictions = new AtomicLong();
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * @param loader 두 캐시에 모두 없을 때 DB에서 조회, 존재하지 않는 전시회라면 Optional.empty()를 반환하며 캐싱하지 않는다.
+     */
+    public Optional<ExhibitionDetailSnapshot> get(Long exhibitionId, Supplier<Optional<ExhibitionDetailSnapshot>> loader) {
+        ExhibitionDetailSnapshot cached = localCache.getIfPresent(exhibitionId);
+        if (Objects.nonNull(cached)) {
+            return Optional.of(cached);
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        Optional<ExhibitionDetailSnapshot> shared = readShared(exhibitionId);
+        if (shared.isPresent()) {
+            putLocal(exhibitionId, shared.get(), evictionsBeforeLoad);
+            return shared;
+        }
+
+        Optional<ExhibitionDetailSnapshot> loaded = loader.get();
+        loaded.ifPresent(snapshot -> put(exhibitionId, snapshot, evictionsBeforeLoad));
+        return loaded;
+    }
+
+    public void evict(Long exhibitionId) {
+        evictLocally(exhibitionId);
+        try {
+            redisService.deleteValues(KEY_PREFIX + exhibitionId);
+            redisService.publish(INVALIDATION_CHANNEL, String.valueOf(exhibitionId));
+        } catch (DataAccessException e) {
+            log.warn("전시회 상세 캐시 무효화 실패 exhibitionId: {}, {}", exhibitionId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String exhibitionId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocally(Long.valueOf(exhibitionId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 전시회 상세 캐시 무효화 메시지: {}", exhibitionId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExhibitionChanged(ExhibitionChangedEvent event) {
+        evict(event.getExhibitionId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        evict(event.getExhibitionId());
+    }
+
+    private void evictLocally(Long exhibitionId) {
+        evictions.incrementAndGet();
+        localCache.invalidate(exhibitionId);
+    }
+
+    /*
+     * 읽는 동안 무효화가 있었다면 읽은 값이 이미 오래된 것일 수 있으므로 Redis 에 쓰지 않고,
+     * 쓰는 사이에 무효화되었다면 다시 확인해 두 캐시에서 모두 빼낸다.
+     */
+    private void put(Long exhibitionId, ExhibitionDetailSnapshot snapshot, long evictionsBeforeLoad) {
+        if (evictions.get() != evictionsBeforeLoad) {
+            return;
+        }
+        writeShared(exhibitionId, snapshot);
+        localCache.put(exhibitionId, snapshot);
+        if (evictions.get() != evictionsBeforeLoad) {
+            localCache.asMap().remove(exhibitionId, snapshot);
+            deleteShared(exhibitionId);
+        }
+    }
+
+    private void putLocal(Long exhibitionId, ExhibitionDetailSnapshot snapshot, long evictionsBeforeLoad) {
+        localCache.put(exhibitionId, snapshot);
+        if (evictions.get() != evictionsBeforeLoad) {
+            localCache.asMap().remove(exhibitionId, snapshot);
+        }
+    }
+
+    private Optional<ExhibitionDetailSnapshot> readShared(Long exhibitionId) {
+        try {
+            String value = redisService.getValues(KEY_PREFIX + exhibitionId);
+            if (Objects.isNull(value)) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, ExhibitionDetailSnapshot.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("전시회 상세 캐시 조회 실패, DB로 조회합니다 exhibitionId: {}, {}", exhibitionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeShared(Long exhibitionId, ExhibitionDetailSnapshot snapshot) {
+        try {
+            redisService.setValues(KEY_PREFIX + exhibitionId, objectMapper.writeValueAsString(snapshot), REDIS_TTL);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("전시회 상세 캐시 저장 실패 exhibitionId: {}, {}", exhibitionId, e.getMessage());
+        }
+    }
+
+    private void deleteShared(Long exhibitionId) {
+        try {
+            redisService.deleteValues(KEY_PREFIX + exhibitionId);
+        } catch (DataAccessException e) {
+            log.warn("전시회 상세 캐시 삭제 실패 exhibitionId: {}, {}", exhibitionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.domain.enumType.Area;
+import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.exhibition.domain.enumType.Month;
+import com.prgrms.artzip.exhibition.dto.ExhibitionCustomCondition;
+import com.prgrms.artzip.exhibition.dto.ExhibitionFacetSearchResult;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionFacetForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionFacetsResponse;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/*
+ * ExhibitionFacetIndex
+ * - 맞춤 전시회 조회(지역, 시기, 장르)를 위한 비트맵 인덱스
+ * - 삭제되지 않은 전시회를 (시작일, id) 오름차순으로 정렬한 위치를 비트로 사용하므로, 조건을 AND/OR 한 비트를 앞에서부터 읽으면 그대로 정렬된 결과
+ * - 지역, 장르, 월별로 비트맵을 두고, 월은 기존 조회와 같이 올해의 해당 월과 기간이 겹치는 전시회
+ * - 날짜가 바뀌면 진행 중 / 월 비트맵을 메모리에 있는 전시회 정보로 다시 계산
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionFacetIndex {
+
+    private final ExhibitionRepository exhibitionRepository;
+
+    private volatile FacetSnapshot snapshot;
+
+    /**
+     * @return 조건에 맞는 전시회 중 [offset, offset + pageSize) 구간의 id, 전체 수, 조건별 전시회 수.
+     * 인덱스가 아직 준비되지 않았다면 empty
+     */
+    public Optional<ExhibitionFacetSearchResult> search(ExhibitionCustomCondition condition, long offset, int pageSize) {
+        FacetSnapshot current = getSnapshot();
+        if (isNull(current)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(condition, offset, pageSize));
+    }
+
+    public int size() {
+        FacetSnapshot current = snapshot;
+        return isNull(current) ? 0 : current.ids.length;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${artzip.exhibition.facet-index-refresh-millis:300000}", initialDelayString = "${artzip.exhibition.facet-index-refresh-millis:300000}")
+    public synchronized void rebuild() {
+        try {
+            FacetSnapshot rebuilt = new FacetSnapshot(exhibitionRepository.findExhibitionsForFacetIndex(), LocalDate.now());
+            snapshot = rebuilt;
+            log.info("맞춤 전시회 인덱스 재구성 완료: {}건", rebuilt.ids.length);
+        } catch (DataAccessException e) {
+            log.warn("맞춤 전시회 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onExhibitionChanged(ExhibitionChangedEvent event) {
+        FacetSnapshot current = snapshot;
+        if (isNull(current)) {
+            return;
+        }
+        try {
+            Map<Long, ExhibitionFacetForSimpleQuery> exhibitions = new HashMap<>(current.exhibitions);
+            exhibitions.remove(event.getExhibitionId());
+            exhibitionRepository.findById(event.getExhibitionId())
+                    .filter(exhibition -> !exhibition.getIsDeleted())
+                    .map(ExhibitionFacetIndex::toFacet)
+                    .ifPresent(exhibition -> exhibitions.put(exhibition.getId(), exhibition));
+            snapshot = new FacetSnapshot(exhibitions.values(), LocalDate.now());
+        } catch (DataAccessException e) {
+            log.warn("맞춤 전시회 인덱스 갱신 실패 exhibitionId: {}, {}", event.getExhibitionId(), e.getMessage());
+        }
+    }
+
+    private FacetSnapshot getSnapshot() {
+        FacetSnapshot current = snapshot;
+        if (isNull(current) || current.builtOn.equals(LocalDate.now())) {
+            return current;
+        }
+        synchronized (this) {
+            if (!snapshot.builtOn.equals(LocalDate.now())) {
+                snapshot = new FacetSnapshot(snapshot.exhibitions.values(), LocalDate.now());
+            }
+            return snapshot;
+        }
+    }
+
+    private static ExhibitionFacetForSimpleQuery toFacet(Exhibition exhibition) {
+        return new ExhibitionFacetForSimpleQuery(exhibition.getId(), exhibition.getLocation().getArea(), exhibition.getGenre(),
+                exhibition.getPeriod().getStartDate(), exhibition.getPeriod().getEndDate());
+    }
+
+    private static class FacetSnapshot {
+
+        private final LocalDate builtOn;
+        private final Map<Long, ExhibitionFacetForSimpleQuery> exhibitions = new HashMap<>();
+        // 비트 위치 -> 전시회 id
+        private final long[] ids;
+        private final BitSet all;
+        private final BitSet ongoing;
+        private final Map<Area, BitSet> areas = new EnumMap<>(Area.class);
+        private final Map<Genre, BitSet> genres = new EnumMap<>(Genre.class);
+        private final Map<Month, BitSet> months = new EnumMap<>(Month.class);
+
+        private FacetSnapshot(Collection<ExhibitionFacetForSimpleQuery> exhibitions, LocalDate today) {
+            this.builtOn = today;
+            List<ExhibitionFacetForSimpleQuery> sorted = new ArrayList<>(exhibitions);
+            sorted.sort(Comparator.comparing(ExhibitionFacetForSimpleQuery::getStartDate)
+                    .thenComparing(ExhibitionFacetForSimpleQuery::getId));
+
+            this.ids = new long[sorted.size()];
+            this.all = new BitSet(sorted.size());
+            this.ongoing = new BitSet(sorted.size());
+            for (int position = 0; position < sorted.size(); position++) {
+                ExhibitionFacetForSimpleQuery exhibition = sorted.get(position);
+                this.exhibitions.put(exhibition.getId(), exhibition);
+                ids[position] = exhibition.getId();
+                all.set(position);
+                if (!exhibition.getEndDate().isBefore(today)) {
+                    ongoing.set(position);
+                }
+                areas.computeIfAbsent(exhibition.getArea(), area -> new BitSet()).set(position);
+                if (!isNull(exhibition.getGenre())) {
+                    genres.computeIfAbsent(exhibition.getGenre(), genre -> new BitSet()).set(position);
+                }
+                for (Month month : Month.values()) {
+                    if (month != Month.ALL && overlaps(exhibition, month, today)) {
+                        months.computeIfAbsent(month, m -> new BitSet()).set(position);
+                    }
+                }
+            }
+        }
+
+        private static boolean overlaps(ExhibitionFacetForSimpleQuery exhibition, Month month, LocalDate today) {
+            LocalDate monthStart = LocalDate.of(today.getYear(), month.ordinal(), 1);
+            LocalDate monthEnd = monthStart.plusDays(monthStart.lengthOfMonth() - 1);
+            return !exhibition.getStartDate().isAfter(monthEnd) && !exhibition.getEndDate().isBefore(monthStart);
+        }
+
+        private ExhibitionFacetSearchResult search(ExhibitionCustomCondition condition, long offset, int pageSize) {
+            BitSet base = condition.getIncludeEnd() ? all : ongoing;
+            BitSet areaFilter = union(areas, condition.getAreas(), Area.ALL);
+            BitSet monthFilter = union(months, condition.getMonths(), Month.ALL);
+            BitSet genreFilter = union(genres, condition.getGenres(), Genre.ALL);
+
+            BitSet matched = intersect(base, areaFilter, monthFilter, genreFilter);
+            List<Long> exhibitionIds = new ArrayList<>(pageSize);
+            long skipped = 0;
+            for (int position = matched.nextSetBit(0); position >= 0 && exhibitionIds.size() < pageSize;
+                 position = matched.nextSetBit(position + 1)) {
+                if (skipped++ >= offset) {
+                    exhibitionIds.add(ids[position]);
+                }
+            }
+
+            // 각 조건의 수는 나머지 두 조건만 적용한 결과와 해당 값의 비트맵의 교집합 크기
+            ExhibitionFacetsResponse facets = ExhibitionFacetsResponse.builder()
+                    .areas(count(areas, Area.class, Area.ALL, intersect(base, monthFilter, genreFilter)))
+                    .months(count(months, Month.class, Month.ALL, intersect(base, areaFilter, genreFilter)))
+                    .genres(count(genres, Genre.class, Genre.ALL, intersect(base, areaFilter, monthFilter)))
+                    .build();
+
+            return new ExhibitionFacetSearchResult(exhibitionIds, matched.cardinality(), facets);
+        }
+
+        /**
+         * @return 선택한 값들의 비트맵의 합집합. 선택하지 않았거나 ALL 이 포함되어 있다면 null (조건 없음)
+         */
+        private static <E extends Enum<E>> BitSet union(Map<E, BitSet> bitmaps, Set<E> selected, E all) {
+            if (isNull(selected) || selected.isEmpty() || selected.contains(all)) {
+                return null;
+            }
+            BitSet union = new BitSet();
+            selected.forEach(value -> {
+                BitSet bitmap = bitmaps.get(value);
+                if (!isNull(bitmap)) {
+                    union.or(bitmap);
+                }
+            });
+            return union;
+        }
+
+        private static BitSet intersect(BitSet base, BitSet... filters) {
+            BitSet result = (BitSet) base.clone();
+            for (BitSet filter : filters) {
+                if (!isNull(filter)) {
+                    result.and(filter);
+                }
+            }
+            return result;
+        }
+
+        private static <E extends Enum<E>> Map<E, Long> count(Map<E, BitSet> bitmaps, Class<E> type, E all, BitSet filtered) {
+            Map<E, Long> counts = new EnumMap<>(type);
+            for (E value : type.getEnumConstants()) {
+                if (value == all) {
+                    continue;
+                }
+                BitSet bitmap = bitmaps.get(value);
+                if (isNull(bitmap)) {
+                    counts.put(value, 0L);
+                    continue;
+                }
+                BitSet counted = (BitSet) bitmap.clone();
+                counted.and(filtered);
+                counts.put(value, (long) counted.cardinality());
+            }
+            return counts;
+        }
+    }
+}
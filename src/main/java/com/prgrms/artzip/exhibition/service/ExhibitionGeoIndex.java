@@ -0,0 +1,179 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.common.util.GeoUtils;
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.dto.ExhibitionDistance;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionGeoForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+/*
+ * ExhibitionGeoIndex
+ * - 삭제되지 않은 전시회의 좌표를 위도/경도 격자(CELL_DEGREE 단위)로 나누어 메모리에 보관
+ * - 내 주변 전시회 조회 시 반경을 감싸는 격자만 훑어 후보를 고른 뒤, haversine 거리로 걸러 가까운 순으로 정렬
+ * - 스냅샷은 불변 객체로 두고 갱신 시 통째로 교체하므로 조회는 락 없이 수행
+ * - 관리자 변경은 ExhibitionChangedEvent로 즉시 반영하고, 다른 서버에서의 변경은 주기적인 재구성으로 반영
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionGeoIndex {
+
+    static final double CELL_DEGREE = 0.05;
+
+    private final ExhibitionRepository exhibitionRepository;
+
+    private volatile GeoGrid grid;
+
+    /**
+     * @return 반경 distance(km) 이내의 진행 중인 전시회와 거리, 가까운 순. 인덱스가 아직 준비되지 않았다면 empty
+     */
+    public Optional<List<ExhibitionDistance>> findAround(double latitude, double longitude, double distance) {
+        GeoGrid current = grid;
+        if (isNull(current)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.findAround(latitude, longitude, distance, LocalDate.now()));
+    }
+
+    public boolean isReady() {
+        return !isNull(grid);
+    }
+
+    public int size() {
+        GeoGrid current = grid;
+        return isNull(current) ? 0 : current.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${artzip.exhibition.geo-index-refresh-millis:300000}", initialDelayString = "${artzip.exhibition.geo-index-refresh-millis:300000}")
+    public synchronized void rebuild() {
+        try {
+            GeoGrid rebuilt = new GeoGrid(exhibitionRepository.findExhibitionsForGeoIndex());
+            grid = rebuilt;
+            log.info("전시회 위치 인덱스 재구성 완료: {}건, 격자 {}개", rebuilt.size(), rebuilt.cellCount());
+        } catch (DataAccessException e) {
+            log.warn("전시회 위치 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onExhibitionChanged(ExhibitionChangedEvent event) {
+        GeoGrid current = grid;
+        if (isNull(current)) {
+            return;
+        }
+        try {
+            Map<Long, ExhibitionGeoForSimpleQuery> exhibitions = new HashMap<>(current.exhibitions);
+            Optional<Exhibition> exhibition = exhibitionRepository.findById(event.getExhibitionId())
+                    .filter(e -> !e.getIsDeleted());
+            if (exhibition.isEmpty()) {
+                exhibitions.remove(event.getExhibitionId());
+            } else {
+                Exhibition e = exhibition.get();
+                exhibitions.put(e.getId(), new ExhibitionGeoForSimpleQuery(e.getId(),
+                        e.getLocation().getLatitude(), e.getLocation().getLongitude(), e.getPeriod().getEndDate(), e.getLikeCount()));
+            }
+            grid = new GeoGrid(exhibitions.values());
+        } catch (DataAccessException e) {
+            log.warn("전시회 위치 인덱스 갱신 실패 exhibitionId: {}, {}", event.getExhibitionId(), e.getMessage());
+        }
+    }
+
+    static long cellKey(int latitudeIndex, int longitudeIndex) {
+        return ((long) latitudeIndex << 32) | (longitudeIndex & 0xffffffffL);
+    }
+
+    static int latitudeIndex(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREE);
+    }
+
+    static int longitudeIndex(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREE);
+    }
+
+    private static class GeoGrid {
+
+        private final Map<Long, ExhibitionGeoForSimpleQuery> exhibitions = new HashMap<>();
+        private final Map<Long, List<ExhibitionGeoForSimpleQuery>> cells = new HashMap<>();
+
+        private GeoGrid(Collection<ExhibitionGeoForSimpleQuery> exhibitions) {
+            exhibitions.forEach(exhibition -> {
+                this.exhibitions.put(exhibition.getId(), exhibition);
+                long key = cellKey(latitudeIndex(exhibition.getLatitude()), longitudeIndex(exhibition.getLongitude()));
+                cells.computeIfAbsent(key, k -> new ArrayList<>()).add(exhibition);
+            });
+        }
+
+        private List<ExhibitionDistance> findAround(double latitude, double longitude, double distance, LocalDate today) {
+            if (exhibitions.isEmpty()) {
+                return Collections.emptyList();
+            }
+            double latitudeDelta = GeoUtils.latitudeDelta(distance);
+            double longitudeDelta = GeoUtils.longitudeDelta(latitude, distance);
+            int minLatitudeIndex = latitudeIndex(Math.max(-90, latitude - latitudeDelta));
+            int maxLatitudeIndex = latitudeIndex(Math.min(90, latitude + latitudeDelta));
+            int minLongitudeIndex = longitudeIndex(Math.max(-180, longitude - longitudeDelta));
+            int maxLongitudeIndex = longitudeIndex(Math.min(180, longitude + longitudeDelta));
+
+            List<ExhibitionDistance> result = new ArrayList<>();
+            // 반경이 넓어 훑어야 할 격자가 전체 전시회 수보다 많다면 전체를 직접 확인한다.
+            long boxCellCount = (long) (maxLatitudeIndex - minLatitudeIndex + 1) * (maxLongitudeIndex - minLongitudeIndex + 1);
+            if (boxCellCount > cells.size()) {
+                exhibitions.values().forEach(exhibition -> addIfAround(result, exhibition, latitude, longitude, distance, today));
+            } else {
+                for (int i = minLatitudeIndex; i <= maxLatitudeIndex; i++) {
+                    for (int j = minLongitudeIndex; j <= maxLongitudeIndex; j++) {
+                        List<ExhibitionGeoForSimpleQuery> cell = cells.get(cellKey(i, j));
+                        if (isNull(cell)) {
+                            continue;
+                        }
+                        cell.forEach(exhibition -> addIfAround(result, exhibition, latitude, longitude, distance, today));
+                    }
+                }
+            }
+            result.sort(Comparator.comparingDouble(ExhibitionDistance::getDistance)
+                    .thenComparing(ExhibitionDistance::getExhibitionId));
+            return result;
+        }
+
+        private void addIfAround(List<ExhibitionDistance> result, ExhibitionGeoForSimpleQuery exhibition,
+                                 double latitude, double longitude, double distance, LocalDate today) {
+            if (exhibition.getEndDate().isBefore(today)) {
+                return;
+            }
+            double exhibitionDistance = GeoUtils.haversineDistance(latitude, longitude, exhibition.getLatitude(), exhibition.getLongitude());
+            if (exhibitionDistance <= distance) {
+                result.add(new ExhibitionDistance(exhibition.getId(), exhibitionDistance));
+            }
+        }
+
+        private int size() {
+            return exhibitions.size();
+        }
+
+        private int cellCount() {
+            return cells.size();
+        }
+    }
+}
@@ -1,47 +1,63 @@
 package com.prgrms.artzip.exhibition.service;
 
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
+import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
-import com.prgrms.artzip.exhibition.domain.ExhibitionLike;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionLikeResponse;
 import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 import static com.prgrms.artzip.common.ErrorCode.EXHB_NOT_FOUND;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
 
 @Service
 @RequiredArgsConstructor
 public class ExhibitionLikeService {
     private final ExhibitionRepository exhibitionRepository;
     private final ExhibitionLikeRepository exhibitionLikeRepository;
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final LikeCounterRegistry likeCounterRegistry;
 
-    @Transactional
-    public ExhibitionLikeResponse updateExhibitionLike(User user, Long exhibitionId) {
-        Optional<ExhibitionLike> optionalExhibitionLike = exhibitionLikeRepository.findByUserIdAndExhibitionId(user.getId(), exhibitionId);
+    /**
+     * 좋아요는 LikeWriteBuffer 에 기록하고 LikeFlusher 가 DB에 반영한다.
+     * 좋아요 수는 LikeCounterRegistry 에서 읽고, 카운터가 없을 때만 DB의 like_count 에 아직 반영되지 않은 증감을 더해 채운다.
+     */
+    @Transactional(readOnly = true)
+    public ExhibitionLikeResponse updateExhibitionLike(UserPrincipal user, Long exhibitionId) {
+        Exhibition exhibition = exhibitionRepository.findById(exhibitionId).orElseThrow(() -> new InvalidRequestException(EXHB_NOT_FOUND));
 
-        boolean isLiked = optionalExhibitionLike.isPresent();
-        optionalExhibitionLike.ifPresentOrElse(exhibitionLikeRepository::delete, () -> {
-            Exhibition exhibition = exhibitionRepository.findById(exhibitionId).orElseThrow(() -> new InvalidRequestException(EXHB_NOT_FOUND));
+        boolean isLiked = likeWriteBuffer.isLiked(EXHIBITION, exhibitionId, user.getId(),
+                () -> exhibitionLikeRepository.findByUserIdAndExhibitionId(user.getId(), exhibitionId).isPresent());
+        if (!isLiked && exhibition.getIsDeleted()) {
+            throw new InvalidRequestException(EXHB_NOT_FOUND);
+        }
 
-            if (exhibition.getIsDeleted()) {
-                throw new InvalidRequestException(EXHB_NOT_FOUND);
-            }
+        LikeToggle likeToggle = likeWriteBuffer.toggle(EXHIBITION, exhibitionId, user.getId(), isLiked);
 
-            exhibitionLikeRepository.save(new ExhibitionLike(user, exhibition));
-        });
+        return toResponse(exhibitionId, exhibition, likeToggle);
+    }
 
-        Long likeCount = exhibitionLikeRepository.countByExhibitionId(exhibitionId);
+    /**
+     * 좋아요를 원하는 상태로 설정한다. 같은 요청을 여러 번, 동시에 보내도 한 번만 반영된다.
+     * 기존 좋아요는 미리 조회하지 않고 원하는 상태만 버퍼에 기록한다. 없거나 삭제된 전시회는 like_count 한 컬럼만 읽어 버퍼에 기록하기 전에 거른다.
+     */
+    @Transactional(readOnly = true)
+    public ExhibitionLikeResponse setExhibitionLike(UserPrincipal user, Long exhibitionId, boolean liked) {
+        long likeCountInDb = exhibitionRepository.findActiveLikeCountById(exhibitionId)
+                .orElseThrow(() -> new NotFoundException(EXHB_NOT_FOUND));
+        LikeToggle likeToggle = likeWriteBuffer.set(EXHIBITION, exhibitionId, user.getId(), liked);
 
         return ExhibitionLikeResponse.builder()
                 .exhibitionId(exhibitionId)
-                .likeCount(likeCount)
-                .isLiked(!isLiked)
+                .likeCount(likeCounterRegistry.applyToggle(EXHIBITION, exhibitionId, likeToggle, () -> likeCountInDb))
+                .isLiked(likeToggle.isLiked())
                 .build();
     }
 
@@ -49,4 +65,12 @@ public class ExhibitionLikeService {
     public Long getExhibitionLikeCountByUserId(Long userId) {
         return exhibitionLikeRepository.countByUserId(userId);
     }
+
+    private ExhibitionLikeResponse toResponse(Long exhibitionId, Exhibition exhibition, LikeToggle likeToggle) {
+        return ExhibitionLikeResponse.builder()
+                .exhibitionId(exhibitionId)
+                .likeCount(likeCounterRegistry.applyToggle(EXHIBITION, exhibitionId, likeToggle, exhibition::getLikeCount))
+                .isLiked(likeToggle.isLiked())
+                .build();
+    }
 }
@@ -0,0 +1,252 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionRankingForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionRankingLagResponse;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/*
+ * ExhibitionRankingService
+ * - 좋아요 수 기준 전시회 랭킹을 Redis sorted set으로 관리
+ * - 종료 전시회 포함(ALL) / 제외(ONGOING) 두 가지 범위를 유지하며, 종료일은 별도 sorted set으로 관리하여 자정마다 ONGOING에서 제거
+ * - score = 좋아요 수 + (1 - id / ID_SCALE) 이므로, 좋아요 수가 같으면 id가 작은 전시회가 앞에 온다.
+ * - 마지막으로 확인한 랭킹 지연(누락/불일치 수, 최대 좋아요 수 차이)을 gauge 로 남긴다. 확인은 DB 전체를 읽으므로 수집할 때마다 다시 계산하지 않는다.
+ * */
+@Slf4j
+@Service
+public class ExhibitionRankingService {
+
+    static final String RANKING_LAG_METRIC = "artzip.exhibition.ranking.lag";
+
+    private static final String ALL_RANKING_KEY = "ExhibitionRanking_MostLike_All";
+    private static final String ONGOING_RANKING_KEY = "ExhibitionRanking_MostLike_Ongoing";
+    private static final String END_DATE_KEY = "ExhibitionRanking_EndDate";
+    private static final String REBUILT_AT_KEY = "ExhibitionRanking_RebuiltAt";
+    private static final double ID_SCALE = 1_000_000_000d;
+
+    private final RedisService redisService;
+    private final ExhibitionRepository exhibitionRepository;
+    private final AtomicLong missingCount = new AtomicLong();
+    private final AtomicLong mismatchedCount = new AtomicLong();
+    private final AtomicLong maxLikeCountDiff = new AtomicLong();
+
+    public ExhibitionRankingService(RedisService redisService, ExhibitionRepository exhibitionRepository,
+                                    MeterRegistry meterRegistry) {
+        this.redisService = redisService;
+        this.exhibitionRepository = exhibitionRepository;
+        registerLagGauge(meterRegistry, "missing", missingCount, "랭킹에 없는 전시회 수");
+        registerLagGauge(meterRegistry, "mismatched", mismatchedCount, "랭킹 점수와 DB 좋아요 수가 다른 전시회 수");
+        registerLagGauge(meterRegistry, "max-like-count-diff", maxLikeCountDiff, "랭킹 점수와 DB 좋아요 수의 최대 차이");
+    }
+
+    public Optional<Page<Long>> getMostLikeExhibitionIds(boolean includeEnd, Pageable pageable) {
+        String rankingKey = getRankingKey(includeEnd);
+        try {
+            if (!redisService.hasKey(REBUILT_AT_KEY)) {
+                return Optional.empty();
+            }
+            long total = redisService.getSortedSetSize(rankingKey);
+            List<Long> exhibitionIds = redisService.reverseRangeOfSortedSet(rankingKey,
+                            pageable.getOffset(), pageable.getOffset() + pageable.getPageSize() - 1)
+                    .stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+            return Optional.of(new PageImpl<>(exhibitionIds, pageable, total));
+        } catch (DataAccessException e) {
+            log.warn("전시회 랭킹 조회 실패, DB로 조회합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExhibitionLikeChanged(ExhibitionLikeChangedEvent event) {
+        try {
+            redisService.incrementScoreIfPresent(List.of(ALL_RANKING_KEY, ONGOING_RANKING_KEY),
+                    String.valueOf(event.getExhibitionId()), event.getLikeCountDelta());
+        } catch (DataAccessException e) {
+            log.warn("전시회 랭킹 갱신 실패 exhibitionId: {}, {}", event.getExhibitionId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExhibitionChanged(ExhibitionChangedEvent event) {
+        String member = String.valueOf(event.getExhibitionId());
+        try {
+            Optional<Exhibition> exhibition = exhibitionRepository.findById(event.getExhibitionId())
+                    .filter(e -> !e.getIsDeleted());
+            if (exhibition.isEmpty()) {
+                removeFromRanking(member);
+                return;
+            }
+
+            LocalDate endDate = exhibition.get().getPeriod().getEndDate();
+            double score = getScore(exhibition.get().getId(), exhibition.get().getLikeCount());
+            redisService.addToSortedSetIfAbsent(ALL_RANKING_KEY, member, score);
+            if (isOngoing(endDate, LocalDate.now())) {
+                redisService.addToSortedSetIfAbsent(ONGOING_RANKING_KEY, member, score);
+                redisService.addToSortedSet(END_DATE_KEY, member, endDate.toEpochDay());
+            } else {
+                redisService.removeFromSortedSet(ONGOING_RANKING_KEY, member);
+                redisService.removeFromSortedSet(END_DATE_KEY, member);
+            }
+        } catch (DataAccessException e) {
+            log.warn("전시회 랭킹 갱신 실패 exhibitionId: {}, {}", event.getExhibitionId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${artzip.exhibition.ranking-rollover-cron:1 0 0 * * *}")
+    public void rolloverEndedExhibitions() {
+        try {
+            double yesterday = LocalDate.now().minusDays(1).toEpochDay();
+            Object[] endedExhibitionIds = redisService
+                    .rangeByScoreOfSortedSet(END_DATE_KEY, 0, yesterday)
+                    .toArray();
+            redisService.removeFromSortedSet(ONGOING_RANKING_KEY, endedExhibitionIds);
+            redisService.removeFromSortedSet(END_DATE_KEY, endedExhibitionIds);
+            log.info("종료된 전시회 {}건을 진행 중 랭킹에서 제거했습니다.", endedExhibitionIds.length);
+        } catch (DataAccessException e) {
+            log.warn("종료 전시회 랭킹 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfAbsent() {
+        try {
+            if (!redisService.hasKey(REBUILT_AT_KEY)) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("전시회 랭킹 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        List<ExhibitionRankingForSimpleQuery> exhibitions = exhibitionRepository.findExhibitionsForRanking();
+        LocalDate today = LocalDate.now();
+
+        Set<TypedTuple<String>> allRanking = new HashSet<>();
+        Set<TypedTuple<String>> ongoingRanking = new HashSet<>();
+        Set<TypedTuple<String>> endDates = new HashSet<>();
+        exhibitions.forEach(exhibition -> {
+            String member = String.valueOf(exhibition.getId());
+            double score = getScore(exhibition.getId(), exhibition.getLikeCount());
+            allRanking.add(new DefaultTypedTuple<>(member, score));
+            if (isOngoing(exhibition.getEndDate(), today)) {
+                ongoingRanking.add(new DefaultTypedTuple<>(member, score));
+                endDates.add(new DefaultTypedTuple<>(member, (double) exhibition.getEndDate().toEpochDay()));
+            }
+        });
+
+        redisService.replaceSortedSet(ALL_RANKING_KEY, allRanking);
+        redisService.replaceSortedSet(ONGOING_RANKING_KEY, ongoingRanking);
+        redisService.replaceSortedSet(END_DATE_KEY, endDates);
+        redisService.setValues(REBUILT_AT_KEY, String.valueOf(System.currentTimeMillis()));
+        log.info("전시회 랭킹 재구성 완료: 전체 {}건, 진행 중 {}건", allRanking.size(), ongoingRanking.size());
+    }
+
+    public ExhibitionRankingLagResponse getRankingLag() {
+        Map<Long, Long> likeCounts = exhibitionRepository.findExhibitionsForRanking().stream()
+                .collect(Collectors.toMap(ExhibitionRankingForSimpleQuery::getId, ExhibitionRankingForSimpleQuery::getLikeCount));
+        Map<Long, Long> rankedLikeCounts = new HashMap<>();
+        redisService.rangeWithScoresOfSortedSet(ALL_RANKING_KEY).forEach(tuple ->
+                rankedLikeCounts.put(Long.valueOf(Objects.requireNonNull(tuple.getValue())),
+                        (long) Math.floor(Objects.requireNonNull(tuple.getScore()))));
+
+        long missingCount = 0;
+        long mismatchedCount = 0;
+        long maxLikeCountDiff = 0;
+        for (Map.Entry<Long, Long> entry : likeCounts.entrySet()) {
+            Long rankedLikeCount = rankedLikeCounts.get(entry.getKey());
+            if (Objects.isNull(rankedLikeCount)) {
+                missingCount++;
+                continue;
+            }
+            long diff = Math.abs(rankedLikeCount - entry.getValue());
+            if (diff > 0) {
+                mismatchedCount++;
+                maxLikeCountDiff = Math.max(maxLikeCountDiff, diff);
+            }
+        }
+
+        this.missingCount.set(missingCount);
+        this.mismatchedCount.set(mismatchedCount);
+        this.maxLikeCountDiff.set(maxLikeCountDiff);
+
+        String rebuiltAt = redisService.getValues(REBUILT_AT_KEY);
+        return ExhibitionRankingLagResponse.builder()
+                .expectedCount(likeCounts.size())
+                .rankedCount(rankedLikeCounts.size())
+                .missingCount(missingCount)
+                .mismatchedCount(mismatchedCount)
+                .maxLikeCountDiff(maxLikeCountDiff)
+                .secondsSinceRebuild(Objects.isNull(rebuiltAt) ? null : (System.currentTimeMillis() - Long.parseLong(rebuiltAt)) / 1000)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${artzip.exhibition.ranking-lag-check-millis:600000}", initialDelayString = "${artzip.exhibition.ranking-lag-check-millis:600000}")
+    public void repairIfLagging() {
+        try {
+            ExhibitionRankingLagResponse lag = getRankingLag();
+            log.info("전시회 랭킹 지연 - 누락: {}, 불일치: {}, 최대 좋아요 수 차이: {}, 재구성 후 경과(초): {}",
+                    lag.getMissingCount(), lag.getMismatchedCount(), lag.getMaxLikeCountDiff(), lag.getSecondsSinceRebuild());
+            if (lag.isLagging()) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("전시회 랭킹 지연 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void registerLagGauge(MeterRegistry meterRegistry, String type, AtomicLong value, String description) {
+        Gauge.builder(RANKING_LAG_METRIC, value, AtomicLong::get)
+                .description("마지막 랭킹 지연 확인 시 " + description)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private void removeFromRanking(String member) {
+        redisService.removeFromSortedSet(ALL_RANKING_KEY, member);
+        redisService.removeFromSortedSet(ONGOING_RANKING_KEY, member);
+        redisService.removeFromSortedSet(END_DATE_KEY, member);
+    }
+
+    private String getRankingKey(boolean includeEnd) {
+        return includeEnd ? ALL_RANKING_KEY : ONGOING_RANKING_KEY;
+    }
+
+    private boolean isOngoing(LocalDate endDate, LocalDate today) {
+        return !endDate.isBefore(today);
+    }
+
+    private double getScore(Long exhibitionId, long likeCount) {
+        return likeCount + (1 - exhibitionId / ID_SCALE);
+    }
+}
@@ -0,0 +1,213 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/*
+ * ExhibitionSearchIndex
+ * - 삭제되지 않은 전시회의 이름, 장소, 주소를 소문자로 바꾼 뒤 글자 단위 1-gram / 2-gram 역색인으로 보관
+ * - 한글은 음절, 영문/숫자는 글자 단위로 쪼개므로 LIKE '%검색어%'와 같은 부분 일치를 지원
+ * - 검색어의 2-gram 목록(한 글자라면 1-gram)의 포스팅을 교집합한 뒤, 실제 문자열 포함 여부로 다시 확인하여 오탐을 제거
+ * - 스냅샷은 불변 객체로 두고 갱신 시 통째로 교체하므로 조회는 락 없이 수행
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionSearchIndex {
+
+    private final ExhibitionRepository exhibitionRepository;
+
+    private volatile SearchSnapshot snapshot;
+
+    /**
+     * @param filter 기간 등 추가 조건
+     * @return 이름, 장소, 주소 중 하나라도 검색어를 포함하는 전시회, id 오름차순. 인덱스가 아직 준비되지 않았다면 empty
+     */
+    public Optional<List<ExhibitionSearchForSimpleQuery>> search(String query, Predicate<ExhibitionSearchForSimpleQuery> filter) {
+        SearchSnapshot current = snapshot;
+        if (isNull(current)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(normalize(query), filter));
+    }
+
+    /**
+     * @return 인덱스에 있는 모든 전시회. 인덱스가 아직 준비되지 않았다면 empty
+     */
+    public Optional<Collection<ExhibitionSearchForSimpleQuery>> getExhibitions() {
+        SearchSnapshot current = snapshot;
+        return isNull(current) ? Optional.empty() : Optional.of(current.exhibitions.values());
+    }
+
+    public int size() {
+        SearchSnapshot current = snapshot;
+        return isNull(current) ? 0 : current.exhibitions.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${artzip.exhibition.search-index-refresh-millis:300000}", initialDelayString = "${artzip.exhibition.search-index-refresh-millis:300000}")
+    public synchronized void rebuild() {
+        try {
+            SearchSnapshot rebuilt = new SearchSnapshot(exhibitionRepository.findExhibitionsForSearchIndex());
+            snapshot = rebuilt;
+            log.info("전시회 검색 인덱스 재구성 완료: {}건, gram {}개", rebuilt.exhibitions.size(), rebuilt.postings.size());
+        } catch (DataAccessException e) {
+            log.warn("전시회 검색 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onExhibitionChanged(ExhibitionChangedEvent event) {
+        SearchSnapshot current = snapshot;
+        if (isNull(current)) {
+            return;
+        }
+        try {
+            Map<Long, ExhibitionSearchForSimpleQuery> exhibitions = new HashMap<>(current.exhibitions);
+            exhibitions.remove(event.getExhibitionId());
+            exhibitionRepository.findById(event.getExhibitionId())
+                    .filter(exhibition -> !exhibition.getIsDeleted())
+                    .map(ExhibitionSearchIndex::toSearch)
+                    .ifPresent(exhibition -> exhibitions.put(exhibition.getId(), exhibition));
+            snapshot = new SearchSnapshot(exhibitions.values());
+        } catch (DataAccessException e) {
+            log.warn("전시회 검색 인덱스 갱신 실패 exhibitionId: {}, {}", event.getExhibitionId(), e.getMessage());
+        }
+    }
+
+    static String normalize(String text) {
+        return isNull(text) ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 2-gram 목록, 두 글자 미만이라면 1-gram 목록
+     */
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() < 2) {
+            if (!text.isEmpty()) {
+                grams.add(text);
+            }
+            return grams;
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    static ExhibitionSearchForSimpleQuery toSearch(Exhibition exhibition) {
+        return ExhibitionSearchForSimpleQuery.builder()
+                .id(exhibition.getId())
+                .name(exhibition.getName())
+                .thumbnail(exhibition.getThumbnail())
+                .place(exhibition.getLocation().getPlace())
+                .address(exhibition.getLocation().getAddress())
+                .startDate(exhibition.getPeriod().getStartDate())
+                .endDate(exhibition.getPeriod().getEndDate())
+                .likeCount(exhibition.getLikeCount())
+                .build();
+    }
+
+    private static class SearchSnapshot {
+
+        private final Map<Long, ExhibitionSearchForSimpleQuery> exhibitions = new TreeMap<>();
+        private final Map<Long, String[]> normalizedTexts = new HashMap<>();
+        // gram -> 이름, 장소, 주소 중 하나라도 gram을 포함하는 전시회 id 오름차순 배열
+        private final Map<String, long[]> postings = new HashMap<>();
+
+        private SearchSnapshot(Collection<ExhibitionSearchForSimpleQuery> exhibitions) {
+            exhibitions.forEach(exhibition -> this.exhibitions.put(exhibition.getId(), exhibition));
+
+            Map<String, Set<Long>> builder = new HashMap<>();
+            this.exhibitions.values().forEach(exhibition -> {
+                String[] texts = {normalize(exhibition.getName()), normalize(exhibition.getPlace()), normalize(exhibition.getAddress())};
+                normalizedTexts.put(exhibition.getId(), texts);
+                for (String text : texts) {
+                    Set<String> grams = new LinkedHashSet<>();
+                    for (int i = 0; i < text.length(); i++) {
+                        grams.add(text.substring(i, i + 1));
+                    }
+                    grams.addAll(grams(text));
+                    // id 오름차순으로 순회하므로 삽입 순서가 곧 정렬 순서
+                    grams.forEach(gram -> builder.computeIfAbsent(gram, g -> new LinkedHashSet<>()).add(exhibition.getId()));
+                }
+            });
+            builder.forEach((gram, posting) -> postings.put(gram, posting.stream().mapToLong(Long::longValue).toArray()));
+        }
+
+        private List<ExhibitionSearchForSimpleQuery> search(String query, Predicate<ExhibitionSearchForSimpleQuery> filter) {
+            Set<String> grams = grams(query);
+            if (grams.isEmpty()) {
+                return List.of();
+            }
+
+            // 가장 짧은 포스팅부터 교집합
+            List<long[]> ordered = grams.stream()
+                    .map(gram -> postings.getOrDefault(gram, new long[0]))
+                    .sorted(Comparator.comparingInt(posting -> posting.length))
+                    .collect(Collectors.toList());
+            long[] candidates = ordered.get(0);
+            for (int i = 1; i < ordered.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, ordered.get(i));
+            }
+
+            List<ExhibitionSearchForSimpleQuery> result = new ArrayList<>();
+            for (long id : candidates) {
+                String[] texts = normalizedTexts.get(id);
+                boolean matched = texts[0].contains(query) || texts[1].contains(query) || texts[2].contains(query);
+                ExhibitionSearchForSimpleQuery exhibition = exhibitions.get(id);
+                if (matched && filter.test(exhibition)) {
+                    result.add(exhibition);
+                }
+            }
+            return result;
+        }
+
+        private static long[] intersect(long[] a, long[] b) {
+            long[] result = new long[Math.min(a.length, b.length)];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    result[size++] = a[i];
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+}
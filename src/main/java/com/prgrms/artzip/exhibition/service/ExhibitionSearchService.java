@@ -5,35 +5,73 @@ import com.prgrms.artzip.exhibition.domain.enumType.Area;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
 import com.prgrms.artzip.exhibition.domain.enumType.Month;
 import com.prgrms.artzip.exhibition.dto.ExhibitionCustomCondition;
+import com.prgrms.artzip.exhibition.dto.ExhibitionFacetSearchResult;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.request.ExhibitionCustomConditionRequest;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionBasicInfoResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionCustomPageResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
+import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.domain.PendingLike;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static com.prgrms.artzip.common.ErrorCode.*;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
 import static java.util.Objects.isNull;
 
 @Service
 @RequiredArgsConstructor
 public class ExhibitionSearchService {
+    private static final int REVIEW_SEARCH_LIMIT = 30;
+
     private final ExhibitionRepository exhibitionRepository;
+    private final ExhibitionLikeRepository exhibitionLikeRepository;
+    private final ExhibitionCardCache exhibitionCardCache;
+    private final ExhibitionSearchIndex exhibitionSearchIndex;
+    private final ExhibitionAutocompleteIndex exhibitionAutocompleteIndex;
+    private final ExhibitionFacetIndex exhibitionFacetIndex;
+    private final LikeCounterRegistry likeCounterRegistry;
+    private final LikeWriteBuffer likeWriteBuffer;
 
     public Page<ExhibitionInfoResponse> getExhibitionsByQuery(Long userId, String query, boolean includeEnd, Pageable pageable) {
         if (isNull(query) || query.isBlank() || query.length() < 2) {
             throw new InvalidRequestException(INVALID_EXHB_QUERY);
         }
 
-        return exhibitionRepository.findExhibitionsByQuery(userId, query, includeEnd, pageable).map(ExhibitionInfoResponse::new);
+        LocalDate today = LocalDate.now();
+        Optional<List<ExhibitionSearchForSimpleQuery>> indexed = exhibitionSearchIndex.search(query,
+                exhibition -> includeEnd || !exhibition.getEndDate().isBefore(today));
+        if (indexed.isEmpty()) {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionCardCache.getList(
+                    "query:" + query + ":" + includeEnd + ":" + pageable.getOffset() + ":" + pageable.getPageSize(),
+                    () -> exhibitionRepository.findExhibitionsByQuery(query, includeEnd, pageable));
+            return overlayIsLiked(userId, exhibitionsPagingResult);
+        }
+
+        List<Long> pageIds = indexed.get().stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(ExhibitionSearchForSimpleQuery::getId)
+                .collect(Collectors.toList());
+        List<ExhibitionInfoResponse> content = hydrate(userId, pageIds);
+
+        return new PageImpl<>(content, pageable, indexed.get().size());
     }
 
     public List<ExhibitionBasicInfoResponse> getExhibitionsForReview(String query) {
@@ -41,6 +79,17 @@ public class ExhibitionSearchService {
             throw new InvalidRequestException(INVALID_EXHB_QUERY_FOR_REVIEW);
         }
 
+        Optional<List<ExhibitionSearchForSimpleQuery>> completed = exhibitionAutocompleteIndex.complete(query, REVIEW_SEARCH_LIMIT);
+        if (completed.isPresent()) {
+            return completed.get().stream()
+                    .map(exhibition -> ExhibitionBasicInfoResponse.builder()
+                            .exhibitionId(exhibition.getId())
+                            .name(exhibition.getName())
+                            .thumbnail(exhibition.getThumbnail())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
         return exhibitionRepository.findExhibitionsForReview(query).stream()
                 .map(exhibitionBasicForSimpleQuery -> ExhibitionBasicInfoResponse.builder()
                         .exhibitionId(exhibitionBasicForSimpleQuery.getId())
@@ -50,11 +99,53 @@ public class ExhibitionSearchService {
                 .collect(Collectors.toList());
     }
 
-    public Page<ExhibitionInfoResponse> getExhibitionsByCustomCondition(Long userId, ExhibitionCustomConditionRequest exhibitionCustomConditionRequest, boolean includeEnd, Pageable pageable) {
+    public ExhibitionCustomPageResponse getExhibitionsByCustomCondition(Long userId, ExhibitionCustomConditionRequest exhibitionCustomConditionRequest, boolean includeEnd, Pageable pageable) {
         ExhibitionCustomCondition exhibitionCustomCondition = validateCondition(exhibitionCustomConditionRequest, includeEnd);
-        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(userId, exhibitionCustomCondition, pageable);
 
-        return exhibitionsPagingResult.map(ExhibitionInfoResponse::new);
+        Optional<ExhibitionFacetSearchResult> indexed = exhibitionFacetIndex.search(exhibitionCustomCondition, pageable.getOffset(), pageable.getPageSize());
+        if (indexed.isEmpty()) {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionCardCache.getList(
+                    "custom:" + new TreeSet<>(exhibitionCustomCondition.getAreas()) + ":" + new TreeSet<>(exhibitionCustomCondition.getMonths())
+                            + ":" + new TreeSet<>(exhibitionCustomCondition.getGenres()) + ":" + includeEnd
+                            + ":" + pageable.getOffset() + ":" + pageable.getPageSize(),
+                    () -> exhibitionRepository.findExhibitionsByCustomCondition(exhibitionCustomCondition, pageable));
+            return new ExhibitionCustomPageResponse(overlayIsLiked(userId, exhibitionsPagingResult), null);
+        }
+
+        List<ExhibitionInfoResponse> content = hydrate(userId, indexed.get().getExhibitionIds());
+        return new ExhibitionCustomPageResponse(new PageImpl<>(content, pageable, indexed.get().getTotal()), indexed.get().getFacets());
+    }
+
+    private List<ExhibitionInfoResponse> hydrate(Long userId, List<Long> exhibitionIds) {
+        if (exhibitionIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 인덱스 갱신 직후 삭제된 전시회는 조회되지 않으므로 제외
+        List<ExhibitionForSimpleQuery> exhibitions = exhibitionCardCache.getCards(exhibitionIds, exhibitionRepository::findExhibitionsByIds);
+        Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitionIds);
+
+        return exhibitions.stream()
+                .map(exhibition -> toInfoResponse(exhibition, likedExhibitionIds))
+                .collect(Collectors.toList());
+    }
+
+    private Page<ExhibitionInfoResponse> overlayIsLiked(Long userId, Page<ExhibitionForSimpleQuery> exhibitions) {
+        Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitions.getContent().stream()
+                .map(ExhibitionForSimpleQuery::getId)
+                .collect(Collectors.toList()));
+        return exhibitions.map(exhibition -> toInfoResponse(exhibition, likedExhibitionIds));
+    }
+
+    private ExhibitionInfoResponse toInfoResponse(ExhibitionForSimpleQuery exhibition, Set<Long> likedExhibitionIds) {
+        long likeCount = likeCounterRegistry.find(EXHIBITION, exhibition.getId()).orElse(exhibition.getLikeCount());
+        return new ExhibitionInfoResponse(exhibition, likedExhibitionIds.contains(exhibition.getId()), likeCount);
+    }
+
+    // DB의 좋아요 여부에 로그인 사용자가 방금 누른, 아직 반영되지 않은 좋아요/취소를 덧씌운다.
+    private Set<Long> findLikedExhibitionIds(Long userId, List<Long> exhibitionIds) {
+        return PendingLike.overlay(exhibitionLikeRepository.findLikedExhibitionIds(userId, exhibitionIds),
+                likeWriteBuffer.getPendingStates(EXHIBITION, userId, exhibitionIds));
     }
 
     private ExhibitionCustomCondition validateCondition(ExhibitionCustomConditionRequest exhibitionCustomConditionRequest, boolean includeEnd) {
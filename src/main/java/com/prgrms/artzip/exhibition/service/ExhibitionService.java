@@ -1,65 +1,228 @@
 package com.prgrms.artzip.exhibition.service;
 
+import com.prgrms.artzip.common.CursorResponse;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
-import com.prgrms.artzip.exhibition.dto.projection.ExhibitionDetailForSimpleQuery;
+import com.prgrms.artzip.common.util.Cursor;
+import com.prgrms.artzip.common.util.GeoUtils;
+import com.prgrms.artzip.exhibition.dto.ExhibitionDetailSnapshot;
+import com.prgrms.artzip.exhibition.dto.ExhibitionDistance;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionWithLocationForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionAroundMeInfoResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionClustersResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionDetailInfoResponse;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
+import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.domain.PendingLike;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.dto.response.ReviewsResponseForExhibitionDetail;
 import com.prgrms.artzip.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.prgrms.artzip.common.ErrorCode.*;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
 
 @Service
 @RequiredArgsConstructor
 public class ExhibitionService {
+    private static final int MAX_ZOOM = 21;
+    private static final int LEAF_EXHIBITION_LIMIT = 300;
+
     private final ExhibitionRepository exhibitionRepository;
+    private final ExhibitionLikeRepository exhibitionLikeRepository;
+    private final ExhibitionCardCache exhibitionCardCache;
+    private final ExhibitionDetailCache exhibitionDetailCache;
     private final ReviewService reviewService;
+    private final ExhibitionRankingService exhibitionRankingService;
+    private final ExhibitionGeoIndex exhibitionGeoIndex;
+    private final ExhibitionClusterIndex exhibitionClusterIndex;
+    private final LikeCounterRegistry likeCounterRegistry;
+    private final LikeWriteBuffer likeWriteBuffer;
 
     public Page<ExhibitionInfoResponse> getUpcomingExhibitions(Long userId, Pageable pageable) {
-        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUpcomingExhibitions(userId, pageable);
+        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionCardCache.getList(
+                "upcoming:" + pageable.getOffset() + ":" + pageable.getPageSize(),
+                () -> exhibitionRepository.findUpcomingExhibitions(pageable));
+
+        return overlayIsLiked(userId, exhibitionsPagingResult);
+    }
 
-        return exhibitionsPagingResult.map(ExhibitionInfoResponse::new);
+    public CursorResponse<ExhibitionInfoResponse> getUpcomingExhibitionsByCursor(Long userId, String cursor, int size) {
+        Cursor.validateSize(size);
+        Cursor decodedCursor = Cursor.decode(cursor);
+        Slice<ExhibitionForSimpleQuery> exhibitions = exhibitionCardCache.getList(
+                "upcoming-cursor:" + cursor + ":" + size,
+                () -> exhibitionRepository.findUpcomingExhibitionsByCursor(decodedCursor, size));
+        String nextCursor = Cursor.nextCursorOf(exhibitions, exhibition -> Cursor.encode(
+                exhibition.getPeriod().getStartDate(), exhibition.getPeriod().getEndDate(), exhibition.getId()));
+
+        return new CursorResponse<>(overlayIsLiked(userId, exhibitions), nextCursor);
     }
 
     public Page<ExhibitionInfoResponse> getMostLikeExhibitions(Long userId, boolean includeEnd, Pageable pageable) {
-        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findMostLikeExhibitions(userId, includeEnd, pageable);
+        Optional<Page<Long>> rankedExhibitionIds = exhibitionRankingService.getMostLikeExhibitionIds(includeEnd, pageable);
+        if (rankedExhibitionIds.isEmpty()) {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionCardCache.getList(
+                    "mostlike:" + includeEnd + ":" + pageable.getOffset() + ":" + pageable.getPageSize(),
+                    () -> exhibitionRepository.findMostLikeExhibitions(includeEnd, pageable));
+
+            return overlayIsLiked(userId, exhibitionsPagingResult);
+        }
 
-        return exhibitionsPagingResult.map(ExhibitionInfoResponse::new);
+        Page<Long> exhibitionIds = rankedExhibitionIds.get();
+        List<ExhibitionForSimpleQuery> rankedExhibitions = exhibitionCardCache.getCards(exhibitionIds.getContent(), exhibitionRepository::findExhibitionsByIds);
+        Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitionIds.getContent());
+
+        return new PageImpl<>(rankedExhibitions.stream()
+                .map(exhibition -> toInfoResponse(exhibition, likedExhibitionIds))
+                .collect(Collectors.toList()), pageable, exhibitionIds.getTotalElements());
+    }
+
+    public CursorResponse<ExhibitionInfoResponse> getMostLikeExhibitionsByCursor(Long userId, boolean includeEnd, String cursor, int size) {
+        Cursor.validateSize(size);
+        Cursor decodedCursor = Cursor.decode(cursor);
+        Slice<ExhibitionForSimpleQuery> exhibitions = exhibitionCardCache.getList(
+                "mostlike-cursor:" + includeEnd + ":" + cursor + ":" + size,
+                () -> exhibitionRepository.findMostLikeExhibitionsByCursor(includeEnd, decodedCursor, size));
+        String nextCursor = Cursor.nextCursorOf(exhibitions, exhibition -> Cursor.encode(exhibition.getLikeCount(), exhibition.getId()));
+
+        return new CursorResponse<>(overlayIsLiked(userId, exhibitions), nextCursor);
     }
 
     public ExhibitionDetailInfoResponse getExhibition(Long userId, Long exhibitionId) {
-        ExhibitionDetailForSimpleQuery exhibition = exhibitionRepository.findExhibition(userId, exhibitionId).orElseThrow(() -> new InvalidRequestException(EXHB_NOT_FOUND));
-        List<ReviewsResponseForExhibitionDetail> reviews = reviewService.getReviewsForExhibition(userId, exhibitionId);
+        ExhibitionDetailSnapshot snapshot = exhibitionDetailCache.get(exhibitionId, () -> exhibitionRepository.findExhibition(exhibitionId)
+                        .map(exhibition -> new ExhibitionDetailSnapshot(exhibition, reviewService.getReviewsForExhibition(null, exhibitionId))))
+                .orElseThrow(() -> new InvalidRequestException(EXHB_NOT_FOUND));
+        boolean isLiked = findLikedExhibitionIds(userId, List.of(exhibitionId)).contains(exhibitionId);
+        // 좋아요마다 상세 캐시를 비우지 않도록 좋아요 수는 캐시된 값을 쓰지 않고 카운터, 없으면 like_count 한 컬럼으로 덧씌운다.
+        long likeCount = likeCounterRegistry.find(EXHIBITION, exhibitionId)
+                .orElseGet(() -> exhibitionRepository.findActiveLikeCountById(exhibitionId).orElse(0L));
+        List<ReviewsResponseForExhibitionDetail> reviews = reviewService.overlayIsLiked(userId, snapshot.getReviews());
 
-        return new ExhibitionDetailInfoResponse(exhibition, reviews);
+        return new ExhibitionDetailInfoResponse(snapshot.getExhibition(), isLiked, likeCount, reviews);
     }
 
     public Page<ExhibitionInfoResponse> getUserLikeExhibitions(Long userId, Long exhibitionLikeUserId, Pageable pageable) {
-        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUserLikeExhibitions(userId, exhibitionLikeUserId, pageable);
+        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUserLikeExhibitions(exhibitionLikeUserId, pageable);
 
-        return exhibitionsPagingResult.map(ExhibitionInfoResponse::new);
+        return overlayIsLiked(userId, exhibitionsPagingResult);
     }
 
     public List<ExhibitionAroundMeInfoResponse> getExhibitionsAroundMe(Long userId, double latitude, double longitude, double distance) {
         validateCoordinate(latitude, longitude);
         validateDistance(distance);
 
-        List<ExhibitionWithLocationForSimpleQuery> exhibitions = exhibitionRepository.findExhibitionsAroundMe(userId, latitude, longitude, distance);
+        Optional<List<ExhibitionDistance>> candidates = exhibitionGeoIndex.findAround(latitude, longitude, distance);
+        if (candidates.isEmpty()) {
+            List<ExhibitionWithLocationForSimpleQuery> exhibitions = exhibitionRepository.findExhibitionsAroundMe(latitude, longitude, distance);
+            Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitions.stream()
+                    .map(ExhibitionWithLocationForSimpleQuery::getId)
+                    .collect(Collectors.toList()));
+            return exhibitions.stream()
+                    .map(exhibition -> toAroundMeInfoResponse(exhibition, GeoUtils.haversineDistance(latitude, longitude,
+                            exhibition.getLocation().getLatitude(), exhibition.getLocation().getLongitude()), likedExhibitionIds))
+                    .sorted(Comparator.comparingDouble(ExhibitionAroundMeInfoResponse::getDistance))
+                    .collect(Collectors.toList());
+        }
 
-        return exhibitions.stream()
-                .map(ExhibitionAroundMeInfoResponse::new)
+        List<Long> exhibitionIds = candidates.get().stream()
+                .map(ExhibitionDistance::getExhibitionId)
                 .collect(Collectors.toList());
+        Map<Long, ExhibitionWithLocationForSimpleQuery> exhibitions = findExhibitionsWithLocationByIds(exhibitionIds);
+        Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitionIds);
+
+        return candidates.get().stream()
+                .filter(candidate -> exhibitions.containsKey(candidate.getExhibitionId()))
+                .map(candidate -> toAroundMeInfoResponse(exhibitions.get(candidate.getExhibitionId()), candidate.getDistance(), likedExhibitionIds))
+                .collect(Collectors.toList());
+    }
+
+    public ExhibitionClustersResponse getExhibitionClusters(Long userId, double swLatitude, double swLongitude,
+                                                            double neLatitude, double neLongitude, int zoom, int top) {
+        validateCoordinate(swLatitude, swLongitude);
+        validateCoordinate(neLatitude, neLongitude);
+        validateBounds(swLatitude, neLatitude);
+        validateZoom(zoom);
+        validateClusterTop(top);
+
+        if (zoom <= ExhibitionClusterIndex.MAX_CLUSTER_ZOOM) {
+            return ExhibitionClustersResponse.builder()
+                    .zoom(zoom)
+                    .isLeaf(false)
+                    .clusters(exhibitionClusterIndex.findClusters(swLatitude, swLongitude, neLatitude, neLongitude, zoom, top))
+                    .build();
+        }
+
+        List<Long> exhibitionIds = exhibitionClusterIndex.findExhibitionIds(swLatitude, swLongitude, neLatitude, neLongitude, LEAF_EXHIBITION_LIMIT);
+        Map<Long, ExhibitionWithLocationForSimpleQuery> exhibitions = findExhibitionsWithLocationByIds(exhibitionIds);
+        Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitionIds);
+
+        return ExhibitionClustersResponse.builder()
+                .zoom(zoom)
+                .isLeaf(true)
+                .exhibitions(exhibitionIds.stream()
+                        .map(exhibitions::get)
+                        .filter(Objects::nonNull)
+                        .map(exhibition -> toAroundMeInfoResponse(exhibition, null, likedExhibitionIds))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    // 사용자와 무관한 카드 목록에 로그인 사용자의 좋아요 여부를 한 번의 IN 조회로 덧씌운다.
+    // 이 서버에 좋아요 수 카운터가 있는 전시회는 캐시된 값 대신 카운터 값을 쓴다.
+    private Page<ExhibitionInfoResponse> overlayIsLiked(Long userId, Page<ExhibitionForSimpleQuery> exhibitions) {
+        Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitions);
+        return exhibitions.map(exhibition -> toInfoResponse(exhibition, likedExhibitionIds));
+    }
+
+    private Slice<ExhibitionInfoResponse> overlayIsLiked(Long userId, Slice<ExhibitionForSimpleQuery> exhibitions) {
+        Set<Long> likedExhibitionIds = findLikedExhibitionIds(userId, exhibitions);
+        return exhibitions.map(exhibition -> toInfoResponse(exhibition, likedExhibitionIds));
+    }
+
+    private ExhibitionInfoResponse toInfoResponse(ExhibitionForSimpleQuery exhibition, Set<Long> likedExhibitionIds) {
+        long likeCount = likeCounterRegistry.find(EXHIBITION, exhibition.getId()).orElse(exhibition.getLikeCount());
+        return new ExhibitionInfoResponse(exhibition, likedExhibitionIds.contains(exhibition.getId()), likeCount);
+    }
+
+    private ExhibitionAroundMeInfoResponse toAroundMeInfoResponse(ExhibitionWithLocationForSimpleQuery exhibition, Double distance,
+                                                                  Set<Long> likedExhibitionIds) {
+        long likeCount = likeCounterRegistry.find(EXHIBITION, exhibition.getId()).orElse(exhibition.getLikeCount());
+        return new ExhibitionAroundMeInfoResponse(exhibition, distance, likedExhibitionIds.contains(exhibition.getId()), likeCount);
+    }
+
+    // 지도 목록은 사용자와 무관하게 조회한 뒤 목록 카드와 같은 방식으로 좋아요 여부와 좋아요 수를 덧씌운다.
+    private Map<Long, ExhibitionWithLocationForSimpleQuery> findExhibitionsWithLocationByIds(List<Long> exhibitionIds) {
+        return exhibitionRepository.findExhibitionsWithLocationByIds(exhibitionIds).stream()
+                .collect(Collectors.toMap(ExhibitionWithLocationForSimpleQuery::getId, Function.identity()));
+    }
+
+    private Set<Long> findLikedExhibitionIds(Long userId, Slice<ExhibitionForSimpleQuery> exhibitions) {
+        return findLikedExhibitionIds(userId, exhibitions.getContent().stream()
+                .map(ExhibitionForSimpleQuery::getId)
+                .collect(Collectors.toList()));
+    }
+
+    // DB의 좋아요 여부에 로그인 사용자가 방금 누른, 아직 반영되지 않은 좋아요/취소를 덧씌운다.
+    private Set<Long> findLikedExhibitionIds(Long userId, List<Long> exhibitionIds) {
+        return PendingLike.overlay(exhibitionLikeRepository.findLikedExhibitionIds(userId, exhibitionIds),
+                likeWriteBuffer.getPendingStates(EXHIBITION, userId, exhibitionIds));
     }
 
     private void validateCoordinate(double latitude, double longitude) {
@@ -68,6 +231,24 @@ public class ExhibitionService {
         }
     }
 
+    private void validateBounds(double swLatitude, double neLatitude) {
+        if (swLatitude > neLatitude) {
+            throw new InvalidRequestException(INVALID_BOUNDS);
+        }
+    }
+
+    private void validateZoom(int zoom) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new InvalidRequestException(INVALID_ZOOM);
+        }
+    }
+
+    private void validateClusterTop(int top) {
+        if (top < 1 || top > ExhibitionClusterIndex.MAX_TOP) {
+            throw new InvalidRequestException(INVALID_CLUSTER_TOP);
+        }
+    }
+
     private void validateDistance(double distance) {
         if (distance <= 0) {
             throw new InvalidRequestException(INVALID_DISTANCE);
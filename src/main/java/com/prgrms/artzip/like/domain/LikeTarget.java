@@ -0,0 +1,26 @@
+package com.prgrms.artzip.like.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * LikeTarget
+ * - 좋아요 쓰기 버퍼가 다루는 좋아요 대상과 대상별 테이블 정보
+ * - likeCountColumn: 대상 테이블에 좋아요 수 컬럼이 있으면 반영 시 함께 증감, 없으면 null
+ * - userStatsColumn: user_stats 에서 증감할 컬럼, 집계하지 않으면 null
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum LikeTarget {
+  EXHIBITION("exhibition_like", "exhibition", "exhibition_id", true, "like_count",
+      "exhibition_like_count"),
+  REVIEW("review_like", "review", "review_id", true, "like_count", "review_like_count"),
+  COMMENT("comment_like", "comment", "comment_id", false, "like_count", null);
+
+  private final String likeTable;
+  private final String targetTable;
+  private final String targetColumn;
+  private final boolean audited;
+  private final String likeCountColumn;
+  private final String userStatsColumn;
+}
@@ -0,0 +1,28 @@
+package com.prgrms.artzip.like.domain;
+
+import lombok.Getter;
+
+/*
+ * LikeToggle
+ * - 버퍼에 토글(또는 좋아요 설정/해제)을 기록한 결과
+ * - pendingCountDelta: 대상의 좋아요 수 중 아직 DB에 반영되지 않은 증감. 응답의 좋아요 수는 DB 값에 이 값을 더한다.
+ * - changed: 좋아요 수가 바뀐 것이 확실한지. 이미 원하는 상태인 대상에 다시 설정/해제했거나,
+ *   DB 상태를 조회하지 않아 바뀌었는지 알 수 없으면 false 이고 좋아요 수는 LikeFlusher 가 반영하면서 더한다.
+ * */
+@Getter
+public class LikeToggle {
+
+  private final boolean liked;
+  private final long pendingCountDelta;
+  private final boolean changed;
+
+  public LikeToggle(boolean liked, long pendingCountDelta) {
+    this(liked, pendingCountDelta, true);
+  }
+
+  public LikeToggle(boolean liked, long pendingCountDelta, boolean changed) {
+    this.liked = liked;
+    this.pendingCountDelta = pendingCountDelta;
+    this.changed = changed;
+  }
+}
@@ -0,0 +1,97 @@
+package com.prgrms.artzip.like.domain;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/*
+ * PendingLike
+ * - 아직 DB에 반영되지 않은 (대상, 유저) 좋아요 상태
+ * - likedBefore: 마지막 반영 이후 첫 토글 직전 상태, liked: 마지막 토글 이후 상태
+ *   DB를 조회하지 않고 설정(set)만 기록한 항목은 직전 상태를 모르므로 likedBefore 가 null 이다.
+ * - 같은 (대상, 유저)에 대한 토글은 하나로 합쳐지므로, 좋아요 후 바로 취소하면 likedBefore == liked 가 되어 반영할 것이 없다.
+ * */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class PendingLike {
+
+  private static final String DELIMITER = ":";
+  private static final String UNKNOWN = "?";
+
+  private final LikeTarget target;
+  private final Long targetId;
+  private final Long userId;
+  private final Boolean likedBefore;
+  private final boolean liked;
+  private final long toggledAt;
+
+  public static String toField(LikeTarget target, Long targetId, Long userId) {
+    return toCountField(target, targetId) + DELIMITER + userId;
+  }
+
+  public static String toCountField(LikeTarget target, Long targetId) {
+    return target.name() + DELIMITER + targetId;
+  }
+
+  /**
+   * @param field "{대상}:{대상 id}:{유저 id}"
+   * @param value "{likedBefore 0/1/?},{liked 0/1},{첫 토글 시각(ms)}"
+   */
+  public static PendingLike parse(String field, String value) {
+    String[] keys = field.split(DELIMITER);
+    String[] states = value.split(",");
+    Boolean likedBefore = UNKNOWN.equals(states[0]) ? null : "1".equals(states[0]);
+    return new PendingLike(LikeTarget.valueOf(keys[0]), Long.valueOf(keys[1]), Long.valueOf(keys[2]),
+        likedBefore, "1".equals(states[1]), Long.parseLong(states[2]));
+  }
+
+  /**
+   * DB에서 읽은 좋아요한 대상 id 에 아직 반영되지 않은 좋아요/취소를 덧씌운다.
+   *
+   * @param pendingStates LikeWriteBuffer.getPendingStates 의 결과
+   */
+  public static Set<Long> overlay(Set<Long> likedIdsInDb, Map<Long, Boolean> pendingStates) {
+    if (pendingStates.isEmpty()) {
+      return likedIdsInDb;
+    }
+    Set<Long> likedIds = new HashSet<>(likedIdsInDb);
+    pendingStates.forEach((targetId, liked) -> {
+      if (liked) {
+        likedIds.add(targetId);
+      } else {
+        likedIds.remove(targetId);
+      }
+    });
+    return likedIds;
+  }
+
+  public String getField() {
+    return toField(target, targetId, userId);
+  }
+
+  public String getCountField() {
+    return toCountField(target, targetId);
+  }
+
+  public boolean isLikedBeforeKnown() {
+    return Objects.nonNull(likedBefore);
+  }
+
+  /**
+   * 이 항목이 좋아요 수에 더하고 있는 값. 반영 후에는 DB의 좋아요 수에 포함된다.
+   * 직전 상태를 모르는 항목은 아직 더하지 않았으므로 0
+   */
+  public long getCountDelta() {
+    if (!isLikedBeforeKnown()) {
+      return 0;
+    }
+    return (liked ? 1 : 0) - (likedBefore ? 1 : 0);
+  }
+}
@@ -0,0 +1,131 @@
+package com.prgrms.artzip.like.repository;
+
+import com.prgrms.artzip.like.domain.LikeTarget;
+import com.prgrms.artzip.like.domain.PendingLike;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * LikeBatchRepository
+ * - 좋아요 버퍼를 DB에 반영할 때 쓰는 JDBC batch 쿼리 모음
+ * - insert/delete 는 미리 조회하지 않고 한 번에 보내며, 영향받은 행 수로 실제로 바뀐 항목을 돌려준다.
+ * - 테이블, 컬럼 이름은 LikeTarget 상수에서만 가져온다.
+ * - 좋아요 대상은 모두 is_deleted 로 삭제되므로, 버퍼에 남아 있던 삭제된 대상의 좋아요는 추가하지도, 좋아요 수에 반영하지도 않는다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class LikeBatchRepository {
+
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  /**
+   * (대상, 유저) 유니크 제약에 걸리는 행은 건너뛰므로 미리 조회하지 않아도 중복 좋아요가 생기지 않는다.
+   * 삭제되지 않은 대상만 대상 테이블에서 골라 넣으므로, 그 사이 대상이 없어지거나 삭제됐다면 추가되지 않은 항목이 된다.
+   *
+   * @return 실제로 추가된 항목
+   */
+  public List<PendingLike> insertLikes(LikeTarget target, List<PendingLike> likes) {
+    if (likes.isEmpty()) {
+      return List.of();
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    String sql = target.isAudited()
+        ? String.format("INSERT IGNORE INTO %s (%s, user_id, created_at, updated_at) "
+            + "SELECT %s, ?, ?, ? FROM %s WHERE %s = ? AND is_deleted = false",
+        target.getLikeTable(), target.getTargetColumn(), target.getTargetColumn(),
+        target.getTargetTable(), target.getTargetColumn())
+        : String.format("INSERT IGNORE INTO %s (%s, user_id) "
+            + "SELECT %s, ? FROM %s WHERE %s = ? AND is_deleted = false",
+            target.getLikeTable(), target.getTargetColumn(), target.getTargetColumn(),
+            target.getTargetTable(), target.getTargetColumn());
+    int[][] affectedRows = getJdbcTemplate().batchUpdate(sql, likes, likes.size(), (ps, like) -> {
+      int index = 1;
+      ps.setLong(index++, like.getUserId());
+      if (target.isAudited()) {
+        ps.setTimestamp(index++, now);
+        ps.setTimestamp(index++, now);
+      }
+      ps.setLong(index, like.getTargetId());
+    });
+    return filterAffected(likes, affectedRows);
+  }
+
+  /**
+   * @return 실제로 삭제된 항목
+   */
+  public List<PendingLike> deleteLikes(LikeTarget target, List<PendingLike> likes) {
+    if (likes.isEmpty()) {
+      return List.of();
+    }
+    String sql = String.format("DELETE FROM %s WHERE %s = ? AND user_id = ?",
+        target.getLikeTable(), target.getTargetColumn());
+    int[][] affectedRows = getJdbcTemplate().batchUpdate(sql, likes, likes.size(), (ps, like) -> {
+      ps.setLong(1, like.getTargetId());
+      ps.setLong(2, like.getUserId());
+    });
+    return filterAffected(likes, affectedRows);
+  }
+
+  /**
+   * 삭제된 대상의 좋아요 수는 바꾸지 않는다.
+   *
+   * @param deltaByTargetId 대상 id -> 좋아요 수 증감
+   */
+  public void updateLikeCounts(LikeTarget target, Map<Long, Long> deltaByTargetId) {
+    String sql = String.format("UPDATE %s SET %s = %s + ? WHERE %s = ? AND is_deleted = false",
+        target.getTargetTable(), target.getLikeCountColumn(), target.getLikeCountColumn(),
+        target.getTargetColumn());
+    batchUpdateDeltas(sql, deltaByTargetId);
+  }
+
+  /**
+   * @param deltaByUserId 유저 id -> 좋아요 수 증감. 집계 행이 아직 없는 유저는 UserStatsVerifier 가 채운다.
+   */
+  public void updateUserStats(LikeTarget target, Map<Long, Long> deltaByUserId) {
+    String sql = String.format("UPDATE user_stats SET %s = %s + ? WHERE user_id = ?",
+        target.getUserStatsColumn(), target.getUserStatsColumn());
+    batchUpdateDeltas(sql, deltaByUserId);
+  }
+
+  private void batchUpdateDeltas(String sql, Map<Long, Long> deltaById) {
+    List<Entry<Long, Long>> deltas = new ArrayList<>(deltaById.entrySet());
+    deltas.removeIf(delta -> delta.getValue() == 0);
+    if (deltas.isEmpty()) {
+      return;
+    }
+    getJdbcTemplate().batchUpdate(sql, deltas, deltas.size(), (ps, delta) -> {
+      ps.setLong(1, delta.getValue());
+      ps.setLong(2, delta.getKey());
+    });
+  }
+
+  /*
+   * 항목별 영향받은 행 수로 실제로 바뀐 항목을 고른다.
+   * rewriteBatchedStatements 처럼 행 수를 돌려주지 않는 드라이버 옵션을 켜면 바뀐 항목을 알 수 없으므로 켜지 않는다.
+   */
+  private List<PendingLike> filterAffected(List<PendingLike> likes, int[][] affectedRows) {
+    List<PendingLike> affected = new ArrayList<>();
+    int index = 0;
+    for (int[] batch : affectedRows) {
+      for (int rows : batch) {
+        if (rows > 0) {
+          affected.add(likes.get(index));
+        }
+        index++;
+      }
+    }
+    return affected;
+  }
+
+  private JdbcTemplate getJdbcTemplate() {
+    return namedParameterJdbcTemplate.getJdbcTemplate();
+  }
+}
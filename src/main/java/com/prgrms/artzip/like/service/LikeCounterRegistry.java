@@ -0,0 +1,188 @@
+package com.prgrms.artzip.like.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.like.domain.LikeTarget;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/*
+ * LikeCounterRegistry
+ * - 대상별 좋아요 수(DB 값 + 아직 반영되지 않은 증감)를 서버 메모리에 LongAdder 로 들고 있는 카운터
+ * - 토글 응답마다 COUNT 조회를 하지 않도록, 처음 토글될 때 한 번만 DB에서 읽어 채우고 이후에는 증감만 더한다.
+ * - 여러 요청이 같은 대상을 동시에 토글해도 LongAdder 의 셀이 나뉘어 있어 락 없이 더할 수 있다.
+ * - 다른 서버의 토글은 Redis pub/sub 으로 증감을 받아 반영하고, 어긋난 값은 TTL 이 지나 다시 채울 때 바로잡는다.
+ * - 카운터는 채운 시점부터 TTL 동안 Caffeine 캐시에 두고, 최대 개수를 넘으면 자주 쓰이지 않는 카운터부터 내보낸다.
+ * */
+@Slf4j
+@Component
+public class LikeCounterRegistry implements MessageListener {
+
+  static final String DELTA_CHANNEL = "LikeCounter_Delta";
+  static final long TTL_MILLIS = 60_000;
+  static final int MAX_SIZE = 10_000;
+  private static final String SEPARATOR = "|";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Cache<String, Counter> counters;
+  private final RedisService redisService;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Autowired
+  public LikeCounterRegistry(RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer) {
+    this(redisService, redisMessageListenerContainer, TTL_MILLIS, MAX_SIZE);
+  }
+
+  LikeCounterRegistry(RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer, long ttlMillis, int maxSize) {
+    this.redisService = redisService;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.counters = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(ttlMillis))
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(DELTA_CHANNEL));
+  }
+
+  /**
+   * 토글 결과를 카운터에 반영하고 새 좋아요 수를 반환한다. 상태가 바뀌지 않았다면 증감 없이 현재 값만 반환한다.
+   *
+   * @param countInDb 카운터가 없거나 만료됐을 때만 호출, 아직 반영되지 않은 증감은 likeToggle 의 값을 더한다.
+   */
+  public long applyToggle(LikeTarget target, Long targetId, LikeToggle likeToggle,
+      LongSupplier countInDb) {
+    String key = toKey(target, targetId);
+    long delta = 0;
+    if (likeToggle.isChanged()) {
+      delta = likeToggle.isLiked() ? 1 : -1;
+    }
+
+    Counter counter = counters.getIfPresent(key);
+    if (Objects.isNull(counter)) {
+      counter = seed(key, countInDb.getAsLong() + likeToggle.getPendingCountDelta(), delta);
+    } else {
+      counter.add(delta);
+    }
+    if (delta != 0) {
+      publish(key, delta);
+    }
+    return Math.max(0, counter.sum());
+  }
+
+  /**
+   * LikeFlusher 가 반영하면서 알게 된 증감(직전 상태를 모르던 좋아요 설정/해제)을 카운터에 더하고 다른 서버에도 알린다.
+   * 카운터가 없는 서버는 다음에 DB에서 채울 때 반영된 값을 읽는다.
+   */
+  public void add(LikeTarget target, Long targetId, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    String key = toKey(target, targetId);
+    Counter counter = counters.getIfPresent(key);
+    if (Objects.nonNull(counter)) {
+      counter.add(delta);
+    }
+    publish(key, delta);
+  }
+
+  /**
+   * @return 이 서버에 채워진 카운터가 있을 때만 좋아요 수, 없으면 비어 있음
+   */
+  public OptionalLong find(LikeTarget target, Long targetId) {
+    Counter counter = counters.getIfPresent(toKey(target, targetId));
+    if (Objects.isNull(counter)) {
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(Math.max(0, counter.sum()));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    String[] parts = body.split("\\" + SEPARATOR);
+    try {
+      if (parts.length != 3) {
+        throw new IllegalArgumentException(body);
+      }
+      if (nodeId.equals(parts[0])) {
+        return;
+      }
+      long delta = Long.parseLong(parts[2]);
+      Counter counter = counters.getIfPresent(parts[1]);
+      if (Objects.nonNull(counter)) {
+        counter.add(delta);
+      }
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 좋아요 수 증감 메시지: {}", body);
+    }
+  }
+
+  /*
+   * 동시에 여러 요청이 채우려 하면 먼저 들어간 카운터를 쓰고, 늦게 읽은 값은 버리고 증감만 더한다.
+   * DB 조회는 캐시 밖에서 하므로 조회하는 동안 같은 카운터를 다른 요청이 채워도 막히지 않는다.
+   */
+  private Counter seed(String key, long count, long delta) {
+    Counter seeded = new Counter(count);
+    Counter current = counters.asMap().putIfAbsent(key, seeded);
+    if (Objects.isNull(current)) {
+      return seeded;
+    }
+    current.add(delta);
+    return current;
+  }
+
+  long size() {
+    counters.cleanUp();
+    return counters.estimatedSize();
+  }
+
+  private void publish(String key, long delta) {
+    try {
+      redisService.publish(DELTA_CHANNEL, String.join(SEPARATOR, nodeId, key, String.valueOf(delta)));
+    } catch (DataAccessException e) {
+      log.warn("좋아요 수 증감 발행 실패 key: {}, {}", key, e.getMessage());
+    }
+  }
+
+  private String toKey(LikeTarget target, Long targetId) {
+    return target.name() + ":" + targetId;
+  }
+
+  private static class Counter {
+
+    private final LongAdder adder = new LongAdder();
+
+    private Counter(long count) {
+      adder.add(count);
+    }
+
+    private void add(long delta) {
+      adder.add(delta);
+    }
+
+    private long sum() {
+      return adder.sum();
+    }
+  }
+}
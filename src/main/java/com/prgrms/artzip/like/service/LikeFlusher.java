@@ -0,0 +1,217 @@
+package com.prgrms.artzip.like.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.summingLong;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import com.prgrms.artzip.like.domain.LikeTarget;
+import com.prgrms.artzip.like.domain.PendingLike;
+import com.prgrms.artzip.like.repository.LikeBatchRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import com.prgrms.artzip.review.event.ReviewChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * LikeFlusher
+ * - LikeWriteBuffer 에 쌓인 좋아요를 주기적으로 DB에 반영
+ * - 좋아요 상태인 항목은 INSERT IGNORE, 아닌 항목은 조건부 DELETE 로 미리 조회하지 않고 JDBC batch 로 보내고,
+ *   실제로 바뀐 항목만 모아 대상의 좋아요 수 컬럼과 user_stats 를 대상/유저별로 합산한 증감으로 갱신
+ * - 직전 상태를 모른 채 기록된 좋아요 설정/해제는 실제로 바뀐 항목만 커밋 후 LikeCounterRegistry 의 좋아요 수에 더한다.
+ * - 유니크 제약과 영향받은 행 수로 바뀐 항목을 고르므로 같은 항목을 여러 번(동시에) 반영해도 결과가 같다. 반영 후 버퍼에서 지우기 전에 서버가 죽어도
+ *   기동 시(및 다음 주기에) 남은 항목을 다시 반영하면 된다.
+ * - 여러 서버 중 잠금을 잡은 하나만 반영
+ * */
+@Slf4j
+@Component
+public class LikeFlusher {
+
+  static final String LOCK_KEY = "LikeBuffer_FlushLock";
+  static final int BATCH_SIZE = 500;
+  static final String FLUSH_LAG_METRIC = "artzip.like.flush.lag";
+  private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+  private final LikeWriteBuffer likeWriteBuffer;
+  private final LikeCounterRegistry likeCounterRegistry;
+  private final LikeBatchRepository likeBatchRepository;
+  private final ReviewRepository reviewRepository;
+  private final RedisService redisService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final Timer flushLag;
+  private final String lockOwner = UUID.randomUUID().toString();
+
+  public LikeFlusher(LikeWriteBuffer likeWriteBuffer, LikeCounterRegistry likeCounterRegistry,
+      LikeBatchRepository likeBatchRepository, ReviewRepository reviewRepository,
+      RedisService redisService, ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+    this.likeWriteBuffer = likeWriteBuffer;
+    this.likeCounterRegistry = likeCounterRegistry;
+    this.likeBatchRepository = likeBatchRepository;
+    this.reviewRepository = reviewRepository;
+    this.redisService = redisService;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.flushLag = Timer.builder(FLUSH_LAG_METRIC)
+        .description("좋아요 토글부터 DB 반영까지 걸린 시간")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${artzip.like.flush-interval-millis:1000}")
+  public void flush() {
+    flushPendingLikes();
+  }
+
+  /**
+   * @return DB에 실제로 insert/delete 한 좋아요 수
+   */
+  int flushPendingLikes() {
+    try {
+      if (!redisService.setValuesIfAbsent(LOCK_KEY, lockOwner, LOCK_TTL)) {
+        return 0;
+      }
+      try {
+        return flush(likeWriteBuffer.getPendingLikes());
+      } finally {
+        redisService.deleteValuesIfEquals(LOCK_KEY, lockOwner);
+      }
+    } catch (DataAccessException e) {
+      log.warn("좋아요 버퍼 반영 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+      return 0;
+    }
+  }
+
+  private int flush(List<PendingLike> pendingLikes) {
+    int appliedCount = 0;
+    for (int from = 0; from < pendingLikes.size(); from += BATCH_SIZE) {
+      List<PendingLike> batch = pendingLikes.subList(from,
+          Math.min(from + BATCH_SIZE, pendingLikes.size()));
+      List<PendingLike> changedLikes = applyBatch(batch);
+      likeWriteBuffer.acknowledge(batch);
+      addUncountedDeltas(changedLikes);
+      recordLag(batch);
+      appliedCount += changedLikes.size();
+    }
+    if (appliedCount > 0) {
+      log.debug("좋아요 버퍼 반영: 대기 {}건 중 {}건 변경", pendingLikes.size(), appliedCount);
+    }
+    return appliedCount;
+  }
+
+  private List<PendingLike> applyBatch(List<PendingLike> batch) {
+    try {
+      return Objects.requireNonNull(transactionTemplate.execute(status -> apply(batch)));
+    } catch (DataIntegrityViolationException e) {
+      log.warn("좋아요 {}건 일괄 반영 실패, 한 건씩 다시 반영합니다: {}", batch.size(), e.getMessage());
+      return batch.stream().flatMap(like -> applyOne(like).stream()).collect(toList());
+    }
+  }
+
+  /*
+   * 그 사이 유저가 지워진 경우처럼 다시 시도해도 반영할 수 없는 항목은 버린다.
+   * DB 장애 같은 다른 예외는 그대로 던져 버퍼에 남겨둔다.
+   */
+  private List<PendingLike> applyOne(PendingLike like) {
+    try {
+      return Objects.requireNonNull(transactionTemplate.execute(status -> apply(List.of(like))));
+    } catch (DataIntegrityViolationException e) {
+      log.error("반영할 수 없는 좋아요를 버립니다 {}: {}", like, e.getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * @return 실제로 추가/삭제된 항목
+   */
+  private List<PendingLike> apply(List<PendingLike> batch) {
+    List<PendingLike> appliedLikes = new ArrayList<>();
+    Map<LikeTarget, List<PendingLike>> likesByTarget = batch.stream()
+        .collect(groupingBy(PendingLike::getTarget));
+    for (Map.Entry<LikeTarget, List<PendingLike>> entry : likesByTarget.entrySet()) {
+      LikeTarget target = entry.getKey();
+      Map<Boolean, List<PendingLike>> likesByState = entry.getValue().stream()
+          .collect(partitioningBy(PendingLike::isLiked));
+      List<PendingLike> insertedLikes = likeBatchRepository.insertLikes(target, likesByState.get(true));
+      List<PendingLike> deletedLikes = likeBatchRepository.deleteLikes(target, likesByState.get(false));
+
+      List<PendingLike> changedLikes = new ArrayList<>(insertedLikes);
+      changedLikes.addAll(deletedLikes);
+      if (!changedLikes.isEmpty()) {
+        updateCounts(target, changedLikes);
+        publishEvents(target, changedLikes);
+      }
+      appliedLikes.addAll(changedLikes);
+    }
+    return appliedLikes;
+  }
+
+  /*
+   * 직전 상태를 모르던 항목은 버퍼가 좋아요 수 증감에 더하지 않았으므로, 커밋된 뒤 실제로 바뀐 만큼 카운터에 더한다.
+   */
+  private void addUncountedDeltas(List<PendingLike> changedLikes) {
+    changedLikes.stream()
+        .filter(like -> !like.isLikedBeforeKnown())
+        .collect(groupingBy(PendingLike::getTarget))
+        .forEach((target, likes) -> sumDeltas(likes, PendingLike::getTargetId)
+            .forEach((targetId, delta) -> likeCounterRegistry.add(target, targetId, delta)));
+  }
+
+  private void updateCounts(LikeTarget target, List<PendingLike> changedLikes) {
+    if (Objects.nonNull(target.getLikeCountColumn())) {
+      likeBatchRepository.updateLikeCounts(target, sumDeltas(changedLikes, PendingLike::getTargetId));
+    }
+    if (Objects.nonNull(target.getUserStatsColumn())) {
+      likeBatchRepository.updateUserStats(target, sumDeltas(changedLikes, PendingLike::getUserId));
+    }
+  }
+
+  private Map<Long, Long> sumDeltas(List<PendingLike> changedLikes, Function<PendingLike, Long> key) {
+    return changedLikes.stream()
+        .collect(groupingBy(key, summingLong(like -> like.isLiked() ? 1 : -1)));
+  }
+
+  /*
+   * 트랜잭션 안에서 발행하므로 캐시/랭킹 리스너는 커밋 후에 동작한다.
+   */
+  private void publishEvents(LikeTarget target, List<PendingLike> changedLikes) {
+    if (target == LikeTarget.EXHIBITION) {
+      changedLikes.forEach(like -> eventPublisher.publishEvent(
+          new ExhibitionLikeChangedEvent(like.getTargetId(), like.getUserId(), like.isLiked())));
+    }
+    if (target == LikeTarget.REVIEW) {
+      Set<Long> reviewIds = changedLikes.stream().map(PendingLike::getTargetId).collect(toSet());
+      reviewRepository.findExhibitionIdsByIdIn(reviewIds)
+          .forEach(exhibitionId -> eventPublisher.publishEvent(new ReviewChangedEvent(exhibitionId)));
+    }
+  }
+
+  private void recordLag(List<PendingLike> flushedLikes) {
+    long now = System.currentTimeMillis();
+    flushedLikes.forEach(like ->
+        flushLag.record(Math.max(0, now - like.getToggledAt()), TimeUnit.MILLISECONDS));
+  }
+}
@@ -0,0 +1,198 @@
+package com.prgrms.artzip.like.service;
+
+import static java.util.stream.Collectors.toList;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.like.domain.LikeTarget;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.domain.PendingLike;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/*
+ * LikeWriteBuffer
+ * - 좋아요 토글을 DB 대신 Redis hash 에 (대상, 유저) 단위로 합쳐서 기록하고, LikeFlusher 가 주기적으로 DB에 반영
+ * - PENDING_KEY: "{대상}:{대상 id}:{유저 id}" -> "{첫 토글 직전 상태},{현재 상태},{첫 토글 시각}"
+ *   좋아요 설정/해제(set)는 DB를 조회하지 않고 원하는 상태만 기록하므로 직전 상태를 "?" 로 남긴다.
+ * - PENDING_COUNT_KEY: "{대상}:{대상 id}" -> 아직 반영되지 않은 좋아요 수 증감. 직전 상태를 모르는 항목은 더하지 않고,
+ *   LikeFlusher 가 반영하면서 실제로 바뀐 만큼 좋아요 수에 더한다.
+ * - 반영 전 상태를 함께 저장하므로, 반영 도중 서버가 죽어도 남은 항목을 DB 상태와 비교해 다시 반영하면 된다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class LikeWriteBuffer {
+
+  static final String PENDING_KEY = "LikeBuffer_Pending";
+  static final String PENDING_COUNT_KEY = "LikeBuffer_PendingCount";
+
+  /*
+   * 버퍼에 기록된 상태(없으면 ARGV[3]의 DB 상태)를 뒤집는다. 직전 상태를 모르는 항목이면 좋아요 수 증감은 더하지 않는다.
+   * ARGV: field, countField, DB 상태, 토글 시각
+   * 반환: {토글 후 상태, 아직 반영되지 않은 좋아요 수 증감, 좋아요 수에 더했는지}
+   */
+  @SuppressWarnings("unchecked")
+  private static final RedisScript<List<Long>> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+      "local likedBefore, liked, toggledAt = ARGV[3], ARGV[3], ARGV[4] "
+          + "local pending = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if pending then "
+          + "  likedBefore, liked, toggledAt = string.match(pending, '^([01?]),(%d),(%d+)$') "
+          + "end "
+          + "local toggled = 1 - tonumber(liked) "
+          + "redis.call('HSET', KEYS[1], ARGV[1], likedBefore .. ',' .. toggled .. ',' .. toggledAt) "
+          + "if likedBefore == '?' then "
+          + "  return {toggled, tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0'), 0} "
+          + "end "
+          + "local delta = redis.call('HINCRBY', KEYS[2], ARGV[2], toggled * 2 - 1) "
+          + "if delta == 0 then "
+          + "  redis.call('HDEL', KEYS[2], ARGV[2]) "
+          + "end "
+          + "return {toggled, delta, 1}", (Class<List<Long>>) (Class<?>) List.class);
+
+  /*
+   * 원하는 상태로 설정한다. DB 상태는 조회하지 않으므로, 버퍼에 기록이 없으면 직전 상태를 "?" 로 남기고 좋아요 수 증감은 더하지 않는다.
+   * 버퍼에 기록된 상태가 이미 원하는 상태라면 아무것도 쓰지 않는다.
+   * ARGV: field, countField, 원하는 상태, 토글 시각
+   * 반환: {설정 후 상태, 아직 반영되지 않은 좋아요 수 증감, 좋아요 수에 더했는지}
+   */
+  @SuppressWarnings("unchecked")
+  private static final RedisScript<List<Long>> SET_SCRIPT = new DefaultRedisScript<>(
+      "local likedBefore, liked, toggledAt = '?', nil, ARGV[4] "
+          + "local pending = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if pending then "
+          + "  likedBefore, liked, toggledAt = string.match(pending, '^([01?]),(%d),(%d+)$') "
+          + "end "
+          + "if liked == ARGV[3] then "
+          + "  return {tonumber(liked), tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0'), 0} "
+          + "end "
+          + "redis.call('HSET', KEYS[1], ARGV[1], likedBefore .. ',' .. ARGV[3] .. ',' .. toggledAt) "
+          + "if likedBefore == '?' then "
+          + "  return {tonumber(ARGV[3]), tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0'), 0} "
+          + "end "
+          + "local delta = redis.call('HINCRBY', KEYS[2], ARGV[2], tonumber(ARGV[3]) * 2 - 1) "
+          + "if delta == 0 then "
+          + "  redis.call('HDEL', KEYS[2], ARGV[2]) "
+          + "end "
+          + "return {tonumber(ARGV[3]), delta, 1}", (Class<List<Long>>) (Class<?>) List.class);
+
+  /*
+   * 반영한 항목을 버퍼에서 제거하고, 반영한 만큼 좋아요 수 증감을 되돌린다.
+   * 반영하는 동안 다시 토글된 항목은 반영한 상태를 새 기준으로 남겨둔다. 직전 상태를 모르던 항목은 그 사이 토글이 좋아요 수에
+   * 더해지지 않았으므로 계속 "?" 로 남겨, 다음 반영에서 실제로 바뀐 만큼 더하게 한다.
+   * ARGV: (field, countField, 반영한 상태, 반영한 좋아요 수 증감) 반복
+   */
+  private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>(
+      "for i = 1, #ARGV, 4 do "
+          + "  local pending = redis.call('HGET', KEYS[1], ARGV[i]) "
+          + "  if pending then "
+          + "    local likedBefore, liked, toggledAt = string.match(pending, '^([01?]),(%d),(%d+)$') "
+          + "    if liked == ARGV[i + 2] then "
+          + "      redis.call('HDEL', KEYS[1], ARGV[i]) "
+          + "    elseif likedBefore == '?' then "
+          + "      redis.call('HSET', KEYS[1], ARGV[i], '?,' .. liked .. ',' .. toggledAt) "
+          + "    else "
+          + "      redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2] .. ',' .. liked .. ',' .. toggledAt) "
+          + "    end "
+          + "    if ARGV[i + 3] ~= '0' then "
+          + "      local delta = redis.call('HINCRBY', KEYS[2], ARGV[i + 1], -tonumber(ARGV[i + 3])) "
+          + "      if delta == 0 then "
+          + "        redis.call('HDEL', KEYS[2], ARGV[i + 1]) "
+          + "      end "
+          + "    end "
+          + "  end "
+          + "end "
+          + "return 1", Long.class);
+
+  private final RedisService redisService;
+
+  /**
+   * @param likedInDb 버퍼에 기록이 없을 때만 DB에서 조회
+   */
+  public boolean isLiked(LikeTarget target, Long targetId, Long userId, BooleanSupplier likedInDb) {
+    String field = PendingLike.toField(target, targetId, userId);
+    String pending = redisService.getHashValue(PENDING_KEY, field);
+    if (Objects.isNull(pending)) {
+      return likedInDb.getAsBoolean();
+    }
+    return PendingLike.parse(field, pending).isLiked();
+  }
+
+  /**
+   * @param liked isLiked 로 조회한 현재 상태. 그 사이 다른 요청이 토글했다면 버퍼에 기록된 상태를 기준으로 뒤집는다.
+   */
+  public LikeToggle toggle(LikeTarget target, Long targetId, Long userId, boolean liked) {
+    List<Long> result = redisService.execute(TOGGLE_SCRIPT, List.of(PENDING_KEY, PENDING_COUNT_KEY),
+        PendingLike.toField(target, targetId, userId), PendingLike.toCountField(target, targetId),
+        toFlag(liked), String.valueOf(System.currentTimeMillis()));
+    return new LikeToggle(result.get(0) == 1, result.get(1), result.get(2) == 1);
+  }
+
+  /**
+   * 좋아요를 원하는 상태로 설정한다. DB를 조회하지 않고 원하는 상태만 기록하며, 실제로 바뀌었는지는 LikeFlusher 가
+   * INSERT IGNORE / 조건부 DELETE 의 영향받은 행 수로 판단한다. 같은 요청을 여러 번 보내거나 동시에 보내도 한 번만 반영된다.
+   */
+  public LikeToggle set(LikeTarget target, Long targetId, Long userId, boolean liked) {
+    List<Long> result = redisService.execute(SET_SCRIPT, List.of(PENDING_KEY, PENDING_COUNT_KEY),
+        PendingLike.toField(target, targetId, userId), PendingLike.toCountField(target, targetId),
+        toFlag(liked), String.valueOf(System.currentTimeMillis()));
+    return new LikeToggle(result.get(0) == 1, result.get(1), result.get(2) == 1);
+  }
+
+  /**
+   * 목록 조회에서 DB의 좋아요 여부에 덧씌울, 유저가 아직 반영되지 않은 좋아요/취소를 남긴 대상의 상태를 한 번에 읽는다.
+   *
+   * @return 대상 id -> 버퍼에 기록된 상태. 기록이 없는 대상은 들어있지 않다.
+   */
+  public Map<Long, Boolean> getPendingStates(LikeTarget target, Long userId,
+      Collection<Long> targetIds) {
+    if (Objects.isNull(userId) || targetIds.isEmpty()) {
+      return Map.of();
+    }
+    List<Long> ids = new ArrayList<>(targetIds);
+    List<String> values = redisService.getHashValues(PENDING_KEY, ids.stream()
+        .map(targetId -> PendingLike.toField(target, targetId, userId))
+        .collect(toList()));
+    Map<Long, Boolean> pendingStates = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      String pending = values.get(i);
+      if (Objects.nonNull(pending)) {
+        pendingStates.put(ids.get(i), PendingLike.parse(
+            PendingLike.toField(target, ids.get(i), userId), pending).isLiked());
+      }
+    }
+    return pendingStates;
+  }
+
+  public List<PendingLike> getPendingLikes() {
+    return redisService.getHashEntries(PENDING_KEY).entrySet().stream()
+        .map(entry -> PendingLike.parse(entry.getKey(), entry.getValue()))
+        .collect(toList());
+  }
+
+  public void acknowledge(List<PendingLike> flushedLikes) {
+    if (flushedLikes.isEmpty()) {
+      return;
+    }
+    List<String> args = new ArrayList<>();
+    flushedLikes.forEach(like -> {
+      args.add(like.getField());
+      args.add(like.getCountField());
+      args.add(toFlag(like.isLiked()));
+      args.add(String.valueOf(like.getCountDelta()));
+    });
+    redisService.execute(ACKNOWLEDGE_SCRIPT, List.of(PENDING_KEY, PENDING_COUNT_KEY),
+        args.toArray(String[]::new));
+  }
+
+  private String toFlag(boolean liked) {
+    return liked ? "1" : "0";
+  }
+}
@@ -6,6 +6,7 @@ import com.prgrms.artzip.comment.dto.response.CommentResponseQ;
 import com.prgrms.artzip.comment.dto.response.CommentsResponse;
 import com.prgrms.artzip.comment.service.CommentService;
 import com.prgrms.artzip.common.ApiResponse;
+import com.prgrms.artzip.common.CursorResponse;
 import com.prgrms.artzip.common.PageResponse;
 import com.prgrms.artzip.common.entity.CurrentUser;
 import com.prgrms.artzip.exhibition.service.ExhibitionSearchService;
@@ -19,7 +20,7 @@ import com.prgrms.artzip.review.dto.response.ReviewResponse;
 import com.prgrms.artzip.review.dto.response.ReviewsResponse;
 import com.prgrms.artzip.review.service.ReviewLikeService;
 import com.prgrms.artzip.review.service.ReviewService;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -40,6 +41,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -61,7 +63,7 @@ public class ReviewController {
   @ApiOperation(value = "후기 생성", notes = "후기 등록을 요청합니다.")
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<ApiResponse<ReviewCreateResponse>> createReview(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "등록할 후기 데이터", required = true)
       @Parameter(name = "data", schema = @Schema(type = "string", format = "binary"))
       @RequestPart(value = "data") @Valid ReviewCreateRequest request,
@@ -99,7 +101,7 @@ public class ReviewController {
   @ApiOperation(value = "후기 좋아요 등록/해제", notes = "후기 좋아요 등록/해제를 요청합니다.")
   @PatchMapping("{reviewId}/like")
   public ResponseEntity<ApiResponse<ReviewLikeUpdateResponse>> updateReviewLike(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "좋아요 등록/해제할 후기의 ID")
       @PathVariable(value = "reviewId") final Long reviewId) {
 
@@ -115,12 +117,50 @@ public class ReviewController {
         .body(apiResponse);
   }
 
+  @ApiOperation(value = "후기 좋아요 등록", notes = "후기에 좋아요를 등록합니다. 이미 좋아요한 후기라면 그대로 둡니다.")
+  @PutMapping("{reviewId}/like")
+  public ResponseEntity<ApiResponse<ReviewLikeUpdateResponse>> likeReview(
+      @CurrentUser UserPrincipal user,
+      @ApiParam(value = "좋아요 등록할 후기의 ID")
+      @PathVariable(value = "reviewId") final Long reviewId) {
+
+    ReviewLikeUpdateResponse response = reviewLikeService.setReviewLike(user.getId(), reviewId, true);
+
+    ApiResponse apiResponse = ApiResponse.builder()
+        .message("후기 좋아요 등록 성공")
+        .status(HttpStatus.OK.value())
+        .data(response)
+        .build();
+
+    return ResponseEntity.ok()
+        .body(apiResponse);
+  }
+
+  @ApiOperation(value = "후기 좋아요 해제", notes = "후기 좋아요를 해제합니다. 좋아요하지 않은 후기라면 그대로 둡니다.")
+  @DeleteMapping("{reviewId}/like")
+  public ResponseEntity<ApiResponse<ReviewLikeUpdateResponse>> unlikeReview(
+      @CurrentUser UserPrincipal user,
+      @ApiParam(value = "좋아요 해제할 후기의 ID")
+      @PathVariable(value = "reviewId") final Long reviewId) {
+
+    ReviewLikeUpdateResponse response = reviewLikeService.setReviewLike(user.getId(), reviewId, false);
+
+    ApiResponse apiResponse = ApiResponse.builder()
+        .message("후기 좋아요 해제 성공")
+        .status(HttpStatus.OK.value())
+        .data(response)
+        .build();
+
+    return ResponseEntity.ok()
+        .body(apiResponse);
+  }
+
   @ApiOperation(value = "후기 댓글 다건 조회", notes = "후기의 댓글들을 조회합니다.")
   @GetMapping("/{reviewId}/comments")
   public ResponseEntity<ApiResponse<CommentsResponse>> getComments(
       @ApiParam(value = "조회할 후기의 ID")
       @PathVariable Long reviewId,
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @PageableDefault(
           sort = {"createdAt"},
           direction = Sort.Direction.DESC
@@ -132,13 +172,30 @@ public class ReviewController {
     return ResponseEntity.ok(response);
   }
 
+  @ApiOperation(value = "후기 댓글 커서 조회", notes = "후기의 댓글들을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+  @GetMapping("/{reviewId}/comments/cursor")
+  public ResponseEntity<ApiResponse<CursorResponse<CommentResponseQ>>> getCommentsByCursor(
+      @ApiParam(value = "조회할 후기의 ID")
+      @PathVariable Long reviewId,
+      @CurrentUser UserPrincipal user,
+      @ApiParam(value = "이전 응답의 nextCursor, 첫 조회 시 생략")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", required = false, defaultValue = "10") int size
+  ) {
+    CursorResponse<CommentResponseQ> comments =
+        commentService.getCommentsByReviewIdByCursor(reviewId, user, cursor, size);
+    ApiResponse<CursorResponse<CommentResponseQ>> response
+        = new ApiResponse<>("댓글 다건 조회 성공", HttpStatus.OK.value(), comments);
+    return ResponseEntity.ok(response);
+  }
+
   @ApiOperation(value = "리뷰 댓글 생성", notes = "리뷰에 댓글을 생성합니다.")
   @PostMapping("/{reviewId}/comments")
   public ResponseEntity<ApiResponse<CommentResponse>> createComment(
       @ApiParam(value = "댓글 생성할 후기의 ID")
       @PathVariable Long reviewId,
       @RequestBody @Valid CommentCreateRequest request,
-      @CurrentUser User user
+      @CurrentUser UserPrincipal user
   ) {
     CommentResponse comment = commentService.createComment(request, reviewId, user);
     ApiResponse<CommentResponse> response
@@ -151,7 +208,7 @@ public class ReviewController {
   @ApiOperation(value = "후기 수정", notes = "후기 수정을 요청합니다.")
   @PatchMapping(value = "/{reviewId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<ApiResponse> updateReview(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "수정할 후기의 ID")
       @PathVariable(value = "reviewId") Long reviewId,
       @Parameter(name = "data", schema = @Schema(type = "string", format = "binary"))
@@ -171,7 +228,7 @@ public class ReviewController {
   @ApiOperation(value = "후기 삭제", notes = "후기 삭제를 요청합니다.")
   @DeleteMapping("/{reviewId}")
   public ResponseEntity<ApiResponse<ReviewIdResponse>> removeReview(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "삭제할 후기의 ID")
       @PathVariable(value = "reviewId") Long reviewId) {
 
@@ -188,7 +245,7 @@ public class ReviewController {
   @ApiOperation(value = "후기 단건 조회", notes = "후기 단건 조회를 요청합니다.")
   @GetMapping("/{reviewId}")
   public ResponseEntity<ApiResponse<ReviewResponse>> getReview(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "조회할 후기의 ID")
       @PathVariable(value = "reviewId") Long reviewId) {
 
@@ -205,7 +262,7 @@ public class ReviewController {
   @ApiOperation(value = "후기 다건 조회", notes = "후기 다건 조회를 요청합니다.")
   @GetMapping
   public ResponseEntity<ApiResponse<PageResponse<ReviewsResponse>>> getReview(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "전시회 ID")
       @RequestParam(value = "exhibitionId", required = false) Long exhibitionId,
       @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -220,4 +277,25 @@ public class ReviewController {
             .build());
   }
 
+  @ApiOperation(value = "후기 다건 커서 조회", notes = "후기 다건을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+  @GetMapping("/cursor")
+  public ResponseEntity<ApiResponse<CursorResponse<ReviewsResponse>>> getReviewsByCursor(
+      @CurrentUser UserPrincipal user,
+      @ApiParam(value = "전시회 ID")
+      @RequestParam(value = "exhibitionId", required = false) Long exhibitionId,
+      @ApiParam(value = "이전 응답의 nextCursor, 첫 조회 시 생략")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+
+    CursorResponse<ReviewsResponse> response =
+        reviewService.getReviewsByCursor(user, exhibitionId, cursor, size);
+
+    return ResponseEntity.ok()
+        .body(ApiResponse.<CursorResponse<ReviewsResponse>>builder()
+            .message("후기 다건 조회 성공")
+            .status(HttpStatus.OK.value())
+            .data(response)
+            .build());
+  }
+
 }
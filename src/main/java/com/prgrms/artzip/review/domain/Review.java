@@ -23,9 +23,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "review")
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Review extends BaseEntity {
@@ -58,6 +60,13 @@ public class Review extends BaseEntity {
   @Column(name = "is_deleted", nullable = false)
   private Boolean isDeleted;
 
+  // 좋아요/댓글 수는 엔티티를 통하지 않고 LikeFlusher, ReviewRepository 의 원자적 UPDATE 로만 변경된다.
+  @Column(name = "like_count", nullable = false)
+  private Long likeCount = 0L;
+
+  @Column(name = "comment_count", nullable = false)
+  private Long commentCount = 0L;
+
   @OneToMany(mappedBy = "review")
   private List<ReviewLike> reviewLikes = new ArrayList<>();
 
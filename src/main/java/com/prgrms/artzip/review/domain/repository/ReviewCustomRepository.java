@@ -1,9 +1,11 @@
 package com.prgrms.artzip.review.domain.repository;
 
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.review.dto.projection.ReviewWithLikeAndCommentCount;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ReviewCustomRepository {
 
@@ -44,4 +46,40 @@ public interface ReviewCustomRepository {
    */
   Page<ReviewWithLikeAndCommentCount> findMyReviews(
       Long currentUserId, Long targetUserId, Pageable pageable);
+
+  /**
+   * returns reviews(ReviewWithLikeAndCommentCount DTO) after the given cursor,
+   * ordered by createdAt desc, id desc.
+   * @param exhibitionId
+   * @param userId id of the logged-in user
+   * @param cursor (createdAt, reviewId) of the last review, null for the first slice
+   * @param size must be positive
+   * @return the slice of ReviewWithLikeAndCommentCount DTO without total count
+   */
+  Slice<ReviewWithLikeAndCommentCount> findReviewsByCursor(
+      Long exhibitionId, Long userId, Cursor cursor, int size);
+
+  /**
+   * returns reviews(ReviewWithLikeAndCommentCount DTO) liked by the target user after the given cursor,
+   * ordered by createdAt desc, id desc.
+   * @param currentUserId id of the logged-in user
+   * @param targetUserId must not be null
+   * @param cursor (createdAt, reviewId) of the last review, null for the first slice
+   * @param size must be positive
+   * @return the slice of ReviewWithLikeAndCommentCount DTO without total count
+   */
+  Slice<ReviewWithLikeAndCommentCount> findMyLikesReviewsByCursor(
+      Long currentUserId, Long targetUserId, Cursor cursor, int size);
+
+  /**
+   * returns reviews(ReviewWithLikeAndCommentCount DTO) written by the target user after the given cursor,
+   * ordered by createdAt desc, id desc.
+   * @param currentUserId id of the logged-in user
+   * @param targetUserId must not be null
+   * @param cursor (createdAt, reviewId) of the last review, null for the first slice
+   * @param size must be positive
+   * @return the slice of ReviewWithLikeAndCommentCount DTO without total count
+   */
+  Slice<ReviewWithLikeAndCommentCount> findMyReviewsByCursor(
+      Long currentUserId, Long targetUserId, Cursor cursor, int size);
 }
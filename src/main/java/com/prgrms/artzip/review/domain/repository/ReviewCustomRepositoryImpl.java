@@ -1,11 +1,10 @@
 package com.prgrms.artzip.review.domain.repository;
 
-import static com.prgrms.artzip.comment.domain.QComment.comment;
 import static com.prgrms.artzip.common.util.QueryDslCustomUtils.nullSafeBooleanBuilder;
 import static com.prgrms.artzip.common.util.QueryDslCustomUtils.nullSafeConditions;
 import static com.prgrms.artzip.review.domain.QReview.review;
-import static com.prgrms.artzip.review.domain.QReviewLike.reviewLike;
 
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.review.domain.QReviewLike;
 import com.prgrms.artzip.review.dto.projection.ReviewWithLikeAndCommentCount;
 import com.querydsl.core.BooleanBuilder;
@@ -16,6 +15,7 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
 
@@ -32,10 +33,11 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
   private static final String REVIEW_ID_MUST_NOT_BE_NULL = "The given review id must not be null!";
   private static final String USER_ID_MUST_NOT_BE_NULL = "The given user id must not be null!";
   private static final String PAGEABLE_MUST_NOT_BE_NULL = "The given pageable must not be null!";
+  private static final String SIZE_MUST_BE_POSITIVE = "The given size must be positive!";
 
   private final JPAQueryFactory queryFactory;
 
-  // like count 계산할 때 사용
+  // 조회하는 유저의 like 여부를 확인할 때 사용
   private final QReviewLike reviewLikeToGetIsLiked = new QReviewLike("reviewLikeToGetIsLiked");
   // target user의 like를 필터링할 때 사용
   private final QReviewLike reviewLikeToFilterTargetUser = new QReviewLike("reviewLikeToFilterTargetUser");
@@ -55,7 +57,6 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
             .where(review.isDeleted.isFalse(),
                 review.id.eq(reviewId),
                 filterIsNotPublic(userId))
-            .groupBy(review.id)
             .fetchOne();
 
     return Optional.ofNullable(data);
@@ -74,7 +75,6 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
                 reviewExhibitionIdEq(exhibitionId))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
-            .groupBy(review.id, review.createdAt)
             .orderBy(getAllOrderSpecifiers(pageable).toArray(OrderSpecifier[]::new))
             .fetch();
 
@@ -104,7 +104,6 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
                 reviewLikeTargetUserIdEq(targetUserId))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
-            .groupBy(review.id, review.createdAt)
             .orderBy(getAllOrderSpecifiers(pageable).toArray(OrderSpecifier[]::new))
             .fetch();
 
@@ -134,7 +133,6 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
             filterIsNotPublic(currentUserId))
         .offset(pageable.getOffset())
         .limit(pageable.getPageSize())
-        .groupBy(review.id, review.createdAt)
         .orderBy(getAllOrderSpecifiers(pageable).toArray(OrderSpecifier[]::new))
         .fetch();
 
@@ -148,6 +146,67 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
     return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
   }
 
+  @Override
+  public Slice<ReviewWithLikeAndCommentCount> findReviewsByCursor(
+      Long exhibitionId, Long userId, Cursor cursor, int size) {
+
+    Assert.isTrue(size > 0, SIZE_MUST_BE_POSITIVE);
+
+    List<ReviewWithLikeAndCommentCount> content =
+        selectReviewWithLikeAndCommentCount(userId)
+            .where(review.isDeleted.isFalse(),
+                review.isPublic.isTrue(),
+                reviewExhibitionIdEq(exhibitionId),
+                reviewCreatedAtCursorLt(cursor))
+            .limit(size + 1L)
+            .orderBy(review.createdAt.desc(), review.id.desc())
+            .fetch();
+
+    return Cursor.toSlice(content, size);
+  }
+
+  @Override
+  public Slice<ReviewWithLikeAndCommentCount> findMyLikesReviewsByCursor(
+      Long currentUserId, Long targetUserId, Cursor cursor, int size) {
+
+    Assert.notNull(targetUserId, USER_ID_MUST_NOT_BE_NULL);
+    Assert.isTrue(size > 0, SIZE_MUST_BE_POSITIVE);
+
+    List<ReviewWithLikeAndCommentCount> content =
+        selectReviewWithLikeAndCommentCount(currentUserId)
+            .leftJoin(reviewLikeToFilterTargetUser)
+            .on(review.id.eq(reviewLikeToFilterTargetUser.review.id))
+            .where(review.isDeleted.isFalse(),
+                review.isPublic.isTrue(),
+                reviewLikeTargetUserIdEq(targetUserId),
+                reviewCreatedAtCursorLt(cursor))
+            .limit(size + 1L)
+            .orderBy(review.createdAt.desc(), review.id.desc())
+            .fetch();
+
+    return Cursor.toSlice(content, size);
+  }
+
+  @Override
+  public Slice<ReviewWithLikeAndCommentCount> findMyReviewsByCursor(
+      Long currentUserId, Long targetUserId, Cursor cursor, int size) {
+
+    Assert.notNull(targetUserId, USER_ID_MUST_NOT_BE_NULL);
+    Assert.isTrue(size > 0, SIZE_MUST_BE_POSITIVE);
+
+    List<ReviewWithLikeAndCommentCount> content =
+        selectReviewWithLikeAndCommentCount(currentUserId)
+            .where(review.isDeleted.isFalse(),
+                reviewTargetUserIdEq(targetUserId),
+                filterIsNotPublic(currentUserId),
+                reviewCreatedAtCursorLt(cursor))
+            .limit(size + 1L)
+            .orderBy(review.createdAt.desc(), review.id.desc())
+            .fetch();
+
+    return Cursor.toSlice(content, size);
+  }
+
   private JPAQuery<ReviewWithLikeAndCommentCount> selectReviewWithLikeAndCommentCount(Long userId) {
     return queryFactory.select(
             Projections.fields(ReviewWithLikeAndCommentCount.class,
@@ -162,14 +221,12 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
                     .then(true)
                     .otherwise(false).as("isLiked"),
                 review.isPublic,
-                reviewLike.id.countDistinct().as("likeCount"),
-                comment.id.countDistinct().as("commentCount")
+                review.likeCount,
+                review.commentCount
             ))
         .from(review)
         .leftJoin(reviewLikeToGetIsLiked).on(reviewLikeToGetIsLiked.review.eq(review),
-            nullSafeConditions(reviewLikeUserIdEq(userId)))
-        .leftJoin(reviewLike).on(review.id.eq(reviewLike.review.id))
-        .leftJoin(comment).on(review.id.eq(comment.review.id), comment.isDeleted.isFalse());
+            nullSafeConditions(reviewLikeUserIdEq(userId)));
   }
 
   private BooleanBuilder reviewTargetUserIdEq(Long targetUserId) {
@@ -188,6 +245,19 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
     return nullSafeBooleanBuilder(() -> reviewLikeToGetIsLiked.user.id.eq(userId));
   }
 
+  // (createdAt, id) < (cursor.createdAt, cursor.reviewId)
+  private BooleanBuilder reviewCreatedAtCursorLt(Cursor cursor) {
+    if (Objects.isNull(cursor)) {
+      return new BooleanBuilder();
+    }
+    LocalDateTime createdAt = cursor.getLocalDateTime(0);
+    Long reviewId = cursor.getLong(1);
+
+    return new BooleanBuilder()
+        .or(review.createdAt.lt(createdAt))
+        .or(review.createdAt.eq(createdAt).and(review.id.lt(reviewId)));
+  }
+
   private BooleanExpression filterIsNotPublic(Long userId) {
     if (Objects.isNull(userId)) {
       return review.isPublic.isTrue();
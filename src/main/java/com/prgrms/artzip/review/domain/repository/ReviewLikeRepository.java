@@ -2,7 +2,12 @@ package com.prgrms.artzip.review.domain.repository;
 
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.ReviewLike;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,4 +23,19 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
       + " WHERE rl.review.id = :reviewId and rl.user.id = :userId")
   Optional<ReviewLike> findByReviewIdAndUserId(
       @Param("reviewId") Long reviewId, @Param("userId") Long userId);
+
+  @Query("SELECT rl.review.id FROM ReviewLike rl"
+      + " WHERE rl.user.id = :userId and rl.review.id in :reviewIds")
+  List<Long> findReviewIdsByUserIdAndReviewIds(
+      @Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
+
+  /**
+   * 캐시된 리뷰 목록에 덧씌울 isLiked 조회. 비로그인 사용자이거나 목록이 비어있다면 조회하지 않는다.
+   */
+  default Set<Long> findLikedReviewIds(Long userId, Collection<Long> reviewIds) {
+    if (Objects.isNull(userId) || reviewIds.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(findReviewIdsByUserIdAndReviewIds(userId, reviewIds));
+  }
 }
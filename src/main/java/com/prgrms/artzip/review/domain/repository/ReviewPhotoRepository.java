@@ -2,9 +2,16 @@ package com.prgrms.artzip.review.domain.repository;
 
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.ReviewPhoto;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReviewPhotoRepository extends JpaRepository<ReviewPhoto, Long> {
 
   Long countByReview(Review review);
+
+  @Query("SELECT rp FROM ReviewPhoto rp WHERE rp.review.id in :reviewIds ORDER BY rp.id")
+  List<ReviewPhoto> findAllByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -1,11 +1,40 @@
 package com.prgrms.artzip.review.domain.repository;
 
 import com.prgrms.artzip.review.domain.Review;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewCustomRepository {
     @Query("SELECT COUNT(r) from Review r WHERE r.user.id = :userId and r.isDeleted = false ")
     Long countByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.exhibition WHERE r.id in :reviewIds")
+    List<Review> findAllWithUserAndExhibitionByIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
+    @Query("SELECT DISTINCT r.exhibition.id FROM Review r WHERE r.id in :reviewIds")
+    List<Long> findExhibitionIdsByIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
+    @Query("SELECT r.commentCount FROM Review r WHERE r.id = :reviewId")
+    Optional<Long> findCommentCountById(@Param("reviewId") Long reviewId);
+
+    @Query("SELECT r.likeCount FROM Review r WHERE r.id = :reviewId AND r.isDeleted = false")
+    Optional<Long> findActiveLikeCountById(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.commentCount = r.commentCount + :delta WHERE r.id = :reviewId")
+    int updateCommentCount(@Param("reviewId") Long reviewId, @Param("delta") long delta);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE review r "
+            + "SET like_count = (SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = r.review_id), "
+            + "comment_count = (SELECT COUNT(*) FROM comment c WHERE c.review_id = r.review_id AND c.is_deleted = false) "
+            + "WHERE r.like_count <> (SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = r.review_id) "
+            + "OR r.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.review_id = r.review_id AND c.is_deleted = false)",
+            nativeQuery = true)
+    int reconcileLikeAndCommentCounts();
 }
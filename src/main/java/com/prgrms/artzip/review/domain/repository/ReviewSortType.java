@@ -1,8 +1,6 @@
 package com.prgrms.artzip.review.domain.repository;
 
-import static com.prgrms.artzip.comment.domain.QComment.comment;
 import static com.prgrms.artzip.review.domain.QReview.review;
-import static com.prgrms.artzip.review.domain.QReviewLike.reviewLike;
 
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
@@ -14,8 +12,8 @@ import java.util.Arrays;
 public enum ReviewSortType {
 
   CREATED_AT("createdAt", review.createdAt),
-  REVIEW_LIKE_COUNT("reviewLikeCount", reviewLike.id.countDistinct()),
-  COMMENT_COUNT("commentCount", comment.id.countDistinct());
+  REVIEW_LIKE_COUNT("reviewLikeCount", review.likeCount),
+  COMMENT_COUNT("commentCount", review.commentCount);
 
   private final String property;
   private final Expression target;
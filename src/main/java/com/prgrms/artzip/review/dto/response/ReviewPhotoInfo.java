@@ -2,8 +2,10 @@ package com.prgrms.artzip.review.dto.response;
 
 import com.prgrms.artzip.review.domain.ReviewPhoto;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 public class ReviewPhotoInfo {
   private Long photoId;
   private String path;
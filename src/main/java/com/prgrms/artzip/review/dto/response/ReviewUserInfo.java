@@ -2,8 +2,10 @@ package com.prgrms.artzip.review.dto.response;
 
 import com.prgrms.artzip.user.domain.User;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 public class ReviewUserInfo {
   private Long userId;
   private String nickname;
@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 public class ReviewsResponseForExhibitionDetail {
 
   private Long reviewId;
@@ -65,4 +66,9 @@ public class ReviewsResponseForExhibitionDetail {
     this.commentCount = commentCount;
     this.photos = photos;
   }
+
+  public ReviewsResponseForExhibitionDetail withIsLiked(Boolean isLiked) {
+    return new ReviewsResponseForExhibitionDetail(reviewId, user, date, title, content, createdAt,
+        updatedAt, isEdited, isLiked, isPublic, likeCount, commentCount, photos);
+  }
 }
@@ -0,0 +1,16 @@
+package com.prgrms.artzip.review.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * ReviewChangedEvent
+ * - 리뷰가 생성/수정/삭제되거나 리뷰 좋아요가 변경되었을 때 발행
+ * - 전시회 상세 캐시처럼 리뷰 요약을 담고 있는 캐시는 커밋 이후 이 이벤트를 받아 무효화
+ * */
+@Getter
+@RequiredArgsConstructor
+public class ReviewChangedEvent {
+
+  private final Long exhibitionId;
+}
@@ -0,0 +1,38 @@
+package com.prgrms.artzip.review.service;
+
+import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * ReviewCountReconciler
+ * - 후기의 like_count, comment_count 컬럼을 실제 좋아요 수와 삭제되지 않은 댓글 수와 비교하여 보정
+ * - 애플리케이션 기동 시(기존 데이터 백필) 및 매일 정해진 시각에 실행
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCountReconciler {
+
+  private final ReviewRepository reviewRepository;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${artzip.review.count-reconcile-cron:0 20 4 * * *}")
+  @Transactional
+  public void reconcile() {
+    reconcileCounts();
+  }
+
+  int reconcileCounts() {
+    int repairedCount = reviewRepository.reconcileLikeAndCommentCounts();
+    if (repairedCount > 0) {
+      log.warn("후기 좋아요/댓글 수 불일치 보정: {}건", repairedCount);
+    }
+    return repairedCount;
+  }
+}
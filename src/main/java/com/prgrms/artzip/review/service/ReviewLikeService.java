@@ -1,15 +1,18 @@
 package com.prgrms.artzip.review.service;
 
+import static com.prgrms.artzip.like.domain.LikeTarget.REVIEW;
+
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.domain.Review;
-import com.prgrms.artzip.review.domain.ReviewLike;
 import com.prgrms.artzip.review.domain.repository.ReviewLikeRepository;
 import com.prgrms.artzip.review.domain.repository.ReviewRepository;
 import com.prgrms.artzip.review.dto.response.ReviewLikeUpdateResponse;
 import com.prgrms.artzip.user.domain.User;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,29 +24,44 @@ public class ReviewLikeService {
   private final ReviewRepository reviewRepository;
   private final ReviewLikeRepository reviewLikeRepository;
   private final UserRepository userRepository;
+  private final LikeWriteBuffer likeWriteBuffer;
+  private final LikeCounterRegistry likeCounterRegistry;
 
-  @Transactional
+  /**
+   * 좋아요는 LikeWriteBuffer 에 기록하고 LikeFlusher 가 DB에 반영한다.
+   * 좋아요 수는 LikeCounterRegistry 에서 읽고, 카운터가 없을 때만 후기의 like_count 로 채운다.
+   */
+  @Transactional(readOnly = true)
   public ReviewLikeUpdateResponse updateReviewLike(final Long userId, final Long reviewId) {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
     Review review = reviewRepository.findById(reviewId)
         .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
 
-    Optional<ReviewLike> maybeReviewLike = reviewLikeRepository.findByReviewIdAndUserId(
-        review.getId(), user.getId());
-    boolean isLiked = maybeReviewLike.isPresent();
+    boolean isLiked = likeWriteBuffer.isLiked(REVIEW, review.getId(), user.getId(),
+        () -> reviewLikeRepository.findByReviewIdAndUserId(review.getId(), user.getId()).isPresent());
+    LikeToggle likeToggle = likeWriteBuffer.toggle(REVIEW, review.getId(), user.getId(), isLiked);
 
-    maybeReviewLike.ifPresentOrElse(
-        reviewLike -> reviewLikeRepository.delete(reviewLike),
-        () -> reviewLikeRepository.save(new ReviewLike(review, user))
-    );
+    return toResponse(review, likeToggle);
+  }
 
-    Long likeCount = reviewLikeRepository.countByReview(review);
+  /**
+   * 좋아요를 원하는 상태로 설정한다. 같은 요청을 여러 번, 동시에 보내도 한 번만 반영된다.
+   * 유저와 기존 좋아요는 미리 조회하지 않고 원하는 상태만 버퍼에 기록한다. 없거나 삭제된 후기는 like_count 한 컬럼만 읽어 버퍼에 기록하기 전에 거른다.
+   */
+  @Transactional(readOnly = true)
+  public ReviewLikeUpdateResponse setReviewLike(final Long userId, final Long reviewId,
+      final boolean liked) {
+    long likeCountInDb = reviewRepository.findActiveLikeCountById(reviewId)
+        .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
+    LikeToggle likeToggle = likeWriteBuffer.set(REVIEW, reviewId, userId, liked);
+    Long likeCount = likeCounterRegistry.applyToggle(REVIEW, reviewId, likeToggle,
+        () -> likeCountInDb);
 
     return ReviewLikeUpdateResponse.builder()
-        .reviewId(review.getId())
+        .reviewId(reviewId)
         .likeCount(likeCount)
-        .isLiked(!isLiked)
+        .isLiked(likeToggle.isLiked())
         .build();
   }
 
@@ -51,4 +69,15 @@ public class ReviewLikeService {
   public Long getReviewLikeCountByUserId(Long userId) {
     return reviewLikeRepository.countByUserId(userId);
   }
+
+  private ReviewLikeUpdateResponse toResponse(Review review, LikeToggle likeToggle) {
+    Long likeCount = likeCounterRegistry.applyToggle(REVIEW, review.getId(), likeToggle,
+        review::getLikeCount);
+
+    return ReviewLikeUpdateResponse.builder()
+        .reviewId(review.getId())
+        .likeCount(likeCount)
+        .isLiked(likeToggle.isLiked())
+        .build();
+  }
 }
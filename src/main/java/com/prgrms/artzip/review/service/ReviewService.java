@@ -2,6 +2,7 @@ package com.prgrms.artzip.review.service;
 
 import com.prgrms.artzip.comment.dto.response.CommentsResponse;
 import com.prgrms.artzip.comment.service.CommentService;
+import com.prgrms.artzip.common.CursorResponse;
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.PageResponse;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
@@ -9,8 +10,15 @@ import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.common.error.exception.PermissionDeniedException;
 import com.prgrms.artzip.common.util.AmazonS3Remover;
 import com.prgrms.artzip.common.util.AmazonS3Uploader;
+import com.prgrms.artzip.common.util.CompositeReadExecutor;
+import com.prgrms.artzip.common.util.CompositeReadExecutor.Branch;
+import com.prgrms.artzip.common.util.CompositeReadExecutor.CompositeRead;
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.domain.LikeTarget;
+import com.prgrms.artzip.like.domain.PendingLike;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.ReviewLike;
 import com.prgrms.artzip.review.domain.ReviewPhoto;
@@ -26,16 +34,25 @@ import com.prgrms.artzip.review.dto.response.ReviewIdResponse;
 import com.prgrms.artzip.review.dto.response.ReviewResponse;
 import com.prgrms.artzip.review.dto.response.ReviewsResponse;
 import com.prgrms.artzip.review.dto.response.ReviewsResponseForExhibitionDetail;
+import com.prgrms.artzip.review.event.ReviewChangedEvent;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,9 +71,13 @@ public class ReviewService {
   private final ReviewPhotoRepository reviewPhotoRepository;
   private final ReviewLikeRepository reviewLikeRepository;
   private final UserRepository userRepository;
+  private final UserStatsRepository userStatsRepository;
   private final ExhibitionRepository exhibitionRepository;
   private final AmazonS3Uploader amazonS3Uploader;
   private final AmazonS3Remover amazonS3Remover;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CompositeReadExecutor compositeReadExecutor;
+  private final LikeWriteBuffer likeWriteBuffer;
 
   @Transactional
   public ReviewIdResponse createReview(final Long userId, final ReviewCreateRequest request,
@@ -77,10 +98,13 @@ public class ReviewService {
         .isPublic(request.getIsPublic())
         .build();
     Review savedReview = reviewRepository.save(review);
+    syncPublicReviewCount(savedReview, false);
+    userStatsRepository.updateReviewCount(user.getId(), 1);
 
     if (files != null) {
       createReviewPhoto(savedReview, files);
     }
+    eventPublisher.publishEvent(new ReviewChangedEvent(exhibition.getId()));
 
     return new ReviewIdResponse(savedReview.getId());
   }
@@ -97,6 +121,7 @@ public class ReviewService {
     validateFileCount(review, request.getDeletedPhotos(), files);
     validateFileExtensions(files);
 
+    boolean wasPublicReview = isCountedAsPublicReview(review);
     removeReviewPhotosByIds(request.getDeletedPhotos());
 
     if (files != null) {
@@ -107,61 +132,125 @@ public class ReviewService {
     review.updateTitle(request.getTitle());
     review.updateContent(request.getContent());
     review.updateIsPublic(request.getIsPublic());
+    syncPublicReviewCount(review, wasPublicReview);
+    eventPublisher.publishEvent(new ReviewChangedEvent(review.getExhibition().getId()));
 
     return new ReviewIdResponse(review.getId());
   }
 
   @Transactional
-  public ReviewIdResponse removeReview(final User user, final Long reviewId) {
+  public ReviewIdResponse removeReview(final UserPrincipal user, final Long reviewId) {
     Review review = reviewRepository.findById(reviewId)
         .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
     validateUser(user);
     validateUserAuthority(user, review);
 
+    boolean wasPublicReview = isCountedAsPublicReview(review);
+    boolean wasDeleted = review.getIsDeleted();
     review.updateIdDeleted(true);
+    syncPublicReviewCount(review, wasPublicReview);
+    if (!wasDeleted) {
+      userStatsRepository.updateReviewCount(review.getUser().getId(), -1);
+    }
     removeReviewPhotos(review.getReviewPhotos());
+    // 버퍼에 남아 있는 이 후기의 좋아요는 LikeFlusher 가 삭제된 후기로 보고 추가하지 않는다.
     removeReviewLikes(review.getReviewLikes());
+    eventPublisher.publishEvent(new ReviewChangedEvent(review.getExhibition().getId()));
 
     return new ReviewIdResponse(review.getId());
   }
 
+  private boolean isCountedAsPublicReview(Review review) {
+    return review.getIsPublic() && !review.getIsDeleted();
+  }
+
+  private void syncPublicReviewCount(Review review, boolean wasPublicReview) {
+    boolean isPublicReview = isCountedAsPublicReview(review);
+    if (wasPublicReview != isPublicReview) {
+      exhibitionRepository.updatePublicReviewCount(
+          review.getExhibition().getId(), isPublicReview ? 1 : -1);
+    }
+  }
+
   private void removeReviewLikes(List<ReviewLike> reviewLikes) {
+    List<Long> likedUserIds = reviewLikes.stream()
+        .map(reviewLike -> reviewLike.getUser().getId())
+        .collect(Collectors.toList());
+    if (!likedUserIds.isEmpty()) {
+      userStatsRepository.updateReviewLikeCounts(likedUserIds, -1);
+    }
     reviewLikeRepository.deleteAllInBatch(reviewLikes);
   }
 
-  @Transactional(readOnly = true)
-  public ReviewResponse getReview(final User user, final Long reviewId) {
-    Review review = reviewRepository.findById(reviewId)
-        .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
+  /**
+   * 후기, 후기 통계, 사진, 댓글을 각각 별도의 읽기 전용 트랜잭션에서 동시에 조회한 뒤 합친다.
+   * branch 마다 커넥션을 따로 쓰므로 이 메서드 자체는 트랜잭션을 열지 않는다.
+   */
+  public ReviewResponse getReview(final UserPrincipal user, final Long reviewId) {
+    Long userId = Objects.isNull(user) ? null : user.getId();
+
+    try (CompositeRead read = compositeReadExecutor.begin("후기 단건")) {
+      Branch<ReviewWithLikeAndCommentCount> reviewData = read.fork("reviewData",
+          () -> reviewRepository.findReviewByReviewId(reviewId, userId)
+              .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND)));
+      Branch<ReviewAuthorAndExhibition> authorAndExhibition = read.fork("reviewAndExhibition",
+          () -> getReviewAuthorAndExhibition(userId, reviewId));
+      Branch<List<ReviewPhoto>> reviewPhotos = read.fork("photos",
+          () -> reviewPhotoRepository.findAllByReviewIdIn(Collections.singletonList(reviewId)));
+      Branch<CommentsResponse> comments = read.fork("comments",
+          () -> commentService.getCommentsByReviewId(
+              reviewId, user, PageRequest.of(0, 20, Sort.by("createdAt").descending())));
+
+      ReviewWithLikeAndCommentCount joinedReviewData = read.join(reviewData);
+      ReviewAuthorAndExhibition joinedAuthorAndExhibition = read.join(authorAndExhibition);
+
+      return new ReviewResponse(
+          read.join(comments),
+          joinedReviewData,
+          read.join(reviewPhotos),
+          joinedAuthorAndExhibition.author(),
+          new ReviewExhibitionInfoResponse(joinedAuthorAndExhibition.exhibition()));
+    }
+  }
 
-    ReviewWithLikeAndCommentCount reviewData = reviewRepository.findReviewByReviewId(reviewId,
-            Objects.isNull(user) ? null : user.getId())
+  /**
+   * 전시회 조회는 후기의 전시회 id 가 필요하므로 후기 조회와 같은 branch 에서 이어서 실행한다.
+   */
+  private ReviewAuthorAndExhibition getReviewAuthorAndExhibition(Long userId, Long reviewId) {
+    Review review = reviewRepository.findAllWithUserAndExhibitionByIdIn(
+            Collections.singletonList(reviewId)).stream()
+        .findFirst()
         .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
-
-    List<ReviewPhoto> reviewPhotos = review.getReviewPhotos();
-    User reviewUser = review.getUser();
     ReviewExhibitionInfo reviewExhibitionInfo = exhibitionRepository.findExhibitionForReview(
-            Objects.isNull(user) ? null : user.getId(), review.getExhibition().getId())
+            userId, review.getExhibition().getId())
         .orElseThrow(() -> new NotFoundException(ErrorCode.EXHB_NOT_FOUND));
-    CommentsResponse comments = commentService.getCommentsByReviewId(
-        reviewId, user, PageRequest.of(0, 20, Sort.by("createdAt").descending()));
 
-    return new ReviewResponse(
-        comments,
-        reviewData,
-        reviewPhotos,
-        reviewUser,
-        new ReviewExhibitionInfoResponse(reviewExhibitionInfo));
+    return new ReviewAuthorAndExhibition(review.getUser(), reviewExhibitionInfo);
+  }
+
+  private record ReviewAuthorAndExhibition(User author, ReviewExhibitionInfo exhibition) {
+
   }
 
   @Transactional(readOnly = true)
   public PageResponse<ReviewsResponse> getReviews(
-      final User user, final Long exhibitionId, final Pageable pageable) {
+      final UserPrincipal user, final Long exhibitionId, final Pageable pageable) {
 
     Page<ReviewWithLikeAndCommentCount> reviews = reviewRepository.findReviews(
         exhibitionId, Objects.isNull(user) ? null : user.getId(), pageable);
 
-    return new PageResponse<>(reviews.map(this::getReviewsResponse));
+    return new PageResponse<>(reviews.map(getReviewsResponseMapper(reviews.getContent())));
+  }
+
+  @Transactional(readOnly = true)
+  public CursorResponse<ReviewsResponse> getReviewsByCursor(
+      final UserPrincipal user, final Long exhibitionId, final String cursor, final int size) {
+
+    Cursor.validateSize(size);
+    Slice<ReviewWithLikeAndCommentCount> reviews = reviewRepository.findReviewsByCursor(
+        exhibitionId, Objects.isNull(user) ? null : user.getId(), Cursor.decode(cursor), size);
+
+    return getReviewsCursorResponse(reviews);
   }
 
   @Transactional(readOnly = true)
@@ -171,44 +260,134 @@ public class ReviewService {
         exhibitionId, Objects.isNull(userId) ? null : userId,
         PageRequest.of(0, 4, Sort.by("reviewLikeCount").descending())).getContent();
 
+    List<Long> reviewIds = getReviewIds(reviews);
+    Map<Long, Review> hydratedReviews = findReviewsByIds(reviewIds);
+    Map<Long, List<ReviewPhoto>> reviewPhotos = findReviewPhotosByReviewIds(reviewIds);
+
     return reviews.stream().map(r -> {
-      Review review = reviewRepository.findById(r.getReviewId())
-          .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
-      List<ReviewPhoto> reviewPhotos = review.getReviewPhotos();
-      User reviewUser = review.getUser();
-      return new ReviewsResponseForExhibitionDetail(r, reviewPhotos, reviewUser);
+      Review review = getHydratedReview(hydratedReviews, r.getReviewId());
+      return new ReviewsResponseForExhibitionDetail(
+          r, reviewPhotos.getOrDefault(r.getReviewId(), List.of()), review.getUser());
     }).collect(Collectors.toList());
   }
 
+  /**
+   * 사용자와 무관하게 캐시된 전시회 상세 리뷰 목록에 로그인 사용자의 좋아요 여부를 한 번의 IN 조회로 덧씌운다.
+   * 아직 DB에 반영되지 않은 좋아요/취소는 LikeWriteBuffer 의 상태를 따른다.
+   */
+  @Transactional(readOnly = true)
+  public List<ReviewsResponseForExhibitionDetail> overlayIsLiked(Long userId,
+      List<ReviewsResponseForExhibitionDetail> reviews) {
+    List<Long> reviewIds = reviews.stream()
+        .map(ReviewsResponseForExhibitionDetail::getReviewId)
+        .collect(Collectors.toList());
+    Set<Long> likedReviewIds = PendingLike.overlay(
+        reviewLikeRepository.findLikedReviewIds(userId, reviewIds),
+        likeWriteBuffer.getPendingStates(LikeTarget.REVIEW, userId, reviewIds));
+
+    return reviews.stream()
+        .map(review -> review.withIsLiked(likedReviewIds.contains(review.getReviewId())))
+        .collect(Collectors.toList());
+  }
+
   @Transactional(readOnly = true)
-  public PageResponse<ReviewsResponse> getReviewsForMyLikes(User currentUser, Long targetUserId,
+  public PageResponse<ReviewsResponse> getReviewsForMyLikes(UserPrincipal currentUser, Long targetUserId,
       Pageable pageable) {
 
     Page<ReviewWithLikeAndCommentCount> reviews = reviewRepository.findMyLikesReviews(
         Objects.isNull(currentUser) ? null : currentUser.getId(), targetUserId, pageable);
 
-    return new PageResponse<>(reviews.map(this::getReviewsResponse));
+    return new PageResponse<>(reviews.map(getReviewsResponseMapper(reviews.getContent())));
   }
 
   @Transactional(readOnly = true)
-  public PageResponse<ReviewsResponse> getMyReviews(User currentUser, Long targetUserId,
+  public CursorResponse<ReviewsResponse> getReviewsForMyLikesByCursor(UserPrincipal currentUser,
+      Long targetUserId, String cursor, int size) {
+
+    Cursor.validateSize(size);
+    Slice<ReviewWithLikeAndCommentCount> reviews = reviewRepository.findMyLikesReviewsByCursor(
+        Objects.isNull(currentUser) ? null : currentUser.getId(), targetUserId,
+        Cursor.decode(cursor), size);
+
+    return getReviewsCursorResponse(reviews);
+  }
+
+  @Transactional(readOnly = true)
+  public PageResponse<ReviewsResponse> getMyReviews(UserPrincipal currentUser, Long targetUserId,
       Pageable pageable) {
 
     Page<ReviewWithLikeAndCommentCount> reviews = reviewRepository.findMyReviews(
         Objects.isNull(currentUser) ? null : currentUser.getId(), targetUserId, pageable);
 
-    return new PageResponse<>(reviews.map(this::getReviewsResponse));
+    return new PageResponse<>(reviews.map(getReviewsResponseMapper(reviews.getContent())));
   }
 
-  private ReviewsResponse getReviewsResponse(ReviewWithLikeAndCommentCount reviewData) {
-    Review review = reviewRepository.findById(reviewData.getReviewId())
-        .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
-    List<ReviewPhoto> reviewPhotos = review.getReviewPhotos();
-    User reviewUser = review.getUser();
-    Exhibition exhibition = exhibitionRepository.findById(review.getExhibition().getId())
-        .orElseThrow(() -> new NotFoundException(ErrorCode.EXHB_NOT_FOUND));
+  @Transactional(readOnly = true)
+  public CursorResponse<ReviewsResponse> getMyReviewsByCursor(UserPrincipal currentUser, Long targetUserId,
+      String cursor, int size) {
+
+    Cursor.validateSize(size);
+    Slice<ReviewWithLikeAndCommentCount> reviews = reviewRepository.findMyReviewsByCursor(
+        Objects.isNull(currentUser) ? null : currentUser.getId(), targetUserId,
+        Cursor.decode(cursor), size);
+
+    return getReviewsCursorResponse(reviews);
+  }
+
+  private CursorResponse<ReviewsResponse> getReviewsCursorResponse(
+      Slice<ReviewWithLikeAndCommentCount> reviews) {
+    String nextCursor = Cursor.nextCursorOf(reviews,
+        r -> Cursor.encode(r.getCreatedAt(), r.getReviewId()));
 
-    return new ReviewsResponse(reviewData, reviewPhotos, reviewUser, exhibition);
+    return new CursorResponse<>(
+        reviews.map(getReviewsResponseMapper(reviews.getContent())), nextCursor);
+  }
+
+  /**
+   * 한 페이지의 후기에 필요한 작성자, 전시회, 사진을 페이지 단위로 한꺼번에 불러온 뒤 메모리에서 응답을 조립한다.
+   * 페이지 크기와 관계없이 조회 쿼리 수가 일정하다.
+   */
+  private Function<ReviewWithLikeAndCommentCount, ReviewsResponse> getReviewsResponseMapper(
+      List<ReviewWithLikeAndCommentCount> reviewData) {
+    List<Long> reviewIds = getReviewIds(reviewData);
+    Map<Long, Review> reviews = findReviewsByIds(reviewIds);
+    Map<Long, List<ReviewPhoto>> reviewPhotos = findReviewPhotosByReviewIds(reviewIds);
+
+    return data -> {
+      Review review = getHydratedReview(reviews, data.getReviewId());
+      return new ReviewsResponse(data, reviewPhotos.getOrDefault(data.getReviewId(), List.of()),
+          review.getUser(), review.getExhibition());
+    };
+  }
+
+  private List<Long> getReviewIds(List<ReviewWithLikeAndCommentCount> reviewData) {
+    return reviewData.stream()
+        .map(ReviewWithLikeAndCommentCount::getReviewId)
+        .collect(Collectors.toList());
+  }
+
+  private Map<Long, Review> findReviewsByIds(List<Long> reviewIds) {
+    if (reviewIds.isEmpty()) {
+      return Map.of();
+    }
+    return reviewRepository.findAllWithUserAndExhibitionByIdIn(reviewIds).stream()
+        .collect(Collectors.toMap(Review::getId, Function.identity()));
+  }
+
+  private Map<Long, List<ReviewPhoto>> findReviewPhotosByReviewIds(List<Long> reviewIds) {
+    if (reviewIds.isEmpty()) {
+      return Map.of();
+    }
+    return reviewPhotoRepository.findAllByReviewIdIn(reviewIds).stream()
+        .collect(Collectors.groupingBy(reviewPhoto -> reviewPhoto.getReview().getId()));
+  }
+
+  private Review getHydratedReview(Map<Long, Review> reviews, Long reviewId) {
+    Review review = reviews.get(reviewId);
+    if (Objects.isNull(review)) {
+      throw new NotFoundException(ErrorCode.REVIEW_NOT_FOUND);
+    }
+    return review;
   }
 
   private void removeReviewPhotosByIds(List<Long> reviewPhotoIds) {
@@ -274,13 +453,13 @@ public class ReviewService {
     }
   }
 
-  private void validateUser(User user) {
+  private void validateUser(UserPrincipal user) {
     if (Objects.isNull(user)) {
       throw new PermissionDeniedException(ErrorCode.UNAUTHENTICATED_USER);
     }
   }
 
-  private void validateUserAuthority(User user, Review review) {
+  private void validateUserAuthority(UserPrincipal user, Review review) {
     if (review.getUser().getId() != user.getId()) {
       throw new PermissionDeniedException(ErrorCode.NO_PERMISSION_TO_UPDATE_REVIEW);
     }
@@ -4,8 +4,7 @@ import static org.springframework.http.HttpStatus.OK;
 
 import com.prgrms.artzip.common.ApiResponse;
 import com.prgrms.artzip.common.entity.CurrentUser;
-import com.prgrms.artzip.user.domain.LocalUser;
-import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
 import com.prgrms.artzip.user.dto.request.PasswordUpdateRequest;
 import com.prgrms.artzip.user.dto.request.UserUpdateRequest;
@@ -41,7 +40,7 @@ public class MyController {
   @ApiOperation(value = "내 정보 수정", notes = "로그인한 유저의 정보를 수정합니다.")
   @PatchMapping("/info")
   public ResponseEntity<ApiResponse<UserUpdateResponse>> updateMyInfo(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @Parameter(name = "data", schema = @Schema(type = "string", format = "binary"))
       @RequestPart(value = "data") UserUpdateRequest request,
       @RequestPart(required = false) MultipartFile profileImage) {
@@ -56,7 +55,7 @@ public class MyController {
 
   @ApiOperation(value = "비밀번호 변경", notes = "비밀번호를 변경합니다.")
   @PatchMapping("/password")
-  public ResponseEntity<ApiResponse> updatePassword(@CurrentUser LocalUser user, @RequestBody @Valid
+  public ResponseEntity<ApiResponse> updatePassword(@CurrentUser UserPrincipal user, @RequestBody @Valid
       PasswordUpdateRequest request) {
     userService.updatePassword(user, request);
     ApiResponse apiResponse = ApiResponse.builder()
@@ -69,7 +68,7 @@ public class MyController {
   @ApiOperation(value = "내 정보 조회", notes = "로그인한 유저의 정보를 조회합니다.")
   @GetMapping("/info")
   public ResponseEntity<ApiResponse<Object>> getUserInfo(
-      @CurrentUser User user) {
+      @CurrentUser UserPrincipal user) {
 
     ApiResponse apiResponse = ApiResponse.builder()
         .message("내 정보를 조회하였습니다.")
@@ -5,8 +5,8 @@ import static java.util.Objects.isNull;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
-import com.prgrms.artzip.comment.service.CommentService;
 import com.prgrms.artzip.common.ApiResponse;
+import com.prgrms.artzip.common.CursorResponse;
 import com.prgrms.artzip.common.PageResponse;
 import com.prgrms.artzip.common.entity.CurrentUser;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
@@ -15,12 +15,12 @@ import com.prgrms.artzip.common.jwt.JwtPrincipal;
 import com.prgrms.artzip.common.util.JwtService;
 import com.prgrms.artzip.exhibition.domain.ExhibitionLike;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
-import com.prgrms.artzip.exhibition.service.ExhibitionLikeService;
 import com.prgrms.artzip.exhibition.service.ExhibitionService;
 import com.prgrms.artzip.review.dto.response.ReviewsResponse;
-import com.prgrms.artzip.review.service.ReviewLikeService;
 import com.prgrms.artzip.review.service.ReviewService;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
+import com.prgrms.artzip.user.domain.UserStats;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
 import com.prgrms.artzip.user.dto.request.TokenReissueRequest;
 import com.prgrms.artzip.user.dto.request.UserLocalLoginRequest;
@@ -31,6 +31,7 @@ import com.prgrms.artzip.user.dto.response.TokenResponse;
 import com.prgrms.artzip.user.dto.response.UniqueCheckResponse;
 import com.prgrms.artzip.user.dto.response.UserResponse;
 import com.prgrms.artzip.user.service.UserService;
+import com.prgrms.artzip.user.service.UserStatsService;
 import com.prgrms.artzip.user.service.UserUtilService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -75,13 +76,9 @@ public class UserController {
 
   private final ReviewService reviewService;
 
-  private final CommentService commentService;
-
   private final ExhibitionService exhibitionService;
 
-  private final ExhibitionLikeService exhibitionLikeService;
-
-  private final ReviewLikeService reviewLikeService;
+  private final UserStatsService userStatsService;
 
 
   @ApiOperation(value = "로컬 로그인", notes = "이메일과 비밀번호로 로컬로그인을 진행합니다.")
@@ -123,15 +120,16 @@ public class UserController {
   public ResponseEntity<ApiResponse<UserResponse>> getUserInfo(
       @PathVariable("userId") Long userId) {
     User user = userUtilService.getUserById(userId);
+    UserStats userStats = userStatsService.getUserStats(user.getId());
     UserResponse userResponse = UserResponse.builder()
         .userId(user.getId())
         .nickname(user.getNickname())
         .profileImage(user.getProfileImage())
         .email(user.getEmail())
-        .reviewCount(reviewService.getReviewCountByUserId(user.getId()))
-        .exhibitionLikeCount(exhibitionLikeService.getExhibitionLikeCountByUserId(user.getId()))
-        .reviewLikeCount(reviewLikeService.getReviewLikeCountByUserId(user.getId()))
-        .commentCount(commentService.getCommentCountByUserId(user.getId())).build();
+        .reviewCount(userStats.getReviewCount())
+        .exhibitionLikeCount(userStats.getExhibitionLikeCount())
+        .reviewLikeCount(userStats.getReviewLikeCount())
+        .commentCount(userStats.getCommentCount()).build();
     ApiResponse apiResponse = ApiResponse.builder()
         .message("유저 정보 조회 성공하였습니다.")
         .status(OK.value())
@@ -207,7 +205,7 @@ public class UserController {
   @ApiOperation(value = "유저가 좋아요 누른 전시회 조회", notes = "유저가 좋아요 누른 전시회를 조회합니다.")
   @GetMapping("/{userId}/info/exhibitions/like")
   public ResponseEntity<ApiResponse<PageResponse<ExhibitionInfoResponse>>> getUserLikeExhibitions(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "조회할 유저 ID")
       @PathVariable("userId") Long userId,
       @PageableDefault(page = 0, size = 4) Pageable pageable
@@ -229,7 +227,7 @@ public class UserController {
   @ApiOperation(value = "유저가 좋아요 누른 후기 조회", notes = "유저가 좋아요 누른 후기를 조회합니다.")
   @GetMapping("/{userId}/info/reviews/like")
   public ResponseEntity<ApiResponse<PageResponse<ReviewsResponse>>> getUserLikeReviews(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "조회할 유저 ID")
       @PathVariable("userId") Long userId,
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -247,7 +245,7 @@ public class UserController {
   @ApiOperation(value = "유저가 작성한 후기 조회", notes = "유저가 작성한 후기를 조회합니다.")
   @GetMapping("/{userId}/info/my/reviews")
   public ResponseEntity<ApiResponse<PageResponse<ReviewsResponse>>> getUserMyReviews(
-      @CurrentUser User user,
+      @CurrentUser UserPrincipal user,
       @ApiParam(value = "조회할 유저 ID")
       @PathVariable("userId") Long userId,
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -261,4 +259,46 @@ public class UserController {
             .data(response)
             .build());
   }
+
+  @ApiOperation(value = "유저가 좋아요 누른 후기 커서 조회", notes = "유저가 좋아요 누른 후기를 커서 기반으로 조회합니다.")
+  @GetMapping("/{userId}/info/reviews/like/cursor")
+  public ResponseEntity<ApiResponse<CursorResponse<ReviewsResponse>>> getUserLikeReviewsByCursor(
+      @CurrentUser UserPrincipal user,
+      @ApiParam(value = "조회할 유저 ID")
+      @PathVariable("userId") Long userId,
+      @ApiParam(value = "이전 응답의 nextCursor, 첫 조회 시 생략")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", required = false, defaultValue = "10") int size) {
+
+    CursorResponse<ReviewsResponse> response =
+        reviewService.getReviewsForMyLikesByCursor(user, userId, cursor, size);
+
+    return ResponseEntity.ok()
+        .body(ApiResponse.<CursorResponse<ReviewsResponse>>builder()
+            .message("유저가 좋아요 누른 후기 리스트 조회 성공")
+            .status(HttpStatus.OK.value())
+            .data(response)
+            .build());
+  }
+
+  @ApiOperation(value = "유저가 작성한 후기 커서 조회", notes = "유저가 작성한 후기를 커서 기반으로 조회합니다.")
+  @GetMapping("/{userId}/info/my/reviews/cursor")
+  public ResponseEntity<ApiResponse<CursorResponse<ReviewsResponse>>> getUserMyReviewsByCursor(
+      @CurrentUser UserPrincipal user,
+      @ApiParam(value = "조회할 유저 ID")
+      @PathVariable("userId") Long userId,
+      @ApiParam(value = "이전 응답의 nextCursor, 첫 조회 시 생략")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", required = false, defaultValue = "10") int size) {
+
+    CursorResponse<ReviewsResponse> response =
+        reviewService.getMyReviewsByCursor(user, userId, cursor, size);
+
+    return ResponseEntity.ok()
+        .body(ApiResponse.<CursorResponse<ReviewsResponse>>builder()
+            .message("유저가 작성한 후기 리스트 조회 성공")
+            .status(HttpStatus.OK.value())
+            .data(response)
+            .build());
+  }
 }
@@ -12,6 +12,7 @@ import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
 import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -23,6 +24,7 @@ public class LocalUser extends User {
   private static final String PASSWORD_REGEX = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$";
   private static final int MAX_PASSWORD_LENGTH = 500;
 
+  @Getter
   @Column(name = "password")
   private String password;
 
@@ -38,6 +40,17 @@ public class LocalUser extends User {
       }
   }
 
+  public boolean needsPasswordRehash(PasswordEncoder passwordEncoder) {
+    return passwordEncoder.upgradeEncoding(password);
+  }
+
+  /**
+   * 로그인에 성공한 비밀번호를 현재 해시 비용으로 다시 해시합니다. 가입 당시 규칙으로 만든 비밀번호일 수 있으므로 규칙은 검사하지 않습니다.
+   */
+  public void rehashPassword(PasswordEncoder passwordEncoder, String credentials) {
+    this.password = passwordEncoder.encode(credentials);
+  }
+
   private void validatePassword(String password) {
     if (password.length() > MAX_PASSWORD_LENGTH) {
       throw new InvalidRequestException(INVALID_LENGTH);
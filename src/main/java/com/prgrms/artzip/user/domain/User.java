@@ -16,9 +16,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 닉네임은 탈퇴하지 않은 유저 사이에서, 이메일은 탈퇴하지 않은 로컬 가입 유저 사이에서만 겹치지 않도록 생성 컬럼에 유니크 제약을 건다.
+// 기존 DB에는 resources/db/users-unique-identifiers.sql 로 추가한다. (ddl-auto 는 실패해도 조용히 넘어간다)
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_active_email", columnNames = {"active_email"}),
+        @UniqueConstraint(name = "uk_users_active_nickname", columnNames = {"active_nickname"})
+    }
+)
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn
 @Getter
@@ -27,7 +34,7 @@ public class User extends BaseEntity {
   private static final String EMAIL_REGEX = "^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$";
   private static final String NICKNAME_REGEX = "[a-zA-Z가-힣0-9]+( [a-zA-Z가-힣0-9]+)*";
   private static final int MAX_EMAIL_LENGTH = 100;
-  private static final int MAX_NICKNAME_LENGTH = 10;
+  public static final int MAX_NICKNAME_LENGTH = 10;
   private static final int MAX_PROFILEIMAGE_LENGTH = 300;
 
   // TODO: max 값 erd 보고 확인
@@ -60,6 +67,16 @@ public class User extends BaseEntity {
   @Column(name = "is_quit")
   private Boolean isQuit = false;
 
+  @Getter(AccessLevel.NONE)
+  @Column(name = "active_email", insertable = false, updatable = false,
+      columnDefinition = "varchar(100) generated always as (case when is_quit = false and dtype = 'LOCAL' then email end)")
+  private String activeEmail;
+
+  @Getter(AccessLevel.NONE)
+  @Column(name = "active_nickname", insertable = false, updatable = false,
+      columnDefinition = "varchar(10) generated always as (case when is_quit = false then nickname end)")
+  private String activeNickname;
+
   public User(String email, String nickname, List<Role> roles) {
     if (!hasText(email)) {
       throw new InvalidRequestException(MISSING_REQUEST_PARAMETER);
@@ -0,0 +1,62 @@
+package com.prgrms.artzip.user.domain;
+
+import com.prgrms.artzip.common.Authority;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 인증된 요청이 들고 다니는 유저 정보입니다. UserPrincipalCache 가 여러 요청에 함께 넘기므로 바뀌지 않는 값만 담고,
+ * 유저를 변경하거나 연관관계로 걸어야 하는 작업은 id 로 엔티티를 다시 읽습니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class UserPrincipal {
+
+  public enum Kind {
+    LOCAL,
+    OAUTH
+  }
+
+  private final Long id;
+
+  private final String email;
+
+  private final String nickname;
+
+  private final String profileImage;
+
+  private final List<Authority> authorities;
+
+  private final Kind kind;
+
+  private UserPrincipal(Long id, String email, String nickname, String profileImage,
+      List<Authority> authorities, Kind kind) {
+    this.id = id;
+    this.email = email;
+    this.nickname = nickname;
+    this.profileImage = profileImage;
+    this.authorities = List.copyOf(authorities);
+    this.kind = kind;
+  }
+
+  /**
+   * @param user roles 까지 읽어 둔 유저
+   */
+  public static UserPrincipal from(User user) {
+    return new UserPrincipal(
+        user.getId(),
+        user.getEmail(),
+        user.getNickname(),
+        user.getProfileImage(),
+        user.getRoles().stream().map(Role::getAuthority).collect(Collectors.toList()),
+        user instanceof LocalUser ? Kind.LOCAL : Kind.OAUTH);
+  }
+
+  public boolean isLocal() {
+    return kind == Kind.LOCAL;
+  }
+}
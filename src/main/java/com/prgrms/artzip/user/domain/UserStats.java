@@ -0,0 +1,47 @@
+package com.prgrms.artzip.user.domain;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * UserStats
+ * - 프로필 조회 시 보여주는 유저별 후기/전시회 좋아요/후기 좋아요/댓글 수를 미리 집계해 둔 테이블
+ * - 가입 시 0으로 만들고 각 쓰기 경로에서 증감하며, UserStatsVerifier 가 매일 실제 COUNT 와 비교하여 보정
+ * */
+@Entity
+@Table(name = "user_stats")
+@NoArgsConstructor(access = PROTECTED)
+@Getter
+public class UserStats {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "review_count", nullable = false)
+  private Long reviewCount;
+
+  @Column(name = "exhibition_like_count", nullable = false)
+  private Long exhibitionLikeCount;
+
+  @Column(name = "review_like_count", nullable = false)
+  private Long reviewLikeCount;
+
+  @Column(name = "comment_count", nullable = false)
+  private Long commentCount;
+
+  public UserStats(Long userId, Long reviewCount, Long exhibitionLikeCount, Long reviewLikeCount,
+      Long commentCount) {
+    this.userId = userId;
+    this.reviewCount = reviewCount;
+    this.exhibitionLikeCount = exhibitionLikeCount;
+    this.reviewLikeCount = reviewLikeCount;
+    this.commentCount = commentCount;
+  }
+}
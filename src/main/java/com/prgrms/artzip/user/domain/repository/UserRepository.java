@@ -1,12 +1,15 @@
 package com.prgrms.artzip.user.domain.repository;
 
 import com.prgrms.artzip.common.oauth.AuthProvider;
+import com.prgrms.artzip.user.domain.LocalUser;
 import com.prgrms.artzip.user.domain.OAuthUser;
 import com.prgrms.artzip.user.domain.User;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -17,16 +20,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("select u from User u join fetch u.roles r where u.id = :userId and u.isQuit = :isQuit")
     Optional<User> findByIdAndIsQuit(@Param("userId") Long userId, @Param("isQuit") Boolean isQuit);
 
-    @Query("select u from User u join fetch u.roles r where u.email = :email and u.isQuit = :isQuit")
-    Optional<User> findByEmailAndIsQuit(@Param("email") String email, @Param("isQuit") Boolean isQuit);
+    // 이메일은 로컬 가입 유저의 로그인 id 이므로 로컬 가입 유저 사이에서만 겹치지 않는다. (users.active_email 유니크 제약과 같은 범위)
+    @Query("select lu from LocalUser lu join fetch lu.roles r where lu.email = :email and lu.isQuit = :isQuit")
+    Optional<LocalUser> findLocalUserByEmailAndIsQuit(@Param("email") String email, @Param("isQuit") Boolean isQuit);
 
-    boolean existsByEmailAndIsQuit(@Param("email") String email, @Param("isQuit") Boolean isQuit);
+    @Query("select case when count(lu) > 0 then true else false end from LocalUser lu where lu.email = :email and lu.isQuit = :isQuit")
+    boolean existsLocalUserByEmailAndIsQuit(@Param("email") String email, @Param("isQuit") Boolean isQuit);
 
+    // 닉네임은 탈퇴하지 않은 유저 사이에서 겹치지 않는다. (users.active_nickname 유니크 제약과 같은 범위)
     boolean existsByNicknameAndIsQuit(@Param("nickname") String nickname, @Param("isQuit") Boolean isQuit);
     // TODO: exists refactor, 회원가입 시 중복이랑 이미 있는 유저 중복 체크 다름.
     @Query("select case when count(u)> 0 then true else false end from User u where u.id <> :userId and u.nickname = :nickname and u.isQuit = false")
     boolean existsByNicknameExceptId(@Param("userId") Long userId, @Param("nickname") String nickname);
 
+    @Query("select u.nickname from User u where u.isQuit = false")
+    List<String> findActiveNicknames();
+
+    @Query("select lu.email from LocalUser lu where lu.isQuit = false")
+    List<String> findActiveEmails();
+
+    // 읽은 뒤 다른 요청이 비밀번호를 바꿨다면 덮어쓰지 않고 0을 반환
+    @Modifying
+    @Query(value = "UPDATE local_user SET password = :password WHERE user_id = :userId AND password = :previousPassword", nativeQuery = true)
+    int updatePassword(@Param("userId") Long userId, @Param("previousPassword") String previousPassword, @Param("password") String password);
+
     @Query("select ou from OAuthUser ou join fetch ou.roles r where ou.provider = :provider and ou.providerId = :providerId")
     Optional<OAuthUser> findByProviderAndProviderId(@Param("provider") AuthProvider provider, @Param("providerId") String providerId);
 }
@@ -0,0 +1,61 @@
+package com.prgrms.artzip.user.domain.repository;
+
+import com.prgrms.artzip.user.domain.UserStats;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/*
+ * 집계 행은 가입 시 0으로 만든다. 증감 쿼리는 집계 행이 아직 없으면 0건을 갱신하고 끝나며,
+ * 가입 시 만들지 못한 행(기존 데이터)은 UserStatsVerifier 가 채운다.
+ * */
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+  @Modifying
+  @Query("UPDATE UserStats s SET s.reviewCount = s.reviewCount + :delta WHERE s.userId = :userId")
+  int updateReviewCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+  @Modifying
+  @Query("UPDATE UserStats s SET s.exhibitionLikeCount = s.exhibitionLikeCount + :delta WHERE s.userId = :userId")
+  int updateExhibitionLikeCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+  @Modifying
+  @Query("UPDATE UserStats s SET s.reviewLikeCount = s.reviewLikeCount + :delta WHERE s.userId = :userId")
+  int updateReviewLikeCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+  @Modifying
+  @Query("UPDATE UserStats s SET s.reviewLikeCount = s.reviewLikeCount + :delta WHERE s.userId in :userIds")
+  int updateReviewLikeCounts(@Param("userIds") Collection<Long> userIds, @Param("delta") long delta);
+
+  @Modifying
+  @Query("UPDATE UserStats s SET s.commentCount = s.commentCount + :delta WHERE s.userId = :userId")
+  int updateCommentCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+  @Modifying
+  @Query(value = "INSERT INTO user_stats (user_id, review_count, exhibition_like_count, review_like_count, comment_count) "
+      + "VALUES (:userId, 0, 0, 0, 0)",
+      nativeQuery = true)
+  int insertUserStats(@Param("userId") Long userId);
+
+  @Modifying
+  @Query(value = "INSERT INTO user_stats (user_id, review_count, exhibition_like_count, review_like_count, comment_count) "
+      + "SELECT u.user_id, 0, 0, 0, 0 FROM users u "
+      + "WHERE NOT EXISTS (SELECT 1 FROM user_stats s WHERE s.user_id = u.user_id)",
+      nativeQuery = true)
+  int insertMissingUserStats();
+
+  @Modifying(clearAutomatically = true)
+  @Query(value = "UPDATE user_stats s "
+      + "SET review_count = (SELECT COUNT(*) FROM review r WHERE r.user_id = s.user_id AND r.is_deleted = false), "
+      + "exhibition_like_count = (SELECT COUNT(*) FROM exhibition_like el WHERE el.user_id = s.user_id), "
+      + "review_like_count = (SELECT COUNT(*) FROM review_like rl WHERE rl.user_id = s.user_id), "
+      + "comment_count = (SELECT COUNT(*) FROM comment c WHERE c.user_id = s.user_id AND c.is_deleted = false) "
+      + "WHERE s.review_count <> (SELECT COUNT(*) FROM review r WHERE r.user_id = s.user_id AND r.is_deleted = false) "
+      + "OR s.exhibition_like_count <> (SELECT COUNT(*) FROM exhibition_like el WHERE el.user_id = s.user_id) "
+      + "OR s.review_like_count <> (SELECT COUNT(*) FROM review_like rl WHERE rl.user_id = s.user_id) "
+      + "OR s.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.user_id = s.user_id AND c.is_deleted = false)",
+      nativeQuery = true)
+  int reconcileUserStats();
+}
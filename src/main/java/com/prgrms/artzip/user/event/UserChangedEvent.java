@@ -0,0 +1,16 @@
+package com.prgrms.artzip.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * UserChangedEvent
+ * - 유저의 닉네임, 프로필 이미지, 비밀번호가 변경되었거나 탈퇴했을 때 발행
+ * - 인증된 유저를 들고 있는 캐시는 커밋 이후 이 이벤트를 받아 무효화
+ * */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+  private final Long userId;
+}
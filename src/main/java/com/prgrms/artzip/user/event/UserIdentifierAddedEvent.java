@@ -0,0 +1,17 @@
+package com.prgrms.artzip.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * UserIdentifierAddedEvent
+ * - 회원가입이나 닉네임 변경으로 사용 중인 이메일/닉네임이 생겼을 때 발행, 닉네임만 바뀐 경우 email 은 null
+ * - 중복 확인용 인덱스는 커밋 이후 이 이벤트를 받아 새 값을 추가
+ * */
+@Getter
+@RequiredArgsConstructor
+public class UserIdentifierAddedEvent {
+
+  private final String email;
+  private final String nickname;
+}
@@ -0,0 +1,211 @@
+package com.prgrms.artzip.user.service;
+
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.ServiceUnavailableException;
+import com.prgrms.artzip.common.util.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/*
+ * PasswordHasher
+ * - bcrypt 해시/비교를 요청 스레드가 아닌 전용 스레드 풀에서 실행하는 PasswordEncoder
+ *   로그인이 몰려도 bcrypt 가 톰캣 워커를 모두 잡지 않도록 동시에 실행되는 해시 수와 대기열 길이를 제한하고, 대기열이 차면 바로 503으로 응답한다.
+ * - bcrypt strength 는 목표 시간(artzip.password.target-hash-millis)에 맞춰 측정한다. 서버마다 측정값이 엇갈리지 않도록
+ *   처음 측정한 서버가 Redis 에 올린 값을 모든 서버가 함께 쓰고, 이미 올라가 있으면 측정하지 않는다.
+ *   다시 측정하려면 키(PasswordHash_Strength)를 지우고 재기동한다. Redis 에 접근할 수 없으면 설정값(artzip.password.bcrypt-strength)을 쓴다.
+ * - 저장된 해시의 strength 가 현재 값보다 낮으면 upgradeEncoding 이 true 를 반환하므로, 로그인에 성공했을 때 다시 해시해 저장하면 된다.
+ * - 대기열에서 기다린 시간과 해시에 걸린 시간을 작업 종류(encode/matches)별로 남긴다.
+ * */
+@Slf4j
+@Component
+public class PasswordHasher implements PasswordEncoder {
+
+  static final String QUEUE_WAIT_METRIC = "artzip.password.hash.queue-wait";
+  static final String HASH_TIME_METRIC = "artzip.password.hash.time";
+  static final String REJECTED_METRIC = "artzip.password.hash.rejected";
+  static final String STRENGTH_KEY = "PasswordHash_Strength";
+  static final int MIN_STRENGTH = 10;
+  static final int MAX_STRENGTH = 16;
+  static final int CALIBRATION_SAMPLES = 5;
+  private static final String CALIBRATION_PASSWORD = "calibration-password1!";
+  private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+  private final BCryptPasswordEncoder delegate;
+  private final int strength;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeQueueWait;
+  private final Timer matchesQueueWait;
+  private final Timer encodeTime;
+  private final Timer matchesTime;
+  private final Counter rejected;
+
+  @Autowired
+  public PasswordHasher(MeterRegistry meterRegistry, RedisService redisService,
+      @Value("${artzip.password.bcrypt-strength:10}") int fallbackStrength,
+      @Value("${artzip.password.target-hash-millis:250}") long targetHashMillis,
+      @Value("${artzip.password.hash-queue-capacity:64}") int queueCapacity) {
+    this(resolveStrength(redisService, fallbackStrength,
+            () -> calibrate(targetHashMillis, PasswordHasher::measureHashMillis)),
+        Runtime.getRuntime().availableProcessors(), queueCapacity, meterRegistry);
+  }
+
+  PasswordHasher(int strength, int poolSize, int queueCapacity, MeterRegistry meterRegistry) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+    threadFactory.setDaemon(true);
+    this.delegate = new BCryptPasswordEncoder(strength);
+    this.strength = strength;
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+        new ThreadPoolExecutor.AbortPolicy());
+    this.encodeQueueWait = timer(meterRegistry, QUEUE_WAIT_METRIC, "encode",
+        "비밀번호 해시 작업이 대기열에서 기다린 시간");
+    this.matchesQueueWait = timer(meterRegistry, QUEUE_WAIT_METRIC, "matches",
+        "비밀번호 해시 작업이 대기열에서 기다린 시간");
+    this.encodeTime = timer(meterRegistry, HASH_TIME_METRIC, "encode", "비밀번호 해시에 걸린 시간");
+    this.matchesTime = timer(meterRegistry, HASH_TIME_METRIC, "matches", "비밀번호 해시에 걸린 시간");
+    this.rejected = Counter.builder(REJECTED_METRIC)
+        .description("대기열이 가득 차 거절한 비밀번호 해시 작업 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(encodeQueueWait, encodeTime, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(matchesQueueWait, matchesTime,
+        () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * 저장된 해시의 strength 가 현재 strength 보다 낮을 때만 다시 해시해야 합니다. 더 높은 해시는 그대로 둡니다.
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+    return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+  }
+
+  int getQueuedCount() {
+    return executor.getQueue().size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Redis 에 올라간 strength 를 반환합니다. 아직 없으면 측정해 올리고, 동시에 먼저 올린 서버가 있다면 그 값을 따릅니다.
+   */
+  static int resolveStrength(RedisService redisService, int fallbackStrength,
+      IntSupplier calibration) {
+    try {
+      String shared = redisService.getValues(STRENGTH_KEY);
+      if (shared == null) {
+        redisService.setValuesIfAbsent(STRENGTH_KEY, String.valueOf(calibration.getAsInt()));
+        shared = redisService.getValues(STRENGTH_KEY);
+      }
+      int strength = Integer.parseInt(shared);
+      log.info("bcrypt strength {} 을(를) 사용합니다.", strength);
+      return strength;
+    } catch (DataAccessException | NumberFormatException e) {
+      log.warn("공유 bcrypt strength 를 읽지 못해 설정값 {} 을(를) 사용합니다: {}", fallbackStrength,
+          e.getMessage());
+      return fallbackStrength;
+    }
+  }
+
+  /**
+   * MIN_STRENGTH 에서 여러 번 잰 시간의 중앙값을 기준으로, strength 를 1 올릴 때마다 시간이 두 배가 되는 것을 이용해
+   * 목표 시간을 넘지 않는 가장 큰 strength 를 고릅니다. 보안을 위해 MIN_STRENGTH 보다 낮추지는 않습니다.
+   */
+  static int calibrate(long targetHashMillis, IntToLongFunction hashMillisAtStrength) {
+    long[] samples = new long[CALIBRATION_SAMPLES];
+    for (int i = 0; i < samples.length; i++) {
+      samples[i] = hashMillisAtStrength.applyAsLong(MIN_STRENGTH);
+    }
+    Arrays.sort(samples);
+    long millis = Math.max(1, samples[samples.length / 2]);
+    int strength = MIN_STRENGTH;
+    while (strength < MAX_STRENGTH && millis * 2 <= targetHashMillis) {
+      strength++;
+      millis *= 2;
+    }
+    log.info("bcrypt strength 측정: strength={}, 해시 1회 예상 {}ms (목표 {}ms)", strength, millis,
+        targetHashMillis);
+    return strength;
+  }
+
+  private static long measureHashMillis(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    long start = System.nanoTime();
+    encoder.encode(CALIBRATION_PASSWORD);
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  private <T> T execute(Timer queueWait, Timer hashTime, Supplier<T> hash) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        return hashTime.record(hash);
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("비밀번호 해시 대기열이 가득 차 요청을 거절합니다. (대기 {}건)", getQueuedCount());
+      throw new ServiceUnavailableException(ErrorCode.PASSWORD_HASH_BUSY);
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException(ErrorCode.PASSWORD_HASH_BUSY);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String name, String operation,
+      String description) {
+    return Timer.builder(name)
+        .tag("operation", operation)
+        .description(description)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,205 @@
+package com.prgrms.artzip.user.service;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.event.UserIdentifierAddedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+ * UserIdentifierIndex
+ * - 사용 중인 닉네임(탈퇴하지 않은 유저)과 이메일(탈퇴하지 않은 로컬 가입 유저)을 서버마다 블룸 필터로 들고 있어, 중복 확인(회원가입 폼에서 입력할 때마다 호출)이 매번 DB를 조회하지 않도록 한다.
+ *   필터에 없으면 DB 조회 없이 사용 가능으로 답하고, 있을 때만 DB로 정확히 확인한다.
+ * - 기동 시와 주기적으로 DB에서 다시 만들고, 그 사이 회원가입/닉네임 변경은 커밋 이후 추가하고 Redis pub/sub 으로 다른 서버에도 알린다.
+ *   처음 만들기 전까지는 모든 확인을 DB로 한다.
+ * - 블룸 필터는 값을 뺄 수 없으므로 닉네임 변경/탈퇴로 쓰이지 않게 된 값은 다음에 다시 만들 때까지 DB로 확인하게 될 뿐이다.
+ * - 대소문자/앞뒤 공백만 다른 값을 DB가 같게 볼 수 있으므로 필터에는 정규화한 값을 넣는다. 필터가 놓치는 경우가 있더라도 회원가입은 DB 유니크 제약이 막는다.
+ * */
+@Slf4j
+@Component
+public class UserIdentifierIndex implements MessageListener {
+
+  static final String ADDED_CHANNEL = "UserIdentifier_Added";
+  static final String LOOKUP_METRIC = "artzip.user.identifier.lookup";
+  static final int MIN_EXPECTED_USERS = 10_000;
+  static final double FALSE_POSITIVE_RATE = 0.01;
+  private static final String NICKNAME = "N";
+  private static final String EMAIL = "E";
+  private static final String SEPARATOR = "|";
+
+  private final UserRepository userRepository;
+  private final RedisService redisService;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final Counter skipped;
+  private final Counter falsePositive;
+  private final Counter taken;
+  private volatile Filters filters = new Filters(MIN_EXPECTED_USERS);
+  private volatile Filters building;
+  private volatile boolean loaded;
+
+  public UserIdentifierIndex(UserRepository userRepository, RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry) {
+    this.userRepository = userRepository;
+    this.redisService = redisService;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.skipped = lookupCounter(meterRegistry, "skipped");
+    this.falsePositive = lookupCounter(meterRegistry, "false_positive");
+    this.taken = lookupCounter(meterRegistry, "taken");
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ADDED_CHANNEL));
+  }
+
+  /**
+   * DB에서 사용 중인 닉네임/이메일을 읽어 필터를 새로 만든다.
+   * 읽기 시작하기 전부터 새 필터에도 값을 추가하므로, 만드는 동안 커밋된 회원가입도 놓치지 않는다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${artzip.user.identifier-rebuild-millis:3600000}",
+      initialDelayString = "${artzip.user.identifier-rebuild-millis:3600000}")
+  public synchronized void rebuild() {
+    try {
+      Filters next = new Filters((int) Math.min(Integer.MAX_VALUE,
+          Math.max(MIN_EXPECTED_USERS, userRepository.count() * 2)));
+      building = next;
+      List<String> nicknames = userRepository.findActiveNicknames();
+      List<String> emails = userRepository.findActiveEmails();
+      nicknames.forEach(nickname -> next.put(NICKNAME, nickname));
+      emails.forEach(email -> next.put(EMAIL, email));
+      filters = next;
+      loaded = true;
+      log.info("닉네임/이메일 중복 확인 필터 생성: 닉네임 {}건, 이메일 {}건", nicknames.size(), emails.size());
+    } catch (DataAccessException e) {
+      log.warn("닉네임/이메일 중복 확인 필터 생성 실패: {}", e.getMessage());
+    } finally {
+      building = null;
+    }
+  }
+
+  /**
+   * @param existsInDb 필터에 있을 때만 호출되는 정확한 중복 확인
+   */
+  public boolean isNicknameAvailable(String nickname, BooleanSupplier existsInDb) {
+    return isAvailable(NICKNAME, nickname, existsInDb);
+  }
+
+  /**
+   * @param existsInDb 필터에 있을 때만 호출되는 정확한 중복 확인
+   */
+  public boolean isEmailAvailable(String email, BooleanSupplier existsInDb) {
+    return isAvailable(EMAIL, email, existsInDb);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onIdentifierAdded(UserIdentifierAddedEvent event) {
+    add(EMAIL, event.getEmail());
+    add(NICKNAME, event.getNickname());
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    String[] parts = body.split("\\" + SEPARATOR, 2);
+    if (parts.length != 2 || !(NICKNAME.equals(parts[0]) || EMAIL.equals(parts[0]))) {
+      log.warn("잘못된 닉네임/이메일 추가 메시지: {}", body);
+      return;
+    }
+    addLocally(parts[0], parts[1]);
+  }
+
+  private boolean isAvailable(String kind, String value, BooleanSupplier existsInDb) {
+    if (loaded && hasText(value) && !filters.mightContain(kind, value)) {
+      skipped.increment();
+      return true;
+    }
+    boolean exists = existsInDb.getAsBoolean();
+    if (loaded) {
+      (exists ? taken : falsePositive).increment();
+    }
+    return !exists;
+  }
+
+  private void add(String kind, String value) {
+    if (!hasText(value)) {
+      return;
+    }
+    addLocally(kind, value);
+    try {
+      redisService.publish(ADDED_CHANNEL, String.join(SEPARATOR, kind, value));
+    } catch (DataAccessException e) {
+      log.warn("닉네임/이메일 추가 발행 실패, 다음 필터 생성 때 반영됩니다: {}", e.getMessage());
+    }
+  }
+
+  private void addLocally(String kind, String value) {
+    filters.put(kind, value);
+    Filters next = building;
+    if (Objects.nonNull(next)) {
+      next.put(kind, value);
+    }
+  }
+
+  private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(LOOKUP_METRIC)
+        .description("닉네임/이메일 중복 확인 결과, skipped 는 DB 조회를 생략한 수, false_positive 는 필터 오탐 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static class Filters {
+
+    private final BloomFilter<CharSequence> nicknames;
+    private final BloomFilter<CharSequence> emails;
+
+    private Filters(int expectedUsers) {
+      this.nicknames = newFilter(expectedUsers);
+      this.emails = newFilter(expectedUsers);
+    }
+
+    private static BloomFilter<CharSequence> newFilter(int expectedUsers) {
+      return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedUsers,
+          FALSE_POSITIVE_RATE);
+    }
+
+    private void put(String kind, String value) {
+      if (hasText(value)) {
+        filterOf(kind).put(normalize(value));
+      }
+    }
+
+    private boolean mightContain(String kind, String value) {
+      return filterOf(kind).mightContain(normalize(value));
+    }
+
+    private BloomFilter<CharSequence> filterOf(String kind) {
+      return NICKNAME.equals(kind) ? nicknames : emails;
+    }
+
+    private static String normalize(String value) {
+      return value.strip().toLowerCase(Locale.ROOT);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.prgrms.artzip.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.artzip.common.config.JwtConfig;
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.user.domain.UserPrincipal;
+import com.prgrms.artzip.user.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+ * UserPrincipalCache
+ * - JwtAuthenticationFilter 가 인증된 요청마다 유저와 권한을 DB에서 다시 읽지 않도록 userId 별로 유저 정보를 서버 메모리에 들고 있는 캐시
+ * - 여러 요청이 함께 읽으므로 엔티티가 아닌 바뀌지 않는 UserPrincipal 을 들고 있는다.
+ *   유저 정보를 바꾸는 작업은 DB에서 다시 읽은 엔티티로 하고, 커밋 후 UserChangedEvent 를 받아 무효화한다.
+ * - TTL 은 access token 유효 시간을 넘지 않고, 다른 서버의 무효화는 Redis pub/sub 으로 받는다.
+ * - 최대 개수를 넘으면 Caffeine 이 자주 쓰이지 않는 유저부터 내보낸다.
+ * */
+@Slf4j
+@Component
+public class UserPrincipalCache implements MessageListener {
+
+  static final String EVICT_CHANNEL = "UserPrincipal_Evict";
+  static final String LOOKUP_METRIC = "artzip.auth.principal.lookup";
+  static final long TTL_MILLIS = 300_000;
+  static final int MAX_SIZE = 10_000;
+  private static final String SEPARATOR = "|";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Cache<Long, UserPrincipal> users;
+  private final AtomicLong evictions = new AtomicLong();
+  private final RedisService redisService;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final Timer hitTimer;
+  private final Timer missTimer;
+
+  @Autowired
+  public UserPrincipalCache(RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry,
+      JwtConfig jwtConfig) {
+    this(redisService, redisMessageListenerContainer, meterRegistry,
+        Math.min(TTL_MILLIS, TimeUnit.SECONDS.toMillis(jwtConfig.getAccessToken().getExpirySeconds())),
+        MAX_SIZE);
+  }
+
+  UserPrincipalCache(RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry,
+      long ttlMillis, int maxSize) {
+    this.redisService = redisService;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.hitTimer = lookupTimer(meterRegistry, "hit");
+    this.missTimer = lookupTimer(meterRegistry, "miss");
+    this.users = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(ttlMillis))
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+  }
+
+  /**
+   * 캐시된 유저 정보를 반환하고, 없거나 만료됐다면 loader 로 읽어 채운다.
+   *
+   * @param loader 예외는 캐시하지 않고 그대로 던진다.
+   */
+  public UserPrincipal get(Long userId, Supplier<UserPrincipal> loader) {
+    long startedAt = System.nanoTime();
+    UserPrincipal cached = users.getIfPresent(userId);
+    if (Objects.nonNull(cached)) {
+      hitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      return cached;
+    }
+
+    long evictionsBeforeLoad = evictions.get();
+    UserPrincipal principal = loader.get();
+    put(userId, principal, evictionsBeforeLoad);
+    missTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    return principal;
+  }
+
+  public void evict(Long userId) {
+    evictLocally(userId);
+    try {
+      redisService.publish(EVICT_CHANNEL, String.join(SEPARATOR, nodeId, String.valueOf(userId)));
+    } catch (DataAccessException e) {
+      log.warn("유저 캐시 무효화 발행 실패 userId: {}, {}", userId, e.getMessage());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    evict(event.getUserId());
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    String[] parts = body.split("\\" + SEPARATOR);
+    try {
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(body);
+      }
+      if (nodeId.equals(parts[0])) {
+        return;
+      }
+      evictLocally(Long.parseLong(parts[1]));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 유저 캐시 무효화 메시지: {}", body);
+    }
+  }
+
+  private void evictLocally(Long userId) {
+    evictions.incrementAndGet();
+    users.invalidate(userId);
+  }
+
+  long size() {
+    users.cleanUp();
+    return users.estimatedSize();
+  }
+
+  /*
+   * 읽는 동안 무효화가 있었다면 읽은 값이 이미 오래된 것일 수 있으므로, 넣은 뒤 다시 확인해 빼낸다.
+   */
+  private void put(Long userId, UserPrincipal principal, long evictionsBeforeLoad) {
+    users.put(userId, principal);
+    if (evictions.get() != evictionsBeforeLoad) {
+      users.asMap().remove(userId, principal);
+    }
+  }
+
+  private static Timer lookupTimer(MeterRegistry meterRegistry, String result) {
+    return Timer.builder(LOOKUP_METRIC)
+        .description("인증 필터의 유저 조회 시간, hit 비율과 miss 대비 줄어든 시간이 캐시가 아낀 시간")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -7,6 +7,7 @@ import static java.util.Objects.*;
 import com.prgrms.artzip.common.Authority;
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.error.exception.AlreadyExistsException;
+import com.prgrms.artzip.common.error.exception.AuthErrorException;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.common.oauth.AuthProvider;
@@ -16,32 +17,39 @@ import com.prgrms.artzip.user.domain.LocalUser;
 import com.prgrms.artzip.user.domain.OAuthUser;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import com.prgrms.artzip.user.domain.repository.RoleRepository;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
 import com.prgrms.artzip.user.dto.request.PasswordUpdateRequest;
 import com.prgrms.artzip.user.dto.request.UserSignUpRequest;
 import com.prgrms.artzip.user.dto.request.UserUpdateRequest;
 import com.prgrms.artzip.user.dto.response.UserUpdateResponse;
+import com.prgrms.artzip.user.event.UserChangedEvent;
+import com.prgrms.artzip.user.event.UserIdentifierAddedEvent;
 import java.io.IOException;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
 // TODO: 사진 파일 관련 util 추상화 refactoring
+// 비밀번호 해시는 PasswordHasher 대기열에서 기다릴 수 있으므로, 해시하는 동안에는 트랜잭션(커넥션)을 잡지 않고 조회와 저장을 각각 짧은 트랜잭션으로 나눈다.
 @Service
 @RequiredArgsConstructor
 public class UserService {
   private Logger log = LoggerFactory.getLogger(getClass());
   private static final String PROFILE_DIRECTORY_NAME = "profileImage";
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
   private final UserRepository userRepository;
 
   private final RoleRepository roleRepository;
@@ -52,24 +60,40 @@ public class UserService {
 
   private final AmazonS3Remover amazonS3Remover;
 
-  @Transactional(readOnly = true)
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final UserIdentifierIndex userIdentifierIndex;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final UserStatsRepository userStatsRepository;
+
   public User login(String principal, String credentials) {
       if (!hasText(principal) || !hasText(credentials)) {
           throw new InvalidRequestException(LOGIN_PARAM_REQUIRED);
       }
 
-    LocalUser user = (LocalUser) userRepository.findByEmailAndIsQuit(principal, false)
+    LocalUser user = userRepository.findLocalUserByEmailAndIsQuit(principal, false)
         .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND));
-    user.checkPassword(passwordEncoder, credentials);
+    user.checkPassword(passwordHasher, credentials);
+    // 해시 비용이 바뀐 뒤 처음 로그인하면 현재 비용으로 다시 해시해 둔다.
+    // 그 사이 비밀번호가 바뀌었다면 예전 비밀번호로 되돌리지 않도록 읽은 해시 그대로일 때만 저장한다.
+    if (user.needsPasswordRehash(passwordHasher)) {
+      String previousPassword = user.getPassword();
+      user.rehashPassword(passwordHasher, credentials);
+      transactionTemplate.executeWithoutResult(status ->
+          userRepository.updatePassword(user.getId(), previousPassword, user.getPassword()));
+    }
     return user;
   }
 
-  @Transactional
   public User signUp(UserSignUpRequest request) {
-      if (userRepository.existsByEmailAndIsQuit(request.getEmail(), false)) {
+      if (!userIdentifierIndex.isEmailAvailable(request.getEmail(),
+          () -> userRepository.existsLocalUserByEmailAndIsQuit(request.getEmail(), false))) {
           throw new AlreadyExistsException(USER_ALREADY_EXISTS);
       }
-      if (userRepository.existsByNicknameAndIsQuit(request.getNickname(), false)) {
+      if (!userIdentifierIndex.isNicknameAvailable(request.getNickname(),
+          () -> userRepository.existsByNicknameAndIsQuit(request.getNickname(), false))) {
           throw new AlreadyExistsException(USER_ALREADY_EXISTS);
       }
 
@@ -78,10 +102,22 @@ public class UserService {
     User newUser = LocalUser.builder()
         .nickname(request.getNickname())
         .email(request.getEmail())
-        .password(passwordEncoder.encode(request.getPassword()))
+        .password(passwordHasher.encode(request.getPassword()))
         .roles(List.of(userRole))
         .build();
-    return userRepository.save(newUser);
+    return transactionTemplate.execute(status -> {
+      User savedUser;
+      try {
+        savedUser = userRepository.save(newUser);
+      } catch (DataIntegrityViolationException e) {
+        // 중복 확인과 저장 사이에 같은 이메일/닉네임으로 먼저 가입한 경우 유니크 제약이 막는다.
+        throw new AlreadyExistsException(USER_ALREADY_EXISTS);
+      }
+      userStatsRepository.insertUserStats(savedUser.getId());
+      eventPublisher.publishEvent(
+          new UserIdentifierAddedEvent(savedUser.getEmail(), savedUser.getNickname()));
+      return savedUser;
+    });
   }
 
 //  @Transactional
@@ -119,12 +155,21 @@ public class UserService {
 //  }
 
   @Transactional
-  public UserUpdateResponse updateUserInfo(User user, UserUpdateRequest request, MultipartFile file) {
+  public UserUpdateResponse updateUserInfo(UserPrincipal principal, UserUpdateRequest request, MultipartFile file) {
     // 닉네임 업데이트
-    if (userRepository.existsByNicknameExceptId(user.getId(), request.getNickname())) {
+    if (!userIdentifierIndex.isNicknameAvailable(request.getNickname(),
+        () -> userRepository.existsByNicknameExceptId(principal.getId(), request.getNickname()))) {
       throw new AlreadyExistsException(NICKNAME_ALREADY_EXISTS);
     }
+    // 인증된 요청의 유저 정보는 캐시된 값이므로 DB에서 다시 읽은 유저를 수정
+    User user = getActiveUser(principal.getId());
     user.setNickname(request.getNickname());
+    try {
+      // 중복 확인 이후 다른 유저가 먼저 같은 닉네임으로 바꾼 경우, 사진을 올리기 전에 유니크 제약으로 막는다.
+      userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      throw new AlreadyExistsException(NICKNAME_ALREADY_EXISTS);
+    }
     String updatedProfile = amazonS3Uploader.getDefaultProfileImage();
     try {
       // 이미지 업데이트
@@ -148,6 +193,8 @@ public class UserService {
       log.error("이미지 처리 실패: {}", e.getMessage());
     }
     userRepository.save(user);
+    eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+    eventPublisher.publishEvent(new UserIdentifierAddedEvent(null, user.getNickname()));
     return UserUpdateResponse.builder()
         .userId(user.getId())
         .email(user.getEmail())
@@ -156,12 +203,25 @@ public class UserService {
         .build();
   }
 
-  @Transactional
-  public void updatePassword(LocalUser localUser, PasswordUpdateRequest request) {
+  public void updatePassword(UserPrincipal principal, PasswordUpdateRequest request) {
+    if (!principal.isLocal()) throw new AuthErrorException(INVALID_ACCOUNT_REQUEST);
     if (request.getNewPassword().equals(request.getOldPassword())) throw new InvalidRequestException(PASSWORD_CANNOT_BE_SAME);
-    localUser.checkPassword(passwordEncoder, request.getOldPassword());
-    localUser.changePassword(passwordEncoder, request.getNewPassword());
-    userRepository.save(localUser);
+    LocalUser localUser = (LocalUser) getActiveUser(principal.getId());
+    String previousPassword = localUser.getPassword();
+    localUser.checkPassword(passwordHasher, request.getOldPassword());
+    localUser.changePassword(passwordHasher, request.getNewPassword());
+    transactionTemplate.executeWithoutResult(status -> {
+      // 확인한 이후 다른 요청이 먼저 비밀번호를 바꾼 경우, 확인한 기존 비밀번호가 더 이상 맞지 않는다.
+      if (userRepository.updatePassword(localUser.getId(), previousPassword, localUser.getPassword()) == 0) {
+        throw new AuthErrorException(INVALID_ACCOUNT_REQUEST);
+      }
+      eventPublisher.publishEvent(new UserChangedEvent(localUser.getId()));
+    });
+  }
+
+  private User getActiveUser(Long userId) {
+    return userRepository.findByIdAndIsQuit(userId, false)
+        .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND));
   }
 
   private void validateFileExtension(final MultipartFile file) {
@@ -0,0 +1,37 @@
+package com.prgrms.artzip.user.service;
+
+import com.prgrms.artzip.comment.repository.CommentRepository;
+import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewLikeRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import com.prgrms.artzip.user.domain.UserStats;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+  private final UserStatsRepository userStatsRepository;
+  private final ReviewRepository reviewRepository;
+  private final ExhibitionLikeRepository exhibitionLikeRepository;
+  private final ReviewLikeRepository reviewLikeRepository;
+  private final CommentRepository commentRepository;
+
+  /**
+   * 집계 행을 기본키로 한 번에 조회한다.
+   * 아직 검증기가 집계 행을 만들지 않은 신규 유저라면 COUNT 쿼리로 직접 계산한다.
+   */
+  @Transactional(readOnly = true)
+  public UserStats getUserStats(Long userId) {
+    return userStatsRepository.findById(userId)
+        .orElseGet(() -> new UserStats(
+            userId,
+            reviewRepository.countByUserId(userId),
+            exhibitionLikeRepository.countByUserId(userId),
+            reviewLikeRepository.countByUserId(userId),
+            commentRepository.countByUserId(userId)));
+  }
+}
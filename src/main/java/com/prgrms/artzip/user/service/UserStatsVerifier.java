@@ -0,0 +1,42 @@
+package com.prgrms.artzip.user.service;
+
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * UserStatsVerifier
+ * - 집계 행이 없는 유저의 user_stats 행을 만들고, 실제 후기/좋아요/댓글 수와 다른 행을 보정
+ * - 집계 행은 가입 시 만들어지므로 애플리케이션 기동 시(기존 데이터 백필) 및 다른 보정 작업처럼 매일 한 번 실행
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsVerifier {
+
+  private final UserStatsRepository userStatsRepository;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${artzip.user.stats-verify-cron:0 30 4 * * *}")
+  @Transactional
+  public void verify() {
+    verifyStats();
+  }
+
+  int verifyStats() {
+    int createdCount = userStatsRepository.insertMissingUserStats();
+    int repairedCount = userStatsRepository.reconcileUserStats();
+    if (createdCount > 0) {
+      log.info("유저 통계 집계 행 생성: {}건", createdCount);
+    }
+    if (repairedCount > 0) {
+      log.warn("유저 통계 불일치 보정(신규 집계 행 포함): {}건", repairedCount);
+    }
+    return repairedCount;
+  }
+}
@@ -1,21 +1,30 @@
 package com.prgrms.artzip.user.service;
 
+import com.prgrms.artzip.common.error.exception.AlreadyExistsException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.user.domain.User;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.prgrms.artzip.common.ErrorCode.NICKNAME_ALREADY_EXISTS;
 import static com.prgrms.artzip.common.ErrorCode.USER_NOT_FOUND;
 
 @Service
 public class UserUtilService {
 
+  static final int NICKNAME_SUFFIX_DIGITS = 4;
+  static final int MAX_NICKNAME_ATTEMPTS = 10;
+
   private final UserRepository userRepository;
 
-  public UserUtilService(UserRepository userRepository) {
+  private final UserIdentifierIndex userIdentifierIndex;
+
+  public UserUtilService(UserRepository userRepository, UserIdentifierIndex userIdentifierIndex) {
     this.userRepository = userRepository;
+    this.userIdentifierIndex = userIdentifierIndex;
   }
 
   @Transactional(readOnly = true)
@@ -25,11 +34,35 @@ public class UserUtilService {
 
   @Transactional(readOnly = true)
   public boolean checkNicknameUnique(String nickname) {
-    return !userRepository.existsByNicknameAndIsQuit(nickname, false);
+    return userIdentifierIndex.isNicknameAvailable(nickname,
+        () -> userRepository.existsByNicknameAndIsQuit(nickname, false));
   }
 
   @Transactional(readOnly = true)
   public boolean checkEmailUnique(String email) {
-    return !userRepository.existsByEmailAndIsQuit(email, false);
+    return userIdentifierIndex.isEmailAvailable(email,
+        () -> userRepository.existsLocalUserByEmailAndIsQuit(email, false));
+  }
+
+  /**
+   * 소셜 로그인처럼 닉네임을 직접 정하지 않는 가입에서 쓸 닉네임을 정한다.
+   * 탈퇴하지 않은 유저가 이미 쓰는 닉네임(유니크 제약과 같은 범위)이면 최대 길이에 맞춰 자른 뒤 숫자를 붙인다.
+   */
+  @Transactional(readOnly = true)
+  public String issueUniqueNickname(String nickname) {
+    if (!userRepository.existsByNicknameAndIsQuit(nickname, false)) {
+      return nickname;
+    }
+    String prefix = nickname.substring(0,
+        Math.min(nickname.length(), User.MAX_NICKNAME_LENGTH - NICKNAME_SUFFIX_DIGITS));
+    int bound = (int) Math.pow(10, NICKNAME_SUFFIX_DIGITS);
+    for (int i = 0; i < MAX_NICKNAME_ATTEMPTS; i++) {
+      String candidate = prefix + String.format("%0" + NICKNAME_SUFFIX_DIGITS + "d",
+          ThreadLocalRandom.current().nextInt(bound));
+      if (!userRepository.existsByNicknameAndIsQuit(candidate, false)) {
+        return candidate;
+      }
+    }
+    throw new AlreadyExistsException(NICKNAME_ALREADY_EXISTS);
   }
 }
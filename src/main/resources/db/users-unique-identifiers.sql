@@ -0,0 +1,28 @@
+-- 탈퇴하지 않은 유저의 닉네임, 탈퇴하지 않은 로컬 가입 유저의 이메일에 유니크 제약 추가 (MySQL)
+-- 중복 확인(UserRepository, UserIdentifierIndex)과 같은 범위가 되도록, 해당하지 않는 행은 NULL 이 되는 생성 컬럼에 제약을 건다.
+-- 탈퇴한 유저의 닉네임/이메일은 다시 쓸 수 있고, 소셜 로그인 유저는 provider id 로 구분하므로 이메일 제약 대상이 아니다.
+-- ddl-auto: update 는 유니크 키 생성에 실패해도 경고만 남기고 넘어가므로, 배포 전에 이 스크립트를 직접 실행한다.
+
+-- 1. 중복 확인: 아래 두 쿼리가 모두 빈 결과여야 4단계가 성공한다.
+SELECT nickname, COUNT(*) FROM users WHERE is_quit = false GROUP BY nickname HAVING COUNT(*) > 1;
+SELECT email, COUNT(*) FROM users WHERE is_quit = false AND dtype = 'LOCAL' GROUP BY email HAVING COUNT(*) > 1;
+
+-- 2. 중복 닉네임은 가장 먼저 가입한 유저만 남기고, 나머지는 앞 6자 + user_id 뒤 4자리로 바꾼다.
+--    (소셜 로그인 가입이 닉네임이 겹칠 때 숫자를 붙이는 것과 같은 형식)
+UPDATE users u
+    JOIN (SELECT nickname, MIN(user_id) AS keep_id FROM users WHERE is_quit = false
+          GROUP BY nickname HAVING COUNT(*) > 1) d
+    ON u.nickname = d.nickname AND u.user_id <> d.keep_id AND u.is_quit = false
+SET u.nickname = CONCAT(LEFT(u.nickname, 6), LPAD(MOD(u.user_id, 10000), 4, '0'));
+--    중복 이메일은 계정을 합칠지 사람이 판단해야 하므로 자동으로 바꾸지 않는다. 1단계 결과가 빌 때까지 정리한 뒤 진행한다.
+
+-- 3. email / nickname 전체에 걸린 기존 유니크 키 제거
+--    ddl-auto 가 만든 키는 이름이 UK_ 로 시작하는 임의 문자열이므로 SHOW INDEX FROM users; 로 확인해 이름을 바꿔 실행한다.
+-- ALTER TABLE users DROP INDEX UK_xxxxxxxx, DROP INDEX UK_yyyyyyyy;
+
+-- 4. 생성 컬럼과 제약 추가
+ALTER TABLE users
+    ADD COLUMN active_email VARCHAR(100) GENERATED ALWAYS AS (CASE WHEN is_quit = false AND dtype = 'LOCAL' THEN email END),
+    ADD COLUMN active_nickname VARCHAR(10) GENERATED ALWAYS AS (CASE WHEN is_quit = false THEN nickname END),
+    ADD CONSTRAINT uk_users_active_email UNIQUE (active_email),
+    ADD CONSTRAINT uk_users_active_nickname UNIQUE (active_nickname);
@@ -2,8 +2,12 @@ package com.prgrms.artzip.comment.repository;
 
 import com.prgrms.artzip.QueryDslTestConfig;
 import com.prgrms.artzip.comment.domain.Comment;
+import com.prgrms.artzip.comment.domain.CommentLike;
 import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
 import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.InvalidRequestException;
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.domain.enumType.Area;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
@@ -20,13 +24,20 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import({QueryDslTestConfig.class})
@@ -40,6 +51,7 @@ class CommentRepositoryTest {
     private User user;
     private Exhibition exhibition;
     private Review review;
+    private Comment lastChild;
 
     @BeforeEach
     void setUp() {
@@ -92,7 +104,7 @@ class CommentRepositoryTest {
                     .user(user)
                     .parent(comment)
                     .build());
-            commentRepository.save(Comment.builder()
+            lastChild = commentRepository.save(Comment.builder()
                     .content(String.valueOf(i) + "의 자식2")
                     .review(review)
                     .user(user)
@@ -120,42 +132,161 @@ class CommentRepositoryTest {
     }
 
     @Test
-    @DisplayName("여러 부모의 자식 댓글 조회 테스트")
-    void testGetCommentsOfParents() {
+    @DisplayName("작성 시각이 같은 댓글도 커서로 이어서 조회해 빠지거나 겹치는 댓글이 없는지 테스트")
+    void testGetCommentsByReviewIdByCursor() {
+        //Given
+        em.flush();
+        em.createNativeQuery("UPDATE comment SET created_at = :createdAt")
+                .setParameter("createdAt", LocalDateTime.of(2022, 9, 1, 12, 0))
+                .executeUpdate();
+        em.clear();
+
+        //When
+        List<Long> commentIds = new ArrayList<>();
+        Cursor cursor = null;
+        Slice<CommentSimpleProjection> slice;
+        do {
+            slice = commentRepository.getCommentsByReviewIdByCursor(review.getId(), user.getId(), cursor, 7);
+            slice.getContent().forEach(comment -> commentIds.add(comment.getCommentId()));
+            CommentSimpleProjection last = slice.getContent().get(slice.getContent().size() - 1);
+            cursor = Cursor.decode(Cursor.encode(last.getCreatedAt(), last.getCommentId()));
+        } while (slice.hasNext());
+
+        //Then
+        List<Long> parentIds = commentRepository.getCommentsByReviewIdQ(review.getId(), user.getId(), PageRequest.of(0, 40))
+                .getContent().stream().map(CommentSimpleProjection::getCommentId).toList();
+        assertThat(commentIds).hasSize(30)
+                .doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.reverseOrder())
+                .containsExactlyInAnyOrderElementsOf(parentIds);
+    }
+
+    @Test
+    @DisplayName("정렬 키가 모자라거나 형식이 맞지 않는 커서로 댓글을 조회하는 경우 테스트")
+    void testGetCommentsByReviewIdByInvalidCursor() {
+        Cursor shortCursor = Cursor.decode(Cursor.encode(LocalDateTime.of(2022, 9, 1, 12, 0)));
+        Cursor malformedCursor = Cursor.decode(Cursor.encode("yesterday", lastChild.getId()));
+
+        assertThatThrownBy(() -> commentRepository.getCommentsByReviewIdByCursor(review.getId(), user.getId(), shortCursor, 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+        assertThatThrownBy(() -> commentRepository.getCommentsByReviewIdByCursor(review.getId(), user.getId(), malformedCursor, 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("여러 부모의 최신 자식 댓글 미리보기 조회 테스트")
+    void testGetChildPreviewsOfParents() {
         //Given
         Pageable pageable = PageRequest.of(0, 40);
         Page<CommentSimpleProjection> comments = commentRepository.getCommentsByReviewIdQ(review.getId(), user.getId(), pageable);
         List<Long> parentIds = comments.getContent().stream().map(CommentSimpleProjection::getCommentId).toList();
 
         //When
-        List<Comment> children = commentRepository.getCommentsOfParents(parentIds);
+        List<CommentSimpleProjection> allChildren = commentRepository.getChildPreviewsOfParents(parentIds, user.getId(), 3);
+        List<CommentSimpleProjection> latestChildren = commentRepository.getChildPreviewsOfParents(parentIds, user.getId(), 1);
 
         //Then
-        assertThat(children).hasSize(60);
-        parentIds.forEach(parentId -> {
-            assertThat(children.stream().filter(
-                    child -> child.getParent()
-                            .getId()
-                            .equals(parentId)
-            ))
-                    .hasSize(2);
-        });
+        assertThat(allChildren).hasSize(60);
+        assertThat(latestChildren).hasSize(30)
+                .allSatisfy(child -> assertThat(child.getContent()).endsWith("의 자식2"));
+        parentIds.forEach(parentId -> assertThat(allChildren)
+                .filteredOn(child -> child.getParentId().equals(parentId))
+                .hasSize(2));
+        assertThat(commentRepository.getChildPreviewsOfParents(List.of(), user.getId(), 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작성 시각이 같은 자식 댓글은 id 가 큰 댓글부터 미리보기에 담기는지 테스트")
+    void testGetChildPreviewsOfParentsWithSameCreatedAt() {
+        //Given
+        em.flush();
+        em.createNativeQuery("UPDATE comment SET created_at = :createdAt")
+                .setParameter("createdAt", LocalDateTime.of(2022, 9, 1, 12, 0))
+                .executeUpdate();
+        em.clear();
+        Long parentId = lastChild.getParent().getId();
+
+        //When
+        List<CommentSimpleProjection> latestChildren = commentRepository.getChildPreviewsOfParents(List.of(parentId), user.getId(), 1);
+
+        //Then
+        assertThat(latestChildren).singleElement()
+                .hasFieldOrPropertyWithValue("commentId", lastChild.getId())
+                .hasFieldOrPropertyWithValue("parentId", parentId);
+    }
+
+    @Test
+    @DisplayName("자식 댓글 미리보기에 좋아요 수와 좋아요 여부가 함께 조회되는지 테스트")
+    void testGetChildPreviewsWithLike() {
+        //Given
+        em.persist(new CommentLike(lastChild, user));
+        em.flush();
+        commentRepository.reconcileLikeCounts();
+        em.clear();
+
+        //When
+        List<CommentSimpleProjection> children = commentRepository.getChildPreviewsOfParents(
+                List.of(lastChild.getParent().getId()), user.getId(), 3);
+        List<CommentSimpleProjection> anonymous = commentRepository.getChildPreviewsOfParents(
+                List.of(lastChild.getParent().getId()), null, 3);
+
+        //Then
+        assertThat(children).filteredOn(child -> child.getCommentId().equals(lastChild.getId()))
+                .singleElement()
+                .hasFieldOrPropertyWithValue("likeCount", 1L)
+                .hasFieldOrPropertyWithValue("isLiked", true);
+        assertThat(anonymous).allSatisfy(child -> assertThat(child.getIsLiked()).isFalse());
+    }
+
+    @Test
+    @DisplayName("좋아요 수 컬럼을 실제 좋아요 행 수로 보정하는지 테스트")
+    void testReconcileLikeCounts() {
+        //Given
+        em.persist(new CommentLike(lastChild, user));
+        em.flush();
+
+        //When
+        int repairedCount = commentRepository.reconcileLikeCounts();
+        int repairedAgainCount = commentRepository.reconcileLikeCounts();
+
+        //Then
+        assertThat(repairedCount).isEqualTo(1);
+        assertThat(repairedAgainCount).isZero();
+        assertThat(commentRepository.findById(lastChild.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
     }
 
     @Test
     @DisplayName("부모의 자식 댓글 조회 테스트")
-    void testGetCommentsOfParent() {
+    void testGetChildrenQ() {
         //Given
         Pageable pageable0 = PageRequest.of(0, 40);
-        Pageable pageable1 = PageRequest.of(0, 10);
+        Pageable pageable1 = PageRequest.of(0, 10, Sort.by("createdAt").descending());
         Page<CommentSimpleProjection> comments = commentRepository.getCommentsByReviewIdQ(review.getId(), user.getId(), pageable0);
+        Long parentId = comments.getContent().get(0).getCommentId();
+
+        //When
+        Page<CommentSimpleProjection> children = commentRepository.getChildrenQ(parentId, user.getId(), pageable1);
 
+        //Then
+        assertThat(children.getTotalElements()).isEqualTo(2);
+        assertThat(children.getContent()).hasSize(2)
+                .allSatisfy(child -> assertThat(child.getParentId()).isEqualTo(parentId));
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회 테스트")
+    void testGetCommentByIdQ() {
         //When
-        Page<Comment> children = commentRepository
-                .getCommentsOfParent(comments.getContent().get(0).getCommentId(), pageable1);
+        Optional<CommentSimpleProjection> parent = commentRepository.getCommentByIdQ(lastChild.getParent().getId(), user.getId());
 
         //Then
-        assertThat(children.getContent()).hasSize(2);
+        assertThat(parent).get()
+                .hasFieldOrPropertyWithValue("childCount", 2L)
+                .hasFieldOrPropertyWithValue("likeCount", 0L)
+                .hasFieldOrPropertyWithValue("isLiked", false);
+        assertThat(commentRepository.getCommentByIdQ(-1L, user.getId())).isEmpty();
     }
 
 }
\ No newline at end of file
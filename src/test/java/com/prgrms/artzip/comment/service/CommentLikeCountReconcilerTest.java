@@ -0,0 +1,43 @@
+package com.prgrms.artzip.comment.service;
+
+import com.prgrms.artzip.comment.repository.CommentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentLikeCountReconciler 테스트")
+class CommentLikeCountReconcilerTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private CommentLikeCountReconciler commentLikeCountReconciler;
+
+    @Test
+    @DisplayName("좋아요 수가 어긋난 댓글을 보정하고 보정한 수를 반환하는지 테스트")
+    void testReconcile() {
+        doReturn(2).when(commentRepository).reconcileLikeCounts();
+
+        int repairedCount = commentLikeCountReconciler.reconcileLikeCounts();
+
+        assertThat(repairedCount).isEqualTo(2);
+        verify(commentRepository).reconcileLikeCounts();
+    }
+
+    @Test
+    @DisplayName("불일치가 없으면 0을 반환하는지 테스트")
+    void testReconcileWithoutDrift() {
+        int repairedCount = commentLikeCountReconciler.reconcileLikeCounts();
+
+        assertThat(repairedCount).isZero();
+    }
+}
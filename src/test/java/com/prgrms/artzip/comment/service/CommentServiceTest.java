@@ -8,22 +8,32 @@ import com.prgrms.artzip.comment.dto.request.CommentUpdateRequest;
 import com.prgrms.artzip.comment.dto.response.CommentInfo;
 import com.prgrms.artzip.comment.dto.response.CommentLikeResponse;
 import com.prgrms.artzip.comment.dto.response.CommentResponse;
+import com.prgrms.artzip.comment.dto.response.CommentResponseQ;
+import com.prgrms.artzip.comment.dto.response.CommentsResponse;
 import com.prgrms.artzip.comment.repository.CommentLikeRepository;
 import com.prgrms.artzip.comment.repository.CommentRepository;
 import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.common.CursorResponse;
 import com.prgrms.artzip.common.ErrorCode;
 import com.prgrms.artzip.common.entity.BaseEntity;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.domain.enumType.Area;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.repository.ReviewRepository;
 import com.prgrms.artzip.user.domain.LocalUser;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import com.prgrms.artzip.user.service.UserUtilService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +45,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -43,7 +54,10 @@ import java.time.Month;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
+import static com.prgrms.artzip.like.domain.LikeTarget.COMMENT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -67,6 +81,21 @@ class CommentServiceTest {
     @Mock
     private CommentLikeRepository commentLikeRepository;
 
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+
+    @Mock
+    private CommentThreadLoader commentThreadLoader;
+
+    @Mock
+    private UserUtilService userUtilService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -144,16 +173,37 @@ class CommentServiceTest {
                         .build()
         );
         Pageable pageable = PageRequest.of(0, 10);
-        doReturn(new PageImpl(comments, pageable, comments.size())).when(commentRepository)
-                .getCommentsByReviewIdQ(review.getId(), null, pageable);
-        doReturn(3).when(commentRepository).getCommentCountByReviewId(review.getId());
+        doReturn(new PageImpl<>(List.of(new CommentResponseQ(comments.get(0), List.of())), pageable, comments.size()))
+                .when(commentThreadLoader).loadThreads(review.getId(), null, pageable);
+        doReturn(Optional.of(3L)).when(reviewRepository).findCommentCountById(review.getId());
 
         //when
-        commentService.getCommentsByReviewId(review.getId(), user, pageable);
+        CommentsResponse response = commentService.getCommentsByReviewId(review.getId(), UserPrincipal.from(user), pageable);
 
         //then
-        verify(commentRepository).getCommentsByReviewIdQ(review.getId(), null, pageable);
-        verify(commentRepository).getCommentCountByReviewId(review.getId());
+        verify(commentThreadLoader).loadThreads(review.getId(), null, pageable);
+        verify(reviewRepository).findCommentCountById(review.getId());
+        assertThat(response.getCommentCount()).isEqualTo(3);
+        assertThat(response.getComments().getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회 테스트")
+    void testGetCommentsByCursor() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0);
+        List<CommentResponseQ> comments = List.of(
+                new CommentResponseQ(projection(2L, null, createdAt, false), List.of()),
+                new CommentResponseQ(projection(1L, null, createdAt, false), List.of()));
+        doReturn(new SliceImpl<>(comments, Pageable.ofSize(2), true)).when(commentThreadLoader)
+                .loadThreadsByCursor(review.getId(), null, null, 2);
+
+        //when
+        CursorResponse<CommentResponseQ> response = commentService.getCommentsByReviewIdByCursor(review.getId(), UserPrincipal.from(user), null, 2);
+
+        //then
+        assertThat(response.getContent()).hasSize(2);
+        assertThat(response.getNextCursor()).isEqualTo(Cursor.encode(createdAt, 1L));
     }
 
     @Test
@@ -179,40 +229,21 @@ class CommentServiceTest {
                 LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0),
                 LocalDateTime.class
         );
-        List<Comment> childContent = new ArrayList<>();
-        for (int i = 0; i < 9; i++) {
-            Comment child = Comment.builder()
-                    .user(user)
-                    .review(review)
-                    .content("안녕")
-                    .build();
-            ReflectionTestUtils.setField(
-                    child,
-                    BaseEntity.class,
-                    "createdAt",
-                    LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0),
-                    LocalDateTime.class
-            );
-            ReflectionTestUtils.setField(
-                    child,
-                    BaseEntity.class,
-                    "updatedAt",
-                    LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0),
-                    LocalDateTime.class
-            );
-            childContent.add(child);
+        List<CommentInfo> childContent = new ArrayList<>();
+        for (long i = 1; i <= 9; i++) {
+            childContent.add(new CommentInfo(projection(i, 0L, LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0), false)));
         }
-        Page<Comment> children = new PageImpl<>(childContent);
+        Page<CommentInfo> children = new PageImpl<>(childContent);
         Pageable pageable = PageRequest.of(0, 10);
         doReturn(parent).when(commentUtilService).getComment(0L);
-        doReturn(children).when(commentRepository).getCommentsOfParent(0L, pageable);
+        doReturn(children).when(commentThreadLoader).loadChildren(0L, null, pageable);
 
         //when
-        Page<CommentInfo> response = commentService.getChildren(0L, user, pageable);
+        Page<CommentInfo> response = commentService.getChildren(0L, UserPrincipal.from(user), pageable);
 
         //then
         verify(commentUtilService).getComment(0L);
-        verify(commentRepository).getCommentsOfParent(0L, pageable);
+        verify(commentThreadLoader).loadChildren(0L, null, pageable);
         assertThat(response.getContent()).hasSize(9);
     }
 
@@ -239,32 +270,41 @@ class CommentServiceTest {
                 LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0),
                 LocalDateTime.class
         );
+        doReturn(user).when(userUtilService).getUserById(user.getId());
         doReturn(comment).when(commentRepository).save(Mockito.any(Comment.class));
         doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
 
         //when
-        commentService.createComment(
+        CommentResponse response = commentService.createComment(
                 new CommentCreateRequest("안녕", null),
                 review.getId(),
-                user
+                UserPrincipal.from(user)
         );
 
         //then
         verify(commentRepository).save(Mockito.any(Comment.class));
         verify(reviewRepository).findById(review.getId());
+        verify(reviewRepository).updateCommentCount(review.getId(), 1);
+        verify(userStatsRepository).updateCommentCount(user.getId(), 1);
+        verifyNoInteractions(commentThreadLoader);
+        assertThat(response).hasFieldOrPropertyWithValue("content", "안녕")
+                .hasFieldOrPropertyWithValue("likeCount", 0)
+                .hasFieldOrPropertyWithValue("isLiked", false)
+                .hasFieldOrPropertyWithValue("childrenCount", 0);
     }
 
     @Test
     @DisplayName("잘못된 리뷰의 댓글 생성 테스트")
     void testCreateCommentWithInvalidReview() {
         //given
+        doReturn(user).when(userUtilService).getUserById(user.getId());
         doReturn(Optional.empty()).when(reviewRepository).findById(9999L);
 
         //when //then
         assertThatThrownBy(() -> commentService.createComment(
                 new CommentCreateRequest("안녕", null),
                 9999L,
-                user
+                UserPrincipal.from(user)
         )).isInstanceOf(NotFoundException.class)
                 .hasMessage(ErrorCode.REVIEW_NOT_FOUND.getMessage());
     }
@@ -273,6 +313,7 @@ class CommentServiceTest {
     @DisplayName("잘못된 부모 댓글의 자식 댓글 생성 테스트")
     void testCreateCommentWithInvalidParent() {
         //given
+        doReturn(user).when(userUtilService).getUserById(user.getId());
         doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
         when(commentUtilService.getComment(9999L))
                 .thenThrow(new NotFoundException(ErrorCode.COMMENT_NOT_FOUND));
@@ -281,7 +322,7 @@ class CommentServiceTest {
         assertThatThrownBy(() -> commentService.createComment(
                 new CommentCreateRequest("안녕", 9999L),
                 review.getId(),
-                user
+                UserPrincipal.from(user)
         )).isInstanceOf(NotFoundException.class)
                 .hasMessage(ErrorCode.COMMENT_NOT_FOUND.getMessage());
     }
@@ -329,6 +370,7 @@ class CommentServiceTest {
                 LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0),
                 LocalDateTime.class
         );
+        doReturn(user).when(userUtilService).getUserById(user.getId());
         doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
         doReturn(child).when(commentUtilService).getComment(0L);
 
@@ -336,7 +378,7 @@ class CommentServiceTest {
         assertThatThrownBy(() -> commentService.createComment(
                 new CommentCreateRequest("안녕", 0L),
                 review.getId(),
-                user
+                UserPrincipal.from(user)
         )).isInstanceOf(InvalidRequestException.class)
                 .hasMessage(ErrorCode.CHILD_CANT_BE_PARENT.getMessage());
     }
@@ -365,16 +407,28 @@ class CommentServiceTest {
                 LocalDateTime.class
         );
         doReturn(comment).when(commentUtilService).getComment(0L);
-        doReturn(new ArrayList<>()).when(commentRepository).getCommentsOfParents(List.of(0L));
+        doAnswer(invocation -> new CommentResponse(CommentSimpleProjection.builder()
+                .commentId(0L)
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .isDeleted(comment.getIsDeleted())
+                .user(user)
+                .likeCount(1L)
+                .childCount(2L)
+                .isLiked(true)
+                .build())).when(commentThreadLoader).loadComment(0L, null);
 
         //when
         CommentResponse response = commentService.updateComment(new CommentUpdateRequest("반가워"), 0L,
-                user);
+                UserPrincipal.from(user));
 
         //then
         verify(commentUtilService).getComment(0L);
-        verify(commentRepository).getCommentsOfParents(List.of(0L));
-        assertThat(response).hasFieldOrPropertyWithValue("content", "반가워");
+        verify(commentThreadLoader).loadComment(0L, null);
+        assertThat(comment.getContent()).isEqualTo("반가워");
+        assertThat(response).hasFieldOrPropertyWithValue("content", "반가워")
+                .hasFieldOrPropertyWithValue("childrenCount", 2);
     }
 
     @Test
@@ -401,14 +455,18 @@ class CommentServiceTest {
                 LocalDateTime.class
         );
         doReturn(comment).when(commentUtilService).getComment(0L);
-        doReturn(new ArrayList<>()).when(commentRepository).getCommentsOfParents(List.of(0L));
+        doAnswer(invocation -> new CommentResponse(
+                projection(0L, null, comment.getCreatedAt(), comment.getIsDeleted())))
+                .when(commentThreadLoader).loadComment(0L, null);
 
         //when
-        CommentResponse response = commentService.deleteComment(0L, user);
+        CommentResponse response = commentService.deleteComment(0L, UserPrincipal.from(user));
 
         //then
         verify(commentUtilService).getComment(0L);
-        verify(commentRepository).getCommentsOfParents(List.of(0L));
+        verify(commentThreadLoader).loadComment(0L, null);
+        verify(reviewRepository).updateCommentCount(review.getId(), -1);
+        verify(userStatsRepository).updateCommentCount(user.getId(), -1);
         assertThat(response).hasFieldOrPropertyWithValue("isDeleted", true);
         assertThat(response).hasAllNullFieldsOrPropertiesExcept("createdAt", "isDeleted", "commentId",
                 "children", "childrenCount", "likeCount", "isLiked");
@@ -454,18 +512,17 @@ class CommentServiceTest {
         doReturn(comment).when(commentUtilService).getComment(0L);
         doReturn(Optional.empty()).when(commentLikeRepository)
                 .getCommentLikeByCommentIdAndUserId(0L, null);
-        doReturn(CommentLike.builder().comment(comment).user(user).build())
-                .when(commentLikeRepository).save(Mockito.any(CommentLike.class));
-        doReturn(1L).when(commentLikeRepository).countCommentLikeByCommentId(0L);
+        givenLikeStateFromDb();
+        doReturn(new LikeToggle(true, 1)).when(likeWriteBuffer).toggle(COMMENT, 0L, null, false);
+        givenCounterSeededFromDb();
 
         //When
-        CommentLikeResponse response = commentService.toggleCommentLike(0L, user);
+        CommentLikeResponse response = commentService.toggleCommentLike(0L, UserPrincipal.from(user));
 
         //then
         verify(commentUtilService).getComment(0L);
         verify(commentLikeRepository).getCommentLikeByCommentIdAndUserId(0L, null);
-        verify(commentLikeRepository).save(Mockito.any(CommentLike.class));
-        verify(commentLikeRepository).countCommentLikeByCommentId(0L);
+        verify(commentLikeRepository, never()).save(Mockito.any(CommentLike.class));
         assertThat(response).hasFieldOrPropertyWithValue("commentId", 0L)
                 .hasFieldOrPropertyWithValue("isLiked", true)
                 .hasFieldOrPropertyWithValue("likeCount", 1L);
@@ -497,19 +554,46 @@ class CommentServiceTest {
         doReturn(comment).when(commentUtilService).getComment(0L);
         doReturn(Optional.of(CommentLike.builder().comment(comment).user(user).build()))
                 .when(commentLikeRepository).getCommentLikeByCommentIdAndUserId(0L, null);
-        doNothing().when(commentLikeRepository).deleteCommentLikeByCommentIdAndUserId(0L, null);
-        doReturn(0L).when(commentLikeRepository).countCommentLikeByCommentId(0L);
+        givenLikeStateFromDb();
+        ReflectionTestUtils.setField(comment, "likeCount", 1L);
+        doReturn(new LikeToggle(false, -1)).when(likeWriteBuffer).toggle(COMMENT, 0L, null, true);
+        givenCounterSeededFromDb();
 
         //When
-        CommentLikeResponse response = commentService.toggleCommentLike(0L, user);
+        CommentLikeResponse response = commentService.toggleCommentLike(0L, UserPrincipal.from(user));
 
         //then
         verify(commentUtilService).getComment(0L);
         verify(commentLikeRepository).getCommentLikeByCommentIdAndUserId(0L, null);
-        verify(commentLikeRepository).deleteCommentLikeByCommentIdAndUserId(0L, null);
-        verify(commentLikeRepository).countCommentLikeByCommentId(0L);
+        verify(commentLikeRepository, never()).deleteCommentLikeByCommentIdAndUserId(0L, null);
         assertThat(response).hasFieldOrPropertyWithValue("commentId", 0L)
                 .hasFieldOrPropertyWithValue("isLiked", false)
                 .hasFieldOrPropertyWithValue("likeCount", 0L);
     }
-}
\ No newline at end of file
+
+    private void givenCounterSeededFromDb() {
+        doAnswer(invocation -> invocation.<LongSupplier>getArgument(3).getAsLong()
+                + invocation.<LikeToggle>getArgument(2).getPendingCountDelta())
+                .when(likeCounterRegistry).applyToggle(eq(COMMENT), eq(0L), any(), any());
+    }
+
+    private void givenLikeStateFromDb() {
+        doAnswer(invocation -> invocation.<BooleanSupplier>getArgument(3).getAsBoolean())
+                .when(likeWriteBuffer).isLiked(eq(COMMENT), eq(0L), isNull(), any());
+    }
+
+    private CommentSimpleProjection projection(Long commentId, Long parentId, LocalDateTime createdAt, boolean isDeleted) {
+        return CommentSimpleProjection.builder()
+                .commentId(commentId)
+                .parentId(parentId)
+                .content("안녕")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .isDeleted(isDeleted)
+                .user(user)
+                .likeCount(0L)
+                .childCount(0L)
+                .isLiked(false)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.prgrms.artzip.comment.service;
+
+import com.prgrms.artzip.QueryDslTestConfig;
+import com.prgrms.artzip.comment.domain.Comment;
+import com.prgrms.artzip.comment.domain.CommentLike;
+import com.prgrms.artzip.comment.dto.response.CommentInfo;
+import com.prgrms.artzip.comment.dto.response.CommentResponseQ;
+import com.prgrms.artzip.comment.repository.CommentRepository;
+import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.domain.enumType.Area;
+import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.review.domain.Review;
+import com.prgrms.artzip.user.domain.Role;
+import com.prgrms.artzip.user.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.prgrms.artzip.comment.service.CommentThreadLoader.CHILD_PREVIEW_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 댓글 목록과 자식 댓글 미리보기 조회가 댓글 수와 무관하게 일정한 수의 쿼리로 끝나는지 확인
+ * - 루트 댓글 1 + count 1 + 자식 댓글 미리보기 IN 조회 1
+ * - 자식 댓글 페이지 조회는 자식 댓글 1 + count 1
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslTestConfig.class})
+@DisplayName("댓글 스레드 조회 쿼리 수 테스트")
+class CommentThreadLoaderQueryCountTest {
+
+    private static final int ROOT_COUNT = 12;
+    private static final int CHILD_COUNT_PER_ROOT = 5;
+    private static final long THREAD_QUERY_COUNT = 3;
+    private static final long CHILDREN_QUERY_COUNT = 2;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private CommentThreadLoader commentThreadLoader;
+    private Statistics statistics;
+    private Review review;
+    private User viewer;
+    private Comment parent;
+
+    @BeforeEach
+    void setUp() {
+        commentThreadLoader = new CommentThreadLoader(commentRepository);
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        Role userRole = new Role(Authority.USER);
+        em.persist(userRole);
+        viewer = new User("viewer@example.com", "viewer", List.of(userRole));
+        em.persist(viewer);
+
+        Exhibition exhibition = Exhibition.builder()
+                .seq(32)
+                .name("전시회 제목")
+                .startDate(LocalDate.now().minusDays(10))
+                .endDate(LocalDate.now().plusDays(10))
+                .genre(Genre.SHOW)
+                .description("이것은 전시회 설명입니다.")
+                .latitude(36.22)
+                .longitude(128.02)
+                .area(Area.BUSAN)
+                .place("미술관")
+                .address("부산 동구 중앙대로 11")
+                .inquiry("문의처 정보")
+                .fee("성인 20,000원")
+                .thumbnail("https://www.image-example.com")
+                .url("https://www.example.com")
+                .placeUrl("https://www.place-example.com")
+                .build();
+        em.persist(exhibition);
+
+        review = Review.builder()
+                .user(viewer)
+                .exhibition(exhibition)
+                .content("이것은 리뷰 본문입니다.")
+                .title("리뷰 제목")
+                .date(LocalDate.now())
+                .isPublic(true)
+                .build();
+        em.persist(review);
+
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            User writer = new User("test" + i + "@example.com", "user" + i, List.of(userRole));
+            em.persist(writer);
+            parent = em.persist(Comment.builder().content("댓글 " + i).user(writer).review(review).build());
+            em.persist(new CommentLike(parent, viewer));
+            for (int j = 0; j < CHILD_COUNT_PER_ROOT; j++) {
+                Comment child = em.persist(Comment.builder()
+                        .content("댓글 " + i + "의 자식 " + j).user(writer).review(review).parent(parent).build());
+                em.persist(new CommentLike(child, viewer));
+            }
+        }
+        em.flush();
+        commentRepository.reconcileLikeCounts();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 달라도 댓글 스레드 조회 쿼리 수가 같은지 테스트")
+    void testLoadThreadsQueryCount() {
+        long smallPageQueryCount = countQueries(() -> {
+            Page<CommentResponseQ> threads = commentThreadLoader.loadThreads(
+                    review.getId(), viewer.getId(), PageRequest.of(0, 3, Sort.by("createdAt").descending()));
+            assertThat(threads.getContent()).hasSize(3)
+                    .allSatisfy(thread -> {
+                        assertThat(thread.getIsLiked()).isTrue();
+                        assertThat(thread.getChildrenCount()).isEqualTo((long) CHILD_COUNT_PER_ROOT);
+                        assertThat(thread.getChildren()).hasSize(CHILD_PREVIEW_SIZE)
+                                .allSatisfy(child -> {
+                                    assertThat(child.getLikeCount()).isEqualTo(1);
+                                    assertThat(child.getIsLiked()).isTrue();
+                                    assertThat(child.getUser().getNickname()).isNotBlank();
+                                });
+                    });
+        });
+        long largePageQueryCount = countQueries(() -> {
+            Page<CommentResponseQ> threads = commentThreadLoader.loadThreads(
+                    review.getId(), viewer.getId(), PageRequest.of(0, 9, Sort.by("createdAt").descending()));
+            assertThat(threads.getContent()).hasSize(9)
+                    .allSatisfy(thread -> assertThat(thread.getChildren()).hasSize(CHILD_PREVIEW_SIZE));
+        });
+
+        assertThat(smallPageQueryCount).isEqualTo(THREAD_QUERY_COUNT);
+        assertThat(largePageQueryCount).isEqualTo(THREAD_QUERY_COUNT);
+    }
+
+    @Test
+    @DisplayName("자식 댓글 페이지 조회가 좋아요 컬렉션을 따로 읽지 않는지 테스트")
+    void testLoadChildrenQueryCount() {
+        long queryCount = countQueries(() -> {
+            Page<CommentInfo> children = commentThreadLoader.loadChildren(
+                    parent.getId(), viewer.getId(), PageRequest.of(0, 4, Sort.by("createdAt").descending()));
+            assertThat(children.getContent()).hasSize(4)
+                    .allSatisfy(child -> assertThat(child.getIsLiked()).isTrue());
+        });
+
+        assertThat(queryCount).isEqualTo(CHILDREN_QUERY_COUNT);
+    }
+
+    private long countQueries(Runnable runnable) {
+        em.clear();
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
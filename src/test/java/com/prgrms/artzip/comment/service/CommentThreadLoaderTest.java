@@ -0,0 +1,165 @@
+package com.prgrms.artzip.comment.service;
+
+import com.prgrms.artzip.comment.dto.projection.CommentSimpleProjection;
+import com.prgrms.artzip.comment.dto.response.CommentInfo;
+import com.prgrms.artzip.comment.dto.response.CommentResponse;
+import com.prgrms.artzip.comment.dto.response.CommentResponseQ;
+import com.prgrms.artzip.comment.repository.CommentRepository;
+import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.util.Cursor;
+import com.prgrms.artzip.user.domain.LocalUser;
+import com.prgrms.artzip.user.domain.Role;
+import com.prgrms.artzip.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+
+import static com.prgrms.artzip.comment.service.CommentThreadLoader.CHILD_PREVIEW_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentThreadLoader 테스트")
+class CommentThreadLoaderTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2022, Month.AUGUST, 13, 0, 0, 0);
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private CommentThreadLoader commentThreadLoader;
+
+    private final User user = LocalUser.builder()
+            .email("test@test.com")
+            .nickname("안녕하세요")
+            .password("1q2w3e4r!")
+            .roles(List.of(new Role(Authority.USER)))
+            .build();
+
+    @Test
+    @DisplayName("루트 댓글 페이지와 자식 댓글 미리보기를 한 번씩만 조회해 부모별로 묶는지 테스트")
+    void testLoadThreads() {
+        //given
+        Pageable pageable = PageRequest.of(0, 10);
+        List<CommentSimpleProjection> roots = List.of(projection(1L, null, false), projection(2L, null, false));
+        doReturn(new PageImpl<>(roots, pageable, roots.size())).when(commentRepository)
+                .getCommentsByReviewIdQ(10L, 3L, pageable);
+        doReturn(List.of(projection(5L, 1L, false), projection(4L, 1L, true), projection(3L, 1L, false)))
+                .when(commentRepository).getChildPreviewsOfParents(List.of(1L, 2L), 3L, CHILD_PREVIEW_SIZE);
+
+        //when
+        Page<CommentResponseQ> threads = commentThreadLoader.loadThreads(10L, 3L, pageable);
+
+        //then
+        verify(commentRepository).getCommentsByReviewIdQ(10L, 3L, pageable);
+        verify(commentRepository).getChildPreviewsOfParents(List.of(1L, 2L), 3L, CHILD_PREVIEW_SIZE);
+        verifyNoMoreInteractions(commentRepository);
+        assertThat(threads.getContent()).hasSize(2);
+        assertThat(threads.getContent().get(0).getChildren())
+                .extracting(CommentInfo::getCommentId)
+                .containsExactly(5L, 4L, 3L);
+        assertThat(threads.getContent().get(0).getChildren().get(1))
+                .hasFieldOrPropertyWithValue("content", null)
+                .hasFieldOrPropertyWithValue("user", null);
+        assertThat(threads.getContent().get(1).getChildren()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 조회에서도 자식 댓글 미리보기를 함께 붙이는지 테스트")
+    void testLoadThreadsByCursor() {
+        //given
+        Cursor cursor = Cursor.decode(Cursor.encode(CREATED_AT, 9L));
+        Slice<CommentSimpleProjection> roots = Cursor.toSlice(
+                List.of(projection(8L, null, false), projection(7L, null, false)), 1);
+        doReturn(roots).when(commentRepository).getCommentsByReviewIdByCursor(10L, null, cursor, 1);
+        doReturn(List.of(projection(11L, 8L, false)))
+                .when(commentRepository).getChildPreviewsOfParents(List.of(8L), null, CHILD_PREVIEW_SIZE);
+
+        //when
+        Slice<CommentResponseQ> threads = commentThreadLoader.loadThreadsByCursor(10L, null, cursor, 1);
+
+        //then
+        assertThat(threads.hasNext()).isTrue();
+        assertThat(threads.getContent()).singleElement()
+                .satisfies(thread -> assertThat(thread.getChildren())
+                        .extracting(CommentInfo::getCommentId)
+                        .containsExactly(11L));
+    }
+
+    @Test
+    @DisplayName("자식 댓글 페이지를 projection 에서 바로 변환하는지 테스트")
+    void testLoadChildren() {
+        //given
+        Pageable pageable = PageRequest.of(0, 10);
+        doReturn(new PageImpl<>(List.of(projection(3L, 1L, false)), pageable, 1)).when(commentRepository)
+                .getChildrenQ(1L, 3L, pageable);
+
+        //when
+        Page<CommentInfo> children = commentThreadLoader.loadChildren(1L, 3L, pageable);
+
+        //then
+        assertThat(children.getContent()).singleElement()
+                .hasFieldOrPropertyWithValue("commentId", 3L)
+                .hasFieldOrPropertyWithValue("likeCount", 2)
+                .hasFieldOrPropertyWithValue("isLiked", true);
+    }
+
+    @Test
+    @DisplayName("댓글 하나를 자식 댓글 수와 함께 조회하는지 테스트")
+    void testLoadComment() {
+        //given
+        doReturn(Optional.of(projection(1L, null, false))).when(commentRepository).getCommentByIdQ(1L, 3L);
+
+        //when
+        CommentResponse comment = commentThreadLoader.loadComment(1L, 3L);
+
+        //then
+        assertThat(comment)
+                .hasFieldOrPropertyWithValue("commentId", 1L)
+                .hasFieldOrPropertyWithValue("childrenCount", 1);
+    }
+
+    @Test
+    @DisplayName("없는 댓글을 조회하면 예외가 발생하는지 테스트")
+    void testLoadCommentNotFound() {
+        //given
+        doReturn(Optional.empty()).when(commentRepository).getCommentByIdQ(1L, 3L);
+
+        //when //then
+        assertThatThrownBy(() -> commentThreadLoader.loadComment(1L, 3L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(ErrorCode.COMMENT_NOT_FOUND.getMessage());
+    }
+
+    private CommentSimpleProjection projection(Long commentId, Long parentId, boolean isDeleted) {
+        return CommentSimpleProjection.builder()
+                .commentId(commentId)
+                .parentId(parentId)
+                .content("안녕")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .isDeleted(isDeleted)
+                .user(user)
+                .likeCount(2L)
+                .childCount(1L)
+                .isLiked(true)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.prgrms.artzip.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.prgrms.artzip.common.util.AccessTokenBlacklist.BLACKLIST_CHANNEL;
+import static com.prgrms.artzip.common.util.AccessTokenBlacklist.LOOKUP_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccessTokenBlacklist 테스트")
+class AccessTokenBlacklistTest {
+
+    private static final String PREFIX = "BlackList_AccessToken_";
+    private static final long WINDOW_MILLIS = 1_800_000;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicLong now = new AtomicLong(WINDOW_MILLIS * 10);
+
+    private AccessTokenBlacklist accessTokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenBlacklist = new AccessTokenBlacklist(redisService, redisMessageListenerContainer,
+                meterRegistry, PREFIX, WINDOW_MILLIS, now::get);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 채널을 구독하는지 테스트")
+    void testSubscribe() {
+        accessTokenBlacklist.subscribe();
+
+        verify(redisMessageListenerContainer).addMessageListener(accessTokenBlacklist, new ChannelTopic(BLACKLIST_CHANNEL));
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 모든 토큰을 Redis 로 확인하는지 테스트")
+    void testBeforeSync() {
+        doAnswer(invocation -> invocation.getArgument(0).equals(PREFIX + "logged-out"))
+                .when(redisService).hasKey(anyString());
+
+        assertThat(accessTokenBlacklist.isBlacklisted("logged-out")).isTrue();
+        assertThat(accessTokenBlacklist.isBlacklisted("fresh")).isFalse();
+        verify(redisService, times(2)).hasKey(anyString());
+        assertThat(count("skipped")).isZero();
+    }
+
+    @Test
+    @DisplayName("동기화 후에는 필터에 없는 토큰의 Redis 조회를 생략하는지 테스트")
+    void testSkipRedis() {
+        doReturn(Set.of(PREFIX + "logged-out")).when(redisService).scanKeys(PREFIX + "*");
+        doReturn(true).when(redisService).hasKey(PREFIX + "logged-out");
+        accessTokenBlacklist.sync();
+
+        assertThat(accessTokenBlacklist.isBlacklisted("logged-out")).isTrue();
+        assertThat(accessTokenBlacklist.isBlacklisted("fresh")).isFalse();
+
+        verify(redisService).hasKey(PREFIX + "logged-out");
+        verify(redisService, never()).hasKey(PREFIX + "fresh");
+        assertThat(count("skipped")).isEqualTo(1);
+        assertThat(count("blacklisted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터에 있지만 Redis 에서 만료된 토큰은 오탐으로 기록하는지 테스트")
+    void testFalsePositive() {
+        doReturn(Set.of(PREFIX + "expired")).when(redisService).scanKeys(PREFIX + "*");
+        accessTokenBlacklist.sync();
+
+        assertThat(accessTokenBlacklist.isBlacklisted("expired")).isFalse();
+        assertThat(count("false_positive")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 동기화하지 못하면 계속 Redis 로 확인하는지 테스트")
+    void testSyncFailure() {
+        doThrow(new RedisConnectionFailureException("down")).when(redisService).scanKeys(anyString());
+        accessTokenBlacklist.sync();
+
+        accessTokenBlacklist.isBlacklisted("fresh");
+
+        verify(redisService).hasKey(PREFIX + "fresh");
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰을 Redis 에 저장하고 다른 서버에 알리며 바로 필터에 넣는지 테스트")
+    void testAdd() {
+        accessTokenBlacklist.sync();
+        Duration ttl = Duration.ofMinutes(10);
+
+        accessTokenBlacklist.add("logged-out", "test@example.com", ttl);
+        accessTokenBlacklist.isBlacklisted("logged-out");
+
+        verify(redisService).setValues(PREFIX + "logged-out", "test@example.com", ttl);
+        verify(redisService).publish(BLACKLIST_CHANNEL, "logged-out");
+        verify(redisService).hasKey(PREFIX + "logged-out");
+    }
+
+    @Test
+    @DisplayName("발행에 실패해도 로그아웃은 처리되는지 테스트")
+    void testPublishFailure() {
+        doThrow(new RedisConnectionFailureException("down")).when(redisService).publish(anyString(), anyString());
+        accessTokenBlacklist.sync();
+
+        accessTokenBlacklist.add("logged-out", "test@example.com", Duration.ofMinutes(10));
+        accessTokenBlacklist.isBlacklisted("logged-out");
+
+        verify(redisService).hasKey(PREFIX + "logged-out");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 발행한 토큰을 필터에 넣는지 테스트")
+    void testOnMessage() {
+        accessTokenBlacklist.sync();
+
+        accessTokenBlacklist.onMessage(new DefaultMessage(BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "logged-out".getBytes(StandardCharsets.UTF_8)), null);
+        accessTokenBlacklist.isBlacklisted("logged-out");
+
+        verify(redisService).hasKey(PREFIX + "logged-out");
+    }
+
+    @Test
+    @DisplayName("토큰은 다음 구간까지 필터에 남고, 두 구간이 지나면 빠지는지 테스트")
+    void testRotation() {
+        accessTokenBlacklist.sync();
+        accessTokenBlacklist.add("logged-out", "test@example.com", Duration.ofMinutes(10));
+
+        now.addAndGet(WINDOW_MILLIS);
+        accessTokenBlacklist.isBlacklisted("logged-out");
+        now.addAndGet(WINDOW_MILLIS);
+        accessTokenBlacklist.isBlacklisted("logged-out");
+
+        verify(redisService, times(1)).hasKey(PREFIX + "logged-out");
+        assertThat(count("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 구간을 건너뛰면 이전 필터도 비우는지 테스트")
+    void testRotationSkippingWindows() {
+        accessTokenBlacklist.sync();
+        accessTokenBlacklist.add("logged-out", "test@example.com", Duration.ofMinutes(10));
+
+        now.addAndGet(WINDOW_MILLIS * 3);
+        accessTokenBlacklist.isBlacklisted("logged-out");
+
+        verify(redisService, never()).hasKey(anyString());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(LOOKUP_METRIC).tag("result", result).counter().count();
+    }
+}
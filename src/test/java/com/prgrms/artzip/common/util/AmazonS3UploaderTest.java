@@ -0,0 +1,142 @@
+package com.prgrms.artzip.common.util;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.S3Object;
+import com.prgrms.artzip.S3MockConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * S3Mock 에 실제로 올려 보고 내용이 그대로 저장되는지 확인
+ * - getBytes() 를 부르면 실패하는 MultipartFile 로 파일 전체를 힙에 올리지 않고 스트림으로만 읽는지도 함께 확인한다.
+ * */
+@SpringBootTest(classes = {S3MockConfig.class, AmazonS3Uploader.class},
+        properties = {"cloud.aws.region.static=ap-northeast-2", "cloud.aws.s3.bucket=artzip-test"})
+@DisplayName("AmazonS3Uploader 테스트")
+class AmazonS3UploaderTest {
+
+    private static final String DIR_NAME = "profileImage";
+    private static final int THREADS = 8;
+
+    @Autowired
+    private AmazonS3Uploader amazonS3Uploader;
+
+    @Autowired
+    private AmazonS3Client amazonS3Client;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Test
+    @DisplayName("파일을 스트림으로 올리고 내용이 그대로 저장되는지 테스트")
+    void testUpload() throws IOException {
+        byte[] content = randomBytes(300 * 1024);
+
+        String url = amazonS3Uploader.upload(streamOnlyFile("photo.PNG", content), DIR_NAME);
+
+        String key = url.substring(url.indexOf(DIR_NAME));
+        assertThat(key).startsWith(DIR_NAME + "/").endsWith(".png");
+        assertUploaded(key, content);
+    }
+
+    @Test
+    @DisplayName("임계값보다 큰 파일을 multipart upload 로 나누어 올려도 내용이 그대로인지 테스트")
+    void testMultipartUpload() throws IOException {
+        AmazonS3Uploader multipartUploader = new AmazonS3Uploader(amazonS3Client, bucket, 1024 * 1024, 1024 * 1024);
+        byte[] content = randomBytes(3 * 1024 * 1024 + 123);
+        try {
+            String url = multipartUploader.upload(streamOnlyFile("large.jpg", content), DIR_NAME);
+
+            assertUploaded(url.substring(url.indexOf(DIR_NAME)), content);
+        } finally {
+            multipartUploader.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이름의 파일을 동시에 올려도 서로 다른 key 로 모두 저장되는지 테스트")
+    void testConcurrentUpload() throws Exception {
+        byte[] content = randomBytes(10 * 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                Callable<String> upload = () -> {
+                    start.await();
+                    return amazonS3Uploader.upload(streamOnlyFile("same.png", content), DIR_NAME);
+                };
+                futures.add(executor.submit(upload));
+            }
+            start.countDown();
+            Set<String> keys = new HashSet<>();
+            for (Future<String> future : futures) {
+                String url = future.get(10, TimeUnit.SECONDS);
+                keys.add(url.substring(url.indexOf(DIR_NAME)));
+            }
+
+            assertThat(keys).hasSize(THREADS);
+            for (String key : keys) {
+                assertUploaded(key, content);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이름이 없거나 확장자가 이상한 파일은 확장자 없이 저장되는지 테스트")
+    void testUploadWithoutExtension() throws IOException {
+        byte[] content = randomBytes(1024);
+
+        String url = amazonS3Uploader.upload(streamOnlyFile("", content), DIR_NAME);
+        String weirdUrl = amazonS3Uploader.upload(streamOnlyFile("photo.p/ng", content), DIR_NAME);
+
+        assertThat(url.substring(url.lastIndexOf('/'))).doesNotContain(".");
+        assertThat(weirdUrl.substring(weirdUrl.lastIndexOf('/'))).doesNotContain(".");
+        assertUploaded(url.substring(url.indexOf(DIR_NAME)), content);
+    }
+
+    private void assertUploaded(String key, byte[] content) throws IOException {
+        try (S3Object object = amazonS3Client.getObject(bucket, key);
+             InputStream inputStream = object.getObjectContent()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static MockMultipartFile streamOnlyFile(String originalFilename, byte[] content) {
+        return new MockMultipartFile("file", originalFilename, MediaType.IMAGE_PNG_VALUE, content) {
+            @Override
+            public byte[] getBytes() {
+                throw new AssertionError("파일 전체를 힙에 올리면 안 됩니다.");
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.prgrms.artzip.common.util;
+
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.error.exception.ServiceUnavailableException;
+import com.prgrms.artzip.common.util.CompositeReadExecutor.Branch;
+import com.prgrms.artzip.common.util.CompositeReadExecutor.CompositeRead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.prgrms.artzip.common.util.CompositeReadExecutor.BRANCH_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("CompositeReadExecutor 테스트")
+class CompositeReadExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CompositeReadExecutor compositeReadExecutor;
+
+    @BeforeEach
+    void setUp() {
+        compositeReadExecutor = new CompositeReadExecutor(transactionManager, meterRegistry, Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        compositeReadExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("branch 들이 동시에 실행되고 각각 읽기 전용 트랜잭션에서 실행되는지 테스트")
+    void testForkConcurrently() {
+        CountDownLatch latch = new CountDownLatch(2);
+
+        try (CompositeRead read = compositeReadExecutor.begin("테스트")) {
+            Branch<String> first = read.fork("first", () -> awaitTogether(latch, "first"));
+            Branch<String> second = read.fork("second", () -> awaitTogether(latch, "second"));
+
+            assertThat(read.join(first)).isEqualTo("first");
+            assertThat(read.join(second)).isEqualTo("second");
+            assertThat(read.getLatencies()).containsOnlyKeys("first", "second");
+            assertThat(read.getLatencies().values()).allMatch(latency -> latency >= 0);
+        }
+        verify(transactionManager, times(2)).getTransaction(argThat(definition ->
+                definition.isReadOnly()
+                        && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("branch 별 소요 시간을 복합 조회와 branch 이름 태그로 기록하는지 테스트")
+    void testBranchTimer() {
+        try (CompositeRead read = compositeReadExecutor.begin("테스트")) {
+            read.join(read.fork("first", () -> "first"));
+            read.join(read.fork("first", () -> "first"));
+            read.join(read.fork("second", () -> "second"));
+        }
+
+        assertThat(meterRegistry.get(BRANCH_METRIC).tag("read", "테스트").tag("branch", "first").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(BRANCH_METRIC).tag("read", "테스트").tag("branch", "second").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("branch 에서 발생한 예외를 그대로 던지는지 테스트")
+    void testBranchException() {
+        assertThatThrownBy(() -> {
+            try (CompositeRead read = compositeReadExecutor.begin("테스트")) {
+                Branch<String> branch = read.fork("notFound", () -> {
+                    throw new NotFoundException(ErrorCode.REVIEW_NOT_FOUND);
+                });
+                read.join(branch);
+            }
+        }).isInstanceOf(NotFoundException.class)
+                .hasMessageContaining(ErrorCode.REVIEW_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 branch 가 있으면 ServiceUnavailableException 발생")
+    void testBranchTimeout() {
+        CountDownLatch neverReleased = new CountDownLatch(2);
+
+        assertThatThrownBy(() -> {
+            try (CompositeRead read = compositeReadExecutor.begin("테스트")) {
+                Branch<String> branch = read.fork("slow", () -> awaitTogether(neverReleased, "slow"));
+                read.join(branch);
+            }
+        }).isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining(ErrorCode.COMPOSITE_READ_TIMEOUT.getMessage());
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 모두 차면 호출한 스레드에서 실행하지 않고 ServiceUnavailableException 발생")
+    void testRejectWhenSaturated() {
+        CompositeReadExecutor saturated = new CompositeReadExecutor(transactionManager, meterRegistry, 1, 1,
+                Duration.ofMillis(500));
+        CountDownLatch neverReleased = new CountDownLatch(2);
+        AtomicBoolean rejectedRan = new AtomicBoolean();
+        try {
+            assertThatThrownBy(() -> {
+                try (CompositeRead read = saturated.begin("테스트")) {
+                    read.fork("running", () -> awaitTogether(neverReleased, "running"));
+                    read.fork("queued", () -> "queued");
+                    read.fork("rejected", () -> rejectedRan.getAndSet(true));
+                }
+            }).isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining(ErrorCode.COMPOSITE_READ_TIMEOUT.getMessage());
+            assertThat(rejectedRan).isFalse();
+        } finally {
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("풀 크기를 Hikari 최대 커넥션 수보다 작게 맞추는지 테스트")
+    void testResolvePoolSize() {
+        assertThat(CompositeReadExecutor.resolvePoolSize(4, 10)).isEqualTo(4);
+        assertThat(CompositeReadExecutor.resolvePoolSize(16, 10)).isEqualTo(9);
+        assertThat(CompositeReadExecutor.resolvePoolSize(0, 10)).isEqualTo(1);
+        assertThat(CompositeReadExecutor.resolvePoolSize(4, 1)).isEqualTo(1);
+    }
+
+    private String awaitTogether(CountDownLatch latch, String value) {
+        latch.countDown();
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
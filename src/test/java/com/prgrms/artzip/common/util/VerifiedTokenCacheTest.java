@@ -0,0 +1,132 @@
+package com.prgrms.artzip.common.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.prgrms.artzip.common.jwt.Jwt;
+import com.prgrms.artzip.common.jwt.claims.AccessClaim;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private final Jwt jwt = new Jwt("backfro", "test-secret", 1800);
+
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(2, now::get);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 같은 claim 을 반환하는지 테스트")
+    void testVerifyOnce() {
+        String token = sign(1L);
+
+        AccessClaim first = verifiedTokenCache.get(token, () -> verify(token));
+        AccessClaim second = verifiedTokenCache.get(token, () -> verify(token));
+
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(second).isSameAs(first);
+        assertThat(verifications.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 다시 검증해 만료 예외를 그대로 던지는지 테스트")
+    void testExpired() {
+        String token = sign(1L);
+        AccessClaim claim = verifiedTokenCache.get(token, () -> verify(token));
+        now.set(claim.getExp().getTime());
+
+        assertThatThrownBy(() -> verifiedTokenCache.get(token, () -> {
+            verifications.incrementAndGet();
+            throw new TokenExpiredException("The Token has expired");
+        })).isInstanceOf(TokenExpiredException.class);
+        assertThat(verifications.get()).isEqualTo(2);
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 캐시에서 빠지는지 테스트")
+    void testEvict() {
+        String token = sign(1L);
+        verifiedTokenCache.get(token, () -> verify(token));
+
+        verifiedTokenCache.evict(token);
+        verifiedTokenCache.get(token, () -> verify(token));
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 claim 은 저장하지 않는지 테스트")
+    void testWithoutExpiry() {
+        AccessClaim claim = new AccessClaim(1L, "test@example.com", new String[]{"USER"});
+
+        verifiedTokenCache.get("token", () -> claim);
+
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 항목을 내보내 최대 개수만큼만 남기는지 테스트")
+    void testMaxSize() {
+        String first = sign(1L);
+        String second = sign(2L);
+        String third = sign(3L);
+
+        verifiedTokenCache.get(first, () -> verify(first));
+        verifiedTokenCache.get(second, () -> verify(second));
+        AccessClaim claim = verifiedTokenCache.get(third, () -> verify(third));
+
+        assertThat(claim.getUserId()).isEqualTo(3L);
+        assertThat(verifiedTokenCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰마다 자신의 만료 시각에 빠지는지 테스트")
+    void testExpiresAtEachTokenExp() {
+        String expiring = sign(1L);
+        String token = sign(2L);
+        verifiedTokenCache.get(expiring, () -> claimExpiringAt(now.get() + 1_000));
+        verifiedTokenCache.get(token, () -> verify(token));
+
+        now.addAndGet(1_000);
+
+        assertThat(verifiedTokenCache.size()).isEqualTo(1);
+        verifiedTokenCache.get(token, () -> verify(token));
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    private String sign(Long userId) {
+        return jwt.sign(new AccessClaim(userId, "test" + userId + "@example.com", new String[]{"USER"}));
+    }
+
+    private AccessClaim verify(String token) {
+        verifications.incrementAndGet();
+        return jwt.verifyAccessToken(token);
+    }
+
+    private AccessClaim claimExpiringAt(long expiresAt) {
+        verifications.incrementAndGet();
+        String token = JWT.create()
+                .withClaim("userId", 1L)
+                .withExpiresAt(new Date(expiresAt))
+                .sign(Algorithm.none());
+        return new AccessClaim(JWT.decode(token));
+    }
+}
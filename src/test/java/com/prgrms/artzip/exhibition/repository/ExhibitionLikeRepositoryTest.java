@@ -21,6 +21,7 @@ import javax.persistence.PersistenceContext;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -115,4 +116,22 @@ class ExhibitionLikeRepositoryTest {
             assertThat(exhibitionLike).isNotEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("findLikedExhibitionIds() 테스트")
+    class FindLikedExhibitionIdsTest {
+        @Test
+        @DisplayName("로그인하지 않은 경우 조회하지 않고 빈 결과 반환 테스트")
+        void testWithoutUser() {
+            Set<Long> likedExhibitionIds = exhibitionLikeRepository.findLikedExhibitionIds(null, List.of(exhibition.getId()));
+            assertThat(likedExhibitionIds).isEmpty();
+        }
+
+        @Test
+        @DisplayName("좋아요한 전시회 id만 반환 테스트")
+        void testLikedExhibitionIds() {
+            Set<Long> likedExhibitionIds = exhibitionLikeRepository.findLikedExhibitionIds(user1.getId(), List.of(exhibition.getId(), 123L));
+            assertThat(likedExhibitionIds).containsExactly(exhibition.getId());
+        }
+    }
 }
\ No newline at end of file
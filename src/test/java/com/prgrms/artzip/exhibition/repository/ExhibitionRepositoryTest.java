@@ -3,7 +3,9 @@ package com.prgrms.artzip.exhibition.repository;
 import com.prgrms.artzip.QueryDslTestConfig;
 import com.prgrms.artzip.common.Authority;
 import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.InvalidRequestException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.domain.ExhibitionLike;
 import com.prgrms.artzip.exhibition.domain.enumType.Area;
@@ -28,6 +30,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -35,6 +38,7 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.prgrms.artzip.exhibition.domain.enumType.Area.*;
 import static com.prgrms.artzip.exhibition.domain.enumType.Genre.*;
@@ -157,35 +161,41 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user2, exhibitionAlreadyEnd));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
         @Test
-        @DisplayName("로그인하지 않은 상태에서 실제로 시작일이 빠른 전시회가 먼저 오는지 확인하는 테스트")
-        void testFindUpcomingExhibitionWithoutAuthorization() {
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUpcomingExhibitions(null, pageable);
+        @DisplayName("실제로 시작일이 빠른 전시회가 먼저 오는지 확인하는 테스트")
+        void testFindUpcomingExhibition() {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUpcomingExhibitions(pageable);
             ExhibitionForSimpleQuery exhibitionAtSeoul = exhibitionsPagingResult.getContent().get(0);
 
             assertThat(exhibitionsPagingResult.getContent()).hasSize(2);
             assertThat(exhibitionAtSeoul)
                     .hasFieldOrPropertyWithValue("name", "전시회 at 서울")
                     .hasFieldOrPropertyWithValue("likeCount", 1L)
-                    .hasFieldOrPropertyWithValue("isLiked", false)
                     .hasFieldOrPropertyWithValue("reviewCount", 0L);
         }
 
         @Test
-        @DisplayName("로그인한 상태에서 실제로 시작일이 빠른 전시회가 먼저 오는지 확인하는 테스트")
-        void testFindUpcomingExhibitionWithAuthorization() {
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUpcomingExhibitions(user1.getId(), pageable);
-            ExhibitionForSimpleQuery exhibitionAtSeoul = exhibitionsPagingResult.getContent().get(0);
+        @DisplayName("커서 기반으로 다가오는 전시회를 이어서 조회하는 테스트")
+        void testFindUpcomingExhibitionsByCursor() {
+            Slice<ExhibitionForSimpleQuery> firstSlice = exhibitionRepository.findUpcomingExhibitionsByCursor(null, 1);
+            ExhibitionForSimpleQuery last = firstSlice.getContent().get(0);
 
-            assertThat(exhibitionsPagingResult.getContent()).hasSize(2);
-            assertThat(exhibitionAtSeoul)
-                    .hasFieldOrPropertyWithValue("name", "전시회 at 서울")
+            assertThat(firstSlice.hasNext()).isTrue();
+            assertThat(last).hasFieldOrPropertyWithValue("name", "전시회 at 서울");
+
+            Cursor cursor = Cursor.decode(Cursor.encode(last.getPeriod().getStartDate(), last.getPeriod().getEndDate(), last.getId()));
+            Slice<ExhibitionForSimpleQuery> secondSlice = exhibitionRepository.findUpcomingExhibitionsByCursor(cursor, 1);
+
+            assertThat(secondSlice.hasNext()).isFalse();
+            assertThat(secondSlice.getContent()).hasSize(1);
+            assertThat(secondSlice.getContent().get(0))
+                    .hasFieldOrPropertyWithValue("name", "전시회 at 부산")
                     .hasFieldOrPropertyWithValue("likeCount", 1L)
-                    .hasFieldOrPropertyWithValue("isLiked", true)
-                    .hasFieldOrPropertyWithValue("reviewCount", 0L);
+                    .hasFieldOrPropertyWithValue("reviewCount", 1L);
         }
     }
 
@@ -270,13 +280,14 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user2, exhibitionAlreadyEnd));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
         @Test
-        @DisplayName("로그인하지 않고 종료된 전시회 포함하여 인기 많은 전시회 조회 테스트")
-        void testFindMostLikeExhibitionIncludeEndWithoutAuthorization() {
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findMostLikeExhibitions(null, true, pageable);
+        @DisplayName("종료된 전시회 포함하여 인기 많은 전시회 조회 테스트")
+        void testFindMostLikeExhibitionIncludeEnd() {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findMostLikeExhibitions(true, pageable);
 
             assertThat(exhibitionsPagingResult.getContent()).hasSize(2);
 
@@ -284,23 +295,88 @@ class ExhibitionRepositoryTest {
             assertThat(exhibitionAtGyeonggi)
                     .hasFieldOrPropertyWithValue("name", "전시회 at 경기")
                     .hasFieldOrPropertyWithValue("likeCount", 2L)
-                    .hasFieldOrPropertyWithValue("isLiked", false)
                     .hasFieldOrPropertyWithValue("reviewCount", 0L);
         }
 
         @Test
-        @DisplayName("로그인 하고 종료된 전시회 제외하고 인기 많은 전시회 조회 테스트")
-        void testFindMostLikeExhibitionExcludeEndWithAuthorization() {
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findMostLikeExhibitions(user1.getId(), false, pageable);
+        @DisplayName("종료된 전시회 제외하고 인기 많은 전시회 조회 테스트")
+        void testFindMostLikeExhibitionExcludeEnd() {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findMostLikeExhibitions(false, pageable);
 
             ExhibitionForSimpleQuery exhibitionAtBusan = exhibitionsPagingResult.getContent().get(0);
 
             assertThat(exhibitionAtBusan)
                     .hasFieldOrPropertyWithValue("name", "전시회 at 부산")
                     .hasFieldOrPropertyWithValue("likeCount", 1L)
-                    .hasFieldOrPropertyWithValue("isLiked", true)
                     .hasFieldOrPropertyWithValue("reviewCount", 1L);
         }
+
+        @Test
+        @DisplayName("좋아요 수가 같으면 id 오름차순으로 이어서 조회해 빠지거나 겹치는 전시회가 없는지 테스트")
+        void testFindMostLikeExhibitionsByCursorWithTie() {
+            Exhibition exhibitionAtSeoul = Exhibition.builder()
+                    .seq(35)
+                    .name("전시회 at 서울")
+                    .startDate(LocalDate.now().plusDays(3))
+                    .endDate(LocalDate.now().plusDays(5))
+                    .genre(INSTALLATION)
+                    .description("이것은 전시회 설명입니다.")
+                    .latitude(37.22)
+                    .longitude(129.02)
+                    .area(SEOUL)
+                    .place("미술관")
+                    .address("서울 어딘가")
+                    .inquiry("문의처 정보")
+                    .fee("성인 20,000원")
+                    .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022072010193392447.jpg")
+                    .url("https://www.example.com")
+                    .placeUrl("https://www.place-example.com")
+                    .build();
+            em.persist(exhibitionAtSeoul);
+            em.persist(new ExhibitionLike(em.merge(user1), exhibitionAtSeoul));
+            em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
+            em.clear();
+
+            List<ExhibitionForSimpleQuery> exhibitions = new ArrayList<>();
+            Cursor cursor = null;
+            Slice<ExhibitionForSimpleQuery> slice;
+            do {
+                slice = exhibitionRepository.findMostLikeExhibitionsByCursor(true, cursor, 1);
+                exhibitions.addAll(slice.getContent());
+                ExhibitionForSimpleQuery last = slice.getContent().get(slice.getContent().size() - 1);
+                cursor = Cursor.decode(Cursor.encode(last.getLikeCount(), last.getId()));
+            } while (slice.hasNext());
+
+            assertThat(exhibitions).extracting("name")
+                    .containsExactly("전시회 at 경기", "전시회 at 부산", "전시회 at 서울");
+            assertThat(exhibitions).extracting("id")
+                    .containsExactlyElementsOf(exhibitionRepository.findMostLikeExhibitions(true, pageable).getContent().stream()
+                            .map(ExhibitionForSimpleQuery::getId)
+                            .collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("정렬 키가 모자라거나 숫자가 아닌 커서로 조회하는 경우 테스트")
+        void testFindMostLikeExhibitionsByInvalidCursor() {
+            Cursor shortCursor = Cursor.decode(Cursor.encode(2L));
+            Cursor malformedCursor = Cursor.decode(Cursor.encode("two", 1L));
+
+            assertThatThrownBy(() -> exhibitionRepository.findMostLikeExhibitionsByCursor(true, shortCursor, 1))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+            assertThatThrownBy(() -> exhibitionRepository.findMostLikeExhibitionsByCursor(true, malformedCursor, 1))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+        }
+
+        @Test
+        @DisplayName("Base64 가 아닌 커서는 디코딩할 때 거부하는지 테스트")
+        void testDecodeMalformedCursor() {
+            assertThatThrownBy(() -> Cursor.decode("not a cursor!"))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+        }
     }
 
     @Nested
@@ -344,6 +420,7 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user2, exhibitionAlreadyEnd));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
@@ -351,14 +428,14 @@ class ExhibitionRepositoryTest {
         @Test
         @DisplayName("존재하지 않는 전시회 조회 테스트")
         void testFindEmptyExhibition() {
-            Optional<ExhibitionDetailForSimpleQuery> exhibition = exhibitionRepository.findExhibition(null, 123431L);
+            Optional<ExhibitionDetailForSimpleQuery> exhibition = exhibitionRepository.findExhibition(123431L);
             assertThat(exhibition).isEmpty();
         }
 
         @Test
         @DisplayName("전시회 조회 테스트")
         void testFindExhibition() {
-            Optional<ExhibitionDetailForSimpleQuery> exhibitionAtGyeonggi = exhibitionRepository.findExhibition(user2.getId(), exhibitionAlreadyEnd.getId());
+            Optional<ExhibitionDetailForSimpleQuery> exhibitionAtGyeonggi = exhibitionRepository.findExhibition(exhibitionAlreadyEnd.getId());
 
             assertThat(exhibitionAtGyeonggi).isNotEmpty();
             assertThat(exhibitionAtGyeonggi.get())
@@ -367,7 +444,6 @@ class ExhibitionRepositoryTest {
                     .hasFieldOrPropertyWithValue("inquiry", "문의처 정보")
                     .hasFieldOrPropertyWithValue("url", "https://www.example.com")
                     .hasFieldOrPropertyWithValue("placeUrl", "https://www.place-example.com")
-                    .hasFieldOrPropertyWithValue("isLiked", true)
                     .hasFieldOrPropertyWithValue("likeCount", 2L);
         }
     }
@@ -433,25 +509,26 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user2, exhibitionAlreadyEnd));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
         @Test
-        @DisplayName("로그인 하지 않고 끝난 전시회 제외 하지 않고 검색 경우 태스트")
+        @DisplayName("끝난 전시회 제외 하지 않고 검색 경우 태스트")
         void testWithEndExhibition() {
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByQuery(null, "부산", true, pageable);
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByQuery("부산", true, pageable);
 
             assertThat(exhibitionsPagingResult.getContent()).hasSize(1);
         }
 
         @Test
-        @DisplayName("로그인 하고 끝난 전시회 제외하고 검색 경우 태스트")
+        @DisplayName("끝난 전시회 제외하고 검색 경우 태스트")
         void testWithOutEndExhibition() {
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByQuery(user2.getId(), "전시회", false, pageable);
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByQuery("전시회", false, pageable);
 
             assertThat(exhibitionsPagingResult.getContent()).hasSize(1);
             assertThat(exhibitionsPagingResult.getContent().get(0))
-                    .hasFieldOrPropertyWithValue("isLiked", false);
+                    .hasFieldOrPropertyWithValue("name", "전시회 at 부산");
         }
     }
 
@@ -502,6 +579,7 @@ class ExhibitionRepositoryTest {
             em.persist(exhibitionGyeonggi);
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
@@ -579,40 +657,30 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user2, exhibitionAlreadyEnd));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
         @Test
-        @DisplayName("로그인 유저와 조회 대상인 유저가 일치하지 않는 경우")
-        void testDifferentUser() {
-            // user2 : 로그인 유저
-            // user1 : 조회 대상
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUserLikeExhibitions(user2.getId(), user1.getId(), pageable);
+        @DisplayName("조회 대상 유저가 좋아요한 전시회 조회 테스트")
+        void testFindUserLikeExhibitions() {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUserLikeExhibitions(user1.getId(), pageable);
 
             List<ExhibitionForSimpleQuery> contents = exhibitionsPagingResult.getContent();
             assertThat(contents).hasSize(2);
 
-            assertThat(contents.get(0))
-                    .hasFieldOrPropertyWithValue("name", "전시회 at 경기")
-                    .hasFieldOrPropertyWithValue("isLiked", true);
-
-            assertThat(contents.get(1))
-                    .hasFieldOrPropertyWithValue("name", "전시회 at 부산")
-                    .hasFieldOrPropertyWithValue("isLiked", false);
+            assertThat(contents.get(0)).hasFieldOrPropertyWithValue("name", "전시회 at 경기");
+            assertThat(contents.get(1)).hasFieldOrPropertyWithValue("name", "전시회 at 부산");
         }
 
         @Test
-        @DisplayName("로그인 유저와 조회 대상인 유저가 일치하는 경우")
-        void testSameUser() {
-            // user1 : 로그인 유저, 조회 대상
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUserLikeExhibitions(user1.getId(), user1.getId(), pageable);
+        @DisplayName("좋아요한 전시회가 없는 유저 조회 테스트")
+        void testFindUserLikeExhibitionsOfOtherUser() {
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findUserLikeExhibitions(user2.getId(), pageable);
 
-            List<ExhibitionForSimpleQuery> contents = exhibitionsPagingResult.getContent();
-            assertThat(contents).hasSize(2);
-
-            for (ExhibitionBasicForSimpleQuery exhibition : contents) {
-                assertThat(exhibition).hasFieldOrPropertyWithValue("isLiked", true);
-            }
+            assertThat(exhibitionsPagingResult.getContent())
+                    .extracting("name")
+                    .containsExactly("전시회 at 경기");
         }
     }
 
@@ -708,6 +776,7 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user2, exhibitionAtGyeonggi));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
@@ -727,7 +796,7 @@ class ExhibitionRepositoryTest {
                     .includeEnd(includeEnd)
                     .build();
 
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(null, exhibitionCustomCondition, pageable);
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(exhibitionCustomCondition, pageable);
 
             List<ExhibitionForSimpleQuery> contents = exhibitionsPagingResult.getContent();
             assertThat(contents).hasSize(2);
@@ -753,7 +822,7 @@ class ExhibitionRepositoryTest {
                     .includeEnd(includeEnd)
                     .build();
 
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(null, exhibitionCustomCondition, pageable);
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(exhibitionCustomCondition, pageable);
 
             List<ExhibitionForSimpleQuery> contents = exhibitionsPagingResult.getContent();
             assertThat(contents).hasSize(2);
@@ -778,7 +847,7 @@ class ExhibitionRepositoryTest {
                     .includeEnd(includeEnd)
                     .build();
 
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(null, exhibitionCustomCondition, pageable);
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(exhibitionCustomCondition, pageable);
 
             List<ExhibitionForSimpleQuery> contents = exhibitionsPagingResult.getContent();
             assertThat(contents).hasSize(1);
@@ -787,9 +856,8 @@ class ExhibitionRepositoryTest {
         }
 
         @Test
-        @DisplayName("로그인한 상태에서 복합 조건 테스트")
+        @DisplayName("복합 조건 테스트")
         void testComplexCondition() {
-            // 로그인(user1)
             // 3 5 6
             // 부산 경기
             // includeEnd = true
@@ -807,14 +875,12 @@ class ExhibitionRepositoryTest {
                     .includeEnd(includeEnd)
                     .build();
 
-            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(user1.getId(), exhibitionCustomCondition, pageable);
+            Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = exhibitionRepository.findExhibitionsByCustomCondition(exhibitionCustomCondition, pageable);
 
             List<ExhibitionForSimpleQuery> contents = exhibitionsPagingResult.getContent();
             assertThat(contents).hasSize(1);
 
-            assertThat(contents.get(0))
-                    .hasFieldOrPropertyWithValue("name", "전시회 at 부산")
-                    .hasFieldOrPropertyWithValue("isLiked", true);
+            assertThat(contents.get(0)).hasFieldOrPropertyWithValue("name", "전시회 at 부산");
         }
     }
 
@@ -885,13 +951,14 @@ class ExhibitionRepositoryTest {
             em.persist(exhibitionAtGyeonggi);
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
         @Test
         @DisplayName("내 주변 전시회 3KM 조건 테스트")
         void testAroundMe3KM() {
-            List<ExhibitionWithLocationForSimpleQuery> exhibitions = exhibitionRepository.findExhibitionsAroundMe(null, 37.492001, 127.029704, 3);
+            List<ExhibitionWithLocationForSimpleQuery> exhibitions = exhibitionRepository.findExhibitionsAroundMe(37.492001, 127.029704, 3);
 
             assertThat(exhibitions).hasSize(1);
 
@@ -1008,6 +1075,7 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user1, exhibitionAtSeoul));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
@@ -1207,6 +1275,7 @@ class ExhibitionRepositoryTest {
             em.persist(new ExhibitionLike(user1, exhibitionAtSeoul));
 
             em.flush();
+            exhibitionRepository.reconcileLikeAndReviewCounts();
             em.clear();
         }
 
@@ -1266,4 +1335,94 @@ class ExhibitionRepositoryTest {
                     .hasMessage(ErrorCode.INVALID_EXHB_SORT_TYPE.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("좋아요/후기 수 컬럼 테스트")
+    class ExhibitionCountColumnTest {
+        private Exhibition exhibitionAtBusan;
+
+        @BeforeEach
+        void setUp() {
+            Role role = new Role(Authority.USER);
+            em.persist(role);
+
+            User user1 = new User("test@example.com", "Emily", List.of(role));
+            em.persist(user1);
+
+            User user2 = new User("tes2t@example.com", "Jerry", List.of(role));
+            em.persist(user2);
+
+            exhibitionAtBusan = Exhibition.builder()
+                    .seq(32)
+                    .name("전시회 at 부산")
+                    .startDate(LocalDate.now().plusDays(10))
+                    .endDate(LocalDate.now().plusDays(15))
+                    .genre(INSTALLATION)
+                    .description("이것은 전시회 설명입니다.")
+                    .latitude(36.22)
+                    .longitude(128.02)
+                    .area(BUSAN)
+                    .place("미술관")
+                    .address("부산 동구 중앙대로 11")
+                    .inquiry("문의처 정보")
+                    .fee("성인 20,000원")
+                    .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022072010193392447.jpg")
+                    .url("https://www.example.com")
+                    .placeUrl("https://www.place-example.com")
+                    .build();
+            em.persist(exhibitionAtBusan);
+
+            Review review = Review.builder()
+                    .user(user1)
+                    .exhibition(exhibitionAtBusan)
+                    .content("이것은 리뷰 본문입니다.")
+                    .title("이것은 리뷰 제목입니다.")
+                    .date(LocalDate.now())
+                    .isPublic(true)
+                    .build();
+            em.persist(review);
+
+            Review privateReview = Review.builder()
+                    .user(user2)
+                    .exhibition(exhibitionAtBusan)
+                    .content("이것은 비공개 리뷰 본문입니다.")
+                    .title("이것은 비공개 리뷰 제목입니다.")
+                    .date(LocalDate.now())
+                    .isPublic(false)
+                    .build();
+            em.persist(privateReview);
+
+            em.persist(new ExhibitionLike(user1, exhibitionAtBusan));
+            em.persist(new ExhibitionLike(user2, exhibitionAtBusan));
+
+            em.flush();
+            em.clear();
+        }
+
+        @Test
+        @DisplayName("불일치한 좋아요/후기 수 보정 테스트")
+        void testReconcileLikeAndReviewCounts() {
+            int repairedCount = exhibitionRepository.reconcileLikeAndReviewCounts();
+
+            assertThat(repairedCount).isEqualTo(1);
+            assertThat(exhibitionRepository.findById(exhibitionAtBusan.getId()).get())
+                    .hasFieldOrPropertyWithValue("likeCount", 2L)
+                    .hasFieldOrPropertyWithValue("publicReviewCount", 1L);
+            assertThat(exhibitionRepository.reconcileLikeAndReviewCounts()).isZero();
+        }
+
+        @Test
+        @DisplayName("좋아요/후기 수 증감 테스트")
+        void testUpdateLikeAndReviewCounts() {
+            exhibitionRepository.reconcileLikeAndReviewCounts();
+
+            exhibitionRepository.updateLikeCount(exhibitionAtBusan.getId(), 1);
+            exhibitionRepository.updatePublicReviewCount(exhibitionAtBusan.getId(), -1);
+            em.clear();
+
+            assertThat(exhibitionRepository.findById(exhibitionAtBusan.getId()).get())
+                    .hasFieldOrPropertyWithValue("likeCount", 3L)
+                    .hasFieldOrPropertyWithValue("publicReviewCount", 0L);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -58,6 +59,9 @@ class ExhibitionAdminServiceTest {
     @Mock
     private ExhibitionRepository exhibitionRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private final String s3DirName = "exhibition";
 
     private final Role role = new Role(Authority.USER);
@@ -186,7 +190,6 @@ class ExhibitionAdminServiceTest {
                 .id(0L)
                 .name("전시회 제목")
                 .thumbnail("https://naver.com")
-                .isLiked(false)
                 .period(new Period(LocalDate.of(2022, 4, 11), LocalDate.of(2022, 6, 2)))
                 .likeCount(0L)
                 .location(Location.builder().latitude(38.5).longitude(37.5).build())
@@ -197,13 +200,13 @@ class ExhibitionAdminServiceTest {
                 .url("https://www.example.com")
                 .placeUrl("https://www.place-example.com")
                 .build();
-        doReturn(Optional.of(sample)).when(exhibitionRepository).findExhibition(null, 0L);
+        doReturn(Optional.of(sample)).when(exhibitionRepository).findExhibition(0L);
 
         //when
         exhibitionAdminService.getExhibitionDetail(0L);
 
         //then
-        verify(exhibitionRepository).findExhibition(null, 0L);
+        verify(exhibitionRepository).findExhibition(0L);
     }
 
     @Test
@@ -214,7 +217,6 @@ class ExhibitionAdminServiceTest {
                 .id(0L)
                 .name("전시회 제목")
                 .thumbnail("https://naver.com")
-                .isLiked(false)
                 .period(new Period(LocalDate.of(2022, 4, 11), LocalDate.of(2022, 6, 2)))
                 .likeCount(0L)
                 .location(Location.builder().latitude(38.5).longitude(37.5).build())
@@ -223,20 +225,20 @@ class ExhibitionAdminServiceTest {
                 .inquiry("문의처 정보")
                 .fee("성인 20,000원")
                 .build();
-        doReturn(Optional.of(sample)).when(exhibitionRepository).findExhibition(null, 0L);
+        doReturn(Optional.of(sample)).when(exhibitionRepository).findExhibition(0L);
 
         //when
         exhibitionAdminService.getExhibitionDetail(0L);
 
         //then
-        verify(exhibitionRepository).findExhibition(null, 0L);
+        verify(exhibitionRepository).findExhibition(0L);
     }
 
     @Test
     @DisplayName("유효하지 않은 전시회 상세 조회 테스트")
     void testGetInvalidExhibition() {
         //given
-        doReturn(Optional.empty()).when(exhibitionRepository).findExhibition(null, 0L);
+        doReturn(Optional.empty()).when(exhibitionRepository).findExhibition(0L);
 
         //when
         assertThatThrownBy(() -> {
@@ -245,7 +247,7 @@ class ExhibitionAdminServiceTest {
                 .hasMessage(ErrorCode.EXHB_NOT_FOUND.getMessage());
 
         //then
-        verify(exhibitionRepository).findExhibition(null, 0L);
+        verify(exhibitionRepository).findExhibition(0L);
     }
 
     @Test
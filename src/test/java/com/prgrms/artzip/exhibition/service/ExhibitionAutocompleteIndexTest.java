@@ -0,0 +1,115 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExhibitionAutocompleteIndex 테스트")
+class ExhibitionAutocompleteIndexTest {
+
+    @Mock
+    private ExhibitionRepository exhibitionRepository;
+
+    @InjectMocks
+    private ExhibitionAutocompleteIndex exhibitionAutocompleteIndex;
+
+    private static ExhibitionSearchForSimpleQuery exhibition(Long id, String name, LocalDate startDate, long likeCount) {
+        return ExhibitionSearchForSimpleQuery.builder()
+                .id(id)
+                .name(name)
+                .startDate(startDate)
+                .endDate(LocalDate.now().plusDays(30))
+                .likeCount(likeCount)
+                .build();
+    }
+
+    private void rebuild() {
+        LocalDate started = LocalDate.now().minusDays(3);
+        when(exhibitionRepository.findExhibitionsForSearchIndex()).thenReturn(List.of(
+                exhibition(1L, "국립현대미술관 소장품전", started, 5),
+                exhibition(2L, "고흐 회고전", started, 20),
+                exhibition(3L, "Van Gogh Alive", started, 10),
+                exhibition(4L, "국립중앙박물관 특별전", started, 1),
+                exhibition(5L, "고흐 특별전", LocalDate.now().plusDays(3), 100)));
+        exhibitionAutocompleteIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("인덱스가 구성되기 전에는 빈 결과 반환 테스트")
+    void testCompleteBeforeRebuild() {
+        assertThat(exhibitionAutocompleteIndex.complete("고흐", 30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두, 중간 일치 검색에서 시작한 전시회만 좋아요 순으로 반환하는 테스트")
+    void testComplete() {
+        rebuild();
+
+        assertThat(exhibitionAutocompleteIndex.complete("국립", 30).orElseThrow())
+                .extracting("id").containsExactly(1L, 4L);
+        assertThat(exhibitionAutocompleteIndex.complete("특별", 30).orElseThrow())
+                .extracting("id").containsExactly(4L);
+        assertThat(exhibitionAutocompleteIndex.complete("GOGH", 30).orElseThrow())
+                .extracting("id").containsExactly(3L);
+        assertThat(exhibitionAutocompleteIndex.complete("전", 2).orElseThrow())
+                .extracting("id").containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("초성 및 초성이 섞인 검색어 테스트")
+    void testCompleteWithChosung() {
+        rebuild();
+
+        assertThat(exhibitionAutocompleteIndex.complete("ㄱㄹㅎㄷ", 30).orElseThrow())
+                .extracting("id").containsExactly(1L);
+        assertThat(exhibitionAutocompleteIndex.complete("ㄱㄹ", 30).orElseThrow())
+                .extracting("id").containsExactly(1L, 4L);
+        assertThat(exhibitionAutocompleteIndex.complete("국립ㅈ", 30).orElseThrow())
+                .extracting("id").containsExactly(4L);
+        assertThat(exhibitionAutocompleteIndex.complete("ㅎㄱㅈ", 30).orElseThrow())
+                .extracting("id").containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트로 순위가 갱신되는 테스트")
+    void testOnExhibitionLikeChanged() {
+        rebuild();
+
+        for (int i = 0; i < 5; i++) {
+            exhibitionAutocompleteIndex.onExhibitionLikeChanged(new ExhibitionLikeChangedEvent(4L, (long) i, true));
+        }
+
+        assertThat(exhibitionAutocompleteIndex.complete("ㄱㄹ", 30).orElseThrow())
+                .extracting("id").containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("전시회 변경 이벤트로 해당 전시회만 인덱스에서 제거되는 테스트")
+    void testOnExhibitionChanged() {
+        rebuild();
+        when(exhibitionRepository.findById(1L)).thenReturn(Optional.empty());
+
+        exhibitionAutocompleteIndex.onExhibitionChanged(new ExhibitionChangedEvent(1L));
+
+        assertThat(exhibitionAutocompleteIndex.complete("ㄱㄹ", 30).orElseThrow())
+                .extracting("id").containsExactly(4L);
+        assertThat(exhibitionAutocompleteIndex.complete("회고", 30).orElseThrow())
+                .extracting("id").containsExactly(2L);
+        assertThat(exhibitionAutocompleteIndex.size()).isEqualTo(4);
+    }
+}
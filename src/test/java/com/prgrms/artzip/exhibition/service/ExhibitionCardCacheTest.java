@@ -0,0 +1,136 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExhibitionCardCache 테스트")
+class ExhibitionCardCacheTest {
+
+    private static final int THREADS = 8;
+
+    private final ExhibitionCardCache exhibitionCardCache = new ExhibitionCardCache();
+
+    @Test
+    @DisplayName("같은 키의 목록은 한 번만 조회하는지 테스트")
+    void testGetListCached() {
+        AtomicInteger loadCount = new AtomicInteger();
+
+        List<Long> first = exhibitionCardCache.getList("upcoming:0:8", () -> List.of((long) loadCount.incrementAndGet()));
+        List<Long> second = exhibitionCardCache.getList("upcoming:0:8", () -> List.of((long) loadCount.incrementAndGet()));
+        List<Long> other = exhibitionCardCache.getList("upcoming:8:8", () -> List.of((long) loadCount.incrementAndGet()));
+
+        assertThat(first).isSameAs(second);
+        assertThat(other).containsExactly(2L);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 목록을 동시에 조회해도 한 번만 조회하는지 테스트")
+    void testGetListConcurrently() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return exhibitionCardCache.getList("upcoming:0:8", () -> slowLoad(loadCount));
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전시회가 변경되면 목록 캐시를 비우는지 테스트")
+    void testListEvictedOnExhibitionChanged() {
+        AtomicInteger loadCount = new AtomicInteger();
+        exhibitionCardCache.getList("upcoming:0:8", loadCount::incrementAndGet);
+
+        exhibitionCardCache.onExhibitionChanged(new ExhibitionChangedEvent(1L));
+        Integer reloaded = exhibitionCardCache.getList("upcoming:0:8", loadCount::incrementAndGet);
+
+        assertThat(reloaded).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 카드만 조회하고 요청 순서대로 반환하는지 테스트")
+    void testGetCards() {
+        List<List<Long>> requested = new ArrayList<>();
+        exhibitionCardCache.getCards(List.of(1L, 2L), ids -> load(requested, ids));
+
+        List<ExhibitionForSimpleQuery> cards = exhibitionCardCache.getCards(List.of(3L, 2L, 1L), ids -> load(requested, ids));
+
+        assertThat(cards).extracting("id").containsExactly(3L, 2L, 1L);
+        assertThat(requested).containsExactly(List.of(1L, 2L), List.of(3L));
+    }
+
+    @Test
+    @DisplayName("조회되지 않은 카드는 제외하는지 테스트")
+    void testGetCardsSkipMissing() {
+        List<ExhibitionForSimpleQuery> cards = exhibitionCardCache.getCards(List.of(1L, 404L, 2L), ids -> ids.stream()
+                .filter(id -> id != 404L)
+                .map(this::card)
+                .collect(Collectors.toList()));
+
+        assertThat(cards).extracting("id").containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("좋아요가 변경되면 해당 카드만 다시 조회하는지 테스트")
+    void testCardEvictedOnLikeChanged() {
+        List<List<Long>> requested = new ArrayList<>();
+        exhibitionCardCache.getCards(List.of(1L, 2L), ids -> load(requested, ids));
+
+        exhibitionCardCache.onExhibitionLikeChanged(new ExhibitionLikeChangedEvent(2L, 10L, true));
+        exhibitionCardCache.getCards(List.of(1L, 2L), ids -> load(requested, ids));
+
+        assertThat(requested).containsExactly(List.of(1L, 2L), List.of(2L));
+    }
+
+    private Integer slowLoad(AtomicInteger loadCount) {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return loadCount.incrementAndGet();
+    }
+
+    private List<ExhibitionForSimpleQuery> load(List<List<Long>> requested, List<Long> exhibitionIds) {
+        requested.add(List.copyOf(exhibitionIds));
+        return exhibitionIds.stream()
+                .map(this::card)
+                .collect(Collectors.toList());
+    }
+
+    private ExhibitionForSimpleQuery card(Long exhibitionId) {
+        return ExhibitionForSimpleQuery.builder()
+                .id(exhibitionId)
+                .name("전시회 " + exhibitionId)
+                .build();
+    }
+}
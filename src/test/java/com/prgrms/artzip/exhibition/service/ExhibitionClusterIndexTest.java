@@ -0,0 +1,97 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionGeoForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionClusterResponse;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExhibitionClusterIndex 테스트")
+class ExhibitionClusterIndexTest {
+
+    @Mock
+    private ExhibitionRepository exhibitionRepository;
+
+    @InjectMocks
+    private ExhibitionClusterIndex exhibitionClusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate ongoing = LocalDate.now().plusDays(3);
+        when(exhibitionRepository.findExhibitionsForGeoIndex()).thenReturn(List.of(
+                // 서울
+                new ExhibitionGeoForSimpleQuery(1L, 37.5000, 127.0300, ongoing, 5L),
+                new ExhibitionGeoForSimpleQuery(2L, 37.5010, 127.0310, ongoing, 10L),
+                new ExhibitionGeoForSimpleQuery(3L, 37.5020, 127.0320, LocalDate.now().minusDays(1), 100L),
+                // 부산
+                new ExhibitionGeoForSimpleQuery(4L, 35.1800, 129.0750, ongoing, 1L)));
+        exhibitionClusterIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("인덱스가 구성되기 전에는 요청 스레드에서 구성하지 않고 빈 결과 반환 테스트")
+    void testNotReady() {
+        ExhibitionClusterIndex notReady = new ExhibitionClusterIndex(exhibitionRepository);
+
+        assertThat(notReady.findClusters(33, 124, 39, 132, 0, 3)).isEmpty();
+        assertThat(notReady.findExhibitionIds(37.4, 126.9, 37.6, 127.1, 10)).isEmpty();
+        verify(exhibitionRepository, times(1)).findExhibitionsForGeoIndex();
+    }
+
+    @Test
+    @DisplayName("낮은 줌 레벨에서 진행 중인 전시회가 하나의 클러스터로 묶이는 테스트")
+    void testFindClustersAtLowZoom() {
+        List<ExhibitionClusterResponse> clusters = exhibitionClusterIndex.findClusters(33, 124, 39, 132, 0, 3);
+
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).getCount()).isEqualTo(3);
+        assertThat(clusters.get(0).getExhibitionIds()).containsExactly(2L, 1L, 4L);
+        assertThat(clusters.get(0).getLat()).isCloseTo((37.5000 + 37.5010 + 35.1800) / 3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("높은 줌 레벨에서 지역별로 클러스터가 나뉘는 테스트")
+    void testFindClustersAtHighZoom() {
+        List<ExhibitionClusterResponse> clusters = exhibitionClusterIndex.findClusters(33, 124, 39, 132, 8, 1);
+
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters.get(0).getCount()).isEqualTo(2);
+        assertThat(clusters.get(0).getExhibitionIds()).containsExactly(2L);
+        assertThat(clusters.get(1).getExhibitionIds()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("영역 안의 전시회 ID를 좋아요 수 순으로 반환하는 테스트")
+    void testFindExhibitionIds() {
+        assertThat(exhibitionClusterIndex.findExhibitionIds(37.4, 126.9, 37.6, 127.1, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("전시회 삭제 이벤트로 해당 격자만 갱신되는 테스트")
+    void testOnExhibitionChanged() {
+        when(exhibitionRepository.findById(2L)).thenReturn(Optional.empty());
+
+        exhibitionClusterIndex.onExhibitionChanged(new ExhibitionChangedEvent(2L));
+
+        List<ExhibitionClusterResponse> clusters = exhibitionClusterIndex.findClusters(33, 124, 39, 132, 0, 3);
+        assertThat(clusters.get(0).getCount()).isEqualTo(2);
+        assertThat(clusters.get(0).getExhibitionIds()).containsExactly(1L, 4L);
+    }
+}
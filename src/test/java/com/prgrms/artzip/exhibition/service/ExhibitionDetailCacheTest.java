@@ -0,0 +1,258 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.exhibition.domain.vo.Location;
+import com.prgrms.artzip.exhibition.domain.vo.Period;
+import com.prgrms.artzip.exhibition.dto.ExhibitionDetailSnapshot;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionDetailForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.review.dto.response.ReviewsResponseForExhibitionDetail;
+import com.prgrms.artzip.review.event.ReviewChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.prgrms.artzip.exhibition.domain.enumType.Area.SEOUL;
+import static com.prgrms.artzip.exhibition.domain.enumType.Genre.PHOTO;
+import static com.prgrms.artzip.exhibition.service.ExhibitionDetailCache.INVALIDATION_CHANNEL;
+import static com.prgrms.artzip.exhibition.service.ExhibitionDetailCache.KEY_PREFIX;
+import static com.prgrms.artzip.exhibition.service.ExhibitionDetailCache.REDIS_TTL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExhibitionDetailCache 테스트")
+class ExhibitionDetailCacheTest {
+
+    private static final Long EXHIBITION_ID = 7L;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ExhibitionDetailCache exhibitionDetailCache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        exhibitionDetailCache = new ExhibitionDetailCache(redisService, objectMapper, redisMessageListenerContainer);
+    }
+
+    @Test
+    @DisplayName("무효화 채널을 구독하는지 테스트")
+    void testSubscribe() {
+        exhibitionDetailCache.subscribe();
+
+        verify(redisMessageListenerContainer).addMessageListener(exhibitionDetailCache, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Test
+    @DisplayName("두 캐시에 모두 없으면 DB에서 조회하여 Redis와 로컬 캐시에 저장하는지 테스트")
+    void testLoadAndCache() throws Exception {
+        Optional<ExhibitionDetailSnapshot> first = exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+        Optional<ExhibitionDetailSnapshot> second = exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(loadCount.get()).isEqualTo(1);
+        verify(redisService, times(1)).getValues(KEY_PREFIX + EXHIBITION_ID);
+        verify(redisService).setValues(KEY_PREFIX + EXHIBITION_ID, objectMapper.writeValueAsString(first.get()), REDIS_TTL);
+    }
+
+    @Test
+    @DisplayName("Redis 캐시에 있으면 DB를 조회하지 않는지 테스트")
+    void testSharedCacheHit() throws Exception {
+        when(redisService.getValues(KEY_PREFIX + EXHIBITION_ID)).thenReturn(objectMapper.writeValueAsString(snapshot()));
+
+        Optional<ExhibitionDetailSnapshot> cached = exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loadCount.get()).isZero();
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getExhibition())
+                .hasFieldOrPropertyWithValue("name", "전시회 제목")
+                .hasFieldOrPropertyWithValue("likeCount", 10L);
+        assertThat(cached.get().getExhibition().getPeriod().getEndDate()).isEqualTo(LocalDate.of(2022, 6, 2));
+        assertThat(cached.get().getReviews()).extracting("reviewId").containsExactly(1L);
+        verify(redisService, never()).setValues(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 전시회는 캐싱하지 않는지 테스트")
+    void testNotFoundNotCached() {
+        Optional<ExhibitionDetailSnapshot> first = exhibitionDetailCache.get(EXHIBITION_ID, this::loadEmpty);
+        Optional<ExhibitionDetailSnapshot> second = exhibitionDetailCache.get(EXHIBITION_ID, this::loadEmpty);
+
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisService, never()).setValues(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB에서 조회하는지 테스트")
+    void testRedisFailure() {
+        when(redisService.getValues(KEY_PREFIX + EXHIBITION_ID)).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(redisService).setValues(anyString(), anyString(), any());
+
+        Optional<ExhibitionDetailSnapshot> loaded = exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loaded).isPresent();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 캐시 값이 깨진 경우 DB에서 조회하는지 테스트")
+    void testBrokenSharedValue() {
+        when(redisService.getValues(KEY_PREFIX + EXHIBITION_ID)).thenReturn("{broken");
+
+        Optional<ExhibitionDetailSnapshot> loaded = exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loaded).isPresent();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 시 Redis 키를 지우고 무효화 메시지를 발행하는지 테스트")
+    void testEvict() {
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        exhibitionDetailCache.onExhibitionChanged(new ExhibitionChangedEvent(EXHIBITION_ID));
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisService).deleteValues(KEY_PREFIX + EXHIBITION_ID);
+        verify(redisService).publish(INVALIDATION_CHANNEL, String.valueOf(EXHIBITION_ID));
+    }
+
+    @Test
+    @DisplayName("후기 변경 시에도 무효화하는지 테스트")
+    void testEvictOnReviewChanged() {
+        exhibitionDetailCache.onReviewChanged(new ReviewChangedEvent(EXHIBITION_ID));
+
+        verify(redisService).deleteValues(KEY_PREFIX + EXHIBITION_ID);
+        verify(redisService).publish(INVALIDATION_CHANNEL, String.valueOf(EXHIBITION_ID));
+    }
+
+    @Test
+    @DisplayName("DB에서 읽는 도중 무효화되면 읽은 값을 캐싱하지 않는지 테스트")
+    void testEvictedDuringLoadNotCached() {
+        Optional<ExhibitionDetailSnapshot> loaded = exhibitionDetailCache.get(EXHIBITION_ID, () -> {
+            exhibitionDetailCache.evict(EXHIBITION_ID);
+            return load();
+        });
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loaded).isPresent();
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisService, times(1)).setValues(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지가 DB 조회 도중 도착해도 읽은 값을 캐싱하지 않는지 테스트")
+    void testMessageDuringLoadNotCached() {
+        exhibitionDetailCache.get(EXHIBITION_ID, () -> {
+            exhibitionDetailCache.onMessage(message(String.valueOf(EXHIBITION_ID)), null);
+            return load();
+        });
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 무효화 메시지를 발행하지 못해도 로컬 캐시는 비우는지 테스트")
+    void testEvictWithRedisFailure() {
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+        doThrow(new RedisConnectionFailureException("down")).when(redisService).deleteValues(anyString());
+
+        exhibitionDetailCache.evict(EXHIBITION_ID);
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisService, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 발행한 무효화 메시지를 받으면 로컬 캐시에서 제거하는지 테스트")
+    void testOnMessage() {
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        exhibitionDetailCache.onMessage(message(String.valueOf(EXHIBITION_ID)), null);
+        exhibitionDetailCache.onMessage(message("not-a-number"), null);
+        exhibitionDetailCache.get(EXHIBITION_ID, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisService, never()).deleteValues(anyString());
+    }
+
+    private Optional<ExhibitionDetailSnapshot> load() {
+        loadCount.incrementAndGet();
+        return Optional.of(snapshot());
+    }
+
+    private Optional<ExhibitionDetailSnapshot> loadEmpty() {
+        loadCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ExhibitionDetailSnapshot snapshot() {
+        ExhibitionDetailForSimpleQuery exhibition = ExhibitionDetailForSimpleQuery.builder()
+                .id(EXHIBITION_ID)
+                .seq(32)
+                .name("전시회 제목")
+                .thumbnail("https://www.image-example.com")
+                .period(new Period(LocalDate.of(2022, 4, 11), LocalDate.of(2022, 6, 2)))
+                .genre(PHOTO)
+                .location(Location.builder()
+                        .latitude(37.5)
+                        .longitude(127.0)
+                        .area(SEOUL)
+                        .place("미술관")
+                        .address("서울 어딘가")
+                        .build())
+                .likeCount(10)
+                .reviewCount(1)
+                .build();
+        ReviewsResponseForExhibitionDetail review = ReviewsResponseForExhibitionDetail.builder()
+                .reviewId(1L)
+                .title("후기 제목")
+                .createdAt(LocalDateTime.of(2022, 5, 5, 15, 6))
+                .updatedAt(LocalDateTime.of(2022, 5, 5, 15, 6))
+                .isEdited(false)
+                .isLiked(false)
+                .isPublic(true)
+                .likeCount(3L)
+                .commentCount(0L)
+                .photos(List.of())
+                .build();
+        return new ExhibitionDetailSnapshot(exhibition, List.of(review));
+    }
+}
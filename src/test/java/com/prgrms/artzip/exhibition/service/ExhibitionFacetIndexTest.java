@@ -0,0 +1,126 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.domain.enumType.Area;
+import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.exhibition.domain.enumType.Month;
+import com.prgrms.artzip.exhibition.dto.ExhibitionCustomCondition;
+import com.prgrms.artzip.exhibition.dto.ExhibitionFacetSearchResult;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionFacetForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.prgrms.artzip.exhibition.domain.enumType.Area.BUSAN;
+import static com.prgrms.artzip.exhibition.domain.enumType.Area.SEOUL;
+import static com.prgrms.artzip.exhibition.domain.enumType.Genre.INSTALLATION;
+import static com.prgrms.artzip.exhibition.domain.enumType.Genre.PAINTING;
+import static com.prgrms.artzip.exhibition.domain.enumType.Genre.PHOTO;
+import static com.prgrms.artzip.exhibition.domain.enumType.Month.AUG;
+import static com.prgrms.artzip.exhibition.domain.enumType.Month.JAN;
+import static com.prgrms.artzip.exhibition.domain.enumType.Month.JUL;
+import static com.prgrms.artzip.exhibition.domain.enumType.Month.JUN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExhibitionFacetIndex 테스트")
+class ExhibitionFacetIndexTest {
+
+    private static final int YEAR = LocalDate.now().getYear();
+
+    @Mock
+    private ExhibitionRepository exhibitionRepository;
+
+    @InjectMocks
+    private ExhibitionFacetIndex exhibitionFacetIndex;
+
+    private static ExhibitionCustomCondition condition(Set<Area> areas, Set<Month> months, Set<Genre> genres, boolean includeEnd) {
+        return ExhibitionCustomCondition.builder()
+                .areas(areas)
+                .months(months)
+                .genres(genres)
+                .includeEnd(includeEnd)
+                .build();
+    }
+
+    private void rebuild() {
+        when(exhibitionRepository.findExhibitionsForFacetIndex()).thenReturn(List.of(
+                new ExhibitionFacetForSimpleQuery(2L, SEOUL, PHOTO, LocalDate.of(YEAR, 6, 15), LocalDate.of(YEAR, 8, 10)),
+                new ExhibitionFacetForSimpleQuery(1L, SEOUL, PAINTING, LocalDate.of(YEAR, 6, 1), LocalDate.of(YEAR, 6, 30)),
+                new ExhibitionFacetForSimpleQuery(3L, BUSAN, PAINTING, LocalDate.of(YEAR, 7, 1), LocalDate.of(YEAR, 7, 31)),
+                new ExhibitionFacetForSimpleQuery(4L, SEOUL, null, LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR, 12, 31))));
+        exhibitionFacetIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("인덱스가 구성되기 전에는 빈 결과 반환 테스트")
+    void testSearchBeforeRebuild() {
+        assertThat(exhibitionFacetIndex.search(condition(Set.of(Area.ALL), Set.of(Month.ALL), Set.of(Genre.ALL), true), 0, 8)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 전시회를 시작일 순으로 반환하고 조건별 전시회 수를 계산하는 테스트")
+    void testSearch() {
+        rebuild();
+
+        ExhibitionFacetSearchResult result = exhibitionFacetIndex.search(
+                condition(Set.of(SEOUL), Set.of(JUN), Set.of(PAINTING, PHOTO), true), 0, 8).orElseThrow();
+
+        assertThat(result.getExhibitionIds()).containsExactly(1L, 2L);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getFacets().getAreas()).containsEntry(SEOUL, 2L).containsEntry(BUSAN, 0L).doesNotContainKey(Area.ALL);
+        assertThat(result.getFacets().getMonths()).containsEntry(JUN, 2L).containsEntry(JUL, 1L).containsEntry(AUG, 1L).containsEntry(JAN, 0L);
+        assertThat(result.getFacets().getGenres()).containsEntry(PAINTING, 1L).containsEntry(PHOTO, 1L).containsEntry(INSTALLATION, 0L);
+    }
+
+    @Test
+    @DisplayName("ALL 조건과 페이지 구간 테스트")
+    void testSearchWithAllAndPage() {
+        rebuild();
+
+        ExhibitionFacetSearchResult result = exhibitionFacetIndex.search(
+                condition(Set.of(Area.ALL), Set.of(Month.ALL), Set.of(Genre.ALL), true), 1, 2).orElseThrow();
+
+        assertThat(result.getExhibitionIds()).containsExactly(1L, 2L);
+        assertThat(result.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("끝난 전시회 제외 테스트")
+    void testSearchWithoutEnd() {
+        when(exhibitionRepository.findExhibitionsForFacetIndex()).thenReturn(List.of(
+                new ExhibitionFacetForSimpleQuery(1L, SEOUL, PAINTING, LocalDate.now().minusDays(10), LocalDate.now().minusDays(1)),
+                new ExhibitionFacetForSimpleQuery(2L, SEOUL, PAINTING, LocalDate.now().minusDays(5), LocalDate.now())));
+        exhibitionFacetIndex.rebuild();
+
+        ExhibitionFacetSearchResult result = exhibitionFacetIndex.search(
+                condition(Set.of(Area.ALL), Set.of(Month.ALL), Set.of(Genre.ALL), false), 0, 8).orElseThrow();
+
+        assertThat(result.getExhibitionIds()).containsExactly(2L);
+        assertThat(result.getFacets().getAreas()).containsEntry(SEOUL, 1L);
+    }
+
+    @Test
+    @DisplayName("전시회 변경 이벤트로 인덱스가 갱신되는 테스트")
+    void testOnExhibitionChanged() {
+        rebuild();
+        when(exhibitionRepository.findById(2L)).thenReturn(Optional.empty());
+
+        exhibitionFacetIndex.onExhibitionChanged(new ExhibitionChangedEvent(2L));
+
+        ExhibitionFacetSearchResult result = exhibitionFacetIndex.search(
+                condition(Set.of(SEOUL), Set.of(JUN), Set.of(PAINTING, PHOTO), true), 0, 8).orElseThrow();
+        assertThat(result.getExhibitionIds()).containsExactly(1L);
+        assertThat(exhibitionFacetIndex.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,77 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.dto.ExhibitionDistance;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionGeoForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExhibitionGeoIndex 테스트")
+class ExhibitionGeoIndexTest {
+
+    // 강남역
+    private static final double LATITUDE = 37.497942;
+    private static final double LONGITUDE = 127.027621;
+
+    @Mock
+    private ExhibitionRepository exhibitionRepository;
+
+    @InjectMocks
+    private ExhibitionGeoIndex exhibitionGeoIndex;
+
+    @Test
+    @DisplayName("인덱스가 구성되기 전에는 빈 결과 반환 테스트")
+    void testFindAroundBeforeRebuild() {
+        assertThat(exhibitionGeoIndex.findAround(LATITUDE, LONGITUDE, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반경 내 진행 중인 전시회만 가까운 순으로 반환하는 테스트")
+    void testFindAround() {
+        LocalDate ongoing = LocalDate.now().plusDays(3);
+        when(exhibitionRepository.findExhibitionsForGeoIndex()).thenReturn(List.of(
+                // 약 1.65km
+                new ExhibitionGeoForSimpleQuery(1L, 37.484102, 127.034369, ongoing, 0L),
+                // 역삼역, 약 0.83km
+                new ExhibitionGeoForSimpleQuery(2L, 37.500622, 127.036456, ongoing, 0L),
+                // 역삼역이지만 종료된 전시회
+                new ExhibitionGeoForSimpleQuery(3L, 37.500622, 127.036456, LocalDate.now().minusDays(1), 0L),
+                // 부산
+                new ExhibitionGeoForSimpleQuery(4L, 35.179554, 129.075642, ongoing, 0L)));
+        exhibitionGeoIndex.rebuild();
+
+        List<ExhibitionDistance> result = exhibitionGeoIndex.findAround(LATITUDE, LONGITUDE, 3).orElseThrow();
+
+        assertThat(result).extracting("exhibitionId").containsExactly(2L, 1L);
+        assertThat(result.get(0).getDistance()).isCloseTo(0.83, within(0.1));
+        assertThat(result.get(1).getDistance()).isCloseTo(1.64, within(0.1));
+    }
+
+    @Test
+    @DisplayName("전시회 변경 이벤트로 인덱스가 갱신되는 테스트")
+    void testOnExhibitionChanged() {
+        when(exhibitionRepository.findExhibitionsForGeoIndex()).thenReturn(List.of(
+                new ExhibitionGeoForSimpleQuery(2L, 37.500622, 127.036456, LocalDate.now().plusDays(3), 0L)));
+        exhibitionGeoIndex.rebuild();
+        when(exhibitionRepository.findById(2L)).thenReturn(Optional.empty());
+
+        exhibitionGeoIndex.onExhibitionChanged(new ExhibitionChangedEvent(2L));
+
+        assertThat(exhibitionGeoIndex.findAround(LATITUDE, LONGITUDE, 3).orElseThrow()).isEmpty();
+        assertThat(exhibitionGeoIndex.size()).isZero();
+    }
+}
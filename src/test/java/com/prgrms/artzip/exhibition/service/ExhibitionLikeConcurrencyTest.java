@@ -0,0 +1,186 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.domain.enumType.Area;
+import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionLikeResponse;
+import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.service.LikeFlusher;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
+import com.prgrms.artzip.user.domain.Role;
+import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 같은 (유저, 전시회) 쌍에 좋아요 등록/해제를 여러 스레드에서 동시에 보내고, 버퍼 반영도 동시에 돌려
+ * 중복 좋아요가 생기지 않고 좋아요 수가 한 번만 반영되는지 확인
+ * - 여러 스레드가 커밋된 데이터를 봐야 하므로 테스트 트랜잭션으로 감싸지 않고 끝난 뒤 직접 지운다.
+ * */
+@SpringBootTest
+@DisplayName("전시회 좋아요 동시성 테스트")
+class ExhibitionLikeConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int FLUSH_ATTEMPTS = 50;
+
+    @Autowired
+    private ExhibitionLikeService exhibitionLikeService;
+
+    @Autowired
+    private LikeFlusher likeFlusher;
+
+    @Autowired
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Autowired
+    private ExhibitionRepository exhibitionRepository;
+
+    @Autowired
+    private ExhibitionLikeRepository exhibitionLikeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private TransactionTemplate transactionTemplate;
+    private Role role;
+    private User user;
+    private Exhibition exhibition;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            role = new Role(Authority.USER);
+            em.persist(role);
+            user = new User("like-concurrency@example.com", "동시성", List.of(role));
+            em.persist(user);
+            exhibition = Exhibition.builder()
+                    .seq(9_999)
+                    .name("전시회 제목")
+                    .startDate(LocalDate.now().minusDays(10))
+                    .endDate(LocalDate.now().plusDays(10))
+                    .genre(Genre.SHOW)
+                    .description("이것은 전시회 설명입니다.")
+                    .latitude(36.22)
+                    .longitude(128.02)
+                    .area(Area.BUSAN)
+                    .place("미술관")
+                    .address("부산 동구 중앙대로 11")
+                    .inquiry("문의처 정보")
+                    .fee("성인 20,000원")
+                    .thumbnail("https://www.image-example.com")
+                    .url("https://www.example.com")
+                    .placeUrl("https://www.place-example.com")
+                    .build();
+            em.persist(exhibition);
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        flushPending();
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("delete from ExhibitionLike el where el.exhibition.id = :exhibitionId")
+                    .setParameter("exhibitionId", exhibition.getId())
+                    .executeUpdate();
+            em.remove(em.find(Exhibition.class, exhibition.getId()));
+            em.remove(em.find(User.class, user.getId()));
+            em.remove(em.find(Role.class, role.getId()));
+        });
+    }
+
+    @Test
+    @DisplayName("같은 좋아요 등록/해제를 동시에 여러 번 보내도 한 번만 반영되는지 테스트")
+    void testConcurrentSetAndUnset() throws Exception {
+        List<ExhibitionLikeResponse> liked = hammer(() -> exhibitionLikeService.setExhibitionLike(UserPrincipal.from(user), exhibition.getId(), true));
+        flushPending();
+
+        assertThat(liked).allMatch(ExhibitionLikeResponse::getIsLiked);
+        assertThat(exhibitionLikeRepository.countByUserId(user.getId())).isEqualTo(1L);
+        assertThat(exhibitionRepository.findById(exhibition.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+
+        List<ExhibitionLikeResponse> unliked = hammer(() -> exhibitionLikeService.setExhibitionLike(UserPrincipal.from(user), exhibition.getId(), false));
+        flushPending();
+
+        assertThat(unliked).noneMatch(ExhibitionLikeResponse::getIsLiked);
+        assertThat(exhibitionLikeRepository.countByUserId(user.getId())).isZero();
+        assertThat(exhibitionRepository.findById(exhibition.getId()).orElseThrow().getLikeCount()).isZero();
+    }
+
+    /*
+     * 모든 스레드가 준비된 뒤 한꺼번에 요청을 보내고, 절반은 요청 직후 버퍼 반영도 함께 시도한다.
+     */
+    private List<ExhibitionLikeResponse> hammer(Callable<ExhibitionLikeResponse> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ExhibitionLikeResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                boolean flush = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    ExhibitionLikeResponse response = request.call();
+                    if (flush) {
+                        likeFlusher.flush();
+                    }
+                    return response;
+                }));
+            }
+            ready.await();
+            start.countDown();
+            List<ExhibitionLikeResponse> responses = new ArrayList<>();
+            for (Future<ExhibitionLikeResponse> future : futures) {
+                responses.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * 주기적으로 도는 반영이 잠금을 잡고 있을 수 있으므로 이 전시회의 항목이 버퍼에서 빠질 때까지 다시 시도한다.
+     */
+    private void flushPending() throws InterruptedException {
+        for (int i = 0; i < FLUSH_ATTEMPTS && hasPending(); i++) {
+            likeFlusher.flush();
+            Thread.sleep(100);
+        }
+        assertThat(hasPending()).isFalse();
+    }
+
+    private boolean hasPending() {
+        return likeWriteBuffer.getPendingLikes().stream()
+                .anyMatch(like -> like.getTarget() == EXHIBITION && like.getTargetId().equals(exhibition.getId()));
+    }
+}
@@ -2,6 +2,7 @@ package com.prgrms.artzip.exhibition.service;
 
 import com.prgrms.artzip.common.Authority;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
+import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.domain.ExhibitionLike;
 import com.prgrms.artzip.exhibition.domain.enumType.Area;
@@ -9,8 +10,12 @@ import com.prgrms.artzip.exhibition.domain.enumType.Genre;
 import com.prgrms.artzip.exhibition.dto.response.ExhibitionLikeResponse;
 import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,11 +26,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
 import static com.prgrms.artzip.common.ErrorCode.EXHB_NOT_FOUND;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +48,12 @@ class ExhibitionLikeServiceTest {
     @Mock
     private ExhibitionLikeRepository exhibitionLikeRepository;
 
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+
     @InjectMocks
     private ExhibitionLikeService exhibitionLikeService;
 
@@ -67,19 +83,14 @@ class ExhibitionLikeServiceTest {
     @Test
     @DisplayName("좋아요 추가시 전시회가 없는 경우 테스트")
     void testAddLikeExhibitionNotFound() {
-        when(exhibitionLikeRepository.findByUserIdAndExhibitionId(user.getId(), exhibitionId)).thenReturn(Optional.empty());
         when(exhibitionRepository.findById(exhibitionId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> exhibitionLikeService.updateExhibitionLike(user, exhibitionId))
+        assertThatThrownBy(() -> exhibitionLikeService.updateExhibitionLike(UserPrincipal.from(user), exhibitionId))
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage(EXHB_NOT_FOUND.getMessage());
 
-        verify(exhibitionLikeRepository).findByUserIdAndExhibitionId(user.getId(), exhibitionId);
         verify(exhibitionRepository).findById(exhibitionId);
-
-        verify(exhibitionLikeRepository, never()).delete(any());
-        verify(exhibitionLikeRepository, never()).save(any());
-        verify(exhibitionLikeRepository, never()).countByExhibitionId(exhibitionId);
+        verify(likeWriteBuffer, never()).toggle(any(), any(), any(), anyBoolean());
     }
 
     @Test
@@ -105,38 +116,33 @@ class ExhibitionLikeServiceTest {
                 .build();
         deletedExhibition.deleteExhibition();
 
-        when(exhibitionLikeRepository.findByUserIdAndExhibitionId(user.getId(), exhibitionId)).thenReturn(Optional.empty());
         when(exhibitionRepository.findById(exhibitionId)).thenReturn(Optional.of(deletedExhibition));
+        givenLikedInDb(Optional.empty());
 
-        assertThatThrownBy(() -> exhibitionLikeService.updateExhibitionLike(user, exhibitionId))
+        assertThatThrownBy(() -> exhibitionLikeService.updateExhibitionLike(UserPrincipal.from(user), exhibitionId))
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage(EXHB_NOT_FOUND.getMessage());
 
         verify(exhibitionLikeRepository).findByUserIdAndExhibitionId(user.getId(), exhibitionId);
-        verify(exhibitionRepository).findById(exhibitionId);
-
-        verify(exhibitionLikeRepository, never()).delete(any());
-        verify(exhibitionLikeRepository, never()).save(any());
-        verify(exhibitionLikeRepository, never()).countByExhibitionId(exhibitionId);
+        verify(likeWriteBuffer, never()).toggle(any(), any(), any(), anyBoolean());
     }
 
     @Test
     @DisplayName("좋아요 추가 테스트")
     void testAddLike() {
-        when(exhibitionLikeRepository.findByUserIdAndExhibitionId(user.getId(), exhibitionId)).thenReturn(Optional.empty());
         when(exhibitionRepository.findById(exhibitionId)).thenReturn(Optional.of(exhibition));
-        when(exhibitionLikeRepository.countByExhibitionId(exhibitionId)).thenReturn(100L);
+        givenLikedInDb(Optional.empty());
+        when(likeWriteBuffer.toggle(EXHIBITION, exhibitionId, user.getId(), false)).thenReturn(new LikeToggle(true, 1));
+        givenCounterSeededFromDb();
 
-        ExhibitionLikeResponse exhibitionLikeResponse = exhibitionLikeService.updateExhibitionLike(user, exhibitionId);
+        ExhibitionLikeResponse exhibitionLikeResponse = exhibitionLikeService.updateExhibitionLike(UserPrincipal.from(user), exhibitionId);
 
         assertThat(exhibitionLikeResponse.getIsLiked()).isTrue();
+        assertThat(exhibitionLikeResponse.getLikeCount()).isEqualTo(exhibition.getLikeCount() + 1);
 
         verify(exhibitionLikeRepository).findByUserIdAndExhibitionId(user.getId(), exhibitionId);
-        verify(exhibitionRepository).findById(exhibitionId);
-        verify(exhibitionLikeRepository).save(any());
-        verify(exhibitionLikeRepository).countByExhibitionId(exhibitionId);
-
-        verify(exhibitionLikeRepository, never()).delete(any());
+        verify(exhibitionLikeRepository, never()).save(any());
+        verify(exhibitionRepository, never()).updateLikeCount(any(), anyLong());
     }
 
     @Test
@@ -144,19 +150,75 @@ class ExhibitionLikeServiceTest {
     void testRemoveLike() {
         ExhibitionLike exhibitionLike = new ExhibitionLike(user, exhibition);
 
-        when(exhibitionLikeRepository.findByUserIdAndExhibitionId(user.getId(), exhibitionId)).thenReturn(Optional.of(exhibitionLike));
-        when(exhibitionLikeRepository.countByExhibitionId(exhibitionId)).thenReturn(100L);
+        when(exhibitionRepository.findById(exhibitionId)).thenReturn(Optional.of(exhibition));
+        givenLikedInDb(Optional.of(exhibitionLike));
+        when(likeWriteBuffer.toggle(EXHIBITION, exhibitionId, user.getId(), true)).thenReturn(new LikeToggle(false, -1));
+        givenCounterSeededFromDb();
 
-        ExhibitionLikeResponse exhibitionLikeResponse = exhibitionLikeService.updateExhibitionLike(user, exhibitionId);
+        ExhibitionLikeResponse exhibitionLikeResponse = exhibitionLikeService.updateExhibitionLike(UserPrincipal.from(user), exhibitionId);
 
-        verify(exhibitionLikeRepository).findByUserIdAndExhibitionId(user.getId(), exhibitionId);
-        verify(exhibitionLikeRepository).delete(exhibitionLike);
-        verify(exhibitionLikeRepository).countByExhibitionId(exhibitionId);
+        assertThat(exhibitionLikeResponse.getIsLiked()).isFalse();
+        assertThat(exhibitionLikeResponse.getLikeCount()).isEqualTo(exhibition.getLikeCount() - 1);
 
-        verify(exhibitionRepository, never()).findById(exhibitionId);
-        verify(exhibitionLikeRepository, never()).save(any());
+        verify(exhibitionLikeRepository, never()).delete(any());
+        verify(exhibitionRepository, never()).updateLikeCount(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("삭제된 전시회라도 좋아요 취소는 가능한지 테스트")
+    void testRemoveLikeDeletedExhibition() {
+        exhibition.deleteExhibition();
+
+        when(exhibitionRepository.findById(exhibitionId)).thenReturn(Optional.of(exhibition));
+        when(likeWriteBuffer.isLiked(eq(EXHIBITION), eq(exhibitionId), eq(user.getId()), any())).thenReturn(true);
+        when(likeWriteBuffer.toggle(EXHIBITION, exhibitionId, user.getId(), true)).thenReturn(new LikeToggle(false, 0));
+
+        ExhibitionLikeResponse exhibitionLikeResponse = exhibitionLikeService.updateExhibitionLike(UserPrincipal.from(user), exhibitionId);
+
+        assertThat(exhibitionLikeResponse.getIsLiked()).isFalse();
+        verify(exhibitionLikeRepository, never()).findByUserIdAndExhibitionId(any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 시 전시회 엔티티와 기존 좋아요를 조회하지 않는지 테스트")
+    void testSetLike() {
+        when(likeWriteBuffer.set(EXHIBITION, exhibitionId, user.getId(), true))
+                .thenReturn(new LikeToggle(true, 1, true));
+        when(exhibitionRepository.findActiveLikeCountById(exhibitionId)).thenReturn(Optional.of(exhibition.getLikeCount()));
+        givenCounterSeededFromDb();
+
+        ExhibitionLikeResponse exhibitionLikeResponse = exhibitionLikeService.setExhibitionLike(UserPrincipal.from(user), exhibitionId, true);
+
+        assertThat(exhibitionLikeResponse.getIsLiked()).isTrue();
+        assertThat(exhibitionLikeResponse.getLikeCount()).isEqualTo(exhibition.getLikeCount() + 1);
+        verify(exhibitionRepository, never()).findById(any());
+        verifyNoInteractions(exhibitionLikeRepository);
+        verify(likeWriteBuffer, never()).toggle(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("이미 해제된 좋아요를 다시 해제해도 그대로인지 테스트")
+    void testUnsetLikeUnchanged() {
+        when(likeWriteBuffer.set(EXHIBITION, exhibitionId, user.getId(), false))
+                .thenReturn(new LikeToggle(false, 0, false));
+        when(exhibitionRepository.findActiveLikeCountById(exhibitionId)).thenReturn(Optional.of(exhibition.getLikeCount()));
+        givenCounterSeededFromDb();
+
+        ExhibitionLikeResponse exhibitionLikeResponse = exhibitionLikeService.setExhibitionLike(UserPrincipal.from(user), exhibitionId, false);
 
         assertThat(exhibitionLikeResponse.getIsLiked()).isFalse();
+        assertThat(exhibitionLikeResponse.getLikeCount()).isEqualTo(exhibition.getLikeCount());
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 전시회에 좋아요를 등록하면 버퍼에 기록하지 않고 예외가 발생하는지 테스트")
+    void testSetLikeExhibitionNotFound() {
+        when(exhibitionRepository.findActiveLikeCountById(exhibitionId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> exhibitionLikeService.setExhibitionLike(UserPrincipal.from(user), exhibitionId, true))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(EXHB_NOT_FOUND.getMessage());
+        verifyNoInteractions(likeWriteBuffer, likeCounterRegistry);
     }
 
     @Test
@@ -172,4 +234,16 @@ class ExhibitionLikeServiceTest {
         assertThat(exhibitionLikeCount).isEqualTo(3L);
         verify(exhibitionLikeRepository).countByUserId(1L);
     }
-}
\ No newline at end of file
+
+    private void givenCounterSeededFromDb() {
+        when(likeCounterRegistry.applyToggle(eq(EXHIBITION), eq(exhibitionId), any(), any()))
+                .thenAnswer(invocation -> invocation.<LongSupplier>getArgument(3).getAsLong()
+                        + invocation.<LikeToggle>getArgument(2).getPendingCountDelta());
+    }
+
+    private void givenLikedInDb(Optional<ExhibitionLike> exhibitionLike) {
+        when(exhibitionLikeRepository.findByUserIdAndExhibitionId(user.getId(), exhibitionId)).thenReturn(exhibitionLike);
+        when(likeWriteBuffer.isLiked(eq(EXHIBITION), eq(exhibitionId), eq(user.getId()), any()))
+                .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(3).getAsBoolean());
+    }
+}
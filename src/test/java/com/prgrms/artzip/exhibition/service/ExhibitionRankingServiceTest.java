@@ -0,0 +1,120 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionRankingForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.prgrms.artzip.exhibition.service.ExhibitionRankingService.RANKING_LAG_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExhibitionRankingService 테스트")
+class ExhibitionRankingServiceTest {
+
+    private static final String ALL_RANKING_KEY = "ExhibitionRanking_MostLike_All";
+    private static final String ONGOING_RANKING_KEY = "ExhibitionRanking_MostLike_Ongoing";
+    private static final String REBUILT_AT_KEY = "ExhibitionRanking_RebuiltAt";
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ExhibitionRepository exhibitionRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExhibitionRankingService exhibitionRankingService;
+
+    @BeforeEach
+    void setUp() {
+        exhibitionRankingService = new ExhibitionRankingService(redisService, exhibitionRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("랭킹이 구성되지 않은 경우 빈 결과 반환 테스트")
+    void testGetMostLikeExhibitionIdsWithoutRanking() {
+        when(redisService.hasKey(REBUILT_AT_KEY)).thenReturn(false);
+
+        Optional<Page<Long>> exhibitionIds = exhibitionRankingService.getMostLikeExhibitionIds(true, PageRequest.of(0, 8));
+
+        assertThat(exhibitionIds).isEmpty();
+        verify(redisService, never()).reverseRangeOfSortedSet(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 빈 결과 반환 테스트")
+    void testGetMostLikeExhibitionIdsWithRedisFailure() {
+        when(redisService.hasKey(REBUILT_AT_KEY)).thenThrow(new QueryTimeoutException("timeout"));
+
+        Optional<Page<Long>> exhibitionIds = exhibitionRankingService.getMostLikeExhibitionIds(true, PageRequest.of(0, 8));
+
+        assertThat(exhibitionIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("랭킹 페이지 조회 테스트")
+    void testGetMostLikeExhibitionIds() {
+        when(redisService.hasKey(REBUILT_AT_KEY)).thenReturn(true);
+        when(redisService.getSortedSetSize(ONGOING_RANKING_KEY)).thenReturn(10L);
+        when(redisService.reverseRangeOfSortedSet(ONGOING_RANKING_KEY, 2, 3))
+                .thenReturn(new LinkedHashSet<>(List.of("7", "3")));
+
+        Optional<Page<Long>> exhibitionIds = exhibitionRankingService.getMostLikeExhibitionIds(false, PageRequest.of(1, 2));
+
+        assertThat(exhibitionIds).isPresent();
+        assertThat(exhibitionIds.get().getContent()).containsExactly(7L, 3L);
+        assertThat(exhibitionIds.get().getTotalElements()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("좋아요 변경 시 랭킹 점수 반영 테스트")
+    void testOnExhibitionLikeChanged() {
+        exhibitionRankingService.onExhibitionLikeChanged(new ExhibitionLikeChangedEvent(5L, 1L, false));
+
+        verify(redisService).incrementScoreIfPresent(List.of(ALL_RANKING_KEY, ONGOING_RANKING_KEY), "5", -1);
+    }
+
+    @Test
+    @DisplayName("랭킹 지연 확인 결과를 gauge 로 남기고 지연되었으면 재구성하는지 테스트")
+    void testRepairIfLagging() {
+        ExhibitionRankingForSimpleQuery ranked = rankingProjection(1L, 5L);
+        ExhibitionRankingForSimpleQuery missing = rankingProjection(2L, 3L);
+        when(exhibitionRepository.findExhibitionsForRanking()).thenReturn(List.of(ranked, missing));
+        when(redisService.rangeWithScoresOfSortedSet(ALL_RANKING_KEY))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("1", 2.999999999)));
+
+        exhibitionRankingService.repairIfLagging();
+
+        assertThat(meterRegistry.get(RANKING_LAG_METRIC).tag("type", "missing").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(RANKING_LAG_METRIC).tag("type", "mismatched").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(RANKING_LAG_METRIC).tag("type", "max-like-count-diff").gauge().value()).isEqualTo(3);
+        verify(redisService).replaceSortedSet(eq(ALL_RANKING_KEY), any());
+    }
+
+    private ExhibitionRankingForSimpleQuery rankingProjection(Long id, long likeCount) {
+        ExhibitionRankingForSimpleQuery projection = mock(ExhibitionRankingForSimpleQuery.class);
+        when(projection.getId()).thenReturn(id);
+        when(projection.getLikeCount()).thenReturn(likeCount);
+        when(projection.getEndDate()).thenReturn(LocalDate.now());
+        return projection;
+    }
+}
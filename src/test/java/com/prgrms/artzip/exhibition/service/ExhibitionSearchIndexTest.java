@@ -0,0 +1,100 @@
+package com.prgrms.artzip.exhibition.service;
+
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
+import com.prgrms.artzip.exhibition.event.ExhibitionChangedEvent;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExhibitionSearchIndex 테스트")
+class ExhibitionSearchIndexTest {
+
+    @Mock
+    private ExhibitionRepository exhibitionRepository;
+
+    @InjectMocks
+    private ExhibitionSearchIndex exhibitionSearchIndex;
+
+    private static ExhibitionSearchForSimpleQuery exhibition(Long id, String name, String place, String address, LocalDate endDate) {
+        return ExhibitionSearchForSimpleQuery.builder()
+                .id(id)
+                .name(name)
+                .place(place)
+                .address(address)
+                .startDate(LocalDate.now().minusDays(10))
+                .endDate(endDate)
+                .build();
+    }
+
+    private void rebuild() {
+        LocalDate ongoing = LocalDate.now().plusDays(3);
+        when(exhibitionRepository.findExhibitionsForSearchIndex()).thenReturn(List.of(
+                exhibition(4L, "고흐 특별전", "미술관", "부산 동구 중앙대로 11", ongoing),
+                exhibition(2L, "Van Gogh 전시회", "예술의전당", "서울 서초구 남부순환로 2406", ongoing),
+                exhibition(3L, "전시 회고전: 시회", "미술관", "경기도 성남시", ongoing),
+                exhibition(1L, "전시회 at 부산", "미술관", "부산 해운대구", LocalDate.now().minusDays(1))));
+        exhibitionSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("인덱스가 구성되기 전에는 빈 결과 반환 테스트")
+    void testSearchBeforeRebuild() {
+        assertThat(exhibitionSearchIndex.search("고흐", exhibition -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름, 장소, 주소에 검색어를 포함하는 전시회를 id 순으로 반환하는 테스트")
+    void testSearch() {
+        rebuild();
+
+        assertThat(exhibitionSearchIndex.search("부산", exhibition -> true).orElseThrow())
+                .extracting("id").containsExactly(1L, 4L);
+        assertThat(exhibitionSearchIndex.search("gogh", exhibition -> true).orElseThrow())
+                .extracting("id").containsExactly(2L);
+        assertThat(exhibitionSearchIndex.search("흐", exhibition -> true).orElseThrow())
+                .extracting("id").containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("gram은 모두 포함하지만 검색어 자체는 포함하지 않는 전시회는 제외하는 테스트")
+    void testSearchVerifiesCandidates() {
+        rebuild();
+
+        assertThat(exhibitionSearchIndex.search("전시회", exhibition -> true).orElseThrow())
+                .extracting("id").containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("추가 조건으로 종료된 전시회를 제외하는 테스트")
+    void testSearchWithFilter() {
+        rebuild();
+
+        assertThat(exhibitionSearchIndex.search("전시회",
+                exhibition -> !exhibition.getEndDate().isBefore(LocalDate.now())).orElseThrow())
+                .extracting("id").containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("전시회 변경 이벤트로 인덱스가 갱신되는 테스트")
+    void testOnExhibitionChanged() {
+        rebuild();
+        when(exhibitionRepository.findById(4L)).thenReturn(Optional.empty());
+
+        exhibitionSearchIndex.onExhibitionChanged(new ExhibitionChangedEvent(4L));
+
+        assertThat(exhibitionSearchIndex.search("고흐", exhibition -> true).orElseThrow()).isEmpty();
+        assertThat(exhibitionSearchIndex.size()).isEqualTo(3);
+    }
+}
@@ -6,10 +6,19 @@ import com.prgrms.artzip.exhibition.domain.enumType.Genre;
 import com.prgrms.artzip.exhibition.domain.enumType.Month;
 import com.prgrms.artzip.exhibition.domain.vo.Period;
 import com.prgrms.artzip.exhibition.dto.ExhibitionCustomCondition;
+import com.prgrms.artzip.exhibition.dto.ExhibitionFacetSearchResult;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionBasicForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.projection.ExhibitionSearchForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.request.ExhibitionCustomConditionRequest;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionBasicInfoResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionCustomPageResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionFacetsResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
+import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,6 +28,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -29,11 +39,16 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static com.prgrms.artzip.common.ErrorCode.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -43,6 +58,27 @@ class ExhibitionSearchServiceTest {
     @Mock
     private ExhibitionRepository exhibitionRepository;
 
+    @Mock
+    private ExhibitionLikeRepository exhibitionLikeRepository;
+
+    @Spy
+    private ExhibitionCardCache exhibitionCardCache;
+
+    @Mock
+    private ExhibitionSearchIndex exhibitionSearchIndex;
+
+    @Mock
+    private ExhibitionAutocompleteIndex exhibitionAutocompleteIndex;
+
+    @Mock
+    private ExhibitionFacetIndex exhibitionFacetIndex;
+
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
     @InjectMocks
     private ExhibitionSearchService exhibitionSearchService;
 
@@ -58,7 +94,7 @@ class ExhibitionSearchServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessage(INVALID_EXHB_QUERY.getMessage());
 
-            verify(exhibitionRepository, never()).findExhibitionsByQuery(null, query, true, PageRequest.of(0, 10));
+            verify(exhibitionRepository, never()).findExhibitionsByQuery(query, true, PageRequest.of(0, 10));
         }
 
         @Test
@@ -75,11 +111,40 @@ class ExhibitionSearchServiceTest {
                     .reviewCount(15)
                     .build()));
 
-            when(exhibitionRepository.findExhibitionsByQuery(null, "고흐", true, pageRequest)).thenReturn(exhibitionsPagingResult);
+            when(exhibitionRepository.findExhibitionsByQuery("고흐", true, pageRequest)).thenReturn(exhibitionsPagingResult);
 
             exhibitionSearchService.getExhibitionsByQuery(null, "고흐", true, pageRequest);
 
-            verify(exhibitionRepository).findExhibitionsByQuery(null, "고흐", true, pageRequest);
+            verify(exhibitionRepository).findExhibitionsByQuery("고흐", true, pageRequest);
+        }
+
+        @Test
+        @DisplayName("검색 인덱스로 검색한 경우 테스트")
+        void testQueryFromSearchIndex() {
+            PageRequest pageRequest = PageRequest.of(1, 1);
+            List<ExhibitionSearchForSimpleQuery> indexed = List.of(
+                    ExhibitionSearchForSimpleQuery.builder().id(3L).name("고흐 전시 1").build(),
+                    ExhibitionSearchForSimpleQuery.builder().id(7L).name("고흐 전시 2").build(),
+                    ExhibitionSearchForSimpleQuery.builder().id(9L).name("고흐 전시 3").build());
+            ExhibitionForSimpleQuery exhibition = ExhibitionForSimpleQuery.builder()
+                    .id(7L)
+                    .name("고흐 전시 2")
+                    .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022071411402126915.png")
+                    .isLiked(false)
+                    .period(new Period(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10)))
+                    .likeCount(30)
+                    .reviewCount(15)
+                    .build();
+
+            when(exhibitionSearchIndex.search(eq("고흐"), any())).thenReturn(Optional.of(indexed));
+            when(exhibitionRepository.findExhibitionsByIds(List.of(7L))).thenReturn(List.of(exhibition));
+
+            Page<ExhibitionInfoResponse> response = exhibitionSearchService.getExhibitionsByQuery(null, "고흐", true, pageRequest);
+
+            assertThat(response.getTotalElements()).isEqualTo(3);
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getContent().get(0).getExhibitionId()).isEqualTo(7L);
+            verify(exhibitionRepository, never()).findExhibitionsByQuery(anyString(), anyBoolean(), any());
         }
 
         private static Stream<Arguments> queryParameter() {
@@ -123,6 +188,24 @@ class ExhibitionSearchServiceTest {
             verify(exhibitionRepository).findExhibitionsForReview("고흐");
         }
 
+        @Test
+        @DisplayName("자동완성 인덱스로 검색한 경우 테스트")
+        void testQueryFromAutocompleteIndex() {
+            List<ExhibitionSearchForSimpleQuery> completed = List.of(ExhibitionSearchForSimpleQuery.builder()
+                    .id(11L)
+                    .name("고흐 전시")
+                    .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022071411402126915.png")
+                    .build());
+
+            when(exhibitionAutocompleteIndex.complete("고흐", 30)).thenReturn(Optional.of(completed));
+
+            List<ExhibitionBasicInfoResponse> response = exhibitionSearchService.getExhibitionsForReview("고흐");
+
+            assertThat(response).hasSize(1);
+            assertThat(response.get(0).getExhibitionId()).isEqualTo(11L);
+            verify(exhibitionRepository, never()).findExhibitionsForReview(anyString());
+        }
+
         private static Stream<Arguments> queryParameter() {
             return Stream.of(null, Arguments.of(""), Arguments.of("    "));
         }
@@ -160,7 +243,7 @@ class ExhibitionSearchServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessage(INVALID_INPUT_VALUE.getMessage());
 
-            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -176,7 +259,7 @@ class ExhibitionSearchServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessage(INVALID_INPUT_VALUE.getMessage());
 
-            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -192,7 +275,7 @@ class ExhibitionSearchServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessage(INVALID_INPUT_VALUE.getMessage());
 
-            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -208,7 +291,7 @@ class ExhibitionSearchServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessage(INVALID_CUSTOM_EXHB_CONDITION.getMessage());
 
-            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -224,7 +307,7 @@ class ExhibitionSearchServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessage(INVALID_CUSTOM_EXHB_CONDITION.getMessage());
 
-            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -240,7 +323,7 @@ class ExhibitionSearchServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessage(INVALID_CUSTOM_EXHB_CONDITION.getMessage());
 
-            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -252,11 +335,11 @@ class ExhibitionSearchServiceTest {
                     .genres(Arrays.asList(Genre.INSTALLATION))
                     .build();
 
-            when(exhibitionRepository.findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable))).thenReturn(exhibitionsPagingResult);
+            when(exhibitionRepository.findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable))).thenReturn(exhibitionsPagingResult);
 
             exhibitionSearchService.getExhibitionsByCustomCondition(userId, exhibitionCustomConditionRequest, includeEnd, pageable);
 
-            verify(exhibitionRepository).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -268,11 +351,11 @@ class ExhibitionSearchServiceTest {
                     .genres(Arrays.asList(Genre.INSTALLATION))
                     .build();
 
-            when(exhibitionRepository.findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable))).thenReturn(exhibitionsPagingResult);
+            when(exhibitionRepository.findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable))).thenReturn(exhibitionsPagingResult);
 
             exhibitionSearchService.getExhibitionsByCustomCondition(userId, exhibitionCustomConditionRequest, includeEnd, pageable);
 
-            verify(exhibitionRepository).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
 
         @Test
@@ -284,11 +367,37 @@ class ExhibitionSearchServiceTest {
                     .genres(Arrays.asList(Genre.ALL))
                     .build();
 
-            when(exhibitionRepository.findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable))).thenReturn(exhibitionsPagingResult);
+            when(exhibitionRepository.findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable))).thenReturn(exhibitionsPagingResult);
 
             exhibitionSearchService.getExhibitionsByCustomCondition(userId, exhibitionCustomConditionRequest, includeEnd, pageable);
 
-            verify(exhibitionRepository).findExhibitionsByCustomCondition(eq(userId), any(ExhibitionCustomCondition.class), eq(pageable));
+            verify(exhibitionRepository).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
+        }
+
+        @Test
+        @DisplayName("맞춤 조건 인덱스로 조회한 경우 테스트")
+        void testCustomConditionFromFacetIndex() {
+            ExhibitionCustomConditionRequest exhibitionCustomConditionRequest = ExhibitionCustomConditionRequest.builder()
+                    .areas(Arrays.asList(Area.SEOUL))
+                    .months(Arrays.asList(Month.JUN))
+                    .genres(Arrays.asList(Genre.ALL))
+                    .build();
+            ExhibitionFacetsResponse facets = ExhibitionFacetsResponse.builder()
+                    .areas(Map.of(Area.SEOUL, 1L))
+                    .months(Map.of(Month.JUN, 1L))
+                    .genres(Map.of(Genre.INSTALLATION, 1L))
+                    .build();
+
+            when(exhibitionFacetIndex.search(any(ExhibitionCustomCondition.class), eq(0L), eq(8)))
+                    .thenReturn(Optional.of(new ExhibitionFacetSearchResult(List.of(11L), 1, facets)));
+            when(exhibitionRepository.findExhibitionsByIds(List.of(11L))).thenReturn(exhibitionsPagingResult.getContent());
+
+            ExhibitionCustomPageResponse response = exhibitionSearchService.getExhibitionsByCustomCondition(userId, exhibitionCustomConditionRequest, includeEnd, pageable);
+
+            assertThat(response.getTotalElements()).isEqualTo(1);
+            assertThat(response.getContent()).extracting("exhibitionId").containsExactly(11L);
+            assertThat(response.getFacets()).isEqualTo(facets);
+            verify(exhibitionRepository, never()).findExhibitionsByCustomCondition(any(ExhibitionCustomCondition.class), eq(pageable));
         }
     }
-}
\ No newline at end of file
+}
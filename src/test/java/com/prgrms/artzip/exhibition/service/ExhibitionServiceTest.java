@@ -7,10 +7,18 @@ import com.prgrms.artzip.exhibition.domain.enumType.Area;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
 import com.prgrms.artzip.exhibition.domain.vo.Location;
 import com.prgrms.artzip.exhibition.domain.vo.Period;
+import com.prgrms.artzip.exhibition.dto.ExhibitionDetailSnapshot;
+import com.prgrms.artzip.exhibition.dto.ExhibitionDistance;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionDetailForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionForSimpleQuery;
 import com.prgrms.artzip.exhibition.dto.projection.ExhibitionWithLocationForSimpleQuery;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionAroundMeInfoResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionInfoResponse;
+import com.prgrms.artzip.exhibition.dto.response.ExhibitionDetailInfoResponse;
+import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.ReviewPhoto;
 import com.prgrms.artzip.review.dto.response.ReviewPhotoInfo;
@@ -25,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,12 +42,20 @@ import org.springframework.data.domain.PageRequest;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.prgrms.artzip.common.ErrorCode.*;
 import static com.prgrms.artzip.exhibition.domain.enumType.Area.GYEONGGI;
 import static com.prgrms.artzip.exhibition.domain.enumType.Area.SEOUL;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,9 +65,33 @@ class ExhibitionServiceTest {
     @Mock
     private ExhibitionRepository exhibitionRepository;
 
+    @Mock
+    private ExhibitionLikeRepository exhibitionLikeRepository;
+
+    @Spy
+    private ExhibitionCardCache exhibitionCardCache;
+
+    @Mock
+    private ExhibitionDetailCache exhibitionDetailCache;
+
     @Mock
     private ReviewService reviewService;
 
+    @Mock
+    private ExhibitionRankingService exhibitionRankingService;
+
+    @Mock
+    private ExhibitionGeoIndex exhibitionGeoIndex;
+
+    @Mock
+    private ExhibitionClusterIndex exhibitionClusterIndex;
+
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
     @InjectMocks
     private ExhibitionService exhibitionService;
 
@@ -71,13 +112,49 @@ class ExhibitionServiceTest {
                 .build()));
 
         // given
-        when(exhibitionRepository.findUpcomingExhibitions(null, pageRequest)).thenReturn(exhibitionsPagingResult);
+        when(exhibitionRepository.findUpcomingExhibitions(pageRequest)).thenReturn(exhibitionsPagingResult);
 
         // when
         exhibitionService.getUpcomingExhibitions(null, pageRequest);
 
         // then
-        verify(exhibitionRepository).findUpcomingExhibitions(null, pageRequest);
+        verify(exhibitionRepository).findUpcomingExhibitions(pageRequest);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 카운터가 있는 전시회는 카운터 값으로 응답하는지 테스트")
+    void testGetUpcomingExhibitionsWithLikeCounter() {
+        pageRequest = PageRequest.of(0, 2);
+        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = new PageImpl(List.of(
+                ExhibitionForSimpleQuery.builder()
+                        .id(11L)
+                        .name("요리조리 MOKA Garden")
+                        .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022071411402126915.png")
+                        .isLiked(false)
+                        .period(new Period(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10)))
+                        .likeCount(30)
+                        .reviewCount(15)
+                        .build(),
+                ExhibitionForSimpleQuery.builder()
+                        .id(12L)
+                        .name("Lee Eunsae: Just Like the Moon")
+                        .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022072010193392447.jpg")
+                        .isLiked(false)
+                        .period(new Period(LocalDate.now().plusDays(2), LocalDate.now().plusDays(20)))
+                        .likeCount(7)
+                        .reviewCount(3)
+                        .build()));
+
+        // given
+        when(exhibitionRepository.findUpcomingExhibitions(pageRequest)).thenReturn(exhibitionsPagingResult);
+        when(likeCounterRegistry.find(EXHIBITION, 11L)).thenReturn(OptionalLong.of(35L));
+        when(likeCounterRegistry.find(EXHIBITION, 12L)).thenReturn(OptionalLong.empty());
+
+        // when
+        Page<ExhibitionInfoResponse> response = exhibitionService.getUpcomingExhibitions(null, pageRequest);
+
+        // then
+        assertThat(response.getContent()).extracting("likeCount").containsExactly(35L, 7L);
     }
 
     @Test
@@ -95,13 +172,82 @@ class ExhibitionServiceTest {
                 .build()));
 
         // given
-        when(exhibitionRepository.findMostLikeExhibitions(null, true, pageRequest)).thenReturn(exhibitionsPagingResult);
+        when(exhibitionRepository.findMostLikeExhibitions(true, pageRequest)).thenReturn(exhibitionsPagingResult);
 
         // when
         exhibitionService.getMostLikeExhibitions(null, true, pageRequest);
 
         // then
-        verify(exhibitionRepository).findMostLikeExhibitions(null, true, pageRequest);
+        verify(exhibitionRepository).findMostLikeExhibitions(true, pageRequest);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 전시회 카드 목록은 캐시에서 재사용하고 좋아요 여부는 사용자별로 덧씌우는지 테스트")
+    void testGetUpcomingExhibitionsFromCardCache() {
+        pageRequest = PageRequest.of(0, 1);
+        Page<ExhibitionForSimpleQuery> exhibitionsPagingResult = new PageImpl(List.of(ExhibitionForSimpleQuery.builder()
+                .id(11L)
+                .name("요리조리 MOKA Garden")
+                .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022071411402126915.png")
+                .period(new Period(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10)))
+                .likeCount(30)
+                .reviewCount(15)
+                .build()));
+
+        // given
+        when(exhibitionRepository.findUpcomingExhibitions(pageRequest)).thenReturn(exhibitionsPagingResult);
+        when(exhibitionLikeRepository.findLikedExhibitionIds(null, List.of(11L))).thenReturn(Set.of());
+        when(exhibitionLikeRepository.findLikedExhibitionIds(1L, List.of(11L))).thenReturn(Set.of(11L));
+
+        // when
+        Page<ExhibitionInfoResponse> anonymous = exhibitionService.getUpcomingExhibitions(null, pageRequest);
+        Page<ExhibitionInfoResponse> loggedIn = exhibitionService.getUpcomingExhibitions(1L, pageRequest);
+
+        // then
+        assertThat(anonymous.getContent().get(0).getIsLiked()).isFalse();
+        assertThat(loggedIn.getContent().get(0).getIsLiked()).isTrue();
+        verify(exhibitionRepository, times(1)).findUpcomingExhibitions(pageRequest);
+    }
+
+    @Test
+    @DisplayName("랭킹을 이용한 인기 많은 전시회 조회 테스트")
+    void testGetMostLikeExhibitionsFromRanking() {
+        pageRequest = PageRequest.of(0, 2);
+        ExhibitionForSimpleQuery exhibition1 = ExhibitionForSimpleQuery.builder()
+                .id(11L)
+                .name("요리조리 MOKA Garden")
+                .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022071411402126915.png")
+                .isLiked(false)
+                .period(new Period(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10)))
+                .likeCount(10)
+                .reviewCount(15)
+                .build();
+        ExhibitionForSimpleQuery exhibition2 = ExhibitionForSimpleQuery.builder()
+                .id(12L)
+                .name("전시회 제목")
+                .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022071411402126915.png")
+                .isLiked(true)
+                .period(new Period(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10)))
+                .likeCount(30)
+                .reviewCount(3)
+                .build();
+
+        // given
+        when(exhibitionRankingService.getMostLikeExhibitionIds(false, pageRequest))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(12L, 11L), pageRequest, 5)));
+        when(exhibitionRepository.findExhibitionsByIds(List.of(12L, 11L))).thenReturn(List.of(exhibition1, exhibition2));
+        when(exhibitionLikeRepository.findLikedExhibitionIds(1L, List.of(12L, 11L))).thenReturn(Set.of(12L));
+        when(likeCounterRegistry.find(EXHIBITION, 12L)).thenReturn(OptionalLong.of(31L));
+
+        // when
+        Page<ExhibitionInfoResponse> response = exhibitionService.getMostLikeExhibitions(1L, false, pageRequest);
+
+        // then
+        assertThat(response.getTotalElements()).isEqualTo(5);
+        assertThat(response.getContent()).extracting("exhibitionId").containsExactly(12L, 11L);
+        assertThat(response.getContent()).extracting("isLiked").containsExactly(true, false);
+        assertThat(response.getContent()).extracting("likeCount").containsExactly(31L, 10L);
+        verify(exhibitionRepository, never()).findMostLikeExhibitions(anyBoolean(), any());
     }
 
     @Nested
@@ -149,7 +295,6 @@ class ExhibitionServiceTest {
                 .thumbnail("http://www.culture.go.kr/upload/rdf/21/11/show_20211181717993881.jpg")
                 .url("http://soma.kspo.or.kr")
                 .placeUrl("http://galleryraon.com")
-                .isLiked(true)
                 .likeCount(10)
                 .reviewCount(7)
                 .build();
@@ -170,7 +315,6 @@ class ExhibitionServiceTest {
                 .inquiry("010-0000-0000")
                 .fee("1,000원")
                 .thumbnail("http://www.culture.go.kr/upload/rdf/21/11/show_20211181717993881.jpg")
-                .isLiked(false)
                 .likeCount(5)
                 .reviewCount(5)
                 .build();
@@ -196,7 +340,8 @@ class ExhibitionServiceTest {
         @Test
         @DisplayName("존재하지 않는 게시물인 경우")
         void testExhibitionNotFound() {
-            when(exhibitionRepository.findExhibition(null, exhibitionId)).thenReturn(Optional.empty());
+            givenDetailCacheMiss();
+            when(exhibitionRepository.findExhibition(exhibitionId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> exhibitionService.getExhibition(null, exhibitionId))
                     .isInstanceOf(InvalidRequestException.class)
@@ -208,26 +353,96 @@ class ExhibitionServiceTest {
         @Test
         @DisplayName("인증된 사용자이며 좋아요를 누른 경우")
         void testAuthorizedLike() {
-            when(exhibitionRepository.findExhibition(userId, exhibitionId)).thenReturn(Optional.of(exhibitionDetail1));
-            when(reviewService.getReviewsForExhibition(userId, exhibitionId)).thenReturn(reviews);
+            givenDetailCacheMiss();
+            when(exhibitionRepository.findExhibition(exhibitionId)).thenReturn(Optional.of(exhibitionDetail1));
+            when(exhibitionLikeRepository.findLikedExhibitionIds(userId, List.of(exhibitionId))).thenReturn(Set.of(exhibitionId));
+            when(reviewService.getReviewsForExhibition(null, exhibitionId)).thenReturn(reviews);
+            when(reviewService.overlayIsLiked(userId, reviews)).thenReturn(reviews);
 
-            exhibitionService.getExhibition(userId, exhibitionId);
+            ExhibitionDetailInfoResponse response = exhibitionService.getExhibition(userId, exhibitionId);
 
-            verify(exhibitionRepository).findExhibition(userId, exhibitionId);
-            verify(reviewService).getReviewsForExhibition(userId, exhibitionId);
+            assertThat(response.getIsLiked()).isTrue();
+            assertThat(response.getReviews()).isEqualTo(reviews);
+            verify(exhibitionRepository).findExhibition(exhibitionId);
+            verify(reviewService).getReviewsForExhibition(null, exhibitionId);
         }
 
         @Test
         @DisplayName("인증된 사용자이며 좋아요를 누르지 않은 경우")
         void testAuthorizedNotLike() {
-            when(exhibitionRepository.findExhibition(null, exhibitionId)).thenReturn(Optional.of(exhibitionDetail2));
+            givenDetailCacheMiss();
+            when(exhibitionRepository.findExhibition(exhibitionId)).thenReturn(Optional.of(exhibitionDetail2));
             when(reviewService.getReviewsForExhibition(null, exhibitionId)).thenReturn(reviews);
+            when(reviewService.overlayIsLiked(null, reviews)).thenReturn(reviews);
 
-            exhibitionService.getExhibition(null, exhibitionId);
+            ExhibitionDetailInfoResponse response = exhibitionService.getExhibition(null, exhibitionId);
 
-            verify(exhibitionRepository).findExhibition(null, exhibitionId);
+            assertThat(response.getIsLiked()).isFalse();
+            verify(exhibitionRepository).findExhibition(exhibitionId);
             verify(reviewService).getReviewsForExhibition(null, exhibitionId);
         }
+
+        @Test
+        @DisplayName("아직 반영되지 않은 좋아요 취소가 있으면 DB의 좋아요 여부보다 우선함")
+        void testAuthorizedPendingUnlike() {
+            givenDetailCacheMiss();
+            when(exhibitionRepository.findExhibition(exhibitionId)).thenReturn(Optional.of(exhibitionDetail1));
+            when(exhibitionLikeRepository.findLikedExhibitionIds(userId, List.of(exhibitionId))).thenReturn(Set.of(exhibitionId));
+            when(likeWriteBuffer.getPendingStates(EXHIBITION, userId, List.of(exhibitionId))).thenReturn(Map.of(exhibitionId, false));
+            when(reviewService.getReviewsForExhibition(null, exhibitionId)).thenReturn(reviews);
+            when(reviewService.overlayIsLiked(userId, reviews)).thenReturn(reviews);
+
+            ExhibitionDetailInfoResponse response = exhibitionService.getExhibition(userId, exhibitionId);
+
+            assertThat(response.getIsLiked()).isFalse();
+        }
+
+        @Test
+        @DisplayName("전시회 상세 캐시에 있는 경우 DB를 조회하지 않음")
+        void testCachedExhibition() {
+            when(exhibitionDetailCache.get(eq(exhibitionId), any()))
+                    .thenReturn(Optional.of(new ExhibitionDetailSnapshot(exhibitionDetail1, reviews)));
+            when(reviewService.overlayIsLiked(userId, reviews)).thenReturn(reviews);
+
+            ExhibitionDetailInfoResponse response = exhibitionService.getExhibition(userId, exhibitionId);
+
+            assertThat(response.getName()).isEqualTo("전시회 제목");
+            verify(exhibitionRepository, never()).findExhibition(any());
+            verify(reviewService, never()).getReviewsForExhibition(any(), any());
+        }
+
+        @Test
+        @DisplayName("캐시된 좋아요 수 대신 좋아요 카운터 값을 덧씌움")
+        void testLikeCountFromCounter() {
+            when(exhibitionDetailCache.get(eq(exhibitionId), any()))
+                    .thenReturn(Optional.of(new ExhibitionDetailSnapshot(exhibitionDetail1, reviews)));
+            when(likeCounterRegistry.find(EXHIBITION, exhibitionId)).thenReturn(Optional.of(12L));
+            when(reviewService.overlayIsLiked(userId, reviews)).thenReturn(reviews);
+
+            ExhibitionDetailInfoResponse response = exhibitionService.getExhibition(userId, exhibitionId);
+
+            assertThat(response.getLikeCount()).isEqualTo(12L);
+            verify(exhibitionRepository, never()).findActiveLikeCountById(any());
+        }
+
+        @Test
+        @DisplayName("좋아요 카운터가 없으면 DB의 좋아요 수를 덧씌움")
+        void testLikeCountFromDb() {
+            when(exhibitionDetailCache.get(eq(exhibitionId), any()))
+                    .thenReturn(Optional.of(new ExhibitionDetailSnapshot(exhibitionDetail1, reviews)));
+            when(exhibitionRepository.findActiveLikeCountById(exhibitionId)).thenReturn(Optional.of(11L));
+            when(reviewService.overlayIsLiked(userId, reviews)).thenReturn(reviews);
+
+            ExhibitionDetailInfoResponse response = exhibitionService.getExhibition(userId, exhibitionId);
+
+            assertThat(response.getLikeCount()).isEqualTo(11L);
+        }
+
+        // 캐시 미스 : 전달받은 loader 로 DB 조회
+        private void givenDetailCacheMiss() {
+            when(exhibitionDetailCache.get(eq(exhibitionId), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<Optional<ExhibitionDetailSnapshot>>>getArgument(1).get());
+        }
     }
 
     @Test
@@ -249,14 +464,15 @@ class ExhibitionServiceTest {
                 .build()));
 
         // given
-        when(exhibitionRepository.findUserLikeExhibitions(userId, exhibitionLikeUserId, pageRequest))
+        when(exhibitionRepository.findUserLikeExhibitions(exhibitionLikeUserId, pageRequest))
                 .thenReturn(exhibitionsPagingResult);
 
         // when
         exhibitionService.getUserLikeExhibitions(userId, exhibitionLikeUserId, pageRequest);
 
         // then
-        verify(exhibitionRepository).findUserLikeExhibitions(userId, exhibitionLikeUserId, pageRequest);
+        verify(exhibitionRepository).findUserLikeExhibitions(exhibitionLikeUserId, pageRequest);
+        verify(exhibitionLikeRepository).findLikedExhibitionIds(userId, List.of(11L));
     }
 
 
@@ -311,18 +527,76 @@ class ExhibitionServiceTest {
                     .id(11L)
                     .name("요리조리 MOKA Garden")
                     .thumbnail("http://www.culture.go.kr/upload/rdf/22/07/show_2022071411402126915.png")
-                    .isLiked(true)
                     .period(new Period(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10)))
                     .likeCount(30)
                     .reviewCount(15)
                     .location(new Location(30.12, 128.12, SEOUL, "서울 어딘가 전시관", "서울특별시 마포구"))
                     .build());
 
-            when(exhibitionRepository.findExhibitionsAroundMe(null, 35.12, 128.12, 3)).thenReturn(exhibitions);
+            when(exhibitionRepository.findExhibitionsAroundMe(35.12, 128.12, 3)).thenReturn(exhibitions);
 
             exhibitionService.getExhibitionsAroundMe(null, 35.12, 128.12, 3);
 
-            verify(exhibitionRepository).findExhibitionsAroundMe(null, 35.12, 128.12, 3);
+            verify(exhibitionRepository).findExhibitionsAroundMe(35.12, 128.12, 3);
+        }
+
+        @Test
+        @DisplayName("위치 인덱스로 후보를 찾아 한 번에 조회하고 가까운 순으로 반환하는 테스트")
+        void testGetExhibitionsAroundMeFromGeoIndex() {
+            ExhibitionWithLocationForSimpleQuery near = ExhibitionWithLocationForSimpleQuery.builder()
+                    .id(11L)
+                    .name("가까운 전시회")
+                    .period(new Period(LocalDate.now().minusDays(1), LocalDate.now().plusDays(10)))
+                    .location(new Location(35.121, 128.12, SEOUL, "서울 어딘가 전시관", "서울특별시 마포구"))
+                    .build();
+            ExhibitionWithLocationForSimpleQuery far = ExhibitionWithLocationForSimpleQuery.builder()
+                    .id(12L)
+                    .name("먼 전시회")
+                    .period(new Period(LocalDate.now().minusDays(1), LocalDate.now().plusDays(10)))
+                    .location(new Location(35.13, 128.12, SEOUL, "서울 어딘가 전시관", "서울특별시 마포구"))
+                    .build();
+
+            when(exhibitionGeoIndex.findAround(35.12, 128.12, 3))
+                    .thenReturn(Optional.of(List.of(new ExhibitionDistance(11L, 0.111), new ExhibitionDistance(12L, 1.112))));
+            when(exhibitionRepository.findExhibitionsWithLocationByIds(List.of(11L, 12L))).thenReturn(List.of(far, near));
+
+            List<ExhibitionAroundMeInfoResponse> response = exhibitionService.getExhibitionsAroundMe(null, 35.12, 128.12, 3);
+
+            assertThat(response).extracting("exhibitionId").containsExactly(11L, 12L);
+            assertThat(response).extracting("distance").containsExactly(0.111, 1.112);
+            verify(exhibitionRepository, never()).findExhibitionsAroundMe(35.12, 128.12, 3);
+        }
+
+        @Test
+        @DisplayName("사용자와 무관하게 조회한 주변 전시회에 좋아요 여부와 좋아요 수를 덧씌우는 테스트")
+        void testGetExhibitionsAroundMeOverlayLikes() {
+            Long userId = 1L;
+            ExhibitionWithLocationForSimpleQuery liked = ExhibitionWithLocationForSimpleQuery.builder()
+                    .id(11L)
+                    .name("좋아요 누른 전시회")
+                    .period(new Period(LocalDate.now().minusDays(1), LocalDate.now().plusDays(10)))
+                    .likeCount(3)
+                    .location(new Location(35.121, 128.12, SEOUL, "서울 어딘가 전시관", "서울특별시 마포구"))
+                    .build();
+            ExhibitionWithLocationForSimpleQuery pendingUnliked = ExhibitionWithLocationForSimpleQuery.builder()
+                    .id(12L)
+                    .name("좋아요 취소가 반영되지 않은 전시회")
+                    .period(new Period(LocalDate.now().minusDays(1), LocalDate.now().plusDays(10)))
+                    .likeCount(5)
+                    .location(new Location(35.13, 128.12, SEOUL, "서울 어딘가 전시관", "서울특별시 마포구"))
+                    .build();
+
+            when(exhibitionGeoIndex.findAround(35.12, 128.12, 3))
+                    .thenReturn(Optional.of(List.of(new ExhibitionDistance(11L, 0.111), new ExhibitionDistance(12L, 1.112))));
+            when(exhibitionRepository.findExhibitionsWithLocationByIds(List.of(11L, 12L))).thenReturn(List.of(liked, pendingUnliked));
+            when(exhibitionLikeRepository.findLikedExhibitionIds(userId, List.of(11L, 12L))).thenReturn(Set.of(11L, 12L));
+            when(likeWriteBuffer.getPendingStates(EXHIBITION, userId, List.of(11L, 12L))).thenReturn(Map.of(12L, false));
+            when(likeCounterRegistry.find(EXHIBITION, 11L)).thenReturn(Optional.of(4L));
+
+            List<ExhibitionAroundMeInfoResponse> response = exhibitionService.getExhibitionsAroundMe(userId, 35.12, 128.12, 3);
+
+            assertThat(response).extracting("isLiked").containsExactly(true, false);
+            assertThat(response).extracting("likeCount").containsExactly(4L, 5L);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.prgrms.artzip.like.service;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.prgrms.artzip.like.domain.LikeTarget.COMMENT;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
+import static com.prgrms.artzip.like.domain.LikeTarget.REVIEW;
+import static com.prgrms.artzip.like.service.LikeCounterRegistry.DELTA_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeCounterRegistry 테스트")
+class LikeCounterRegistryTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private LikeCounterRegistry likeCounterRegistry;
+
+    private final AtomicInteger dbCountQueries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        likeCounterRegistry = new LikeCounterRegistry(redisService, redisMessageListenerContainer);
+    }
+
+    @Test
+    @DisplayName("증감 채널을 구독하는지 테스트")
+    void testSubscribe() {
+        likeCounterRegistry.subscribe();
+
+        verify(redisMessageListenerContainer).addMessageListener(likeCounterRegistry, new ChannelTopic(DELTA_CHANNEL));
+    }
+
+    @Test
+    @DisplayName("반영하면서 알게 된 증감을 채워진 카운터에 더하고 다른 서버에도 알리는지 테스트")
+    void testAdd() {
+        likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 0, false), () -> countInDb(10));
+
+        likeCounterRegistry.add(EXHIBITION, 1L, 1L);
+        likeCounterRegistry.add(EXHIBITION, 2L, -1L);
+        likeCounterRegistry.add(EXHIBITION, 3L, 0L);
+
+        assertThat(likeCounterRegistry.find(EXHIBITION, 1L)).hasValue(11L);
+        assertThat(likeCounterRegistry.find(EXHIBITION, 2L)).isEmpty();
+        verify(redisService).publish(eq(DELTA_CHANNEL), endsWith("|EXHIBITION:1|1"));
+        verify(redisService).publish(eq(DELTA_CHANNEL), endsWith("|EXHIBITION:2|-1"));
+        verifyNoMoreInteractions(redisService);
+    }
+
+    @Test
+    @DisplayName("처음 토글될 때만 DB에서 읽어 채우고, 이후에는 증감만 더하는지 테스트")
+    void testSeedOnce() {
+        long first = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 2), () -> countInDb(10));
+        long second = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 3), () -> countInDb(10));
+        long third = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(false, 2), () -> countInDb(10));
+
+        assertThat(first).isEqualTo(12L);
+        assertThat(second).isEqualTo(13L);
+        assertThat(third).isEqualTo(12L);
+        assertThat(dbCountQueries.get()).isEqualTo(1);
+        assertThat(likeCounterRegistry.find(EXHIBITION, 1L)).hasValue(12L);
+        verify(redisService, times(2)).publish(eq(DELTA_CHANNEL), endsWith("|EXHIBITION:1|1"));
+        verify(redisService).publish(eq(DELTA_CHANNEL), endsWith("|EXHIBITION:1|-1"));
+    }
+
+    @Test
+    @DisplayName("상태가 바뀌지 않은 설정/해제는 증감 없이 현재 값을 반환하고 발행하지 않는지 테스트")
+    void testUnchanged() {
+        long seeded = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 0, false), () -> countInDb(10));
+        long again = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 0, false), () -> countInDb(10));
+
+        assertThat(seeded).isEqualTo(10L);
+        assertThat(again).isEqualTo(10L);
+        assertThat(dbCountQueries.get()).isEqualTo(1);
+        verifyNoInteractions(redisService);
+    }
+
+    @Test
+    @DisplayName("대상 종류와 id 별로 카운터가 따로 있는지 테스트")
+    void testSeparateCounters() {
+        likeCounterRegistry.applyToggle(REVIEW, 1L, new LikeToggle(true, 1), () -> countInDb(3));
+        likeCounterRegistry.applyToggle(COMMENT, 1L, new LikeToggle(false, -1), () -> countInDb(1));
+
+        assertThat(likeCounterRegistry.find(REVIEW, 1L)).hasValue(4L);
+        assertThat(likeCounterRegistry.find(COMMENT, 1L)).hasValue(0L);
+        assertThat(likeCounterRegistry.find(REVIEW, 2L)).isEmpty();
+        assertThat(dbCountQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카운터를 채우는 동안 다른 요청이 먼저 채웠다면 그 카운터에 증감만 더하는지 테스트")
+    void testConcurrentSeed() {
+        long count = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> {
+            likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> countInDb(5));
+            return countInDb(5);
+        });
+
+        assertThat(count).isEqualTo(7L);
+        assertThat(likeCounterRegistry.find(EXHIBITION, 1L)).hasValue(7L);
+    }
+
+    @Test
+    @DisplayName("만료된 카운터는 다시 DB에서 읽어 채우는지 테스트")
+    void testExpiredCounter() {
+        likeCounterRegistry = new LikeCounterRegistry(redisService, redisMessageListenerContainer, 0, 10);
+
+        likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> countInDb(10));
+        long count = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> countInDb(20));
+
+        assertThat(count).isEqualTo(21L);
+        assertThat(dbCountQueries.get()).isEqualTo(2);
+        assertThat(likeCounterRegistry.find(EXHIBITION, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘어도 DB에서 읽은 값을 반환하고, 최대 개수만큼만 카운터를 남기는지 테스트")
+    void testMaxSize() {
+        likeCounterRegistry = new LikeCounterRegistry(redisService, redisMessageListenerContainer, 60_000, 1);
+
+        long first = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> countInDb(10));
+        long second = likeCounterRegistry.applyToggle(EXHIBITION, 2L, new LikeToggle(true, 1), () -> countInDb(4));
+
+        assertThat(first).isEqualTo(11L);
+        assertThat(second).isEqualTo(5L);
+        assertThat(likeCounterRegistry.size()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 증감을 발행하지 못해도 좋아요 수를 반환하는지 테스트")
+    void testPublishFailure() {
+        doThrow(new RedisConnectionFailureException("down")).when(redisService).publish(anyString(), anyString());
+
+        long count = likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> countInDb(10));
+
+        assertThat(count).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 발행한 증감은 채워진 카운터에만 더하고, 자신이 발행한 증감은 무시하는지 테스트")
+    void testOnMessage() {
+        likeCounterRegistry.applyToggle(EXHIBITION, 1L, new LikeToggle(true, 1), () -> countInDb(10));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisService).publish(eq(DELTA_CHANNEL), published.capture());
+
+        likeCounterRegistry.onMessage(message(published.getValue()), null);
+        likeCounterRegistry.onMessage(message("other-node|EXHIBITION:1|1"), null);
+        likeCounterRegistry.onMessage(message("other-node|EXHIBITION:1|-1"), null);
+        likeCounterRegistry.onMessage(message("other-node|EXHIBITION:1|1"), null);
+        likeCounterRegistry.onMessage(message("other-node|REVIEW:1|1"), null);
+        likeCounterRegistry.onMessage(message("other-node|EXHIBITION:1|not-a-number"), null);
+        likeCounterRegistry.onMessage(message("broken"), null);
+
+        assertThat(likeCounterRegistry.find(EXHIBITION, 1L)).hasValue(12L);
+        assertThat(likeCounterRegistry.find(REVIEW, 1L)).isEmpty();
+    }
+
+    private long countInDb(long count) {
+        dbCountQueries.incrementAndGet();
+        return count;
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(DELTA_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
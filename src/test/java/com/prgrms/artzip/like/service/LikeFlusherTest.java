@@ -0,0 +1,239 @@
+package com.prgrms.artzip.like.service;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.exhibition.event.ExhibitionLikeChangedEvent;
+import com.prgrms.artzip.like.domain.PendingLike;
+import com.prgrms.artzip.like.repository.LikeBatchRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import com.prgrms.artzip.review.event.ReviewChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.prgrms.artzip.like.domain.LikeTarget.COMMENT;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
+import static com.prgrms.artzip.like.domain.LikeTarget.REVIEW;
+import static com.prgrms.artzip.like.service.LikeFlusher.BATCH_SIZE;
+import static com.prgrms.artzip.like.service.LikeFlusher.FLUSH_LAG_METRIC;
+import static com.prgrms.artzip.like.service.LikeFlusher.LOCK_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeFlusher 테스트")
+class LikeFlusherTest {
+
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+
+    @Mock
+    private LikeBatchRepository likeBatchRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LikeFlusher likeFlusher;
+
+    @BeforeEach
+    void setUp() {
+        likeFlusher = new LikeFlusher(likeWriteBuffer, likeCounterRegistry, likeBatchRepository, reviewRepository,
+                redisService, eventPublisher, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 반영 중이면 아무것도 하지 않는지 테스트")
+    void testLockNotAcquired() {
+        when(redisService.setValuesIfAbsent(eq(LOCK_KEY), anyString(), any())).thenReturn(false);
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isZero();
+        verifyNoInteractions(likeWriteBuffer, likeBatchRepository);
+        verify(redisService, never()).deleteValuesIfEquals(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("실제로 추가/삭제된 전시회 좋아요만 모아 좋아요 수, 유저 통계를 합산하여 갱신하는지 테스트")
+    void testFlushExhibitionLikes() {
+        PendingLike added = new PendingLike(EXHIBITION, 1L, 10L, false, true, System.currentTimeMillis());
+        PendingLike removed = new PendingLike(EXHIBITION, 2L, 10L, true, false, System.currentTimeMillis());
+        PendingLike cancelled = new PendingLike(EXHIBITION, 3L, 11L, false, false, System.currentTimeMillis());
+        PendingLike alreadyApplied = new PendingLike(EXHIBITION, 1L, 12L, false, true, System.currentTimeMillis());
+        List<PendingLike> pendingLikes = List.of(added, removed, cancelled, alreadyApplied);
+        givenLockAcquired();
+        when(likeWriteBuffer.getPendingLikes()).thenReturn(pendingLikes);
+        when(likeBatchRepository.insertLikes(EXHIBITION, List.of(added, alreadyApplied))).thenReturn(List.of(added));
+        when(likeBatchRepository.deleteLikes(EXHIBITION, List.of(removed, cancelled))).thenReturn(List.of(removed));
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isEqualTo(2);
+        verify(likeBatchRepository).updateLikeCounts(EXHIBITION, Map.of(1L, 1L, 2L, -1L));
+        verify(likeBatchRepository).updateUserStats(EXHIBITION, Map.of(10L, 0L));
+        verify(eventPublisher, times(2)).publishEvent(any(ExhibitionLikeChangedEvent.class));
+        verify(likeWriteBuffer).acknowledge(pendingLikes);
+        verify(redisService).deleteValuesIfEquals(eq(LOCK_KEY), anyString());
+        assertThat(meterRegistry.timer(FLUSH_LAG_METRIC).count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("직전 상태를 모르는 좋아요 설정은 실제로 바뀐 항목만 좋아요 수 카운터에 더하는지 테스트")
+    void testFlushLikesWithUnknownBase() {
+        PendingLike added = new PendingLike(EXHIBITION, 1L, 10L, null, true, 0L);
+        PendingLike alreadyLiked = new PendingLike(EXHIBITION, 1L, 11L, null, true, 0L);
+        PendingLike removed = new PendingLike(EXHIBITION, 2L, 10L, null, false, 0L);
+        PendingLike counted = new PendingLike(EXHIBITION, 3L, 10L, false, true, 0L);
+        List<PendingLike> pendingLikes = List.of(added, alreadyLiked, removed, counted);
+        givenLockAcquired();
+        when(likeWriteBuffer.getPendingLikes()).thenReturn(pendingLikes);
+        when(likeBatchRepository.insertLikes(EXHIBITION, List.of(added, alreadyLiked, counted)))
+                .thenReturn(List.of(added, counted));
+        when(likeBatchRepository.deleteLikes(EXHIBITION, List.of(removed))).thenReturn(List.of(removed));
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isEqualTo(3);
+        verify(likeBatchRepository).updateLikeCounts(EXHIBITION, Map.of(1L, 1L, 2L, -1L, 3L, 1L));
+        verify(likeCounterRegistry).add(EXHIBITION, 1L, 1L);
+        verify(likeCounterRegistry).add(EXHIBITION, 2L, -1L);
+        verifyNoMoreInteractions(likeCounterRegistry);
+    }
+
+    @Test
+    @DisplayName("후기 좋아요 반영 시 후기의 좋아요 수를 갱신하고 전시회의 후기 변경 이벤트를 발행하는지 테스트")
+    void testFlushReviewLikes() {
+        PendingLike added = new PendingLike(REVIEW, 5L, 10L, false, true, 0L);
+        givenLockAcquired();
+        when(likeWriteBuffer.getPendingLikes()).thenReturn(List.of(added));
+        when(likeBatchRepository.insertLikes(REVIEW, List.of(added))).thenReturn(List.of(added));
+        when(reviewRepository.findExhibitionIdsByIdIn(Set.of(5L))).thenReturn(List.of(1L));
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isEqualTo(1);
+        verify(likeBatchRepository).updateLikeCounts(REVIEW, Map.of(5L, 1L));
+        verify(likeBatchRepository).updateUserStats(REVIEW, Map.of(10L, 1L));
+        ArgumentCaptor<ReviewChangedEvent> eventCaptor = ArgumentCaptor.forClass(ReviewChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getExhibitionId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요는 댓글의 좋아요 수만 갱신하고 유저 통계는 건드리지 않는지 테스트")
+    void testFlushCommentLikes() {
+        PendingLike removed = new PendingLike(COMMENT, 7L, 10L, true, false, 0L);
+        givenLockAcquired();
+        when(likeWriteBuffer.getPendingLikes()).thenReturn(List.of(removed));
+        when(likeBatchRepository.deleteLikes(COMMENT, List.of(removed))).thenReturn(List.of(removed));
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isEqualTo(1);
+        verify(likeBatchRepository).updateLikeCounts(COMMENT, Map.of(7L, -1L));
+        verify(likeBatchRepository, never()).updateUserStats(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("한 번에 BATCH_SIZE 씩 나누어 반영하는지 테스트")
+    void testFlushInBatches() {
+        List<PendingLike> pendingLikes = new ArrayList<>();
+        for (long i = 0; i <= BATCH_SIZE; i++) {
+            pendingLikes.add(new PendingLike(COMMENT, i, 10L, false, false, 0L));
+        }
+        givenLockAcquired();
+        when(likeWriteBuffer.getPendingLikes()).thenReturn(pendingLikes);
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isZero();
+        verify(likeWriteBuffer).acknowledge(pendingLikes.subList(0, BATCH_SIZE));
+        verify(likeWriteBuffer).acknowledge(pendingLikes.subList(BATCH_SIZE, BATCH_SIZE + 1));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("일괄 반영이 제약 조건 위반으로 실패하면 한 건씩 반영하고 반영할 수 없는 항목은 버리는지 테스트")
+    void testFlushWithIntegrityViolation() {
+        PendingLike valid = new PendingLike(COMMENT, 7L, 10L, false, true, 0L);
+        PendingLike invalid = new PendingLike(COMMENT, 8L, 10L, false, true, 0L);
+        List<PendingLike> pendingLikes = List.of(valid, invalid);
+        givenLockAcquired();
+        when(likeWriteBuffer.getPendingLikes()).thenReturn(pendingLikes);
+        doAnswer(invocation -> {
+            List<PendingLike> likes = invocation.getArgument(1);
+            if (likes.contains(invalid)) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return likes;
+        }).when(likeBatchRepository).insertLikes(eq(COMMENT), any());
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isEqualTo(1);
+        verify(likeBatchRepository).insertLikes(COMMENT, List.of(valid));
+        verify(likeWriteBuffer).acknowledge(pendingLikes);
+    }
+
+    @Test
+    @DisplayName("DB 장애로 실패하면 버퍼에 남겨두고 다음 주기에 다시 시도하는지 테스트")
+    void testFlushWithDatabaseFailure() {
+        PendingLike added = new PendingLike(COMMENT, 7L, 10L, false, true, 0L);
+        givenLockAcquired();
+        when(likeWriteBuffer.getPendingLikes()).thenReturn(List.of(added));
+        doThrow(new QueryTimeoutException("timeout")).when(likeBatchRepository).insertLikes(COMMENT, List.of(added));
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isZero();
+        verify(likeWriteBuffer, never()).acknowledge(any());
+        verify(redisService).deleteValuesIfEquals(eq(LOCK_KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외를 던지지 않는지 테스트")
+    void testFlushWithRedisFailure() {
+        when(redisService.setValuesIfAbsent(eq(LOCK_KEY), anyString(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        int appliedCount = likeFlusher.flushPendingLikes();
+
+        assertThat(appliedCount).isZero();
+        verifyNoInteractions(likeWriteBuffer, likeBatchRepository);
+    }
+
+    private void givenLockAcquired() {
+        when(redisService.setValuesIfAbsent(eq(LOCK_KEY), anyString(), any())).thenReturn(true);
+    }
+}
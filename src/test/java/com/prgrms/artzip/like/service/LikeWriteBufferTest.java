@@ -0,0 +1,169 @@
+package com.prgrms.artzip.like.service;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.domain.PendingLike;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.prgrms.artzip.like.domain.LikeTarget.COMMENT;
+import static com.prgrms.artzip.like.domain.LikeTarget.EXHIBITION;
+import static com.prgrms.artzip.like.domain.LikeTarget.REVIEW;
+import static com.prgrms.artzip.like.service.LikeWriteBuffer.PENDING_COUNT_KEY;
+import static com.prgrms.artzip.like.service.LikeWriteBuffer.PENDING_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeWriteBuffer 테스트")
+class LikeWriteBufferTest {
+
+    private static final List<String> KEYS = List.of(PENDING_KEY, PENDING_COUNT_KEY);
+
+    @Mock
+    private RedisService redisService;
+
+    @InjectMocks
+    private LikeWriteBuffer likeWriteBuffer;
+
+    private final AtomicInteger dbLookupCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("버퍼에 기록이 있으면 DB를 조회하지 않고 버퍼의 상태를 반환하는지 테스트")
+    void testIsLikedFromBuffer() {
+        when(redisService.getHashValue(PENDING_KEY, "EXHIBITION:1:10")).thenReturn("0,1,1660000000000");
+
+        boolean isLiked = likeWriteBuffer.isLiked(EXHIBITION, 1L, 10L, this::likedInDb);
+
+        assertThat(isLiked).isTrue();
+        assertThat(dbLookupCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼에 기록이 없으면 DB에서 조회하는지 테스트")
+    void testIsLikedFromDb() {
+        boolean isLiked = likeWriteBuffer.isLiked(REVIEW, 2L, 10L, this::likedInDb);
+
+        assertThat(isLiked).isFalse();
+        assertThat(dbLookupCount.get()).isEqualTo(1);
+        verify(redisService).getHashValue(PENDING_KEY, "REVIEW:2:10");
+    }
+
+    @Test
+    @DisplayName("토글 결과와 아직 반영되지 않은 좋아요 수 증감을 반환하는지 테스트")
+    void testToggle() {
+        doReturn(List.of(1L, 3L, 1L)).when(redisService)
+                .execute(any(), eq(KEYS), eq("COMMENT:3:10"), eq("COMMENT:3"), eq("0"), anyString());
+
+        LikeToggle likeToggle = likeWriteBuffer.toggle(COMMENT, 3L, 10L, false);
+
+        assertThat(likeToggle.isLiked()).isTrue();
+        assertThat(likeToggle.getPendingCountDelta()).isEqualTo(3L);
+        assertThat(likeToggle.isChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("좋아요 설정 시 DB를 조회하지 않고 원하는 상태만 넘기는지 테스트")
+    void testSet() {
+        doReturn(List.of(1L, 0L, 0L)).when(redisService)
+                .execute(any(), eq(KEYS), eq("EXHIBITION:1:10"), eq("EXHIBITION:1"), eq("1"), anyString());
+
+        LikeToggle likeToggle = likeWriteBuffer.set(EXHIBITION, 1L, 10L, true);
+
+        assertThat(likeToggle.isLiked()).isTrue();
+        assertThat(likeToggle.getPendingCountDelta()).isZero();
+        assertThat(likeToggle.isChanged()).isFalse();
+        verify(redisService, never()).getHashValue(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("직전 상태를 아는 항목을 바꾸면 좋아요 수 증감을 함께 반환하는지 테스트")
+    void testSetKnownBase() {
+        doReturn(List.of(0L, -1L, 1L)).when(redisService)
+                .execute(any(), eq(KEYS), eq("REVIEW:2:10"), eq("REVIEW:2"), eq("0"), anyString());
+
+        LikeToggle likeToggle = likeWriteBuffer.set(REVIEW, 2L, 10L, false);
+
+        assertThat(likeToggle.isLiked()).isFalse();
+        assertThat(likeToggle.getPendingCountDelta()).isEqualTo(-1L);
+        assertThat(likeToggle.isChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 좋아요를 읽는지 테스트")
+    void testGetPendingLikes() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("EXHIBITION:1:10", "0,1,1660000000000");
+        entries.put("COMMENT:3:11", "1,1,1660000000500");
+        entries.put("REVIEW:2:12", "?,1,1660000000900");
+        when(redisService.getHashEntries(PENDING_KEY)).thenReturn(entries);
+
+        List<PendingLike> pendingLikes = likeWriteBuffer.getPendingLikes();
+
+        assertThat(pendingLikes).containsExactly(
+                new PendingLike(EXHIBITION, 1L, 10L, false, true, 1660000000000L),
+                new PendingLike(COMMENT, 3L, 11L, true, true, 1660000000500L),
+                new PendingLike(REVIEW, 2L, 12L, null, true, 1660000000900L));
+        assertThat(pendingLikes).extracting(PendingLike::getCountDelta).containsExactly(1L, 0L, 0L);
+        assertThat(pendingLikes).extracting(PendingLike::isLikedBeforeKnown).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("로그인 사용자가 누른, 아직 반영되지 않은 좋아요 상태만 읽는지 테스트")
+    void testGetPendingStates() {
+        when(redisService.getHashValues(PENDING_KEY, List.of("REVIEW:1:10", "REVIEW:2:10", "REVIEW:3:10")))
+                .thenReturn(Arrays.asList("?,1,1660000000000", null, "1,0,1660000000500"));
+
+        Map<Long, Boolean> pendingStates = likeWriteBuffer.getPendingStates(REVIEW, 10L, List.of(1L, 2L, 3L));
+
+        assertThat(pendingStates).isEqualTo(Map.of(1L, true, 3L, false));
+        assertThat(PendingLike.overlay(Set.of(2L, 3L), pendingStates)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자이거나 대상이 없으면 버퍼를 조회하지 않는지 테스트")
+    void testGetPendingStatesWithoutUser() {
+        assertThat(likeWriteBuffer.getPendingStates(REVIEW, null, List.of(1L))).isEmpty();
+        assertThat(likeWriteBuffer.getPendingStates(REVIEW, 10L, List.of())).isEmpty();
+        verifyNoInteractions(redisService);
+    }
+
+    @Test
+    @DisplayName("반영한 항목의 상태와 좋아요 수 증감을 함께 넘기는지 테스트")
+    void testAcknowledge() {
+        likeWriteBuffer.acknowledge(List.of(
+                new PendingLike(EXHIBITION, 1L, 10L, false, true, 0L),
+                new PendingLike(REVIEW, 2L, 11L, true, false, 0L)));
+
+        verify(redisService).execute(any(), eq(KEYS),
+                eq("EXHIBITION:1:10"), eq("EXHIBITION:1"), eq("1"), eq("1"),
+                eq("REVIEW:2:11"), eq("REVIEW:2"), eq("0"), eq("-1"));
+    }
+
+    @Test
+    @DisplayName("반영한 항목이 없으면 Redis를 호출하지 않는지 테스트")
+    void testAcknowledgeEmpty() {
+        likeWriteBuffer.acknowledge(List.of());
+
+        verifyNoInteractions(redisService);
+    }
+
+    private boolean likedInDb() {
+        dbLookupCount.incrementAndGet();
+        return false;
+    }
+}
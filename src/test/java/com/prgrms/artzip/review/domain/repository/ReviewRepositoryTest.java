@@ -3,6 +3,9 @@ package com.prgrms.artzip.review.domain.repository;
 import com.prgrms.artzip.QueryDslTestConfig;
 import com.prgrms.artzip.comment.domain.Comment;
 import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.InvalidRequestException;
+import com.prgrms.artzip.common.util.Cursor;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
 import com.prgrms.artzip.review.domain.Review;
@@ -21,14 +24,19 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import static com.prgrms.artzip.exhibition.domain.enumType.Area.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import({QueryDslTestConfig.class})
@@ -245,6 +253,45 @@ public class ReviewRepositoryTest {
                     .build();
             em.persist(childrenComment2);
         }
+        em.flush();
+        reviewRepository.reconcileLikeAndCommentCounts();
+        em.clear();
+    }
+
+    @Nested
+    @DisplayName("좋아요/댓글 수 컬럼 테스트")
+    class LikeAndCommentCountTest {
+
+        @Test
+        @DisplayName("댓글 수 증감이 컬럼에 바로 반영되는지 테스트")
+        void testUpdateCommentCount() {
+            reviewRepository.updateCommentCount(publicReview3.getId(), 1);
+            reviewRepository.updateCommentCount(publicReview3.getId(), 1);
+            reviewRepository.updateCommentCount(publicReview3.getId(), -1);
+
+            assertThat(reviewRepository.findCommentCountById(publicReview3.getId())).hasValue(1L);
+            assertThat(reviewRepository.findCommentCountById(9999L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실제 좋아요/댓글 수와 어긋난 후기만 다시 맞추는지 테스트")
+        void testReconcileLikeAndCommentCounts() {
+            reviewRepository.updateCommentCount(publicReview1.getId(), 5);
+            em.getEntityManager()
+                    .createNativeQuery("UPDATE review SET like_count = 10 WHERE review_id = :reviewId")
+                    .setParameter("reviewId", publicReview2.getId())
+                    .executeUpdate();
+
+            int reconciledCount = reviewRepository.reconcileLikeAndCommentCounts();
+
+            assertThat(reconciledCount).isEqualTo(2);
+            Review review1 = reviewRepository.findById(publicReview1.getId()).orElseThrow();
+            Review review2 = reviewRepository.findById(publicReview2.getId()).orElseThrow();
+            assertThat(review1.getCommentCount()).isEqualTo(75L);
+            assertThat(review1.getLikeCount()).isEqualTo(2L);
+            assertThat(review2.getCommentCount()).isEqualTo(60L);
+            assertThat(review2.getLikeCount()).isEqualTo(1L);
+        }
     }
 
     @Nested
@@ -624,4 +671,89 @@ public class ReviewRepositoryTest {
 
     }
 
+    @Nested
+    @DisplayName("커서 기반 후기 다건 조회 테스트")
+    class TestFindReviewsByCursor {
+
+        private final LocalDateTime createdAt = LocalDateTime.of(2022, 9, 1, 12, 0);
+
+        @Test
+        @DisplayName("작성 시각이 같은 후기는 id 내림차순으로 이어서 조회해 빠지거나 겹치는 후기가 없다.")
+        void testReviewsWithSameCreatedAt() {
+            updateCreatedAt(createdAt, publicReview1, publicReview2, publicReview3);
+
+            List<Long> reviewIds = fetchAll((cursor, size) -> reviewRepository.findReviewsByCursor(null, null, cursor, size));
+
+            assertThat(reviewIds).containsExactly(publicReview3.getId(), publicReview2.getId(), publicReview1.getId());
+        }
+
+        @Test
+        @DisplayName("작성 시각이 다른 후기와 같은 후기가 섞여 있어도 (createdAt, id) 내림차순으로 이어서 조회한다.")
+        void testReviewsWithPartlySameCreatedAt() {
+            updateCreatedAt(createdAt, publicReview1, publicReview3);
+            updateCreatedAt(createdAt.minusDays(1), publicReview2);
+
+            List<Long> reviewIds = fetchAll((cursor, size) -> reviewRepository.findReviewsByCursor(null, null, cursor, size));
+
+            assertThat(reviewIds).containsExactly(publicReview3.getId(), publicReview1.getId(), publicReview2.getId());
+        }
+
+        @Test
+        @DisplayName("유저가 작성한 후기를 이어서 조회해 빠지거나 겹치는 후기가 없다.")
+        void testMyReviews() {
+            updateCreatedAt(createdAt, publicReview1, privateReview, deletedReview);
+
+            List<Long> reviewIds = fetchAll((cursor, size) -> reviewRepository.findMyReviewsByCursor(user1.getId(), user1.getId(), cursor, size));
+
+            assertThat(reviewIds).containsExactly(privateReview.getId(), publicReview1.getId());
+        }
+
+        @Test
+        @DisplayName("유저가 좋아요한 후기를 이어서 조회해 빠지거나 겹치는 후기가 없다.")
+        void testMyLikesReviews() {
+            updateCreatedAt(createdAt, publicReview1, publicReview2, privateReview);
+
+            List<Long> reviewIds = fetchAll((cursor, size) -> reviewRepository.findMyLikesReviewsByCursor(null, user1.getId(), cursor, size));
+
+            assertThat(reviewIds).containsExactly(publicReview2.getId(), publicReview1.getId());
+        }
+
+        @Test
+        @DisplayName("정렬 키가 모자라거나 형식이 맞지 않는 커서는 INVALID_CURSOR 예외가 발생한다.")
+        void testInvalidCursor() {
+            Cursor shortCursor = Cursor.decode(Cursor.encode(createdAt));
+            Cursor malformedCursor = Cursor.decode(Cursor.encode("yesterday", publicReview1.getId()));
+
+            assertThatThrownBy(() -> reviewRepository.findReviewsByCursor(null, null, shortCursor, 1))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+            assertThatThrownBy(() -> reviewRepository.findMyReviewsByCursor(null, user1.getId(), malformedCursor, 1))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+        }
+
+        private void updateCreatedAt(LocalDateTime createdAt, Review... reviews) {
+            for (Review review : reviews) {
+                em.getEntityManager()
+                        .createNativeQuery("UPDATE review SET created_at = :createdAt WHERE review_id = :reviewId")
+                        .setParameter("createdAt", createdAt)
+                        .setParameter("reviewId", review.getId())
+                        .executeUpdate();
+            }
+        }
+
+        // 한 건씩 마지막 후기의 (createdAt, id) 커서로 끝까지 조회한다.
+        private List<Long> fetchAll(BiFunction<Cursor, Integer, Slice<ReviewWithLikeAndCommentCount>> query) {
+            List<Long> reviewIds = new ArrayList<>();
+            Cursor cursor = null;
+            Slice<ReviewWithLikeAndCommentCount> slice;
+            do {
+                slice = query.apply(cursor, 1);
+                slice.getContent().forEach(review -> reviewIds.add(review.getReviewId()));
+                ReviewWithLikeAndCommentCount last = slice.getContent().get(slice.getContent().size() - 1);
+                cursor = Cursor.decode(Cursor.encode(last.getCreatedAt(), last.getReviewId()));
+            } while (slice.hasNext());
+            return reviewIds;
+        }
+    }
 }
\ No newline at end of file
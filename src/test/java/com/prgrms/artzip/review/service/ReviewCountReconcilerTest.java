@@ -0,0 +1,43 @@
+package com.prgrms.artzip.review.service;
+
+import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewCountReconciler 테스트")
+class ReviewCountReconcilerTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private ReviewCountReconciler reviewCountReconciler;
+
+    @Test
+    @DisplayName("좋아요/댓글 수가 어긋난 후기를 보정하고 보정한 수를 반환하는지 테스트")
+    void testReconcile() {
+        doReturn(3).when(reviewRepository).reconcileLikeAndCommentCounts();
+
+        int repairedCount = reviewCountReconciler.reconcileCounts();
+
+        assertThat(repairedCount).isEqualTo(3);
+        verify(reviewRepository).reconcileLikeAndCommentCounts();
+    }
+
+    @Test
+    @DisplayName("불일치가 없으면 0을 반환하는지 테스트")
+    void testReconcileWithoutDrift() {
+        int repairedCount = reviewCountReconciler.reconcileCounts();
+
+        assertThat(repairedCount).isZero();
+    }
+}
@@ -6,10 +6,14 @@ import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.domain.enumType.Area;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.like.domain.LikeToggle;
+import com.prgrms.artzip.like.service.LikeCounterRegistry;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.ReviewLike;
 import com.prgrms.artzip.review.domain.repository.ReviewLikeRepository;
 import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import com.prgrms.artzip.review.dto.response.ReviewLikeUpdateResponse;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
@@ -20,14 +24,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
+import static com.prgrms.artzip.like.domain.LikeTarget.REVIEW;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +54,12 @@ class ReviewLikeServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+
     private User user = new User("test@example.com", "Emily", List.of(new Role(Authority.USER)));
     private Exhibition exhibition = Exhibition.builder()
             .seq(32)
@@ -89,16 +104,20 @@ class ReviewLikeServiceTest {
 
                 doReturn(Optional.of(user)).when(userRepository).findById(user.getId());
                 doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
-                doReturn(Optional.of(reviewLike))
-                        .when(reviewLikeRepository).findByReviewIdAndUserId(review.getId(), user.getId());
+                givenLikedInDb(Optional.of(reviewLike));
+                doReturn(new LikeToggle(false, -1))
+                        .when(likeWriteBuffer).toggle(REVIEW, review.getId(), user.getId(), true);
+                ReflectionTestUtils.setField(review, "likeCount", 5L);
+                givenCounterSeededFromDb();
 
                 // when
-                reviewLikeService.updateReviewLike(user.getId(), review.getId());
+                ReviewLikeUpdateResponse response = reviewLikeService.updateReviewLike(user.getId(), review.getId());
 
                 // then
-                verify(reviewLikeRepository).delete(reviewLike);
+                assertThat(response.getIsLiked()).isFalse();
+                assertThat(response.getLikeCount()).isEqualTo(4L);
+                verify(reviewLikeRepository, never()).delete(any());
                 verify(reviewLikeRepository, never()).save(any());
-                verify(reviewLikeRepository).countByReview(review);
             }
 
             @Test
@@ -107,16 +126,20 @@ class ReviewLikeServiceTest {
                 // given
                 doReturn(Optional.of(user)).when(userRepository).findById(user.getId());
                 doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
-                doReturn(Optional.empty())
-                        .when(reviewLikeRepository).findByReviewIdAndUserId(review.getId(), user.getId());
+                givenLikedInDb(Optional.empty());
+                doReturn(new LikeToggle(true, 1))
+                        .when(likeWriteBuffer).toggle(REVIEW, review.getId(), user.getId(), false);
+                ReflectionTestUtils.setField(review, "likeCount", 5L);
+                givenCounterSeededFromDb();
 
                 // when
-                reviewLikeService.updateReviewLike(user.getId(), review.getId());
+                ReviewLikeUpdateResponse response = reviewLikeService.updateReviewLike(user.getId(), review.getId());
 
                 // then
+                assertThat(response.getIsLiked()).isTrue();
+                assertThat(response.getLikeCount()).isEqualTo(6L);
                 verify(reviewLikeRepository, never()).delete(any());
-                verify(reviewLikeRepository).save(any(ReviewLike.class));
-                verify(reviewLikeRepository).countByReview(review);
+                verify(reviewLikeRepository, never()).save(any());
             }
         }
 
@@ -152,6 +175,34 @@ class ReviewLikeServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("좋아요 등록/해제 요청은 유저와 후기를 조회하지 않고 원하는 상태로 설정하는지 테스트")
+    void testSetReviewLike() {
+        doReturn(new LikeToggle(true, 0, false))
+                .when(likeWriteBuffer).set(REVIEW, review.getId(), user.getId(), true);
+        doReturn(Optional.of(5L)).when(reviewRepository).findActiveLikeCountById(review.getId());
+        givenCounterSeededFromDb();
+
+        ReviewLikeUpdateResponse response = reviewLikeService.setReviewLike(user.getId(), review.getId(), true);
+
+        assertThat(response.getIsLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(5L);
+        verify(userRepository, never()).findById(any());
+        verify(reviewRepository, never()).findById(any());
+        verify(likeWriteBuffer, never()).toggle(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 후기에 좋아요를 등록/해제하면 버퍼에 기록하지 않고 NotFoundException 발생")
+    void testSetReviewLikeReviewNotFound() {
+        doReturn(Optional.empty()).when(reviewRepository).findActiveLikeCountById(review.getId());
+
+        assertThatThrownBy(() -> reviewLikeService.setReviewLike(user.getId(), review.getId(), true))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining(ErrorCode.REVIEW_NOT_FOUND.getMessage());
+        verifyNoInteractions(likeWriteBuffer, likeCounterRegistry);
+    }
+
     @Test
     @DisplayName("유저가 좋아요 누른 리뷰 개수 반환 테스트")
     void testGetReviewLikeCountByUserId() {
@@ -163,4 +214,16 @@ class ReviewLikeServiceTest {
         assertThat(reviewLikeCount).isEqualTo(3L);
         verify(reviewLikeRepository).countByUserId(1L);
     }
-}
\ No newline at end of file
+
+    private void givenCounterSeededFromDb() {
+        doAnswer(invocation -> invocation.<LongSupplier>getArgument(3).getAsLong()
+                + invocation.<LikeToggle>getArgument(2).getPendingCountDelta())
+                .when(likeCounterRegistry).applyToggle(eq(REVIEW), eq(review.getId()), any(), any());
+    }
+
+    private void givenLikedInDb(Optional<ReviewLike> reviewLike) {
+        doReturn(reviewLike).when(reviewLikeRepository).findByReviewIdAndUserId(review.getId(), user.getId());
+        doAnswer(invocation -> invocation.<BooleanSupplier>getArgument(3).getAsBoolean())
+                .when(likeWriteBuffer).isLiked(eq(REVIEW), eq(review.getId()), eq(user.getId()), any());
+    }
+}
@@ -0,0 +1,179 @@
+package com.prgrms.artzip.review.service;
+
+import com.prgrms.artzip.QueryDslTestConfig;
+import com.prgrms.artzip.comment.service.CommentService;
+import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.common.PageResponse;
+import com.prgrms.artzip.common.util.AmazonS3Remover;
+import com.prgrms.artzip.common.util.AmazonS3Uploader;
+import com.prgrms.artzip.common.util.CompositeReadExecutor;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
+import com.prgrms.artzip.exhibition.domain.Exhibition;
+import com.prgrms.artzip.exhibition.domain.enumType.Genre;
+import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.review.domain.Review;
+import com.prgrms.artzip.review.domain.ReviewPhoto;
+import com.prgrms.artzip.review.domain.repository.ReviewLikeRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewPhotoRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import com.prgrms.artzip.review.dto.response.ReviewsResponse;
+import com.prgrms.artzip.review.dto.response.ReviewsResponseForExhibitionDetail;
+import com.prgrms.artzip.user.domain.Role;
+import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.prgrms.artzip.exhibition.domain.enumType.Area.BUSAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/*
+ * 후기 목록 조회가 페이지 크기와 무관하게 일정한 수의 쿼리로 끝나는지 확인
+ * - 목록 조회 1 + count 1 + 후기/작성자/전시회 fetch join 1 + 사진 IN 조회 1
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslTestConfig.class})
+@DisplayName("후기 목록 조회 쿼리 수 테스트")
+class ReviewServiceQueryCountTest {
+
+    private static final int REVIEW_COUNT = 12;
+    private static final int PHOTO_COUNT_PER_REVIEW = 2;
+    private static final long QUERY_COUNT_PER_PAGE = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewPhotoRepository reviewPhotoRepository;
+
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExhibitionRepository exhibitionRepository;
+
+    private ReviewService reviewService;
+    private Statistics statistics;
+    private Exhibition exhibition;
+
+    @BeforeEach
+    void setUp() {
+        reviewService = new ReviewService(mock(CommentService.class), reviewRepository,
+                reviewPhotoRepository, reviewLikeRepository, userRepository, mock(UserStatsRepository.class),
+                exhibitionRepository,
+                mock(AmazonS3Uploader.class), mock(AmazonS3Remover.class),
+                mock(ApplicationEventPublisher.class), mock(CompositeReadExecutor.class),
+                mock(LikeWriteBuffer.class));
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        Role userRole = new Role(Authority.USER);
+        em.persist(userRole);
+
+        exhibition = Exhibition.builder()
+                .seq(32)
+                .name("전시회 제목")
+                .startDate(LocalDate.now().minusDays(10))
+                .endDate(LocalDate.now().plusDays(10))
+                .genre(Genre.SHOW)
+                .description("이것은 전시회 설명입니다.")
+                .latitude(36.22)
+                .longitude(128.02)
+                .area(BUSAN)
+                .place("미술관")
+                .address("부산 동구 중앙대로 11")
+                .inquiry("문의처 정보")
+                .fee("성인 20,000원")
+                .thumbnail("https://www.image-example.com")
+                .url("https://www.example.com")
+                .placeUrl("https://www.place-example.com")
+                .build();
+        em.persist(exhibition);
+
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            User user = new User("test" + i + "@example.com", "user" + i, List.of(userRole));
+            em.persist(user);
+
+            Review review = Review.builder()
+                    .user(user)
+                    .exhibition(exhibition)
+                    .content("이것은 리뷰 본문입니다.")
+                    .title("리뷰 제목 " + i)
+                    .date(LocalDate.now())
+                    .isPublic(true)
+                    .build();
+            em.persist(review);
+
+            for (int j = 0; j < PHOTO_COUNT_PER_REVIEW; j++) {
+                em.persist(new ReviewPhoto(review, "https://www.image-example.com/" + i + "/" + j));
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 달라도 후기 목록 조회 쿼리 수가 같은지 테스트")
+    void testGetReviewsQueryCount() {
+        long smallPageQueryCount = countQueries(() -> {
+            PageResponse<ReviewsResponse> response = reviewService.getReviews(
+                    null, exhibition.getId(), PageRequest.of(0, 3, Sort.by("createdAt").descending()));
+            assertThat(response.getContent()).hasSize(3)
+                    .allSatisfy(review -> {
+                        assertThat(review.getPhotos()).hasSize(PHOTO_COUNT_PER_REVIEW);
+                        assertThat(review.getUser().getNickname()).isNotBlank();
+                        assertThat(review.getExhibition().getName()).isEqualTo("전시회 제목");
+                    });
+        });
+        long largePageQueryCount = countQueries(() -> {
+            PageResponse<ReviewsResponse> response = reviewService.getReviews(
+                    null, exhibition.getId(), PageRequest.of(0, 9, Sort.by("createdAt").descending()));
+            assertThat(response.getContent()).hasSize(9)
+                    .allSatisfy(review -> assertThat(review.getPhotos()).hasSize(PHOTO_COUNT_PER_REVIEW));
+        });
+
+        assertThat(smallPageQueryCount).isEqualTo(QUERY_COUNT_PER_PAGE);
+        assertThat(largePageQueryCount).isEqualTo(QUERY_COUNT_PER_PAGE);
+    }
+
+    @Test
+    @DisplayName("전시회 상세 후기 조회도 후기 수와 무관한 쿼리 수로 끝나는지 테스트")
+    void testGetReviewsForExhibitionQueryCount() {
+        long queryCount = countQueries(() -> {
+            List<ReviewsResponseForExhibitionDetail> response =
+                    reviewService.getReviewsForExhibition(null, exhibition.getId());
+            assertThat(response).hasSize(4)
+                    .allSatisfy(review -> assertThat(review.getPhotos()).hasSize(PHOTO_COUNT_PER_REVIEW));
+        });
+
+        assertThat(queryCount).isEqualTo(QUERY_COUNT_PER_PAGE);
+    }
+
+    private long countQueries(Runnable runnable) {
+        em.clear();
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -14,10 +14,13 @@ import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.common.error.exception.PermissionDeniedException;
 import com.prgrms.artzip.common.util.AmazonS3Remover;
 import com.prgrms.artzip.common.util.AmazonS3Uploader;
+import com.prgrms.artzip.common.util.CompositeReadExecutor;
 import com.prgrms.artzip.exhibition.domain.Exhibition;
 import com.prgrms.artzip.exhibition.domain.enumType.Area;
 import com.prgrms.artzip.exhibition.domain.enumType.Genre;
 import com.prgrms.artzip.exhibition.repository.ExhibitionRepository;
+import com.prgrms.artzip.like.domain.LikeTarget;
+import com.prgrms.artzip.like.service.LikeWriteBuffer;
 import com.prgrms.artzip.review.domain.Review;
 import com.prgrms.artzip.review.domain.ReviewLike;
 import com.prgrms.artzip.review.domain.ReviewPhoto;
@@ -29,20 +32,27 @@ import com.prgrms.artzip.review.dto.projection.ReviewWithLikeAndCommentCount;
 import com.prgrms.artzip.review.dto.request.ReviewCreateRequest;
 import com.prgrms.artzip.review.dto.request.ReviewUpdateRequest;
 import com.prgrms.artzip.review.dto.response.ReviewIdResponse;
+import com.prgrms.artzip.review.dto.response.ReviewsResponseForExhibitionDetail;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -51,7 +61,9 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -81,6 +93,9 @@ class ReviewServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
     @Mock
     private ExhibitionRepository exhibitionRepository;
 
@@ -90,6 +105,16 @@ class ReviewServiceTest {
     @Mock
     AmazonS3Remover amazonS3Remover;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    CompositeReadExecutor compositeReadExecutor = new CompositeReadExecutor(mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 4, 10);
+
+    @Mock
+    LikeWriteBuffer likeWriteBuffer;
+
     private User user = new User("test@example.com", "Emily", List.of(new Role(Authority.USER)));
     private Exhibition exhibition = Exhibition.builder()
             .seq(32)
@@ -162,6 +187,7 @@ class ReviewServiceTest {
                 reviewService.createReview(user.getId(), request, null);
 
                 verify(reviewRepository).save(any());
+                verify(userStatsRepository).updateReviewCount(user.getId(), 1);
             }
 
             @Test
@@ -618,13 +644,14 @@ class ReviewServiceTest {
                 doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
 
                 // when
-                ReviewIdResponse response = reviewService.removeReview(user, review.getId());
+                ReviewIdResponse response = reviewService.removeReview(UserPrincipal.from(user), review.getId());
 
                 // then
                 assertThat(response.getReviewId()).isEqualTo(review.getId());
                 Optional<Review> maybeReview = reviewRepository.findById(response.getReviewId());
                 assertThat(maybeReview.isPresent()).isTrue();
                 assertThat(maybeReview.get().getIsDeleted()).isEqualTo(true);
+                verify(userStatsRepository).updateReviewCount(review.getUser().getId(), -1);
             }
 
             @Test
@@ -639,7 +666,7 @@ class ReviewServiceTest {
                 doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
 
                 // when
-                ReviewIdResponse response = reviewService.removeReview(user, review.getId());
+                ReviewIdResponse response = reviewService.removeReview(UserPrincipal.from(user), review.getId());
 
                 // then
                 verify(amazonS3Remover, times(reviewPhotoCount)).removeFile(any(), any());
@@ -666,7 +693,7 @@ class ReviewServiceTest {
                 // when
                 // then
                 assertThatThrownBy(() -> {
-                    reviewService.removeReview(user, review.getId());
+                    reviewService.removeReview(UserPrincipal.from(user), review.getId());
                 }).isInstanceOf(NotFoundException.class)
                         .hasMessageContaining(ErrorCode.REVIEW_NOT_FOUND.getMessage());
             }
@@ -846,8 +873,8 @@ class ReviewServiceTest {
                 )), contents.size());
 
                 // given
-                given(reviewRepository.findById(reflectionReview.getId()))
-                        .willReturn(Optional.of(reflectionReview));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
                 given(reviewRepository.findReviewByReviewId(
                         reflectionReview.getId(), null))
                         .willReturn(Optional.of(reviewData));
@@ -1021,8 +1048,8 @@ class ReviewServiceTest {
                 )), contents.size());
 
                 // given
-                given(reviewRepository.findById(reflectionReview.getId()))
-                        .willReturn(Optional.of(reflectionReview));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
                 given(reviewRepository.findReviewByReviewId(
                         reflectionReview.getId(), reflectionUser.getId()))
                         .willReturn(Optional.of(reviewData));
@@ -1031,11 +1058,11 @@ class ReviewServiceTest {
                         .willReturn(Optional.of(reviewExhibitionInfo));
                 given(commentService.getCommentsByReviewId(
                         reflectionReview.getId(),
-                        reflectionUser, PageRequest.of(0, 20, Sort.by("createdAt").descending())))
+                        UserPrincipal.from(reflectionUser), PageRequest.of(0, 20, Sort.by("createdAt").descending())))
                         .willReturn(reflectionComments);
 
                 // when
-                reviewService.getReview(reflectionUser, reflectionReview.getId());
+                reviewService.getReview(UserPrincipal.from(reflectionUser), reflectionReview.getId());
 
                 // then
                 verify(reviewRepository).findReviewByReviewId(reflectionReview.getId(),
@@ -1059,13 +1086,13 @@ class ReviewServiceTest {
             @DisplayName("존재하지 않는 후기를 조회하는 경우 NotFoundException 발생")
             void testReviewNotFoundException() {
                 // given
-                doThrow(new NotFoundException(ErrorCode.REVIEW_NOT_FOUND))
-                        .when(reviewRepository).findById(any());
+                doReturn(List.of())
+                        .when(reviewRepository).findAllWithUserAndExhibitionByIdIn(any());
 
                 // when
                 // then
                 assertThatThrownBy(() -> {
-                    reviewService.getReview(user, review.getId());
+                    reviewService.getReview(UserPrincipal.from(user), review.getId());
                 }).isInstanceOf(NotFoundException.class)
                         .hasMessageContaining(ErrorCode.REVIEW_NOT_FOUND.getMessage());
             }
@@ -1083,14 +1110,15 @@ class ReviewServiceTest {
                         .isPublic(false)
                         .build();
 
-                doReturn(Optional.of(privateReview)).when(reviewRepository).findById(privateReview.getId());
+                doReturn(List.of(privateReview))
+                        .when(reviewRepository).findAllWithUserAndExhibitionByIdIn(any());
                 doThrow(new NotFoundException(ErrorCode.REVIEW_NOT_FOUND))
                         .when(reviewRepository).findReviewByReviewId(privateReview.getId(), null);
 
                 // when
                 // then
                 assertThatThrownBy(() -> {
-                    reviewService.getReview(user, review.getId());
+                    reviewService.getReview(UserPrincipal.from(user), review.getId());
                 }).isInstanceOf(NotFoundException.class)
                         .hasMessageContaining(ErrorCode.REVIEW_NOT_FOUND.getMessage());
             }
@@ -1099,7 +1127,8 @@ class ReviewServiceTest {
             @DisplayName("존재하지 않는 전시회를 조회하는 경우 NotFoundException 발생")
             void testExhibitionNotFoundException() {
                 // given
-                doReturn(Optional.of(review)).when(reviewRepository).findById(review.getId());
+                doReturn(List.of(review))
+                        .when(reviewRepository).findAllWithUserAndExhibitionByIdIn(any());
                 doReturn(Optional.of(reviewData))
                         .when(reviewRepository).findReviewByReviewId(review.getId(), null);
                 doThrow(new NotFoundException(ErrorCode.EXHB_NOT_FOUND))
@@ -1108,7 +1137,7 @@ class ReviewServiceTest {
                 // when
                 // then
                 assertThatThrownBy(() -> {
-                    reviewService.getReview(user, review.getId());
+                    reviewService.getReview(UserPrincipal.from(user), review.getId());
                 }).isInstanceOf(NotFoundException.class)
                         .hasMessageContaining(ErrorCode.EXHB_NOT_FOUND.getMessage());
             }
@@ -1234,19 +1263,16 @@ class ReviewServiceTest {
                 given(reviewRepository.findReviews(
                         reflectionExhibition.getId(), null, pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
-                given(exhibitionRepository.findById(reflectionReview.getExhibition().getId()))
-                        .willReturn(Optional.of(reflectionExhibition));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
                 reviewService.getReviews(null, reflectionExhibition.getId(), pageable);
 
                 verify(reviewRepository).findReviews(reflectionExhibition.getId(),
                         null, pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
-                verify(exhibitionRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionExhibition.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
+                verify(exhibitionRepository, never()).findById(any());
             }
 
             @Test
@@ -1356,19 +1382,16 @@ class ReviewServiceTest {
                 given(reviewRepository.findReviews(
                         reflectionExhibition.getId(), reflectionUser.getId(), pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
-                given(exhibitionRepository.findById(reflectionReview.getExhibition().getId()))
-                        .willReturn(Optional.of(reflectionExhibition));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
-                reviewService.getReviews(reflectionUser, reflectionExhibition.getId(), pageable);
+                reviewService.getReviews(UserPrincipal.from(reflectionUser), reflectionExhibition.getId(), pageable);
 
                 verify(reviewRepository).findReviews(reflectionExhibition.getId(),
                         reflectionUser.getId(), pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
-                verify(exhibitionRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionExhibition.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
+                verify(exhibitionRepository, never()).findById(any());
             }
 
         }
@@ -1399,13 +1422,13 @@ class ReviewServiceTest {
                 doReturn(reviews)
                         .when(reviewRepository).findReviews(
                                 exhibition.getId(), null, pageable);
-                doThrow(new NotFoundException(ErrorCode.REVIEW_NOT_FOUND))
-                        .when(reviewRepository).findById(any());
+                doReturn(List.of())
+                        .when(reviewRepository).findAllWithUserAndExhibitionByIdIn(any());
 
                 // when
                 // then
                 assertThatThrownBy(() -> {
-                    reviewService.getReviews(user, exhibition.getId(), pageable);
+                    reviewService.getReviews(UserPrincipal.from(user), exhibition.getId(), pageable);
                 }).isInstanceOf(NotFoundException.class)
                         .hasMessageContaining(ErrorCode.REVIEW_NOT_FOUND.getMessage());
             }
@@ -1531,15 +1554,15 @@ class ReviewServiceTest {
                 given(reviewRepository.findReviews(
                         reflectionExhibition.getId(), null, pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
                 reviewService.getReviewsForExhibition(null, reflectionExhibition.getId());
 
                 verify(reviewRepository).findReviews(reflectionExhibition.getId(),
                         null, pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
             }
 
             @Test
@@ -1649,15 +1672,15 @@ class ReviewServiceTest {
                 given(reviewRepository.findReviews(
                         reflectionExhibition.getId(), reflectionUser.getId(), pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
                 reviewService.getReviewsForExhibition(reflectionUser.getId(), reflectionExhibition.getId());
 
                 verify(reviewRepository).findReviews(reflectionExhibition.getId(),
                         reflectionUser.getId(), pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
             }
 
         }
@@ -1695,8 +1718,8 @@ class ReviewServiceTest {
                 doReturn(reviews)
                         .when(reviewRepository).findReviews(
                                 exhibition.getId(), null, pageable);
-                doThrow(new NotFoundException(ErrorCode.REVIEW_NOT_FOUND))
-                        .when(reviewRepository).findById(any());
+                doReturn(List.of())
+                        .when(reviewRepository).findAllWithUserAndExhibitionByIdIn(any());
 
                 // when
                 // then
@@ -1849,10 +1872,8 @@ class ReviewServiceTest {
                 given(reviewRepository.findMyLikesReviews(
                         null, reflectionTargetUser.getId(), pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
-                given(exhibitionRepository.findById(reflectionReview.getExhibition().getId()))
-                        .willReturn(Optional.of(reflectionExhibition));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
                 // when
                 reviewService.getReviewsForMyLikes(null, reflectionTargetUser.getId(), pageable);
@@ -1860,10 +1881,9 @@ class ReviewServiceTest {
                 // when
                 verify(reviewRepository).findMyLikesReviews(
                         null, reflectionTargetUser.getId(), pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
-                verify(exhibitionRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionExhibition.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
+                verify(exhibitionRepository, never()).findById(any());
             }
 
             @Test
@@ -1995,21 +2015,18 @@ class ReviewServiceTest {
                 given(reviewRepository.findMyLikesReviews(
                         reflectionCurrentUser.getId(), null, pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
-                given(exhibitionRepository.findById(reflectionReview.getExhibition().getId()))
-                        .willReturn(Optional.of(reflectionExhibition));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
                 // when
-                reviewService.getReviewsForMyLikes(reflectionCurrentUser, null, pageable);
+                reviewService.getReviewsForMyLikes(UserPrincipal.from(reflectionCurrentUser), null, pageable);
 
                 // when
                 verify(reviewRepository).findMyLikesReviews(
                         reflectionCurrentUser.getId(), null, pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
-                verify(exhibitionRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionExhibition.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
+                verify(exhibitionRepository, never()).findById(any());
             }
 
         }
@@ -2040,8 +2057,8 @@ class ReviewServiceTest {
                 doReturn(reviews)
                         .when(reviewRepository).findMyLikesReviews(
                                 null, user.getId(), pageable);
-                doThrow(new NotFoundException(ErrorCode.REVIEW_NOT_FOUND))
-                        .when(reviewRepository).findById(any());
+                doReturn(List.of())
+                        .when(reviewRepository).findAllWithUserAndExhibitionByIdIn(any());
 
                 // when
                 // then
@@ -2194,10 +2211,8 @@ class ReviewServiceTest {
                 given(reviewRepository.findMyReviews(
                         null, reflectionTargetUser.getId(), pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
-                given(exhibitionRepository.findById(reflectionReview.getExhibition().getId()))
-                        .willReturn(Optional.of(reflectionExhibition));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
                 // when
                 reviewService.getMyReviews(null, reflectionTargetUser.getId(), pageable);
@@ -2205,10 +2220,9 @@ class ReviewServiceTest {
                 // when
                 verify(reviewRepository).findMyReviews(
                         null, reflectionTargetUser.getId(), pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
-                verify(exhibitionRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionExhibition.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
+                verify(exhibitionRepository, never()).findById(any());
             }
 
             @Test
@@ -2340,21 +2354,18 @@ class ReviewServiceTest {
                 given(reviewRepository.findMyReviews(
                         reflectionCurrentUser.getId(), null, pageable))
                         .willReturn(reflectionReviews);
-                given(reviewRepository.findById(reflectionReviews.getContent().get(0).getReviewId()))
-                        .willReturn(Optional.of(reflectionReview));
-                given(exhibitionRepository.findById(reflectionReview.getExhibition().getId()))
-                        .willReturn(Optional.of(reflectionExhibition));
+                given(reviewRepository.findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId())))
+                        .willReturn(List.of(reflectionReview));
 
                 // when
-                reviewService.getMyReviews(reflectionCurrentUser, null, pageable);
+                reviewService.getMyReviews(UserPrincipal.from(reflectionCurrentUser), null, pageable);
 
                 // when
                 verify(reviewRepository).findMyReviews(
                         reflectionCurrentUser.getId(), null, pageable);
-                verify(reviewRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionReview.getId());
-                verify(exhibitionRepository, times(reflectionReviews.getContent().size())).findById(
-                        reflectionExhibition.getId());
+                verify(reviewRepository).findAllWithUserAndExhibitionByIdIn(List.of(reflectionReview.getId()));
+                verify(reviewPhotoRepository).findAllByReviewIdIn(List.of(reflectionReview.getId()));
+                verify(exhibitionRepository, never()).findById(any());
             }
 
         }
@@ -2385,8 +2396,8 @@ class ReviewServiceTest {
                 doReturn(reviews)
                         .when(reviewRepository).findMyReviews(
                                 null, user.getId(), pageable);
-                doThrow(new NotFoundException(ErrorCode.REVIEW_NOT_FOUND))
-                        .when(reviewRepository).findById(any());
+                doReturn(List.of())
+                        .when(reviewRepository).findAllWithUserAndExhibitionByIdIn(any());
 
                 // when
                 // then
@@ -2399,4 +2410,44 @@ class ReviewServiceTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("전시회 상세 후기 좋아요 여부 덧씌우기")
+    class TestOverlayIsLiked {
+
+        private final List<ReviewsResponseForExhibitionDetail> reviews = List.of(
+                ReviewsResponseForExhibitionDetail.builder().reviewId(1L).isLiked(false).build(),
+                ReviewsResponseForExhibitionDetail.builder().reviewId(2L).isLiked(false).build());
+
+        @Test
+        @DisplayName("로그인 사용자가 좋아요한 후기만 isLiked == true")
+        void testOverlayIsLiked() {
+            doReturn(Set.of(2L)).when(reviewLikeRepository).findLikedReviewIds(1L, List.of(1L, 2L));
+
+            List<ReviewsResponseForExhibitionDetail> response = reviewService.overlayIsLiked(1L, reviews);
+
+            assertThat(response).extracting("reviewId").containsExactly(1L, 2L);
+            assertThat(response).extracting("isLiked").containsExactly(false, true);
+        }
+
+        @Test
+        @DisplayName("아직 반영되지 않은 좋아요/취소가 DB의 좋아요 여부보다 우선함")
+        void testOverlayIsLikedWithPendingLikes() {
+            doReturn(Set.of(2L)).when(reviewLikeRepository).findLikedReviewIds(1L, List.of(1L, 2L));
+            doReturn(Map.of(1L, true, 2L, false)).when(likeWriteBuffer)
+                    .getPendingStates(LikeTarget.REVIEW, 1L, List.of(1L, 2L));
+
+            List<ReviewsResponseForExhibitionDetail> response = reviewService.overlayIsLiked(1L, reviews);
+
+            assertThat(response).extracting("isLiked").containsExactly(true, false);
+        }
+
+        @Test
+        @DisplayName("user == null인 경우 모든 후기 isLiked == false")
+        void testOverlayIsLikedWithoutUser() {
+            List<ReviewsResponseForExhibitionDetail> response = reviewService.overlayIsLiked(null, reviews);
+
+            assertThat(response).extracting("isLiked").containsExactly(false, false);
+        }
+    }
+}
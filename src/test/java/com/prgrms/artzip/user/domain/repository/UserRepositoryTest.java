@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import javax.transaction.Transactional;
 
@@ -77,4 +78,63 @@ class UserRepositoryTest {
     assertThat(adminResult.getNickname()).isEqualTo(oauthUser.getNickname());
     assertThat(oauthUser.getRoles()).containsExactly(userRole, adminRole);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("탈퇴한 유저의 닉네임과 이메일은 다시 쓸 수 있는지 테스트")
+  void testReuseQuitUserIdentifiers() {
+    User quitUser = userRepository.saveAndFlush(localUser("quit@gmail.com", "탈퇴"));
+    quitUser.changeQuitFlag(true);
+    userRepository.saveAndFlush(quitUser);
+
+    userRepository.saveAndFlush(localUser("quit@gmail.com", "탈퇴"));
+
+    assertThat(userRepository.existsLocalUserByEmailAndIsQuit("quit@gmail.com", false)).isTrue();
+    assertThat(userRepository.existsByNicknameAndIsQuit("탈퇴", false)).isTrue();
+  }
+
+  @Test
+  @DisplayName("탈퇴하지 않은 유저끼리는 닉네임과 로컬 가입 이메일이 겹치지 않는지 테스트")
+  void testActiveIdentifiersUnique() {
+    userRepository.saveAndFlush(localUser("active@gmail.com", "활동"));
+
+    assertThatThrownBy(() -> userRepository.saveAndFlush(localUser("other@gmail.com", "활동")))
+        .isInstanceOf(DataIntegrityViolationException.class);
+    assertThatThrownBy(() -> userRepository.saveAndFlush(localUser("active@gmail.com", "다른")))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  @Test
+  @DisplayName("소셜 로그인 유저는 로컬 가입 유저와 이메일이 같아도 가입되고, 로그인은 로컬 가입 유저로 하는지 테스트")
+  void testOAuthUserWithSameEmail() {
+    User localUser = userRepository.saveAndFlush(localUser("same@gmail.com", "로컬"));
+    userRepository.saveAndFlush(OAuthUser.builder()
+        .email("same@gmail.com")
+        .nickname("소셜")
+        .roles(List.of(userRole))
+        .provider(AuthProvider.kakao)
+        .providerId("kakaoId")
+        .build());
+
+    assertThat(userRepository.findLocalUserByEmailAndIsQuit("same@gmail.com", false))
+        .get().extracting(User::getId).isEqualTo(localUser.getId());
+    assertThat(userRepository.findActiveEmails()).containsExactly("same@gmail.com");
+  }
+
+  @Test
+  @DisplayName("읽은 해시 그대로일 때만 비밀번호를 바꾸는지 테스트")
+  void testUpdatePassword() {
+    User user = userRepository.saveAndFlush(localUser("password@gmail.com", "비번"));
+
+    assertThat(userRepository.updatePassword(user.getId(), "test1234!", "rehashed")).isEqualTo(1);
+    assertThat(userRepository.updatePassword(user.getId(), "test1234!", "stale")).isZero();
+  }
+
+  private LocalUser localUser(String email, String nickname) {
+    return LocalUser.builder()
+        .email(email)
+        .nickname(nickname)
+        .roles(List.of(userRole))
+        .password("test1234!")
+        .build();
+  }
+}
@@ -0,0 +1,215 @@
+package com.prgrms.artzip.user.service;
+
+import static com.prgrms.artzip.common.ErrorCode.PASSWORD_HASH_BUSY;
+import static com.prgrms.artzip.user.service.PasswordHasher.HASH_TIME_METRIC;
+import static com.prgrms.artzip.user.service.PasswordHasher.MAX_STRENGTH;
+import static com.prgrms.artzip.user.service.PasswordHasher.MIN_STRENGTH;
+import static com.prgrms.artzip.user.service.PasswordHasher.QUEUE_WAIT_METRIC;
+import static com.prgrms.artzip.user.service.PasswordHasher.REJECTED_METRIC;
+import static com.prgrms.artzip.user.service.PasswordHasher.STRENGTH_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.prgrms.artzip.common.error.exception.ServiceUnavailableException;
+import com.prgrms.artzip.common.util.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("PasswordHasher 테스트")
+class PasswordHasherTest {
+
+  private static final String PASSWORD = "test1234!";
+
+  private SimpleMeterRegistry meterRegistry;
+  private PasswordHasher passwordHasher;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    passwordHasher = new PasswordHasher(4, 1, 1, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    passwordHasher.shutdown();
+  }
+
+  @Test
+  @DisplayName("전용 스레드에서 해시하고 비교하며 작업 종류별로 대기 시간과 해시 시간을 남기는지 테스트")
+  void testEncodeAndMatches() {
+    String encoded = passwordHasher.encode(PASSWORD);
+
+    assertThat(encoded).startsWith("$2a$04$");
+    assertThat(passwordHasher.matches(PASSWORD, encoded)).isTrue();
+    assertThat(passwordHasher.matches("wrong1234!", encoded)).isFalse();
+    assertThat(meterRegistry.get(QUEUE_WAIT_METRIC).tag("operation", "encode").timer().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get(HASH_TIME_METRIC).tag("operation", "matches").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("저장된 해시의 비용이 현재 비용보다 낮을 때만 다시 해시가 필요한지 테스트")
+  void testUpgradeEncoding() {
+    PasswordHasher strongHasher = new PasswordHasher(10, 1, 1, meterRegistry);
+    try {
+      assertThat(strongHasher.upgradeEncoding(new BCryptPasswordEncoder(4).encode(PASSWORD)))
+          .isTrue();
+      assertThat(strongHasher.upgradeEncoding("$2y$09$abcdefghijklmnopqrstuv")).isTrue();
+      assertThat(strongHasher.upgradeEncoding("$2a$10$abcdefghijklmnopqrstuv")).isFalse();
+      assertThat(strongHasher.upgradeEncoding("$2b$12$abcdefghijklmnopqrstuv")).isFalse();
+      assertThat(strongHasher.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+      assertThat(strongHasher.upgradeEncoding(null)).isFalse();
+    } finally {
+      strongHasher.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("측정한 시간을 기준으로 목표 시간을 넘지 않는 가장 큰 비용을 고르는지 테스트")
+  void testCalibrate() {
+    assertThat(PasswordHasher.calibrate(250, strength -> 60)).isEqualTo(MIN_STRENGTH + 2);
+    assertThat(PasswordHasher.calibrate(250, strength -> 300)).isEqualTo(MIN_STRENGTH);
+    assertThat(PasswordHasher.calibrate(250, strength -> 0)).isEqualTo(MAX_STRENGTH);
+  }
+
+  @Test
+  @DisplayName("한두 번 튀는 측정값이 있어도 중앙값으로 같은 비용을 고르는지 테스트")
+  void testCalibrateWithOutliers() {
+    Iterator<Long> samples = List.of(900L, 60L, 1L, 62L, 58L).iterator();
+
+    assertThat(PasswordHasher.calibrate(250, strength -> samples.next()))
+        .isEqualTo(MIN_STRENGTH + 2);
+    assertThat(samples.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Redis 에 올라간 strength 가 있으면 측정하지 않고 그 값을 쓰는지 테스트")
+  void testResolveSharedStrength() {
+    RedisService redisService = mock(RedisService.class);
+    AtomicInteger calibrations = new AtomicInteger();
+    when(redisService.getValues(STRENGTH_KEY)).thenReturn("12");
+
+    int strength = PasswordHasher.resolveStrength(redisService, 10, () -> {
+      calibrations.incrementAndGet();
+      return 11;
+    });
+
+    assertThat(strength).isEqualTo(12);
+    assertThat(calibrations.get()).isZero();
+    verify(redisService, never()).setValuesIfAbsent(STRENGTH_KEY, "11");
+  }
+
+  @Test
+  @DisplayName("아직 없으면 측정해 올리고, 동시에 먼저 올린 서버가 있으면 그 값을 따르는지 테스트")
+  void testResolveCalibratedStrength() {
+    RedisService redisService = mock(RedisService.class);
+    when(redisService.getValues(STRENGTH_KEY)).thenReturn(null, "13");
+
+    int strength = PasswordHasher.resolveStrength(redisService, 10, () -> 11);
+
+    assertThat(strength).isEqualTo(13);
+    verify(redisService).setValuesIfAbsent(STRENGTH_KEY, "11");
+  }
+
+  @Test
+  @DisplayName("Redis 장애나 잘못된 값이면 설정값을 쓰는지 테스트")
+  void testResolveFallbackStrength() {
+    RedisService downRedis = mock(RedisService.class);
+    when(downRedis.getValues(STRENGTH_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+    RedisService brokenRedis = mock(RedisService.class);
+    when(brokenRedis.getValues(STRENGTH_KEY)).thenReturn("broken");
+
+    assertThat(PasswordHasher.resolveStrength(downRedis, 10, () -> 11)).isEqualTo(10);
+    assertThat(PasswordHasher.resolveStrength(brokenRedis, 10, () -> 11)).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("해시 스레드와 대기열이 모두 차면 기다리지 않고 503 예외가 발생하는지 테스트")
+  void testRejectWhenQueueFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+    try {
+      // BCrypt 는 비밀번호를 toString() 으로 읽으므로, 여기서 막아 해시 스레드를 붙잡아 둔다.
+      Future<String> running = callers.submit(() -> passwordHasher.encode(
+          new BlockingPassword(started, release)));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<String> queued = callers.submit(() -> passwordHasher.encode(PASSWORD));
+      awaitQueued();
+
+      assertThatThrownBy(() -> passwordHasher.encode(PASSWORD))
+          .isInstanceOf(ServiceUnavailableException.class)
+          .hasMessage(PASSWORD_HASH_BUSY.getMessage());
+      assertThat(meterRegistry.get(REJECTED_METRIC).counter().count()).isEqualTo(1);
+
+      release.countDown();
+      assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+      assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+    } finally {
+      release.countDown();
+      callers.shutdownNow();
+    }
+  }
+
+  private void awaitQueued() throws InterruptedException {
+    for (int i = 0; i < 250 && passwordHasher.getQueuedCount() == 0; i++) {
+      Thread.sleep(20);
+    }
+    assertThat(passwordHasher.getQueuedCount()).isEqualTo(1);
+  }
+
+  private static class BlockingPassword implements CharSequence {
+
+    private final CountDownLatch started;
+    private final CountDownLatch release;
+
+    private BlockingPassword(CountDownLatch started, CountDownLatch release) {
+      this.started = started;
+      this.release = release;
+    }
+
+    @Override
+    public String toString() {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return PASSWORD;
+    }
+
+    @Override
+    public int length() {
+      return PASSWORD.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+      return PASSWORD.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return PASSWORD.subSequence(start, end);
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package com.prgrms.artzip.user.service;
+
+import static com.prgrms.artzip.user.service.UserIdentifierIndex.ADDED_CHANNEL;
+import static com.prgrms.artzip.user.service.UserIdentifierIndex.LOOKUP_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.event.UserIdentifierAddedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserIdentifierIndex 테스트")
+class UserIdentifierIndexTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private RedisService redisService;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UserIdentifierIndex userIdentifierIndex;
+  private final AtomicInteger dbQueries = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    userIdentifierIndex = new UserIdentifierIndex(userRepository, redisService,
+        redisMessageListenerContainer, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("추가 채널을 구독하는지 테스트")
+  void testSubscribe() {
+    userIdentifierIndex.subscribe();
+
+    verify(redisMessageListenerContainer).addMessageListener(userIdentifierIndex,
+        new ChannelTopic(ADDED_CHANNEL));
+  }
+
+  @Test
+  @DisplayName("필터를 만들기 전에는 항상 DB로 확인하는지 테스트")
+  void testBeforeRebuild() {
+    assertThat(userIdentifierIndex.isNicknameAvailable("없는닉네임", () -> existsInDb(false)))
+        .isTrue();
+    assertThat(userIdentifierIndex.isEmailAvailable("taken@example.com", () -> existsInDb(true)))
+        .isFalse();
+    assertThat(dbQueries.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("필터에 없는 값은 DB 조회 없이 사용 가능하고, 있는 값만 DB로 확인하는지 테스트")
+  void testRebuild() {
+    givenUsersInDb();
+
+    userIdentifierIndex.rebuild();
+
+    assertThat(userIdentifierIndex.isNicknameAvailable("newbie", () -> existsInDb(true))).isTrue();
+    assertThat(userIdentifierIndex.isEmailAvailable("new@example.com", () -> existsInDb(true)))
+        .isTrue();
+    assertThat(dbQueries.get()).isZero();
+    assertThat(userIdentifierIndex.isNicknameAvailable("emily", () -> existsInDb(true))).isFalse();
+    assertThat(userIdentifierIndex.isEmailAvailable("JERRY@example.com ", () -> existsInDb(false)))
+        .isTrue();
+    assertThat(dbQueries.get()).isEqualTo(2);
+    assertThat(lookups("skipped")).isEqualTo(2);
+    assertThat(lookups("taken")).isEqualTo(1);
+    assertThat(lookups("false_positive")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("커밋 이후 추가된 값은 DB로 확인하고 다른 서버에도 알리는지 테스트")
+  void testOnIdentifierAdded() {
+    givenUsersInDb();
+    userIdentifierIndex.rebuild();
+
+    userIdentifierIndex.onIdentifierAdded(new UserIdentifierAddedEvent(null, "newbie"));
+
+    assertThat(userIdentifierIndex.isNicknameAvailable("newbie", () -> existsInDb(true))).isFalse();
+    assertThat(dbQueries.get()).isEqualTo(1);
+    verify(redisService).publish(ADDED_CHANNEL, "N|newbie");
+  }
+
+  @Test
+  @DisplayName("Redis 장애로 발행하지 못해도 이 서버의 필터에는 추가되는지 테스트")
+  void testPublishFailure() {
+    givenUsersInDb();
+    userIdentifierIndex.rebuild();
+    doThrow(new RedisConnectionFailureException("down")).when(redisService)
+        .publish(anyString(), anyString());
+
+    userIdentifierIndex.onIdentifierAdded(new UserIdentifierAddedEvent("new@example.com", "newbie"));
+
+    assertThat(userIdentifierIndex.isEmailAvailable("new@example.com", () -> existsInDb(true)))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("다른 서버가 알린 값은 추가하고, 잘못된 메시지는 무시하는지 테스트")
+  void testOnMessage() {
+    givenUsersInDb();
+    userIdentifierIndex.rebuild();
+
+    userIdentifierIndex.onMessage(message("E|other@example.com"), null);
+    userIdentifierIndex.onMessage(message("X|ignored"), null);
+    userIdentifierIndex.onMessage(message("broken"), null);
+
+    assertThat(userIdentifierIndex.isEmailAvailable("other@example.com", () -> existsInDb(true)))
+        .isFalse();
+    assertThat(userIdentifierIndex.isNicknameAvailable("ignored", () -> existsInDb(true))).isTrue();
+  }
+
+  @Test
+  @DisplayName("필터를 만드는 동안 추가된 값도 새 필터에 들어가는지 테스트")
+  void testAddDuringRebuild() {
+    when(userRepository.count()).thenReturn(2L);
+    when(userRepository.findActiveNicknames()).thenAnswer(invocation -> {
+      userIdentifierIndex.onIdentifierAdded(new UserIdentifierAddedEvent(null, "racer"));
+      return List.of("Emily");
+    });
+    when(userRepository.findActiveEmails()).thenReturn(List.of("emily@example.com"));
+
+    userIdentifierIndex.rebuild();
+
+    assertThat(userIdentifierIndex.isNicknameAvailable("racer", () -> existsInDb(true))).isFalse();
+  }
+
+  @Test
+  @DisplayName("DB 장애로 필터를 만들지 못하면 계속 DB로 확인하는지 테스트")
+  void testRebuildFailure() {
+    when(userRepository.count()).thenThrow(new QueryTimeoutException("timeout"));
+
+    userIdentifierIndex.rebuild();
+
+    assertThat(userIdentifierIndex.isNicknameAvailable("newbie", () -> existsInDb(false))).isTrue();
+    assertThat(dbQueries.get()).isEqualTo(1);
+  }
+
+  private void givenUsersInDb() {
+    when(userRepository.count()).thenReturn(2L);
+    when(userRepository.findActiveNicknames()).thenReturn(List.of("Emily", "Jerry"));
+    when(userRepository.findActiveEmails()).thenReturn(List.of("emily@example.com", "jerry@example.com"));
+  }
+
+  private boolean existsInDb(boolean exists) {
+    dbQueries.incrementAndGet();
+    return exists;
+  }
+
+  private double lookups(String result) {
+    return meterRegistry.get(LOOKUP_METRIC).tag("result", result).counter().count();
+  }
+
+  private DefaultMessage message(String body) {
+    return new DefaultMessage(ADDED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,195 @@
+package com.prgrms.artzip.user.service;
+
+import static com.prgrms.artzip.user.service.UserPrincipalCache.EVICT_CHANNEL;
+import static com.prgrms.artzip.user.service.UserPrincipalCache.LOOKUP_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.common.ErrorCode;
+import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.util.RedisService;
+import com.prgrms.artzip.user.domain.Role;
+import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
+import com.prgrms.artzip.user.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserPrincipalCache 테스트")
+class UserPrincipalCacheTest {
+
+  @Mock
+  private RedisService redisService;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final AtomicInteger dbQueries = new AtomicInteger();
+
+  private final UserPrincipal user = UserPrincipal.from(
+      new User("test@example.com", "Emily", List.of(new Role(Authority.USER))));
+
+  private UserPrincipalCache userPrincipalCache;
+
+  @BeforeEach
+  void setUp() {
+    userPrincipalCache = new UserPrincipalCache(redisService, redisMessageListenerContainer,
+        meterRegistry, 60_000, 10);
+  }
+
+  @Test
+  @DisplayName("무효화 채널을 구독하는지 테스트")
+  void testSubscribe() {
+    userPrincipalCache.subscribe();
+
+    verify(redisMessageListenerContainer).addMessageListener(userPrincipalCache, new ChannelTopic(EVICT_CHANNEL));
+  }
+
+  @Test
+  @DisplayName("처음 요청에만 DB에서 읽고 이후에는 캐시된 유저를 반환하며 hit/miss 를 기록하는지 테스트")
+  void testLoadOnce() {
+    UserPrincipal first = userPrincipalCache.get(1L, this::loadUser);
+    UserPrincipal second = userPrincipalCache.get(1L, this::loadUser);
+    UserPrincipal third = userPrincipalCache.get(1L, this::loadUser);
+
+    assertThat(first).isSameAs(user);
+    assertThat(second).isSameAs(user);
+    assertThat(third).isSameAs(user);
+    assertThat(dbQueries.get()).isEqualTo(1);
+    assertThat(meterRegistry.get(LOOKUP_METRIC).tag("result", "miss").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(LOOKUP_METRIC).tag("result", "hit").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("엔티티가 아닌 바뀌지 않는 유저 정보를 캐시하는지 테스트")
+  void testCachedPrincipalIsImmutable() {
+    UserPrincipal cached = userPrincipalCache.get(1L, this::loadUser);
+
+    assertThat(cached.getNickname()).isEqualTo("Emily");
+    assertThat(cached.getAuthorities()).containsExactly(Authority.USER);
+    assertThat(cached.isLocal()).isFalse();
+    assertThatThrownBy(() -> cached.getAuthorities().add(Authority.ADMIN))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @DisplayName("없는 유저의 예외는 캐시하지 않고 그대로 던지는지 테스트")
+  void testLoaderFailure() {
+    assertThatThrownBy(() -> userPrincipalCache.get(1L, () -> {
+      throw new NotFoundException(ErrorCode.USER_NOT_FOUND);
+    })).isInstanceOf(NotFoundException.class);
+
+    userPrincipalCache.get(1L, this::loadUser);
+
+    assertThat(dbQueries.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("만료된 유저는 다시 DB에서 읽는지 테스트")
+  void testExpired() {
+    userPrincipalCache = new UserPrincipalCache(redisService, redisMessageListenerContainer,
+        meterRegistry, 0, 10);
+
+    userPrincipalCache.get(1L, this::loadUser);
+    userPrincipalCache.get(1L, this::loadUser);
+
+    assertThat(dbQueries.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("최대 개수를 넘어도 읽은 유저를 반환하고, 최대 개수만큼만 남기는지 테스트")
+  void testMaxSize() {
+    userPrincipalCache = new UserPrincipalCache(redisService, redisMessageListenerContainer,
+        meterRegistry, 60_000, 1);
+
+    userPrincipalCache.get(1L, this::loadUser);
+    UserPrincipal loaded = userPrincipalCache.get(2L, this::loadUser);
+
+    assertThat(loaded).isSameAs(user);
+    assertThat(userPrincipalCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("유저 변경 이벤트를 받으면 캐시에서 빼고 다른 서버에 무효화를 발행하는지 테스트")
+  void testOnUserChanged() {
+    userPrincipalCache.get(1L, this::loadUser);
+
+    userPrincipalCache.onUserChanged(new UserChangedEvent(1L));
+    userPrincipalCache.get(1L, this::loadUser);
+
+    assertThat(dbQueries.get()).isEqualTo(2);
+    verify(redisService).publish(eq(EVICT_CHANNEL), endsWith("|1"));
+  }
+
+  @Test
+  @DisplayName("읽는 동안 무효화된 유저는 캐시에 남기지 않는지 테스트")
+  void testEvictedWhileLoading() {
+    userPrincipalCache.get(1L, () -> {
+      userPrincipalCache.evict(1L);
+      return loadUser();
+    });
+    userPrincipalCache.get(1L, this::loadUser);
+
+    assertThat(dbQueries.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Redis 장애로 무효화를 발행하지 못해도 이 서버의 캐시는 비우는지 테스트")
+  void testPublishFailure() {
+    doThrow(new RedisConnectionFailureException("down")).when(redisService).publish(anyString(), anyString());
+    userPrincipalCache.get(1L, this::loadUser);
+
+    userPrincipalCache.evict(1L);
+    userPrincipalCache.get(1L, this::loadUser);
+
+    assertThat(dbQueries.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("다른 서버가 발행한 무효화만 반영하고, 자신이 발행한 무효화와 잘못된 메시지는 무시하는지 테스트")
+  void testOnMessage() {
+    userPrincipalCache.get(1L, this::loadUser);
+    userPrincipalCache.get(2L, this::loadUser);
+    userPrincipalCache.evict(3L);
+    ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+    verify(redisService).publish(eq(EVICT_CHANNEL), published.capture());
+
+    userPrincipalCache.onMessage(message(published.getValue()), null);
+    userPrincipalCache.onMessage(message("other-node|not-a-number"), null);
+    userPrincipalCache.onMessage(message("broken"), null);
+    userPrincipalCache.get(1L, this::loadUser);
+    userPrincipalCache.onMessage(message("other-node|2"), null);
+    userPrincipalCache.get(2L, this::loadUser);
+
+    assertThat(dbQueries.get()).isEqualTo(3);
+  }
+
+  private UserPrincipal loadUser() {
+    dbQueries.incrementAndGet();
+    return user;
+  }
+
+  private DefaultMessage message(String body) {
+    return new DefaultMessage(EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -6,23 +6,33 @@ import static org.mockito.Mockito.*;
 
 import com.prgrms.artzip.common.Authority;
 import com.prgrms.artzip.common.error.exception.AlreadyExistsException;
+import com.prgrms.artzip.common.error.exception.AuthErrorException;
 import com.prgrms.artzip.common.error.exception.InvalidRequestException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
+import com.prgrms.artzip.common.oauth.AuthProvider;
 import com.prgrms.artzip.common.util.AmazonS3Remover;
 import com.prgrms.artzip.common.util.AmazonS3Uploader;
 import com.prgrms.artzip.user.domain.LocalUser;
+import com.prgrms.artzip.user.domain.OAuthUser;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
+import com.prgrms.artzip.user.domain.UserPrincipal;
 import com.prgrms.artzip.user.domain.repository.RoleRepository;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
 import com.prgrms.artzip.user.dto.request.PasswordUpdateRequest;
 import com.prgrms.artzip.user.dto.request.UserLocalLoginRequest;
 import com.prgrms.artzip.user.dto.request.UserSignUpRequest;
 import com.prgrms.artzip.user.dto.request.UserUpdateRequest;
+import com.prgrms.artzip.user.event.UserChangedEvent;
+import com.prgrms.artzip.user.event.UserIdentifierAddedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,10 +43,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,7 +65,8 @@ class UserServiceTest {
   private UserService userService;
 
   @Spy
-  private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+  private final PasswordHasher passwordHasher = new PasswordHasher(5, 1, 8,
+      new SimpleMeterRegistry());
 
   @Mock
   AmazonS3Uploader amazonS3Uploader;
@@ -60,12 +74,24 @@ class UserServiceTest {
   @Mock
   AmazonS3Remover amazonS3Remover;
 
+  @Mock
+  ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  UserIdentifierIndex userIdentifierIndex;
+
+  @Mock
+  UserStatsRepository userStatsRepository;
+
+  @Spy
+  TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
   private static final Role userRole = new Role(Authority.USER);
 
   private final User testUser = LocalUser.builder()
       .email(testEmail)
       .nickname(testNickname)
-      .password(passwordEncoder.encode(testPassword))
+      .password(passwordHasher.encode(testPassword))
       .roles(List.of(userRole)).build();
   private final MultipartFile testProfileFile = new MockMultipartFile(
       "testImage",
@@ -84,6 +110,15 @@ class UserServiceTest {
 
   private static final String defaultImageLink = "";
 
+  @BeforeEach
+  void setUp() {
+    // 중복 확인 인덱스는 항상 DB 확인으로 넘긴다.
+    lenient().when(userIdentifierIndex.isEmailAvailable(any(), any())).thenAnswer(
+        invocation -> !invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+    lenient().when(userIdentifierIndex.isNicknameAvailable(any(), any())).thenAnswer(
+        invocation -> !invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+  }
+
   @Test
   @DisplayName("정상 회원가입 테스트")
   void testSignUp() {
@@ -92,7 +127,7 @@ class UserServiceTest {
         .nickname(testUser.getNickname())
         .password(testPassword).build();
     // given
-    when(userRepository.existsByEmailAndIsQuit(signUpRequest.getEmail(), false)).thenReturn(false);
+    when(userRepository.existsLocalUserByEmailAndIsQuit(signUpRequest.getEmail(), false)).thenReturn(false);
     when(userRepository.existsByNicknameAndIsQuit(signUpRequest.getNickname(), false)).thenReturn(
         false);
     when(roleRepository.findByAuthority(Authority.USER)).thenReturn(Optional.of(userRole));
@@ -107,6 +142,26 @@ class UserServiceTest {
     assertThat(userResult.getRoles()).containsAll(testUser.getRoles());
     verify(roleRepository).findByAuthority(Authority.USER);
     verify(userRepository).save(any());
+    verify(userStatsRepository).insertUserStats(testUser.getId());
+    verify(eventPublisher).publishEvent(any(UserIdentifierAddedEvent.class));
+  }
+
+  @Test
+  @DisplayName("중복 확인 이후 같은 이메일/닉네임으로 먼저 가입해 유니크 제약에 걸린 경우 테스트")
+  void testSignUpUniqueConstraintViolation() {
+    UserSignUpRequest signUpRequest = UserSignUpRequest.builder()
+        .email(testUser.getEmail())
+        .nickname(testUser.getNickname())
+        .password(testPassword).build();
+    // given
+    when(roleRepository.findByAuthority(Authority.USER)).thenReturn(Optional.of(userRole));
+    when(userRepository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+    // when then
+    assertThatThrownBy(() -> userService.signUp(signUpRequest))
+        .isInstanceOf(AlreadyExistsException.class)
+        .hasMessage(USER_ALREADY_EXISTS.getMessage());
+    verifyNoInteractions(eventPublisher, userStatsRepository);
   }
 
   @Test
@@ -117,7 +172,7 @@ class UserServiceTest {
         .nickname(testUser.getNickname())
         .password(testPassword).build();
     // given
-    when(userRepository.existsByEmailAndIsQuit(signUpRequest.getEmail(), false)).thenReturn(true);
+    when(userRepository.existsLocalUserByEmailAndIsQuit(signUpRequest.getEmail(), false)).thenReturn(true);
 
     assertThatThrownBy(() -> userService.signUp(signUpRequest))
         .isInstanceOf(AlreadyExistsException.class)
@@ -147,8 +202,8 @@ class UserServiceTest {
         testPassword);
 
     // given
-    when(userRepository.findByEmailAndIsQuit(localLoginRequest.getEmail(), false)).thenReturn(
-        Optional.of(testUser));
+    when(userRepository.findLocalUserByEmailAndIsQuit(localLoginRequest.getEmail(), false)).thenReturn(
+        Optional.of((LocalUser) testUser));
 
     // when
     User userResult = userService.login(localLoginRequest.getEmail(),
@@ -158,7 +213,30 @@ class UserServiceTest {
     assertThat(userResult.getEmail()).isEqualTo(testUser.getEmail());
     assertThat(userResult.getNickname()).isEqualTo(testUser.getNickname());
     assertThat(userResult.getRoles()).containsAll(testUser.getRoles());
-    verify(userRepository).findByEmailAndIsQuit(localLoginRequest.getEmail(), false);
+    verify(userRepository).findLocalUserByEmailAndIsQuit(localLoginRequest.getEmail(), false);
+    verify(userRepository, never()).updatePassword(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("해시 비용을 올린 뒤 로그인하면 비밀번호를 다시 해시해 저장하는지 테스트")
+  void testRehashOnLogin() {
+    // given
+    LocalUser oldHashUser = LocalUser.builder()
+        .email(testEmail)
+        .nickname(testNickname)
+        .password(new BCryptPasswordEncoder(4).encode(testPassword))
+        .roles(List.of(userRole)).build();
+    when(userRepository.findLocalUserByEmailAndIsQuit(testEmail, false)).thenReturn(
+        Optional.of(oldHashUser));
+    String oldHash = oldHashUser.getPassword();
+
+    // when
+    userService.login(testEmail, testPassword);
+
+    // then
+    verify(userRepository).updatePassword(oldHashUser.getId(), oldHash, oldHashUser.getPassword());
+    assertThat(oldHashUser.needsPasswordRehash(passwordHasher)).isFalse();
+    assertThatNoException().isThrownBy(() -> oldHashUser.checkPassword(passwordHasher, testPassword));
   }
 
   @Test
@@ -169,7 +247,7 @@ class UserServiceTest {
         testPassword);
 
     // when
-    when(userRepository.findByEmailAndIsQuit(localLoginRequest.getEmail(), false)).thenReturn(
+    when(userRepository.findLocalUserByEmailAndIsQuit(localLoginRequest.getEmail(), false)).thenReturn(
         Optional.empty());
 
     // then
@@ -219,9 +297,31 @@ class UserServiceTest {
         request.getNickname())).thenReturn(true);
 
     // when then
-    assertThatThrownBy(() -> userService.updateUserInfo(testUser, request, testProfileFile))
+    assertThatThrownBy(() -> userService.updateUserInfo(UserPrincipal.from(testUser), request, testProfileFile))
+        .isInstanceOf(AlreadyExistsException.class)
+        .hasMessage(NICKNAME_ALREADY_EXISTS.getMessage());
+  }
+
+  @Test
+  @DisplayName("유저 정보 수정 : 중복 확인 이후 다른 유저가 먼저 같은 닉네임으로 바꾼 경우")
+  void testNicknameUniqueConstraintViolationWhenUpdateUserInfo() throws IOException {
+    // given
+    UserUpdateRequest request = UserUpdateRequest.builder()
+        .nickname("newNick")
+        .profileImage(testProfileLink)
+        .build();
+    when(userRepository.existsByNicknameExceptId(testUser.getId(),
+        request.getNickname())).thenReturn(false);
+    givenUserInDb();
+    when(userRepository.saveAndFlush(testUser)).thenThrow(
+        new DataIntegrityViolationException("uk_users_nickname"));
+
+    // when then
+    assertThatThrownBy(() -> userService.updateUserInfo(UserPrincipal.from(testUser), request, testProfileFile))
         .isInstanceOf(AlreadyExistsException.class)
         .hasMessage(NICKNAME_ALREADY_EXISTS.getMessage());
+    verify(amazonS3Uploader, never()).upload(any(), any());
+    verifyNoInteractions(eventPublisher);
   }
 
   @Test
@@ -235,16 +335,18 @@ class UserServiceTest {
         .build();
     when(userRepository.existsByNicknameExceptId(testUser.getId(),
         request.getNickname())).thenReturn(false);
+    givenUserInDb();
     when(amazonS3Uploader.getDefaultProfileImage()).thenReturn(defaultImageLink);
     when(amazonS3Uploader.upload(eq(testProfileFile), eq(PROFILE_DIRECTORY_NAME))).thenReturn(
         "new link");
     // when
-    userService.updateUserInfo(testUser, request, testProfileFile);
+    userService.updateUserInfo(UserPrincipal.from(testUser), request, testProfileFile);
 
     // then
     verify(amazonS3Uploader).upload(eq(testProfileFile),
         eq(PROFILE_DIRECTORY_NAME));
     verify(userRepository).save(testUser);
+    verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
     assertThat(testUser).hasFieldOrPropertyWithValue("profileImage", "new link");
   }
 
@@ -260,10 +362,11 @@ class UserServiceTest {
         .build();
     when(userRepository.existsByNicknameExceptId(testUser.getId(),
         request.getNickname())).thenReturn(false);
+    givenUserInDb();
     when(amazonS3Uploader.getDefaultProfileImage()).thenReturn(defaultImageLink);
 
     // when
-    userService.updateUserInfo(testUser, request, file);
+    userService.updateUserInfo(UserPrincipal.from(testUser), request, file);
 
     // then
     verify(userRepository).save(testUser);
@@ -282,10 +385,11 @@ class UserServiceTest {
         .build();
     when(userRepository.existsByNicknameExceptId(testUser.getId(),
         request.getNickname())).thenReturn(false);
+    givenUserInDb();
     when(amazonS3Uploader.getDefaultProfileImage()).thenReturn(defaultImageLink);
 
     // when
-    userService.updateUserInfo(testUser, request, file);
+    userService.updateUserInfo(UserPrincipal.from(testUser), request, file);
 
     // then
     verify(userRepository).save(testUser);
@@ -305,9 +409,10 @@ class UserServiceTest {
         .build();
     when(userRepository.existsByNicknameExceptId(testUser.getId(),
         request.getNickname())).thenReturn(false);
+    givenUserInDb();
     when(amazonS3Uploader.getDefaultProfileImage()).thenReturn(defaultImageLink);
     // when
-    userService.updateUserInfo(testUser, request, file);
+    userService.updateUserInfo(UserPrincipal.from(testUser), request, file);
 
     // then
     verify(userRepository).save(testUser);
@@ -325,11 +430,12 @@ class UserServiceTest {
         .build();
     when(userRepository.existsByNicknameExceptId(testUser.getId(),
         request.getNickname())).thenReturn(false);
+    givenUserInDb();
     when(amazonS3Uploader.getDefaultProfileImage()).thenReturn(defaultImageLink);
     when(amazonS3Uploader.upload(eq(testProfileFile), eq(PROFILE_DIRECTORY_NAME))).thenReturn(
         "new link");
     // when
-    userService.updateUserInfo(testUser, request, testProfileFile);
+    userService.updateUserInfo(UserPrincipal.from(testUser), request, testProfileFile);
 
     // then
     verify(amazonS3Uploader).upload(eq(testProfileFile),
@@ -351,10 +457,11 @@ class UserServiceTest {
         .build();
     when(userRepository.existsByNicknameExceptId(testUser.getId(),
         request.getNickname())).thenReturn(false);
+    givenUserInDb();
     when(amazonS3Uploader.getDefaultProfileImage()).thenReturn(defaultImageLink);
 
     // when then
-    assertThatThrownBy(() -> userService.updateUserInfo(testUser, request, file))
+    assertThatThrownBy(() -> userService.updateUserInfo(UserPrincipal.from(testUser), request, file))
         .isInstanceOf(InvalidRequestException.class)
         .hasMessage(USER_PROFILE_NOT_MATCHED.getMessage());
   }
@@ -364,10 +471,41 @@ class UserServiceTest {
   void testUpdatePassword() {
     // given
     PasswordUpdateRequest request = new PasswordUpdateRequest(testPassword, "test2345!");
+    givenUserInDb();
+    String oldHash = ((LocalUser) testUser).getPassword();
+    when(userRepository.updatePassword(eq(testUser.getId()), eq(oldHash), any())).thenReturn(1);
     // when
-    userService.updatePassword((LocalUser) testUser, request);
+    userService.updatePassword(UserPrincipal.from(testUser), request);
     // then
-    verify(userRepository).save(testUser);
+    assertThatNoException().isThrownBy(() -> ((LocalUser) testUser).checkPassword(passwordHasher, "test2345!"));
+    verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("유저 비밀번호 변경 : 확인한 이후 다른 요청이 먼저 비밀번호를 바꾼 경우")
+  void testUpdatePasswordChangedConcurrently() {
+    // given
+    PasswordUpdateRequest request = new PasswordUpdateRequest(testPassword, "test2345!");
+    givenUserInDb();
+    when(userRepository.updatePassword(any(), any(), any())).thenReturn(0);
+    // when then
+    assertThatThrownBy(() -> userService.updatePassword(UserPrincipal.from(testUser), request))
+        .isInstanceOf(AuthErrorException.class)
+        .hasMessage(INVALID_ACCOUNT_REQUEST.getMessage());
+    verify(eventPublisher, never()).publishEvent(any(UserChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("유저 비밀번호 변경 : 소셜 로그인 유저")
+  void testUpdatePasswordOfOAuthUser() {
+    // given
+    PasswordUpdateRequest request = new PasswordUpdateRequest(testPassword, "test2345!");
+    User oAuthUser = new OAuthUser(testEmail, testNickname, AuthProvider.kakao, "1234", List.of(userRole));
+    // when then
+    assertThatThrownBy(() -> userService.updatePassword(UserPrincipal.from(oAuthUser), request))
+        .isInstanceOf(AuthErrorException.class)
+        .hasMessage(INVALID_ACCOUNT_REQUEST.getMessage());
+    verify(userRepository, never()).updatePassword(any(), any(), any());
   }
 
   @ParameterizedTest
@@ -376,12 +514,17 @@ class UserServiceTest {
   void testUpdateInvalidPassword(String invalidPassword) {
     // given
     PasswordUpdateRequest request = new PasswordUpdateRequest(testPassword, invalidPassword);
+    givenUserInDb();
     // when then
-    assertThatThrownBy(() -> userService.updatePassword((LocalUser)testUser, request))
+    assertThatThrownBy(() -> userService.updatePassword(UserPrincipal.from(testUser), request))
         .isInstanceOf(InvalidRequestException.class)
         .hasMessage(INVALID_INPUT_VALUE.getMessage());
   }
 
+  private void givenUserInDb() {
+    when(userRepository.findByIdAndIsQuit(testUser.getId(), false)).thenReturn(Optional.of(testUser));
+  }
+
   private static Stream<Arguments> errorLoginParameter() {
     return Stream.of(
         Arguments.of(testEmail, null),
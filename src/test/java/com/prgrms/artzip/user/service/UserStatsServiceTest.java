@@ -0,0 +1,84 @@
+package com.prgrms.artzip.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.prgrms.artzip.comment.repository.CommentRepository;
+import com.prgrms.artzip.exhibition.repository.ExhibitionLikeRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewLikeRepository;
+import com.prgrms.artzip.review.domain.repository.ReviewRepository;
+import com.prgrms.artzip.user.domain.UserStats;
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatsService 테스트")
+class UserStatsServiceTest {
+
+  private static final Long USER_ID = 1L;
+
+  @Mock
+  private UserStatsRepository userStatsRepository;
+
+  @Mock
+  private ReviewRepository reviewRepository;
+
+  @Mock
+  private ExhibitionLikeRepository exhibitionLikeRepository;
+
+  @Mock
+  private ReviewLikeRepository reviewLikeRepository;
+
+  @Mock
+  private CommentRepository commentRepository;
+
+  @InjectMocks
+  private UserStatsService userStatsService;
+
+  @Test
+  @DisplayName("집계 행이 있으면 COUNT 쿼리 없이 반환하는지 테스트")
+  void testGetUserStatsFromRow() {
+    doReturn(Optional.of(new UserStats(USER_ID, 3L, 5L, 7L, 9L)))
+        .when(userStatsRepository).findById(USER_ID);
+
+    UserStats userStats = userStatsService.getUserStats(USER_ID);
+
+    assertThat(userStats)
+        .hasFieldOrPropertyWithValue("reviewCount", 3L)
+        .hasFieldOrPropertyWithValue("exhibitionLikeCount", 5L)
+        .hasFieldOrPropertyWithValue("reviewLikeCount", 7L)
+        .hasFieldOrPropertyWithValue("commentCount", 9L);
+    verify(reviewRepository, never()).countByUserId(anyLong());
+    verify(exhibitionLikeRepository, never()).countByUserId(anyLong());
+    verify(reviewLikeRepository, never()).countByUserId(anyLong());
+    verify(commentRepository, never()).countByUserId(anyLong());
+  }
+
+  @Test
+  @DisplayName("집계 행이 없으면 COUNT 쿼리로 계산하는지 테스트")
+  void testGetUserStatsWithoutRow() {
+    doReturn(Optional.empty()).when(userStatsRepository).findById(USER_ID);
+    doReturn(1L).when(reviewRepository).countByUserId(USER_ID);
+    doReturn(2L).when(exhibitionLikeRepository).countByUserId(USER_ID);
+    doReturn(3L).when(reviewLikeRepository).countByUserId(USER_ID);
+    doReturn(4L).when(commentRepository).countByUserId(USER_ID);
+
+    UserStats userStats = userStatsService.getUserStats(USER_ID);
+
+    assertThat(userStats)
+        .hasFieldOrPropertyWithValue("userId", USER_ID)
+        .hasFieldOrPropertyWithValue("reviewCount", 1L)
+        .hasFieldOrPropertyWithValue("exhibitionLikeCount", 2L)
+        .hasFieldOrPropertyWithValue("reviewLikeCount", 3L)
+        .hasFieldOrPropertyWithValue("commentCount", 4L);
+  }
+}
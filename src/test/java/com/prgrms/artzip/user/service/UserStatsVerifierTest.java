@@ -0,0 +1,47 @@
+package com.prgrms.artzip.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+
+import com.prgrms.artzip.user.domain.repository.UserStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatsVerifier 테스트")
+class UserStatsVerifierTest {
+
+  @Mock
+  private UserStatsRepository userStatsRepository;
+
+  @InjectMocks
+  private UserStatsVerifier userStatsVerifier;
+
+  @Test
+  @DisplayName("누락된 집계 행을 만든 뒤 불일치를 보정하는지 테스트")
+  void testVerify() {
+    doReturn(2).when(userStatsRepository).insertMissingUserStats();
+    doReturn(3).when(userStatsRepository).reconcileUserStats();
+
+    int repairedCount = userStatsVerifier.verifyStats();
+
+    assertThat(repairedCount).isEqualTo(3);
+    InOrder inOrder = inOrder(userStatsRepository);
+    inOrder.verify(userStatsRepository).insertMissingUserStats();
+    inOrder.verify(userStatsRepository).reconcileUserStats();
+  }
+
+  @Test
+  @DisplayName("불일치가 없으면 0을 반환하는지 테스트")
+  void testVerifyWithoutDrift() {
+    int repairedCount = userStatsVerifier.verifyStats();
+
+    assertThat(repairedCount).isZero();
+  }
+}
@@ -5,11 +5,13 @@ import static org.assertj.core.api.Assertions.*;
 import static com.prgrms.artzip.common.ErrorCode.*;
 
 import com.prgrms.artzip.common.Authority;
+import com.prgrms.artzip.common.error.exception.AlreadyExistsException;
 import com.prgrms.artzip.common.error.exception.NotFoundException;
 import com.prgrms.artzip.user.domain.LocalUser;
 import com.prgrms.artzip.user.domain.Role;
 import com.prgrms.artzip.user.domain.User;
 import com.prgrms.artzip.user.domain.repository.UserRepository;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,9 @@ class UserUtilServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private UserIdentifierIndex userIdentifierIndex;
+
   @InjectMocks
   private UserUtilService utilService;
   private static Role userRole = new Role(Authority.USER);
@@ -75,6 +80,8 @@ class UserUtilServiceTest {
   @MethodSource("booleanParameter")
   void testCheckNicknameUnique(Boolean testFlag) {
     // given
+    when(userIdentifierIndex.isNicknameAvailable(eq(testNickname), any())).thenAnswer(
+        invocation -> !invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
     when(userRepository.existsByNicknameAndIsQuit(testNickname, false)).thenReturn(testFlag);
     // when
     boolean result = utilService.checkNicknameUnique(testNickname);
@@ -88,12 +95,50 @@ class UserUtilServiceTest {
   @MethodSource("booleanParameter")
   void testCheckEmailUnique(Boolean testFlag) {
     // given
-    when(userRepository.existsByEmailAndIsQuit(testEmail, false)).thenReturn(testFlag);
+    when(userIdentifierIndex.isEmailAvailable(eq(testEmail), any())).thenAnswer(
+        invocation -> !invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+    when(userRepository.existsLocalUserByEmailAndIsQuit(testEmail, false)).thenReturn(testFlag);
     // when
     boolean result = utilService.checkEmailUnique(testEmail);
     // then
     assertThat(result).isEqualTo(!testFlag);
-    verify(userRepository).existsByEmailAndIsQuit(testEmail, false);
+    verify(userRepository).existsLocalUserByEmailAndIsQuit(testEmail, false);
+  }
+
+  @Test
+  @DisplayName("쓰이지 않는 소셜 로그인 닉네임은 그대로 쓰는지 테스트")
+  void testIssueUniqueNicknameAvailable() {
+    // given
+    when(userRepository.existsByNicknameAndIsQuit(testNickname, false)).thenReturn(false);
+    // when
+    String nickname = utilService.issueUniqueNickname(testNickname);
+    // then
+    assertThat(nickname).isEqualTo(testNickname);
+  }
+
+  @Test
+  @DisplayName("이미 쓰이는 소셜 로그인 닉네임에는 숫자를 붙이는지 테스트")
+  void testIssueUniqueNicknameSuffixed() {
+    // given
+    when(userRepository.existsByNicknameAndIsQuit(anyString(), eq(false)))
+        .thenAnswer(invocation -> testNickname.equals(invocation.getArgument(0)));
+    // when
+    String nickname = utilService.issueUniqueNickname(testNickname);
+    // then
+    assertThat(nickname).hasSize(User.MAX_NICKNAME_LENGTH).matches("testUs\\d{4}");
+  }
+
+  @Test
+  @DisplayName("숫자를 붙여도 계속 겹치면 예외가 발생하는지 테스트")
+  void testIssueUniqueNicknameExhausted() {
+    // given
+    when(userRepository.existsByNicknameAndIsQuit(anyString(), eq(false))).thenReturn(true);
+    // when then
+    assertThatThrownBy(() -> utilService.issueUniqueNickname(testNickname))
+        .isInstanceOf(AlreadyExistsException.class)
+        .hasMessage(NICKNAME_ALREADY_EXISTS.getMessage());
+    verify(userRepository, times(UserUtilService.MAX_NICKNAME_ATTEMPTS + 1))
+        .existsByNicknameAndIsQuit(anyString(), eq(false));
   }
 
   private static Stream<Boolean> booleanParameter() {